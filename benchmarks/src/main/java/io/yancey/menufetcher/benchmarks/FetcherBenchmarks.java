@@ -0,0 +1,100 @@
+package io.yancey.menufetcher.benchmarks;
+
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+
+import com.google.gson.*;
+
+import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.fetchers.*;
+import io.yancey.menufetcher.fetchers.dininghalls.*;
+import io.yancey.menufetcher.http.*;
+
+/**
+ * Parsing each kind of upstream menu, from the fixtures.
+ * <p>
+ * The parse methods are private, so they're measured through {@code getMeals}:
+ * the "cold" benchmarks clear the fetcher's cache first and so include parsing the whole download,
+ * and the others start from what the fetcher has already cached and only parse the day out of it.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class FetcherBenchmarks {
+	private MenuFetcher collins;
+	private MenuFetcher hoch;
+	private MenuFetcher frank;
+	private LocalDateRange week;
+	private String smgScript;
+
+	@Setup
+	public void setUp() throws Exception {
+		HttpClient.setDefault(Fixtures.client());
+		collins = new CollinsMenuFetcher();
+		hoch = new HochMenuFetcher();
+		frank = new FrankMenuFetcher();
+		week = new LocalDateRange(Fixtures.DAY.minusDays(2), Fixtures.DAY.plusDays(4));
+		smgScript = new String(Fixtures.read("smg-hmc.js"), StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Bon Appetit menus aren't cached, so this streams through all of the json every time.
+	 */
+	@Benchmark
+	public Menu bonAppetitGetMeals() throws Exception {
+		return collins.getMeals(Fixtures.DAY);
+	}
+
+	/**
+	 * {@code parseMeal} for each of the day's meals.
+	 */
+	@Benchmark
+	public Menu newSodexoParseMeals() throws Exception {
+		return hoch.getMeals(Fixtures.DAY);
+	}
+
+	/**
+	 * Pulling the week's json out of the menu page, and then parsing the day.
+	 */
+	@Benchmark
+	public Menu newSodexoColdGetMeals() throws Exception {
+		hoch.clearCache();
+		return hoch.getMeals(Fixtures.DAY);
+	}
+
+	/**
+	 * Assembling the week's spreadsheet from its cells, and reading one day out of it.
+	 */
+	@Benchmark
+	public Menu pomonaSpreadsheetAssembly() throws Exception {
+		return frank.getMeals(Fixtures.DAY);
+	}
+
+	/**
+	 * Assembling the week's spreadsheet once and reading every day out of it.
+	 */
+	@Benchmark
+	public SortedMap<?, Menu> pomonaGetWeek() throws Exception {
+		return frank.getMeals(week);
+	}
+
+	/**
+	 * Parsing the menu page, the list of worksheets and the week's cells, and then the day.
+	 */
+	@Benchmark
+	public Menu pomonaColdGetMeals() throws Exception {
+		frank.clearCache();
+		return frank.getMeals(Fixtures.DAY);
+	}
+
+	@Benchmark
+	public JsonObject smgExtract() {
+		return SmgScriptExtractor.extract(smgScript);
+	}
+}
@@ -0,0 +1,70 @@
+package io.yancey.menufetcher.benchmarks;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+
+import com.google.common.io.*;
+
+import io.yancey.menufetcher.http.*;
+
+/**
+ * Recorded upstream payloads, so the benchmarks never touch the network.
+ * <p>
+ * They're all for the week of 2016-02-29.
+ */
+public class Fixtures {
+	public static final LocalDate DAY = LocalDate.of(2016, 3, 2);
+
+	private static final Map<String, String[]> fixturesByUrl = new HashMap<>();
+	static {
+		add("https://legacy.cafebonappetit.com/api/2/menus?format=json&cafe=50&date=2016-03-02",
+				"bonappetit-collins-2016-03-02.json", "application/json; charset=utf-8");
+		add("https://menus.sodexomyway.com/BiteMenu/MenuOnly?menuId=15258&locationId=13147001&startdate=03/02/2016",
+				"sodexo-hoch-2016-03-02.html", "text/html; charset=utf-8");
+		add("http://www.pomona.edu/administration/dining/menus/frank",
+				"pomona-frank.html", "text/html; charset=utf-8");
+		add("https://spreadsheets.google.com/feeds/worksheets/0AsnKhcsREmJpdGV5RG5JbXpQVElSb3dHNHN3QmVaTVE/public/basic?alt=json",
+				"pomona-frank-worksheets.json", "application/json; charset=UTF-8");
+		add("https://spreadsheets.google.com/feeds/cells/0AsnKhcsREmJpdGV5RG5JbXpQVElSb3dHNHN3QmVaTVE/od8/public/basic?alt=json",
+				"pomona-frank-2-29-16.json", "application/json; charset=UTF-8");
+	}
+
+	private static void add(String url, String resource, String contentType) {
+		fixturesByUrl.put(url, new String[]{resource, contentType});
+	}
+
+	/**
+	 * @return the contents of a fixture file
+	 */
+	public static byte[] read(String resource) throws IOException {
+		try(InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + resource)) {
+			if(in == null) {
+				throw new FileNotFoundException("no fixture named " + resource);
+			}
+			return ByteStreams.toByteArray(in);
+		}
+	}
+
+	/**
+	 * An {@link HttpClient} that answers from the fixtures (read once, up front),
+	 * and fails for any url that doesn't have one.
+	 */
+	public static HttpClient client() throws IOException {
+		Map<String, HttpResponse> responses = new HashMap<>();
+		for(Map.Entry<String, String[]> fixture: fixturesByUrl.entrySet()) {
+			String url = fixture.getKey();
+			responses.put(url, new HttpResponse(url, fixture.getValue()[1], read(fixture.getValue()[0]), true));
+		}
+		return new HttpClient(null) {
+			@Override
+			public HttpResponse get(String url) throws IOException {
+				HttpResponse response = responses.get(url);
+				if(response == null) {
+					throw new FileNotFoundException("no fixture for " + url);
+				}
+				return response;
+			}
+		};
+	}
+}
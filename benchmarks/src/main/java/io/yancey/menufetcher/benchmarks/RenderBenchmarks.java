@@ -0,0 +1,56 @@
+package io.yancey.menufetcher.benchmarks;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.*;
+
+import com.google.common.io.*;
+
+import io.yancey.menufetcher.*;
+import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.fetchers.*;
+import io.yancey.menufetcher.fetchers.dininghalls.*;
+import io.yancey.menufetcher.http.*;
+
+/**
+ * Turning a day's menus (parsed from the fixtures) into the webpage and the api,
+ * without writing anything to disk.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class RenderBenchmarks {
+	private List<Menu> menus;
+
+	@Setup
+	public void setUp() throws Exception {
+		HttpClient.setDefault(Fixtures.client());
+		menus = new ArrayList<>();
+		for(MenuFetcher menuFetcher: Arrays.asList(
+				new HochMenuFetcher(), new FrankMenuFetcher(), new CollinsMenuFetcher())) {
+			menus.add(menuFetcher.getMeals(Fixtures.DAY));
+		}
+	}
+
+	@Benchmark
+	public void writeWebpage() throws Exception {
+		WebpageCreator.writeWebpage(ByteStreams.nullOutputStream(), Fixtures.DAY, menus);
+	}
+
+	@Benchmark
+	public void writeApi() throws Exception {
+		ApiCreator.writeAPI(file -> ByteStreams.nullOutputStream(), menus);
+	}
+
+	@Benchmark
+	public void interestingItems(Blackhole blackhole) {
+		for(Menu menu: menus) {
+			blackhole.consume(InterestingItemExtractor.instance.getInterestingItems(menu));
+		}
+	}
+}
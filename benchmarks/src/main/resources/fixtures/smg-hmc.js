@@ -0,0 +1,846 @@
+// generated by smgmenu
+var menuData = [{"startDate": "2016-02-29", "endDate": "2016-03-06", "menus": [{"title": "Menu", "tabs": [{"title": "Monday", "groups": [{"title": "Breakfast", "category": [{"title": "Grill-Burgers", "products": ["100000", "100001", "100002", "100003"]}, {"title": "Soup", "products": ["100004", "100005", "100006", "100007", "100008", "100009"]}, {"title": "Mainline", "products": ["100010", "100011"]}, {"title": "Exhibition", "products": ["100012", "100013", "100014", "100015", "100016"]}, {"title": "Dessert", "products": ["100017", "100018", "100019", "100020", "100021", "100022"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100023", "100024", "100025"]}, {"title": "Soup", "products": ["100026", "100027", "100028", "100029"]}, {"title": "Dessert", "products": ["100030", "100031"]}, {"title": "Deli", "products": ["100032", "100033", "100034", "100035"]}, {"title": "Grill-Burgers", "products": ["100036", "100037"]}]}, {"title": "Dinner", "category": [{"title": "Grill-Burgers", "products": ["100038", "100039", "100040", "100041"]}, {"title": "Dessert", "products": ["100042", "100043", "100044", "100045"]}, {"title": "Soup", "products": ["100046", "100047", "100048", "100049", "100050", "100051"]}, {"title": "Mainline", "products": ["100052", "100053", "100054"]}, {"title": "Deli", "products": ["100055", "100056", "100057", "100058", "100059", "100060"]}]}]}, {"title": "Tuesday", "groups": [{"title": "Breakfast", "category": [{"title": "Soup", "products": ["100061", "100062"]}, {"title": "Grill-Burgers", "products": ["100063", "100064", "100065", "100066"]}, {"title": "Exhibition", "products": ["100067", "100068", "100069", "100070", "100071", "100072"]}, {"title": "Mainline", "products": ["100073", "100074", "100075", "100076"]}, {"title": "Deli", "products": ["100077", "100078", "100079", "100080", "100081", "100082"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100083", "100084"]}, {"title": "Soup", "products": ["100085", "100086", "100087", "100088", "100089", "100090"]}, {"title": "Dessert", "products": ["100091", "100092", "100093", "100094", "100095"]}, {"title": "Grill-Burgers", "products": ["100096", "100097", "100098", "100099", "100100"]}, {"title": "Exhibition", "products": ["100101", "100102", "100103", "100104", "100105", "100106"]}]}, {"title": "Dinner", "category": [{"title": "Dessert", "products": ["100107", "100108", "100109", "100110", "100111"]}, {"title": "Mainline", "products": ["100112", "100113"]}, {"title": "Deli", "products": ["100114", "100115", "100116", "100117", "100118", "100119"]}, {"title": "Grill-Burgers", "products": ["100120", "100121", "100122"]}, {"title": "Exhibition", "products": ["100123", "100124"]}]}]}, {"title": "Wednesday", "groups": [{"title": "Breakfast", "category": [{"title": "Dessert", "products": ["100125", "100126", "100127", "100128", "100129", "100130"]}, {"title": "Mainline", "products": ["100131", "100132", "100133", "100134"]}, {"title": "Soup", "products": ["100135", "100136", "100137", "100138", "100139", "100140"]}, {"title": "Deli", "products": ["100141", "100142", "100143"]}, {"title": "Exhibition", "products": ["100144", "100145"]}]}, {"title": "Lunch", "category": [{"title": "Dessert", "products": ["100146", "100147", "100148", "100149"]}, {"title": "Mainline", "products": ["100150", "100151"]}, {"title": "Deli", "products": ["100152", "100153", "100154"]}, {"title": "Grill-Burgers", "products": ["100155", "100156", "100157", "100158", "100159", "100160"]}, {"title": "Soup", "products": ["100161", "100162"]}]}, {"title": "Dinner", "category": [{"title": "Dessert", "products": ["100163", "100164"]}, {"title": "Mainline", "products": ["100165", "100166", "100167"]}, {"title": "Soup", "products": ["100168", "100169", "100170"]}, {"title": "Exhibition", "products": ["100171", "100172", "100173", "100174", "100175"]}, {"title": "Deli", "products": ["100176", "100177", "100178", "100179", "100180"]}]}]}, {"title": "Thursday", "groups": [{"title": "Breakfast", "category": [{"title": "Grill-Burgers", "products": ["100181", "100182", "100183", "100184", "100185"]}, {"title": "Dessert", "products": ["100186", "100187", "100188", "100189", "100190", "100191"]}, {"title": "Deli", "products": ["100192", "100193", "100194", "100195", "100196", "100197"]}, {"title": "Mainline", "products": ["100198", "100199", "100200", "100201", "100202"]}, {"title": "Exhibition", "products": ["100203", "100204", "100205", "100206"]}]}, {"title": "Lunch", "category": [{"title": "Dessert", "products": ["100207", "100208"]}, {"title": "Exhibition", "products": ["100209", "100210", "100211", "100212", "100213", "100214"]}, {"title": "Soup", "products": ["100215", "100216", "100217", "100218", "100219"]}, {"title": "Deli", "products": ["100220", "100221"]}, {"title": "Mainline", "products": ["100222", "100223", "100224", "100225", "100226", "100227"]}]}, {"title": "Dinner", "category": [{"title": "Soup", "products": ["100228", "100229", "100230"]}, {"title": "Mainline", "products": ["100231", "100232", "100233", "100234"]}, {"title": "Grill-Burgers", "products": ["100235", "100236", "100237"]}, {"title": "Dessert", "products": ["100238", "100239", "100240", "100241", "100242"]}, {"title": "Deli", "products": ["100243", "100244", "100245"]}]}]}, {"title": "Friday", "groups": [{"title": "Breakfast", "category": [{"title": "Exhibition", "products": ["100246", "100247", "100248", "100249"]}, {"title": "Grill-Burgers", "products": ["100250", "100251", "100252"]}, {"title": "Soup", "products": ["100253", "100254", "100255"]}, {"title": "Dessert", "products": ["100256", "100257", "100258", "100259", "100260", "100261"]}, {"title": "Deli", "products": ["100262", "100263", "100264"]}]}, {"title": "Lunch", "category": [{"title": "Deli", "products": ["100265", "100266"]}, {"title": "Grill-Burgers", "products": ["100267", "100268"]}, {"title": "Mainline", "products": ["100269", "100270", "100271", "100272", "100273"]}, {"title": "Soup", "products": ["100274", "100275", "100276"]}, {"title": "Exhibition", "products": ["100277", "100278"]}]}, {"title": "Dinner", "category": [{"title": "Grill-Burgers", "products": ["100279", "100280", "100281", "100282", "100283"]}, {"title": "Mainline", "products": ["100284", "100285", "100286", "100287", "100288"]}, {"title": "Dessert", "products": ["100289", "100290", "100291"]}, {"title": "Exhibition", "products": ["100292", "100293", "100294"]}, {"title": "Deli", "products": ["100295", "100296", "100297", "100298", "100299"]}]}]}, {"title": "Saturday", "groups": [{"title": "Breakfast", "category": [{"title": "Grill-Burgers", "products": ["100300", "100301", "100302"]}, {"title": "Deli", "products": ["100303", "100304", "100305"]}, {"title": "Soup", "products": ["100306", "100307", "100308", "100309"]}, {"title": "Dessert", "products": ["100310", "100311", "100312", "100313", "100314", "100315"]}, {"title": "Exhibition", "products": ["100316", "100317", "100318", "100319", "100320", "100321"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100322", "100323", "100324"]}, {"title": "Soup", "products": ["100325", "100326"]}, {"title": "Exhibition", "products": ["100327", "100328", "100329", "100330"]}, {"title": "Grill-Burgers", "products": ["100331", "100332"]}, {"title": "Deli", "products": ["100333", "100334", "100335"]}]}, {"title": "Dinner", "category": [{"title": "Deli", "products": ["100336", "100337", "100338", "100339", "100340"]}, {"title": "Mainline", "products": ["100341", "100342", "100343", "100344", "100345", "100346"]}, {"title": "Soup", "products": ["100347", "100348", "100349"]}, {"title": "Grill-Burgers", "products": ["100350", "100351", "100352"]}, {"title": "Exhibition", "products": ["100353", "100354", "100355", "100356"]}]}]}, {"title": "Sunday", "groups": [{"title": "Breakfast", "category": [{"title": "Mainline", "products": ["100357", "100358"]}, {"title": "Exhibition", "products": ["100359", "100360", "100361", "100362", "100363", "100364"]}, {"title": "Soup", "products": ["100365", "100366", "100367", "100368", "100369"]}, {"title": "Dessert", "products": ["100370", "100371", "100372", "100373", "100374"]}, {"title": "Deli", "products": ["100375", "100376", "100377", "100378", "100379", "100380"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100381", "100382", "100383", "100384", "100385", "100386"]}, {"title": "Dessert", "products": ["100387", "100388", "100389", "100390", "100391"]}, {"title": "Deli", "products": ["100392", "100393", "100394", "100395"]}, {"title": "Soup", "products": ["100396", "100397"]}, {"title": "Exhibition", "products": ["100398", "100399", "100400", "100401", "100402"]}]}, {"title": "Dinner", "category": [{"title": "Exhibition", "products": ["100403", "100404", "100405", "100406", "100407"]}, {"title": "Soup", "products": ["100408", "100409", "100410", "100411", "100412", "100413"]}, {"title": "Dessert", "products": ["100414", "100415", "100416"]}, {"title": "Mainline", "products": ["100417", "100418"]}, {"title": "Grill-Burgers", "products": ["100419", "100420", "100421", "100422", "100423", "100424"]}]}]}]}]}, {"startDate": "2016-03-07", "endDate": "2016-03-13", "menus": [{"title": "Menu", "tabs": [{"title": "Monday", "groups": [{"title": "Breakfast", "category": [{"title": "Grill-Burgers", "products": ["100425", "100426"]}, {"title": "Dessert", "products": ["100427", "100428", "100429"]}, {"title": "Mainline", "products": ["100430", "100431", "100432"]}, {"title": "Exhibition", "products": ["100433", "100434", "100435", "100436", "100437"]}, {"title": "Soup", "products": ["100438", "100439", "100440"]}]}, {"title": "Lunch", "category": [{"title": "Dessert", "products": ["100441", "100442"]}, {"title": "Grill-Burgers", "products": ["100443", "100444", "100445"]}, {"title": "Mainline", "products": ["100446", "100447"]}, {"title": "Soup", "products": ["100448", "100449", "100450", "100451", "100452", "100453"]}, {"title": "Exhibition", "products": ["100454", "100455", "100456"]}]}, {"title": "Dinner", "category": [{"title": "Soup", "products": ["100457", "100458", "100459", "100460", "100461"]}, {"title": "Mainline", "products": ["100462", "100463", "100464", "100465"]}, {"title": "Dessert", "products": ["100466", "100467", "100468", "100469", "100470"]}, {"title": "Exhibition", "products": ["100471", "100472"]}, {"title": "Deli", "products": ["100473", "100474", "100475", "100476", "100477", "100478"]}]}]}, {"title": "Tuesday", "groups": [{"title": "Breakfast", "category": [{"title": "Dessert", "products": ["100479", "100480", "100481", "100482", "100483", "100484"]}, {"title": "Deli", "products": ["100485", "100486", "100487", "100488"]}, {"title": "Exhibition", "products": ["100489", "100490"]}, {"title": "Mainline", "products": ["100491", "100492", "100493", "100494"]}, {"title": "Grill-Burgers", "products": ["100495", "100496", "100497", "100498", "100499", "100500"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100501", "100502", "100503", "100504", "100505"]}, {"title": "Dessert", "products": ["100506", "100507", "100508", "100509"]}, {"title": "Grill-Burgers", "products": ["100510", "100511", "100512"]}, {"title": "Exhibition", "products": ["100513", "100514"]}, {"title": "Soup", "products": ["100515", "100516", "100517", "100518", "100519"]}]}, {"title": "Dinner", "category": [{"title": "Mainline", "products": ["100520", "100521", "100522", "100523"]}, {"title": "Deli", "products": ["100524", "100525", "100526", "100527"]}, {"title": "Grill-Burgers", "products": ["100528", "100529", "100530", "100531", "100532", "100533"]}, {"title": "Soup", "products": ["100534", "100535", "100536", "100537", "100538"]}, {"title": "Dessert", "products": ["100539", "100540"]}]}]}, {"title": "Wednesday", "groups": [{"title": "Breakfast", "category": [{"title": "Exhibition", "products": ["100541", "100542", "100543", "100544", "100545", "100546"]}, {"title": "Deli", "products": ["100547", "100548"]}, {"title": "Mainline", "products": ["100549", "100550", "100551", "100552", "100553", "100554"]}, {"title": "Soup", "products": ["100555", "100556", "100557"]}, {"title": "Dessert", "products": ["100558", "100559", "100560", "100561"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100562", "100563", "100564", "100565"]}, {"title": "Soup", "products": ["100566", "100567"]}, {"title": "Grill-Burgers", "products": ["100568", "100569", "100570", "100571"]}, {"title": "Dessert", "products": ["100572", "100573", "100574", "100575", "100576", "100577"]}, {"title": "Deli", "products": ["100578", "100579"]}]}, {"title": "Dinner", "category": [{"title": "Exhibition", "products": ["100580", "100581", "100582"]}, {"title": "Mainline", "products": ["100583", "100584"]}, {"title": "Dessert", "products": ["100585", "100586", "100587", "100588", "100589"]}, {"title": "Grill-Burgers", "products": ["100590", "100591", "100592", "100593"]}, {"title": "Deli", "products": ["100594", "100595", "100596", "100597", "100598", "100599"]}]}]}, {"title": "Thursday", "groups": [{"title": "Breakfast", "category": [{"title": "Grill-Burgers", "products": ["100600", "100601", "100602", "100603", "100604", "100605"]}, {"title": "Soup", "products": ["100606", "100607", "100608", "100609", "100610"]}, {"title": "Dessert", "products": ["100611", "100612"]}, {"title": "Deli", "products": ["100613", "100614"]}, {"title": "Exhibition", "products": ["100615", "100616", "100617", "100618", "100619"]}]}, {"title": "Lunch", "category": [{"title": "Dessert", "products": ["100620", "100621", "100622", "100623", "100624", "100625"]}, {"title": "Exhibition", "products": ["100626", "100627", "100628", "100629", "100630", "100631"]}, {"title": "Deli", "products": ["100632", "100633"]}, {"title": "Mainline", "products": ["100634", "100635", "100636"]}, {"title": "Soup", "products": ["100637", "100638", "100639", "100640"]}]}, {"title": "Dinner", "category": [{"title": "Exhibition", "products": ["100641", "100642", "100643", "100644", "100645"]}, {"title": "Soup", "products": ["100646", "100647", "100648", "100649"]}, {"title": "Deli", "products": ["100650", "100651", "100652"]}, {"title": "Grill-Burgers", "products": ["100653", "100654"]}, {"title": "Mainline", "products": ["100655", "100656", "100657", "100658"]}]}]}, {"title": "Friday", "groups": [{"title": "Breakfast", "category": [{"title": "Mainline", "products": ["100659", "100660", "100661"]}, {"title": "Exhibition", "products": ["100662", "100663", "100664", "100665", "100666"]}, {"title": "Dessert", "products": ["100667", "100668", "100669", "100670", "100671", "100672"]}, {"title": "Deli", "products": ["100673", "100674", "100675", "100676", "100677"]}, {"title": "Grill-Burgers", "products": ["100678", "100679"]}]}, {"title": "Lunch", "category": [{"title": "Dessert", "products": ["100680", "100681", "100682", "100683", "100684"]}, {"title": "Grill-Burgers", "products": ["100685", "100686", "100687", "100688", "100689"]}, {"title": "Exhibition", "products": ["100690", "100691", "100692", "100693", "100694"]}, {"title": "Mainline", "products": ["100695", "100696", "100697"]}, {"title": "Soup", "products": ["100698", "100699", "100700", "100701"]}]}, {"title": "Dinner", "category": [{"title": "Exhibition", "products": ["100702", "100703", "100704", "100705"]}, {"title": "Soup", "products": ["100706", "100707", "100708"]}, {"title": "Dessert", "products": ["100709", "100710"]}, {"title": "Grill-Burgers", "products": ["100711", "100712", "100713", "100714", "100715", "100716"]}, {"title": "Deli", "products": ["100717", "100718", "100719", "100720", "100721"]}]}]}, {"title": "Saturday", "groups": [{"title": "Breakfast", "category": [{"title": "Dessert", "products": ["100722", "100723"]}, {"title": "Soup", "products": ["100724", "100725"]}, {"title": "Deli", "products": ["100726", "100727", "100728", "100729", "100730"]}, {"title": "Mainline", "products": ["100731", "100732"]}, {"title": "Grill-Burgers", "products": ["100733", "100734"]}]}, {"title": "Lunch", "category": [{"title": "Exhibition", "products": ["100735", "100736", "100737", "100738", "100739", "100740"]}, {"title": "Deli", "products": ["100741", "100742"]}, {"title": "Mainline", "products": ["100743", "100744"]}, {"title": "Dessert", "products": ["100745", "100746", "100747", "100748", "100749", "100750"]}, {"title": "Grill-Burgers", "products": ["100751", "100752"]}]}, {"title": "Dinner", "category": [{"title": "Mainline", "products": ["100753", "100754", "100755", "100756", "100757", "100758"]}, {"title": "Dessert", "products": ["100759", "100760", "100761", "100762", "100763", "100764"]}, {"title": "Exhibition", "products": ["100765", "100766", "100767", "100768", "100769"]}, {"title": "Soup", "products": ["100770", "100771", "100772", "100773", "100774"]}, {"title": "Grill-Burgers", "products": ["100775", "100776", "100777"]}]}]}, {"title": "Sunday", "groups": [{"title": "Breakfast", "category": [{"title": "Mainline", "products": ["100778", "100779"]}, {"title": "Deli", "products": ["100780", "100781", "100782", "100783", "100784"]}, {"title": "Soup", "products": ["100785", "100786", "100787", "100788", "100789", "100790"]}, {"title": "Dessert", "products": ["100791", "100792", "100793", "100794", "100795", "100796"]}, {"title": "Grill-Burgers", "products": ["100797", "100798", "100799"]}]}, {"title": "Lunch", "category": [{"title": "Mainline", "products": ["100800", "100801", "100802"]}, {"title": "Grill-Burgers", "products": ["100803", "100804", "100805", "100806", "100807", "100808"]}, {"title": "Soup", "products": ["100809", "100810", "100811", "100812", "100813", "100814"]}, {"title": "Dessert", "products": ["100815", "100816", "100817"]}, {"title": "Exhibition", "products": ["100818", "100819", "100820", "100821", "100822", "100823"]}]}, {"title": "Dinner", "category": [{"title": "Mainline", "products": ["100824", "100825", "100826", "100827"]}, {"title": "Grill-Burgers", "products": ["100828", "100829", "100830"]}, {"title": "Soup", "products": ["100831", "100832", "100833", "100834", "100835", "100836"]}, {"title": "Dessert", "products": ["100837", "100838"]}, {"title": "Exhibition", "products": ["100839", "100840", "100841"]}]}]}]}]}];
+var aData = new Object();
+aData['100000'] = new Array('323','938','449','814','68','20','991','841','997','779','804','814','915','131','81','822','530','349','793','311','729','113','Rice','spicy garlic berry roasted roasted spicy bbq vegan roasted herb sesame.','72','57','87','22','26','95','gluten vegetarian');
+aData['100001'] = new Array('651','98','669','550','390','812','707','11','207','311','149','601','528','356','764','67','803','222','57','587','916','137','Sesame Lemon Beef Berry','yogurt sesame bagel pesto grilled pork teriyaki pancakes teriyaki.','70','46','79','26','20','39','mindful vegan');
+aData['100002'] = new Array('821','989','72','421','12','997','169','665','389','807','528','491','110','31','450','983','946','902','202','340','618','989','Berry','garlic tomato sesame tofu kale sweet sweet beef.','32','88','99','32','85','8','gluten');
+aData['100003'] = new Array('101','392','192','884','159','866','48','120','967','237','55','273','319','882','443','911','236','263','983','86','821','907','Salmon','grilled vegan grilled tofu scrambled herb garlic kale teriyaki tomato.','50','79','76','56','19','48','vegan');
+aData['100004'] = new Array('396','952','215','369','94','815','144','34','835','930','307','757','370','487','416','380','137','372','919','24','383','88','Berry Spicy Pancakes','basil kale salsa beef tofu cheddar oatmeal berry.','44','61','8','98','83','38','vegetarian vegan');
+aData['100005'] = new Array('534','610','502','669','795','179','254','532','291','368','915','252','598','2','750','688','734','189','864','895','572','285','Potato Herb Kale','sesame beef eggs spicy teriyaki basil pesto chicken salsa eggs penne bbq.','5','27','61','76','99','56','');
+aData['100006'] = new Array('657','658','987','200','942','192','661','486','644','954','290','917','427','861','125','505','986','86','11','41','666','118','Grilled Granola Bbq','spicy eggs oatmeal beans bbq.','72','83','63','75','76','19','vegan mindful');
+aData['100007'] = new Array('443','998','714','205','295','552','583','813','216','986','178','380','150','552','103','399','366','896','324','830','817','717','Oatmeal Curry Beans Teriyaki','sweet berry kale bagel yogurt spicy spicy carrot eggs salmon tomato.','43','1','44','93','7','67','mindful');
+aData['100008'] = new Array('685','764','679','877','107','206','318','11','72','942','90','70','428','290','647','706','259','311','661','407','469','618','Quinoa Roasted','quinoa bagel sesame beef vegan.','99','72','23','17','53','28','vegetarian vegan');
+aData['100009'] = new Array('272','417','268','467','894','838','21','187','214','277','130','85','144','559','670','114','657','285','537','927','76','280','Garlic','tofu bagel spicy granola spicy beans pork penne pork cheddar ginger.','0','46','50','75','84','79','');
+aData['100010'] = new Array('597','476','524','701','735','511','597','831','958','543','651','325','289','690','612','148','851','779','855','263','496','990','Pancakes Bbq Oatmeal','beans carrot herb bbq basil beans yogurt quinoa.','35','32','64','49','24','37','vegan mindful');
+aData['100011'] = new Array('651','474','468','394','88','293','995','586','3','755','644','994','673','398','266','781','333','116','257','386','916','847','Broccoli Sesame','curry grilled scrambled grilled curry vegan carrot beef penne pesto garlic bagel.','33','96','83','58','82','95','gluten');
+aData['100012'] = new Array('928','948','521','489','389','487','951','776','560','594','262','358','781','472','274','702','894','196','33','521','734','160','Lemon Teriyaki Lemon','broccoli pancakes mushroom granola vegan roasted.','18','86','43','68','81','72','');
+aData['100013'] = new Array('880','926','179','888','945','861','75','596','803','423','137','189','370','575','856','689','274','773','823','335','962','62','Scrambled','cheddar waffles spicy yogurt mushroom quinoa yogurt pancakes penne.','85','64','85','56','89','27','');
+aData['100014'] = new Array('55','255','848','342','907','455','640','355','320','566','453','481','709','448','890','306','654','940','332','367','932','688','Cheddar Spicy Garlic Beef','pancakes penne vegan tomato salsa pesto beef bbq roasted.','94','11','85','22','40','28','mindful');
+aData['100015'] = new Array('248','225','771','136','136','956','593','339','633','83','323','617','989','266','601','162','87','304','364','56','699','905','Kale Rice','salsa lemon oatmeal broccoli kale beans bbq curry cheddar pork herb rice.','32','30','96','15','81','3','vegan mindful');
+aData['100016'] = new Array('855','135','573','318','81','582','351','581','20','912','284','666','704','847','971','752','876','565','484','0','492','271','Basil Potato','yogurt pork penne tofu roasted tomato.','21','1','56','25','54','86','gluten vegan');
+aData['100017'] = new Array('231','758','305','60','373','77','530','213','855','632','701','951','53','576','876','315','549','381','392','651','426','608','Beef','spicy eggs roasted rice ginger eggs mushroom tofu beef quinoa cheddar curry.','37','72','21','44','9','21','vegan vegetarian');
+aData['100018'] = new Array('147','49','609','765','569','915','447','576','820','143','680','667','71','76','920','504','38','778','607','387','298','617','Ginger','quinoa broccoli quinoa salsa.','88','0','48','54','15','73','');
+aData['100019'] = new Array('408','261','997','411','856','136','24','400','995','744','939','878','84','469','772','766','97','711','622','482','849','134','Granola','eggs potato bbq waffles rice spicy.','17','55','11','31','13','94','');
+aData['100020'] = new Array('525','8','149','984','245','514','434','408','8','403','223','202','534','403','727','207','817','200','691','713','953','663','Pancakes Chicken Teriyaki','lemon basil penne pesto pesto tomato.','99','51','20','2','39','63','mindful');
+aData['100021'] = new Array('13','137','939','44','775','565','477','225','369','6','888','886','297','625','154','661','857','384','151','683','651','896','Ginger Grilled Grilled Beef','oatmeal bbq salsa pesto kale.','61','13','66','77','95','27','');
+aData['100022'] = new Array('703','387','756','298','109','687','835','437','781','462','691','788','808','643','599','922','562','633','598','240','739','648','Spicy','basil grilled chicken teriyaki.','31','59','92','39','41','69','gluten mindful');
+aData['100023'] = new Array('679','708','175','221','261','254','21','765','332','918','251','809','805','941','948','571','605','177','614','913','165','665','Yogurt Broccoli','grilled eggs tomato tofu pork salsa lemon.','3','20','50','76','35','41','');
+aData['100024'] = new Array('696','664','498','182','975','888','384','662','446','654','172','57','866','889','144','661','159','387','148','96','854','623','Herb Potato Curry Tofu','kale beef tomato pesto spicy pesto.','42','3','11','89','38','88','mindful');
+aData['100025'] = new Array('498','359','143','402','658','884','623','960','73','469','968','94','32','673','286','601','750','393','356','873','758','841','Beans','herb curry salmon lemon grilled pesto cheddar broccoli.','21','26','89','80','2','35','');
+aData['100026'] = new Array('683','601','492','137','960','477','525','653','808','894','807','916','0','217','122','162','628','17','383','112','181','978','Broccoli Teriyaki','bagel pesto potato salmon mushroom potato bbq pork pancakes oatmeal.','69','34','87','63','88','75','vegetarian');
+aData['100027'] = new Array('488','867','406','672','845','995','673','793','76','968','422','801','773','755','74','877','424','150','160','65','403','296','Sesame Berry','herb spicy cheddar salmon herb tofu tomato spicy salsa.','98','29','22','48','80','90','');
+aData['100028'] = new Array('619','743','563','67','786','630','260','823','284','236','555','171','610','968','728','475','390','442','658','784','817','379','Granola','salsa salsa roasted tofu sweet broccoli.','65','62','79','32','11','54','vegan');
+aData['100029'] = new Array('919','863','782','62','432','413','540','407','77','938','675','694','216','490','846','30','733','394','184','281','904','495','Mushroom Scrambled Salsa Rice','teriyaki oatmeal rice teriyaki pesto ginger beef lemon rice sesame spicy.','27','40','96','56','1','81','vegan');
+aData['100030'] = new Array('626','717','143','387','294','785','319','96','910','985','548','890','238','869','828','690','831','854','326','193','633','533','Berry Carrot Sweet Spicy','pancakes basil tomato tofu lemon chicken yogurt bbq granola.','19','52','87','79','48','47','gluten vegetarian');
+aData['100031'] = new Array('678','966','825','578','142','716','739','979','439','480','94','393','61','593','562','749','360','192','139','172','724','124','Tomato Vegan Mushroom','pesto lemon penne beef scrambled sweet sesame beef pesto teriyaki oatmeal basil.','24','19','86','85','87','39','mindful gluten');
+aData['100032'] = new Array('997','180','188','432','729','247','866','986','985','648','584','423','338','750','842','590','354','279','252','171','399','430','Teriyaki','granola beef salsa spicy grilled waffles tofu tofu.','42','72','14','16','20','0','vegetarian');
+aData['100033'] = new Array('131','425','5','638','79','955','45','192','171','202','164','237','472','483','341','639','534','891','752','945','104','129','Lemon Pancakes Potato','garlic beef kale potato yogurt berry ginger.','80','62','26','99','66','66','mindful');
+aData['100034'] = new Array('26','400','499','589','403','573','601','357','806','264','135','901','692','225','360','991','295','691','710','814','514','137','Penne Sesame Penne','lemon eggs penne garlic rice waffles sweet.','40','30','50','30','40','19','gluten mindful');
+aData['100035'] = new Array('185','511','57','31','417','695','629','563','781','101','492','366','701','78','191','119','77','899','555','989','889','215','Herb Curry','mushroom scrambled chicken pesto scrambled.','11','97','66','11','1','69','mindful gluten');
+aData['100036'] = new Array('626','939','28','43','973','291','201','817','685','489','474','707','442','136','517','277','702','145','90','445','951','587','Oatmeal Yogurt','mushroom beans salmon bbq bbq carrot chicken waffles tomato beans beef mushroom.','86','28','6','16','36','8','');
+aData['100037'] = new Array('678','990','934','991','311','549','134','372','791','409','801','863','974','731','51','862','594','126','438','144','383','873','Pancakes','scrambled bagel yogurt bagel salmon ginger yogurt tomato.','97','28','36','17','77','26','mindful vegetarian');
+aData['100038'] = new Array('209','104','265','826','888','87','487','229','938','849','256','563','42','903','678','399','240','178','417','192','774','968','Tomato Oatmeal Berry','salsa quinoa scrambled carrot salmon waffles carrot cheddar spicy eggs pork tomato.','3','83','32','69','53','93','vegan');
+aData['100039'] = new Array('866','247','915','37','188','337','129','635','239','889','488','61','601','610','392','521','202','579','310','136','658','691','Cheddar Waffles Waffles','berry beans pancakes salmon herb spicy grilled.','68','7','62','21','33','18','vegan gluten');
+aData['100040'] = new Array('667','620','702','393','562','695','717','238','870','35','499','776','464','11','957','148','789','933','381','101','310','773','Rice Eggs Yogurt','tofu salsa sweet mushroom broccoli tofu.','64','57','42','44','62','63','');
+aData['100041'] = new Array('672','348','906','163','940','458','882','106','548','875','66','922','225','455','574','301','397','720','487','440','670','981','Salmon','granola bbq ginger beans roasted mushroom herb eggs tofu tofu lemon.','72','67','36','4','32','75','gluten');
+aData['100042'] = new Array('63','864','557','488','699','351','939','307','204','708','716','332','476','240','721','872','924','18','433','154','413','780','Salsa','berry berry penne herb granola carrot kale broccoli quinoa.','6','6','31','58','30','26','');
+aData['100043'] = new Array('717','812','246','993','53','151','752','634','308','501','460','294','800','703','908','755','4','871','821','185','808','798','Teriyaki','potato spicy waffles beans eggs oatmeal herb.','70','50','2','89','57','29','');
+aData['100044'] = new Array('928','895','871','816','850','344','946','108','257','120','571','762','605','268','177','497','767','152','757','852','282','665','Oatmeal Broccoli Oatmeal','grilled spicy pork cheddar pesto chicken oatmeal teriyaki.','51','24','42','66','27','22','gluten');
+aData['100045'] = new Array('249','594','98','676','869','229','334','328','51','104','167','470','25','193','799','772','73','485','901','343','899','358','Potato Basil','scrambled chicken mushroom pesto ginger granola.','69','93','79','36','65','7','mindful vegetarian');
+aData['100046'] = new Array('469','497','712','634','108','308','565','267','118','310','40','589','879','39','129','90','428','640','939','77','23','690','Bagel Eggs','garlic granola mushroom pesto kale basil bagel beef.','12','30','77','66','57','72','vegan');
+aData['100047'] = new Array('870','842','690','574','625','214','794','123','906','640','972','829','48','722','534','625','245','559','705','256','199','338','Grilled','penne mushroom curry tofu teriyaki tofu potato potato teriyaki.','74','77','59','48','61','60','mindful gluten');
+aData['100048'] = new Array('393','378','732','85','140','497','500','596','632','580','688','136','964','118','665','40','623','858','386','874','11','913','Roasted Sweet Waffles Basil','vegan pork scrambled quinoa sesame garlic chicken teriyaki scrambled.','48','46','39','70','66','65','vegetarian');
+aData['100049'] = new Array('42','419','490','143','56','240','912','596','479','858','332','539','92','456','166','450','51','840','139','168','393','434','Pancakes Bbq Chicken Roasted','garlic roasted teriyaki penne potato waffles garlic quinoa.','16','10','35','47','75','42','');
+aData['100050'] = new Array('520','21','643','294','131','390','715','559','693','29','16','910','422','765','843','786','955','951','253','979','386','552','Bbq Sweet Penne','quinoa waffles vegan berry pesto beef scrambled pancakes berry carrot spicy sesame.','72','90','5','2','12','90','');
+aData['100051'] = new Array('704','75','738','375','127','962','639','450','204','411','49','392','69','695','424','362','726','497','234','893','703','881','Quinoa Oatmeal Scrambled','quinoa herb ginger sweet quinoa.','44','32','98','45','32','7','');
+aData['100052'] = new Array('358','979','99','193','382','677','330','466','747','436','964','464','281','672','927','926','632','546','87','328','377','223','Oatmeal Tofu Waffles','oatmeal spicy roasted pork sweet waffles sweet beans.','4','64','67','22','63','83','');
+aData['100053'] = new Array('964','987','827','369','239','845','14','25','677','610','950','664','508','856','80','13','631','471','865','159','289','843','Yogurt Basil Tomato Roasted','grilled basil berry roasted sweet penne curry.','51','60','19','15','39','30','gluten mindful');
+aData['100054'] = new Array('843','405','138','837','432','243','619','283','310','215','757','831','641','576','757','124','526','742','789','521','378','20','Salsa Potato Scrambled','potato garlic beans potato pancakes.','53','31','6','63','20','10','gluten');
+aData['100055'] = new Array('436','669','458','157','353','317','481','606','125','968','992','492','212','285','799','523','917','736','482','179','934','162','Bbq Mushroom','sweet potato tomato garlic mushroom sesame kale basil potato carrot.','48','39','21','77','67','95','vegan');
+aData['100056'] = new Array('730','364','928','650','338','96','848','650','701','212','280','667','202','645','988','570','23','429','7','455','642','937','Ginger Bagel Salsa Mushroom','herb teriyaki broccoli carrot garlic herb teriyaki potato tofu salmon chicken bbq.','89','30','96','9','27','82','vegan vegetarian');
+aData['100057'] = new Array('871','284','932','497','694','328','19','563','35','716','892','690','933','741','999','532','998','709','29','422','135','762','Salmon Rice Eggs Rice','potato herb pesto bagel roasted scrambled herb bagel waffles granola basil.','29','23','60','54','89','98','gluten mindful');
+aData['100058'] = new Array('224','586','953','716','278','961','945','224','583','94','531','770','59','371','128','944','766','973','700','949','455','61','Rice Carrot Vegan','salsa mushroom salmon chicken.','34','62','98','4','76','36','vegetarian');
+aData['100059'] = new Array('995','456','963','469','420','346','26','441','328','839','231','746','395','270','920','295','394','540','443','94','837','285','Basil','lemon pork pesto quinoa vegan.','16','58','28','30','5','45','');
+aData['100060'] = new Array('674','713','508','141','816','458','129','228','148','170','219','199','178','777','316','844','635','792','899','78','138','81','Rice Rice','garlic vegan rice yogurt curry bagel broccoli tomato basil.','9','38','19','63','11','9','vegetarian gluten');
+aData['100061'] = new Array('170','383','288','489','385','790','731','409','976','736','926','175','314','318','433','115','573','811','767','218','688','737','Salsa','sesame potato berry salsa oatmeal sesame carrot berry potato herb pork.','72','16','94','88','96','92','');
+aData['100062'] = new Array('607','269','244','235','560','759','686','39','104','212','4','430','761','42','725','541','536','391','193','913','79','797','Sweet Basil','yogurt beef roasted oatmeal.','45','15','10','1','68','11','vegetarian');
+aData['100063'] = new Array('647','458','611','935','316','646','342','967','142','217','405','935','374','656','371','121','346','723','284','982','19','774','Potato Bbq','teriyaki carrot broccoli kale.','51','6','86','83','5','36','');
+aData['100064'] = new Array('410','785','161','916','806','852','500','604','388','21','135','408','897','680','287','355','510','853','695','138','955','920','Roasted','salmon kale waffles lemon tofu rice salmon curry herb broccoli.','54','92','18','83','47','34','');
+aData['100065'] = new Array('453','880','453','415','675','869','273','757','134','615','471','910','514','585','918','573','25','914','256','817','857','949','Beans Curry Basil','beef granola bbq pancakes tofu ginger pork curry tofu.','16','32','50','5','71','24','mindful gluten');
+aData['100066'] = new Array('538','979','415','759','373','375','43','223','607','108','76','395','38','708','512','594','181','469','34','468','835','114','Bbq Rice','waffles oatmeal beef cheddar basil cheddar rice cheddar salmon beans spicy waffles.','69','25','72','61','73','48','mindful');
+aData['100067'] = new Array('619','867','123','832','925','234','409','639','326','87','160','19','538','101','45','528','963','969','240','948','976','367','Sweet Mushroom','oatmeal herb curry garlic beef bbq bbq.','77','54','79','58','28','31','');
+aData['100068'] = new Array('764','710','507','70','36','189','158','653','212','83','653','924','138','213','870','847','997','89','237','645','164','160','Scrambled Broccoli','tofu curry roasted cheddar yogurt salmon.','65','62','36','29','27','74','gluten');
+aData['100069'] = new Array('741','202','173','308','334','772','893','617','139','929','331','189','888','23','685','602','530','832','224','81','345','534','Tofu Salsa Roasted Granola','lemon sweet teriyaki salsa grilled.','8','81','90','7','1','82','mindful vegetarian');
+aData['100070'] = new Array('908','382','46','666','53','543','801','41','96','824','795','979','890','443','298','843','965','834','508','651','946','199','Chicken Lemon Grilled','vegan salsa quinoa tomato penne potato sesame penne oatmeal lemon broccoli.','92','89','39','34','18','49','gluten');
+aData['100071'] = new Array('157','309','366','46','196','924','241','130','658','932','700','939','556','558','566','722','766','586','523','159','463','122','Quinoa','herb spicy chicken potato oatmeal rice eggs cheddar spicy lemon spicy yogurt.','55','92','28','34','89','42','vegetarian');
+aData['100072'] = new Array('415','732','494','533','386','544','322','246','255','89','59','705','514','407','656','96','200','463','264','189','896','740','Basil Potato Granola','spicy chicken ginger oatmeal herb sweet ginger bagel pancakes sweet salsa.','86','98','22','5','1','33','');
+aData['100073'] = new Array('2','911','954','95','968','66','203','373','201','233','687','600','586','603','803','962','697','543','295','934','337','163','Grilled Berry','penne basil potato bagel.','92','61','67','6','84','27','');
+aData['100074'] = new Array('24','104','294','864','145','323','778','177','344','803','170','310','999','917','227','787','178','810','209','120','927','775','Granola','chicken cheddar oatmeal carrot eggs penne lemon beans salsa garlic beans berry.','35','49','68','34','60','27','mindful');
+aData['100075'] = new Array('766','358','347','525','602','698','840','741','545','894','582','594','864','366','428','975','950','557','119','205','272','98','Waffles Salsa Pork','basil mushroom broccoli chicken.','37','97','24','14','58','49','');
+aData['100076'] = new Array('194','413','461','736','479','424','625','71','517','301','376','773','694','862','993','782','939','136','698','426','960','32','Vegan Potato Sesame Potato','rice tomato broccoli sweet.','32','12','14','27','63','71','gluten vegetarian');
+aData['100077'] = new Array('834','195','503','693','463','99','313','425','924','574','761','898','282','915','956','826','382','283','311','870','321','47','Sesame Oatmeal Potato','oatmeal pancakes lemon sweet yogurt bbq salmon lemon.','63','31','74','79','8','38','mindful');
+aData['100078'] = new Array('681','947','891','285','399','967','408','647','449','431','296','473','177','559','894','486','812','860','511','317','787','963','Quinoa Eggs Yogurt','curry salmon eggs oatmeal rice quinoa salsa penne.','39','2','55','20','37','67','mindful vegan');
+aData['100079'] = new Array('808','132','473','403','571','721','357','838','103','234','362','240','636','182','430','623','324','199','992','922','322','105','Yogurt Beans Waffles Garlic','roasted quinoa herb oatmeal tomato penne spicy ginger yogurt garlic pancakes.','49','40','75','97','82','46','gluten vegan');
+aData['100080'] = new Array('238','460','754','995','147','804','620','169','78','85','27','531','336','348','683','265','301','805','657','370','589','69','Beef Grilled','broccoli ginger waffles ginger pancakes pork rice curry.','54','35','3','15','21','26','mindful');
+aData['100081'] = new Array('945','858','136','211','10','233','497','940','854','592','972','224','245','775','33','326','694','555','184','170','902','396','Pesto Vegan Rice Beans','basil quinoa basil teriyaki teriyaki tofu yogurt berry.','7','4','74','53','97','42','');
+aData['100082'] = new Array('647','97','312','412','633','562','179','94','288','677','697','238','450','843','909','346','126','792','969','890','994','546','Mushroom Scrambled Beef','rice basil roasted waffles beans penne berry herb tofu salsa.','21','87','2','50','7','31','vegan');
+aData['100083'] = new Array('227','523','310','939','363','917','215','795','743','199','785','657','716','568','775','116','367','977','440','604','652','288','Lemon Grilled','lemon spicy rice chicken granola quinoa rice.','91','50','25','81','9','51','');
+aData['100084'] = new Array('849','597','481','166','986','223','468','90','713','427','720','783','438','822','340','845','4','479','774','332','12','584','Broccoli','broccoli basil pesto mushroom berry sweet cheddar sesame pesto pancakes salmon cheddar.','68','59','40','72','29','6','vegetarian gluten');
+aData['100085'] = new Array('384','359','864','510','915','729','473','387','707','974','355','396','495','307','671','888','858','497','533','628','711','399','Potato Quinoa Rice Herb','pesto bbq spicy tofu.','3','2','52','29','52','66','mindful');
+aData['100086'] = new Array('385','905','847','519','832','462','595','304','555','257','216','749','240','301','67','511','12','886','519','277','882','508','Salmon Potato Quinoa','pork spicy bagel potato spicy tofu pesto roasted broccoli.','13','5','77','81','58','76','gluten vegan');
+aData['100087'] = new Array('725','439','360','704','737','891','629','949','730','154','248','274','352','664','326','106','255','629','1','344','506','968','Berry','sesame teriyaki salsa pancakes quinoa pesto granola broccoli berry bagel.','84','73','94','30','67','81','vegetarian');
+aData['100088'] = new Array('902','447','996','507','154','233','892','987','205','358','827','604','187','517','106','749','293','897','796','834','596','933','Basil Spicy','granola salsa mushroom kale curry vegan grilled spicy garlic beef carrot rice.','4','25','65','66','30','5','vegetarian gluten');
+aData['100089'] = new Array('380','985','256','65','101','676','394','943','221','316','788','589','184','542','247','227','507','231','851','943','900','252','Potato','chicken penne lemon bbq granola curry.','18','69','55','24','10','16','gluten');
+aData['100090'] = new Array('78','980','482','98','839','928','244','925','868','865','296','411','660','811','314','446','283','175','401','498','500','371','Beef','roasted ginger lemon lemon yogurt salmon mushroom eggs oatmeal pork pesto quinoa.','85','46','34','29','54','3','vegan mindful');
+aData['100091'] = new Array('763','184','682','334','424','839','309','803','358','401','381','770','590','605','162','260','434','813','597','719','862','562','Rice Potato Bbq Salsa','salmon tofu grilled teriyaki.','34','93','67','91','1','37','');
+aData['100092'] = new Array('743','839','218','245','113','131','194','998','418','326','674','681','950','341','183','552','39','65','949','838','559','905','Vegan Pesto Oatmeal Ginger','ginger bagel garlic carrot salmon rice basil basil pork.','46','24','1','18','35','46','');
+aData['100093'] = new Array('616','0','631','753','906','689','918','352','457','265','319','623','901','587','394','258','832','724','235','142','800','102','Rice Yogurt Berry Lemon','carrot scrambled vegan cheddar berry beans tofu mushroom.','29','89','77','70','25','10','vegan');
+aData['100094'] = new Array('541','996','71','356','605','211','631','505','876','564','582','205','434','897','396','315','286','107','253','104','977','584','Potato','salmon teriyaki beef roasted curry sesame bbq curry rice.','27','41','33','34','61','81','');
+aData['100095'] = new Array('678','104','154','850','788','16','575','444','209','328','458','973','633','376','803','858','851','143','503','856','824','870','Potato Pesto Pork','beans pork vegan lemon bagel quinoa beef tofu grilled granola chicken.','42','45','57','72','21','27','');
+aData['100096'] = new Array('317','617','511','339','50','821','695','380','590','470','548','915','627','559','251','460','816','961','369','524','864','610','Chicken','mushroom rice potato sweet salsa chicken tofu spicy cheddar bbq.','49','24','48','99','12','32','');
+aData['100097'] = new Array('145','754','376','140','314','627','92','416','909','677','392','743','997','400','231','65','428','336','420','309','755','851','Bbq','beef pork quinoa granola penne grilled curry.','60','44','91','91','77','57','');
+aData['100098'] = new Array('260','347','766','89','709','416','576','742','677','171','78','970','951','768','156','28','320','771','771','246','932','734','Ginger Curry','oatmeal eggs chicken ginger oatmeal ginger potato sweet mushroom vegan chicken rice.','17','38','47','72','5','2','vegetarian');
+aData['100099'] = new Array('229','158','232','773','777','470','972','513','451','927','582','337','475','834','182','70','379','145','352','600','46','345','Sesame Carrot Kale','carrot sesame mushroom salmon herb salmon.','6','30','56','66','92','43','mindful vegetarian');
+aData['100100'] = new Array('18','117','124','885','133','3','269','666','330','531','699','305','283','62','520','212','777','892','851','863','338','0','Spicy','beef yogurt beef penne chicken kale basil sweet sesame yogurt teriyaki potato.','21','1','50','90','13','69','');
+aData['100101'] = new Array('682','306','335','751','831','755','929','30','279','568','670','833','864','472','997','368','961','605','442','19','239','680','Basil Grilled','potato sesame broccoli mushroom herb tomato rice sesame granola.','97','74','78','57','27','5','mindful vegan');
+aData['100102'] = new Array('190','92','227','879','316','237','638','733','18','71','341','697','538','851','766','825','489','28','785','383','84','711','Salsa Granola Potato Spicy','beef garlic bagel roasted pancakes.','59','55','39','59','67','3','gluten');
+aData['100103'] = new Array('802','790','440','933','717','27','743','504','532','696','749','578','721','484','503','908','918','1','521','792','807','118','Salmon Berry Lemon Waffles','pancakes bagel yogurt herb.','35','89','28','47','51','54','gluten vegetarian');
+aData['100104'] = new Array('386','788','287','153','527','848','829','36','972','501','670','976','119','113','363','725','839','36','449','935','451','481','Vegan Garlic Lemon Bbq','roasted potato yogurt sweet basil.','31','75','60','48','75','62','gluten vegan');
+aData['100105'] = new Array('195','703','924','198','129','743','728','481','84','670','705','517','286','826','938','981','201','711','417','747','678','670','Broccoli Bbq','granola pesto broccoli oatmeal grilled potato teriyaki bagel waffles yogurt grilled.','65','11','20','22','45','59','');
+aData['100106'] = new Array('162','341','432','952','890','102','904','253','973','644','885','313','538','41','817','227','342','101','579','550','614','93','Basil Bagel','quinoa roasted potato potato yogurt oatmeal basil.','70','56','54','83','3','94','');
+aData['100107'] = new Array('290','788','586','63','599','643','255','904','702','667','685','337','708','670','827','141','989','29','425','260','49','777','Salmon Cheddar','salmon basil granola pancakes pesto kale.','77','2','86','6','27','98','');
+aData['100108'] = new Array('466','695','186','39','498','813','753','451','19','742','385','215','165','718','642','605','790','186','630','319','202','775','Roasted Lemon Beans Garlic','sweet tomato curry salmon oatmeal potato sweet bbq lemon.','64','41','64','49','4','85','vegetarian');
+aData['100109'] = new Array('563','31','141','512','834','610','645','106','730','93','526','523','15','424','127','371','10','443','777','242','355','350','Yogurt Pesto Vegan','oatmeal granola pancakes tofu scrambled beef cheddar.','54','40','18','5','14','85','mindful');
+aData['100110'] = new Array('6','366','31','756','72','900','610','675','377','385','345','824','644','948','326','608','65','313','801','659','53','31','Grilled Chicken Sweet','yogurt quinoa broccoli curry yogurt herb.','8','18','86','54','85','11','');
+aData['100111'] = new Array('3','44','733','728','586','549','76','675','987','307','950','669','488','624','527','212','444','607','120','611','371','892','Herb Teriyaki','herb salmon pork granola scrambled garlic rice berry bagel carrot herb tofu.','38','46','77','52','60','69','gluten');
+aData['100112'] = new Array('62','856','901','340','943','458','504','634','255','254','610','986','595','445','374','813','552','138','236','463','256','311','Chicken Lemon Potato','quinoa bagel granola berry basil cheddar yogurt beans sesame teriyaki pesto salmon.','85','82','93','71','4','63','vegan vegetarian');
+aData['100113'] = new Array('347','992','647','470','485','789','748','267','574','352','556','64','571','407','266','637','780','360','420','709','62','622','Salsa','berry chicken chicken rice roasted garlic spicy.','58','92','98','57','41','91','vegan');
+aData['100114'] = new Array('359','293','938','177','726','334','304','186','124','122','252','219','960','488','456','6','594','702','523','81','536','240','Chicken Bbq Ginger','basil tomato pesto scrambled salsa grilled curry.','31','91','27','12','91','16','');
+aData['100115'] = new Array('338','518','114','22','446','491','994','172','419','22','259','707','244','242','597','284','621','373','594','743','400','316','Lemon','berry potato potato beans eggs potato cheddar scrambled granola bagel.','73','75','74','42','64','88','vegan mindful');
+aData['100116'] = new Array('154','119','874','606','291','423','924','562','847','472','436','830','227','2','476','612','493','188','661','492','815','502','Oatmeal','teriyaki bagel garlic sesame oatmeal quinoa tomato berry sesame.','50','5','56','35','19','45','mindful gluten');
+aData['100117'] = new Array('506','120','451','490','992','0','51','226','668','317','774','545','156','513','960','720','656','227','958','734','599','235','Beef Waffles Cheddar','garlic vegan cheddar tomato.','37','94','44','59','78','48','gluten');
+aData['100118'] = new Array('680','460','92','155','72','777','228','656','380','336','432','733','231','121','225','23','40','244','424','255','366','640','Tomato Chicken Grilled','beans tomato rice chicken oatmeal kale eggs pork beans.','41','20','17','77','53','77','vegetarian mindful');
+aData['100119'] = new Array('664','341','413','846','878','168','994','441','462','696','998','967','116','515','84','431','106','878','824','805','870','420','Granola Chicken Berry','chicken grilled granola eggs penne.','59','47','59','69','82','83','vegetarian gluten');
+aData['100120'] = new Array('173','324','97','929','300','333','441','653','647','608','560','617','537','281','909','588','110','802','130','710','97','576','Lemon Tomato Scrambled','lemon mushroom vegan kale.','52','37','36','26','12','68','');
+aData['100121'] = new Array('420','967','121','119','211','197','431','616','349','627','738','406','471','294','788','865','564','108','906','317','684','984','Teriyaki','beef beef pancakes yogurt beef beef cheddar.','30','8','12','54','3','47','');
+aData['100122'] = new Array('745','9','964','293','580','662','380','836','198','53','32','599','124','553','615','924','469','869','600','124','415','982','Garlic Quinoa','yogurt rice salsa kale pancakes kale.','82','39','86','77','68','68','');
+aData['100123'] = new Array('831','88','852','918','97','129','863','506','855','420','140','410','506','706','600','158','867','584','456','311','276','309','Beef','potato waffles tomato yogurt sweet eggs yogurt spicy.','33','52','82','52','29','49','vegan');
+aData['100124'] = new Array('508','560','928','339','42','625','32','653','607','292','990','346','973','456','164','576','183','669','630','284','356','649','Basil Chicken','beans bagel salsa bagel garlic.','25','26','64','69','64','38','gluten vegetarian');
+aData['100125'] = new Array('753','936','130','209','466','857','199','109','433','278','75','48','803','202','152','359','999','598','945','645','410','275','Yogurt Tofu Garlic Salsa','salsa salsa chicken tomato berry spicy mushroom beans grilled pork.','47','54','94','64','63','68','mindful vegan');
+aData['100126'] = new Array('612','440','491','585','781','507','246','282','183','767','593','518','869','270','400','556','590','455','249','645','676','242','Garlic Eggs','beef kale beans pesto scrambled bagel mushroom oatmeal salmon mushroom.','48','31','0','9','16','4','gluten mindful');
+aData['100127'] = new Array('112','172','100','976','196','729','901','579','111','924','980','262','5','370','143','1','911','575','340','41','754','880','Waffles Herb','curry granola vegan cheddar.','71','36','31','20','50','4','');
+aData['100128'] = new Array('352','39','359','882','272','991','66','181','412','461','428','590','937','43','895','979','652','230','812','400','572','258','Penne Rice Salmon Quinoa','granola rice yogurt spicy spicy rice penne salsa tofu mushroom.','95','70','44','70','60','0','');
+aData['100129'] = new Array('260','877','226','565','923','427','876','389','293','35','548','836','974','822','372','488','100','466','457','636','46','922','Cheddar Berry','mushroom quinoa chicken potato yogurt bagel.','48','87','25','60','58','82','vegan vegetarian');
+aData['100130'] = new Array('90','550','341','872','312','914','78','380','615','77','609','243','766','205','634','951','261','69','612','577','348','162','Ginger Waffles','bbq oatmeal carrot beef vegan quinoa penne.','54','22','8','22','43','83','gluten vegetarian');
+aData['100131'] = new Array('431','679','559','477','126','670','596','167','248','414','920','367','497','294','173','70','907','651','79','746','685','471','Grilled Berry','broccoli rice tofu berry quinoa.','65','10','58','64','42','58','');
+aData['100132'] = new Array('580','767','680','46','205','831','191','773','867','157','87','877','635','351','761','638','869','583','744','923','835','467','Basil Grilled Berry','yogurt cheddar tomato rice garlic potato teriyaki.','80','46','94','66','39','70','vegetarian gluten');
+aData['100133'] = new Array('484','766','365','496','282','294','231','184','337','212','374','456','714','897','651','675','914','134','641','33','87','405','Beans','basil salmon carrot potato sesame pork.','81','13','78','0','90','61','gluten vegan');
+aData['100134'] = new Array('923','798','101','137','54','78','666','631','833','538','534','78','275','322','582','879','788','85','312','24','161','255','Herb Basil Pesto','rice basil grilled broccoli.','64','22','45','72','35','13','');
+aData['100135'] = new Array('583','889','209','162','915','477','82','533','27','340','794','963','729','645','681','902','444','862','77','625','747','460','Vegan Salmon','salmon berry tomato granola penne lemon pork.','76','40','25','42','44','30','');
+aData['100136'] = new Array('435','0','563','124','44','660','992','452','242','668','72','80','961','362','499','624','666','292','561','785','861','234','Sweet Berry Lemon Mushroom','roasted pesto granola scrambled basil lemon tofu vegan berry yogurt.','64','66','75','93','81','65','vegetarian vegan');
+aData['100137'] = new Array('768','747','341','747','380','481','815','699','643','829','89','888','692','100','219','718','849','637','116','912','588','582','Granola Mushroom','garlic pesto waffles pork lemon potato cheddar vegan kale teriyaki beans.','54','13','53','86','96','63','gluten vegetarian');
+aData['100138'] = new Array('604','679','335','531','53','808','877','809','665','496','826','993','864','182','815','528','32','518','634','257','518','320','Garlic Salsa Beef Bbq','tofu broccoli kale waffles beef curry kale chicken berry granola rice.','0','15','39','3','3','41','mindful');
+aData['100139'] = new Array('991','444','169','317','909','428','815','285','494','660','980','823','860','368','977','105','239','862','514','505','706','630','Potato','basil bagel tomato kale broccoli waffles mushroom beans cheddar broccoli.','19','76','70','99','80','72','gluten');
+aData['100140'] = new Array('58','100','594','551','10','546','112','874','664','437','650','391','596','140','882','439','180','780','383','259','568','175','Broccoli','oatmeal bagel sweet curry.','63','4','41','11','4','19','vegetarian');
+aData['100141'] = new Array('868','623','488','355','543','361','244','577','250','305','235','17','798','44','161','260','886','263','644','662','236','336','Eggs Ginger','grilled oatmeal salsa waffles scrambled.','28','35','62','24','15','63','mindful gluten');
+aData['100142'] = new Array('142','71','302','797','90','578','189','710','811','530','723','731','96','695','298','339','983','225','209','145','903','228','Vegan Salsa Teriyaki Pesto','teriyaki potato broccoli carrot tomato berry spicy rice beef ginger.','93','40','82','12','41','55','vegan vegetarian');
+aData['100143'] = new Array('925','105','809','407','430','189','588','451','2','134','377','322','986','219','958','499','514','925','781','685','721','469','Grilled Spicy Broccoli','garlic pork mushroom pesto scrambled garlic salsa waffles potato potato.','0','20','47','48','67','2','gluten vegan');
+aData['100144'] = new Array('68','268','922','871','510','349','258','39','454','211','65','642','189','941','323','761','192','721','70','790','367','919','Mushroom Broccoli Bagel Bbq','beans mushroom basil rice cheddar granola spicy bbq yogurt bagel.','3','18','63','40','89','29','vegan');
+aData['100145'] = new Array('25','343','812','593','689','627','248','82','264','617','533','951','889','524','358','318','956','734','73','903','212','764','Roasted Teriyaki Rice Basil','potato salmon sesame curry beans tofu broccoli beans pancakes rice beef.','40','32','49','95','42','73','');
+aData['100146'] = new Array('415','309','505','919','756','403','708','910','708','573','505','42','630','670','523','995','552','237','988','947','137','45','Herb Sesame Sweet','beans basil broccoli curry oatmeal carrot scrambled tomato chicken tofu lemon roasted.','83','7','92','31','52','43','gluten');
+aData['100147'] = new Array('841','296','341','274','557','326','133','624','426','289','78','344','69','766','420','745','607','68','713','965','577','511','Rice Grilled Rice Scrambled','penne garlic lemon potato beans vegan.','99','94','46','7','72','48','vegan');
+aData['100148'] = new Array('753','401','427','48','48','270','535','843','241','800','540','742','260','461','330','181','491','527','714','726','646','449','Ginger Spicy Beef','vegan pancakes scrambled penne curry penne pork roasted berry herb chicken.','73','77','18','27','69','47','mindful');
+aData['100149'] = new Array('644','672','372','534','229','912','0','307','861','765','6','756','548','587','352','857','956','284','986','916','170','372','Potato Berry','basil roasted pesto bbq waffles ginger mushroom rice spicy.','0','22','60','36','95','17','');
+aData['100150'] = new Array('566','30','415','437','245','696','272','506','609','64','283','955','128','240','724','434','165','31','354','651','285','70','Salmon Garlic','cheddar salmon bagel sesame salmon beef granola oatmeal oatmeal broccoli oatmeal oatmeal.','46','22','88','84','62','9','');
+aData['100151'] = new Array('702','870','97','311','118','631','454','417','7','959','424','607','252','224','972','633','824','534','624','601','741','380','Garlic Garlic Penne Scrambled','broccoli vegan grilled quinoa mushroom.','4','12','47','38','83','87','vegan');
+aData['100152'] = new Array('642','345','760','266','40','304','559','995','241','821','900','984','697','349','472','669','255','201','375','100','962','558','Broccoli Rice','roasted broccoli rice chicken scrambled carrot pancakes sesame oatmeal spicy granola.','38','57','94','50','37','56','');
+aData['100153'] = new Array('470','58','370','756','603','140','615','857','653','337','432','132','357','386','641','686','749','799','650','518','863','790','Sweet Waffles','oatmeal carrot mushroom broccoli oatmeal garlic vegan salsa bbq cheddar.','38','43','53','64','27','40','mindful');
+aData['100154'] = new Array('53','695','297','915','865','196','365','16','132','42','844','351','433','383','710','123','80','419','98','908','627','966','Garlic Eggs Curry','salmon kale grilled eggs kale basil.','8','92','66','85','39','35','');
+aData['100155'] = new Array('827','627','494','338','7','143','545','830','600','350','43','795','61','845','556','31','932','522','88','817','923','407','Berry','pancakes tomato vegan broccoli kale oatmeal grilled salmon.','51','92','55','43','49','89','mindful vegetarian');
+aData['100156'] = new Array('36','634','571','683','599','164','439','748','875','733','950','787','146','854','286','930','7','396','539','919','696','614','Berry Carrot Cheddar Carrot','lemon tomato sweet lemon pork salmon carrot pancakes ginger salsa spicy.','81','23','70','71','37','26','mindful');
+aData['100157'] = new Array('759','852','908','861','357','298','314','691','989','61','924','22','564','787','870','147','698','436','210','485','432','924','Mushroom Pork Broccoli Cheddar','waffles lemon bagel granola.','82','89','59','85','57','14','');
+aData['100158'] = new Array('825','312','663','884','425','554','266','439','381','314','471','961','659','101','430','60','53','540','231','489','950','545','Grilled Kale','pork grilled pancakes bagel.','60','29','14','43','77','58','vegetarian');
+aData['100159'] = new Array('946','418','301','594','304','736','53','735','373','455','145','664','953','939','67','834','877','66','829','558','659','744','Salsa Berry','kale pork vegan rice.','76','70','62','8','93','16','gluten vegetarian');
+aData['100160'] = new Array('973','368','536','159','91','50','406','87','445','754','452','895','888','300','78','589','126','655','588','308','265','993','Mushroom Chicken','pesto broccoli rice pork.','90','98','25','73','11','68','');
+aData['100161'] = new Array('127','837','825','812','640','274','529','662','363','563','596','505','20','459','826','115','35','356','370','97','432','178','Beans','beans spicy curry pancakes ginger grilled penne.','38','36','36','94','40','9','gluten vegan');
+aData['100162'] = new Array('575','502','597','563','996','289','669','208','27','431','774','380','655','603','731','473','595','842','943','4','190','50','Broccoli','scrambled roasted kale potato broccoli mushroom salmon chicken tofu chicken beans spicy.','0','43','10','44','25','28','vegetarian mindful');
+aData['100163'] = new Array('306','782','898','86','647','362','825','274','345','822','812','568','708','418','642','606','290','105','682','852','819','314','Carrot','grilled granola pancakes bagel sesame beans tofu beef beef.','8','44','78','92','0','15','vegan');
+aData['100164'] = new Array('433','342','788','568','12','772','589','420','906','980','459','260','323','723','21','891','138','997','470','368','532','80','Spicy Sweet Bagel','pork waffles beans sesame tofu chicken cheddar.','98','70','98','18','21','21','mindful');
+aData['100165'] = new Array('524','834','283','986','310','484','77','357','898','463','469','851','352','253','146','396','342','713','247','849','398','728','Penne Spicy Vegan Quinoa','salsa rice salmon sesame sesame yogurt granola mushroom quinoa sesame pancakes.','50','14','87','80','41','62','');
+aData['100166'] = new Array('141','868','574','696','132','112','459','569','802','452','152','857','855','514','264','701','427','416','950','413','65','474','Bbq Quinoa','salmon salmon herb salsa berry beef roasted oatmeal.','91','60','51','16','84','64','vegetarian vegan');
+aData['100167'] = new Array('18','685','791','579','799','343','785','776','365','114','479','789','303','179','745','292','622','637','790','716','303','849','Yogurt','spicy potato potato potato carrot.','62','87','24','68','34','71','vegan gluten');
+aData['100168'] = new Array('212','765','455','802','777','56','909','273','300','860','854','644','178','696','578','513','988','513','645','946','152','130','Tomato','cheddar granola tomato grilled.','38','99','10','17','64','72','');
+aData['100169'] = new Array('879','613','457','135','344','948','461','159','651','433','354','513','680','791','150','356','822','764','480','466','951','796','Pork','teriyaki garlic bagel spicy broccoli oatmeal pork.','46','66','48','8','58','15','vegan');
+aData['100170'] = new Array('936','845','584','691','584','925','869','337','488','757','697','55','324','107','713','820','261','467','682','758','956','650','Cheddar Beef Pancakes','beans grilled waffles bbq salsa curry herb herb pesto roasted.','45','34','65','86','39','75','');
+aData['100171'] = new Array('355','61','542','477','728','545','846','88','780','578','55','929','456','102','659','496','856','108','471','297','606','229','Carrot Potato Garlic Salsa','eggs beans rice salmon pork roasted yogurt scrambled roasted sesame waffles.','62','88','91','49','11','48','vegan gluten');
+aData['100172'] = new Array('939','856','595','17','351','959','557','974','618','623','381','852','794','674','239','285','12','598','920','193','514','177','Garlic Ginger Waffles Granola','chicken salsa curry tofu bbq spicy carrot broccoli bagel.','47','52','50','54','91','56','vegetarian');
+aData['100173'] = new Array('833','354','987','267','987','339','482','180','576','170','443','515','839','245','809','941','439','819','381','170','163','438','Bbq','pesto spicy curry kale granola berry.','43','79','39','64','79','6','');
+aData['100174'] = new Array('885','785','474','697','138','558','817','990','443','379','194','594','273','738','993','187','483','932','510','341','399','624','Pancakes Oatmeal','roasted curry cheddar kale.','74','75','48','48','61','59','');
+aData['100175'] = new Array('549','266','748','386','55','735','838','522','958','377','184','502','51','978','681','423','625','83','956','290','733','61','Basil Cheddar Beans Granola','ginger scrambled mushroom pork ginger oatmeal.','29','48','96','93','2','92','vegan gluten');
+aData['100176'] = new Array('396','121','752','805','721','907','663','540','656','756','936','908','950','349','132','712','557','546','920','69','808','140','Penne Potato Vegan Broccoli','bbq sesame carrot tomato.','70','16','51','40','50','24','gluten');
+aData['100177'] = new Array('361','507','255','511','99','91','81','649','472','551','170','897','830','469','586','367','370','371','859','186','580','439','Mushroom Yogurt Teriyaki','beef granola kale mushroom sesame berry potato bbq.','52','71','50','22','2','23','vegetarian vegan');
+aData['100178'] = new Array('422','473','934','426','122','949','884','800','455','734','170','326','353','757','295','55','846','913','913','600','380','834','Oatmeal Bbq','vegan teriyaki roasted garlic beans bbq teriyaki basil eggs beef.','60','35','57','57','5','99','mindful');
+aData['100179'] = new Array('580','361','299','896','910','494','470','860','340','348','883','432','266','841','64','601','248','349','843','331','689','611','Berry Lemon Pesto Salsa','teriyaki chicken vegan spicy mushroom sweet sesame berry.','33','85','34','21','69','64','vegan gluten');
+aData['100180'] = new Array('977','789','755','63','847','488','658','467','543','417','660','670','904','792','135','337','242','165','952','749','684','48','Herb Potato Mushroom','beef sweet berry carrot pesto pork berry carrot ginger.','32','35','30','17','68','75','');
+aData['100181'] = new Array('768','911','464','792','346','104','546','23','904','632','268','201','952','718','706','427','205','409','19','477','557','652','Beans','yogurt beef curry curry garlic teriyaki basil broccoli vegan.','76','66','80','49','73','61','mindful vegetarian');
+aData['100182'] = new Array('893','737','945','393','916','533','163','383','706','372','739','287','365','830','301','727','773','798','886','22','186','460','Quinoa Pork','salsa bbq herb tomato.','21','47','88','34','14','13','');
+aData['100183'] = new Array('210','996','486','945','975','633','472','7','407','695','868','633','497','702','819','511','289','270','492','919','510','183','Sweet Tofu Carrot','broccoli broccoli quinoa rice curry scrambled.','7','92','93','52','0','44','vegetarian vegan');
+aData['100184'] = new Array('479','95','272','940','690','16','59','165','973','104','219','255','807','31','225','335','916','321','896','407','182','825','Carrot Potato Herb Basil','garlic salmon vegan sweet kale roasted yogurt pesto lemon.','91','60','38','99','99','49','vegan vegetarian');
+aData['100185'] = new Array('52','469','233','934','594','625','821','667','834','128','286','879','564','926','257','372','772','503','510','998','599','955','Bagel Scrambled Bagel','potato berry quinoa beans teriyaki eggs beans pork lemon kale salsa carrot.','48','96','95','30','37','19','mindful vegan');
+aData['100186'] = new Array('388','418','818','53','295','845','152','905','43','343','906','237','692','816','602','304','136','630','29','550','342','954','Quinoa Tomato Carrot','teriyaki penne herb cheddar sweet penne pork garlic spicy beef.','13','62','91','26','73','15','mindful');
+aData['100187'] = new Array('103','940','80','0','340','468','637','641','99','945','468','378','616','14','470','399','210','186','740','844','297','978','Kale Salsa','yogurt herb carrot broccoli oatmeal ginger lemon granola quinoa vegan granola salmon.','8','83','79','86','68','81','mindful gluten');
+aData['100188'] = new Array('562','376','329','910','674','418','515','208','157','207','797','338','89','77','796','408','500','239','549','827','664','694','Yogurt','yogurt garlic carrot grilled pesto basil.','81','51','75','89','95','97','');
+aData['100189'] = new Array('643','858','67','337','410','343','844','494','14','256','622','873','923','344','695','445','327','882','475','932','594','337','Beans Pork Scrambled','quinoa chicken scrambled tomato oatmeal ginger.','94','15','21','79','1','68','');
+aData['100190'] = new Array('524','331','344','673','822','563','307','855','393','6','436','54','757','586','294','56','842','81','654','56','742','437','Sesame Salmon','garlic berry quinoa bagel pesto pork garlic broccoli penne pancakes.','34','37','56','26','92','56','');
+aData['100191'] = new Array('789','280','655','67','991','210','122','461','489','292','708','300','971','591','811','675','759','983','196','684','80','513','Pork','bbq vegan carrot sesame bbq scrambled waffles.','88','23','14','56','49','50','');
+aData['100192'] = new Array('501','345','490','577','436','338','183','48','560','80','214','202','986','395','913','105','834','319','550','464','830','229','Sesame Potato','basil chicken berry rice potato chicken yogurt bagel.','80','53','81','91','99','53','');
+aData['100193'] = new Array('382','126','436','870','407','71','645','257','901','506','543','492','600','443','8','834','834','24','467','252','823','235','Quinoa','penne salmon teriyaki teriyaki waffles scrambled lemon pancakes teriyaki.','27','83','77','27','66','50','vegan');
+aData['100194'] = new Array('802','401','714','684','863','590','245','337','284','500','5','156','192','90','670','395','348','187','109','846','564','835','Curry','scrambled garlic mushroom pork.','12','86','32','9','29','84','vegan gluten');
+aData['100195'] = new Array('317','790','53','403','585','70','388','203','996','745','54','178','553','588','989','872','587','231','985','194','213','869','Salmon Salmon Pork','beans yogurt pesto basil salsa teriyaki sesame.','64','74','28','71','46','10','vegan');
+aData['100196'] = new Array('93','969','532','838','308','176','297','882','362','542','429','65','921','863','397','153','521','539','15','404','16','13','Oatmeal Yogurt Pesto','garlic herb oatmeal granola spicy waffles rice tofu basil sweet salsa.','41','44','18','89','31','16','vegetarian');
+aData['100197'] = new Array('876','242','329','722','561','11','796','946','840','210','744','387','875','527','750','670','626','722','237','37','895','708','Oatmeal','carrot herb quinoa salmon ginger granola cheddar rice potato salsa berry.','46','54','62','69','13','44','');
+aData['100198'] = new Array('417','164','147','940','675','971','955','92','852','944','248','230','474','342','364','873','136','543','140','589','578','487','Chicken Vegan Oatmeal Sweet','herb quinoa beef beef bagel.','84','21','23','44','70','68','');
+aData['100199'] = new Array('429','518','330','344','246','200','804','162','31','133','759','901','252','107','932','709','103','389','467','9','442','3','Chicken Oatmeal Chicken Pesto','beans cheddar tofu rice eggs teriyaki salsa herb eggs herb sweet salsa.','34','72','40','79','70','15','mindful vegan');
+aData['100200'] = new Array('28','881','18','545','21','879','241','516','188','890','651','102','933','482','797','509','556','410','422','399','93','889','Potato Cheddar Salmon','roasted salmon cheddar vegan.','76','83','34','96','25','45','');
+aData['100201'] = new Array('302','728','237','77','789','55','98','834','641','305','29','93','903','769','845','345','588','334','861','698','351','580','Basil','waffles bbq garlic chicken rice lemon oatmeal quinoa.','18','78','29','61','51','63','vegan');
+aData['100202'] = new Array('738','39','846','525','982','858','329','843','156','752','4','847','860','586','736','858','835','4','471','37','716','621','Salmon Basil','ginger teriyaki pancakes sesame rice broccoli penne.','39','55','71','95','34','0','mindful');
+aData['100203'] = new Array('800','86','36','700','850','409','222','281','631','847','3','800','113','100','638','299','533','61','897','114','861','715','Rice Lemon','sesame curry waffles berry.','38','53','23','81','76','26','');
+aData['100204'] = new Array('861','943','131','923','802','396','421','607','90','783','146','873','355','488','284','812','258','873','677','28','508','403','Beef','eggs bagel sesame quinoa potato yogurt bbq broccoli berry bagel granola.','82','72','1','4','52','30','gluten');
+aData['100205'] = new Array('333','683','366','314','659','460','432','29','595','937','565','348','147','265','984','709','518','911','100','831','123','643','Curry Bagel Grilled','tofu berry tofu basil.','29','44','66','34','57','31','vegan');
+aData['100206'] = new Array('347','698','273','389','54','825','176','771','90','905','20','391','843','85','294','28','678','221','858','28','639','85','Pork Teriyaki','salmon broccoli grilled salmon broccoli potato.','6','28','55','15','94','30','gluten vegetarian');
+aData['100207'] = new Array('808','284','572','647','377','760','239','605','1','959','504','320','297','967','915','328','8','449','609','532','81','453','Vegan Bbq','granola carrot broccoli granola sesame waffles pork.','64','27','9','56','29','79','vegetarian');
+aData['100208'] = new Array('864','223','194','850','161','779','459','147','238','286','556','346','664','48','76','62','150','990','208','198','54','250','Beef Curry Beans','curry spicy bbq mushroom pesto quinoa teriyaki rice tofu.','0','72','50','41','26','79','mindful vegan');
+aData['100209'] = new Array('686','274','733','2','622','943','157','56','463','152','795','538','162','725','550','784','388','489','512','757','536','134','Grilled Oatmeal Basil','broccoli bbq salsa pesto cheddar garlic granola basil bagel garlic broccoli.','69','48','29','55','38','34','vegan');
+aData['100210'] = new Array('74','244','708','299','239','828','620','594','236','816','462','152','846','403','422','388','644','212','757','358','663','259','Scrambled Grilled Yogurt','ginger sesame salmon pesto salmon beef sesame carrot curry herb oatmeal.','30','39','29','85','52','37','');
+aData['100211'] = new Array('339','65','661','562','402','873','66','268','165','605','141','324','62','895','84','835','541','691','549','968','406','403','Vegan Cheddar Basil','carrot teriyaki pancakes chicken pesto pork rice eggs yogurt eggs vegan.','5','84','40','40','33','44','');
+aData['100212'] = new Array('268','88','626','313','790','725','845','186','96','18','358','438','45','224','701','683','464','413','572','784','233','670','Bbq','rice ginger pesto scrambled pork teriyaki penne oatmeal sesame tofu.','98','33','11','2','88','96','vegan');
+aData['100213'] = new Array('761','65','371','920','397','982','281','605','77','395','368','12','940','305','670','26','50','798','479','741','148','160','Cheddar Lemon','beans broccoli ginger quinoa potato grilled pork beans penne herb basil.','24','90','22','13','74','66','gluten');
+aData['100214'] = new Array('751','813','238','899','112','596','71','734','387','357','29','676','50','15','834','819','15','682','72','441','946','500','Quinoa Herb Roasted','tomato bagel kale pancakes quinoa salsa cheddar basil sweet.','85','73','74','58','97','94','vegetarian mindful');
+aData['100215'] = new Array('611','270','470','55','807','288','808','715','418','144','693','937','237','519','916','717','671','221','808','356','571','309','Tomato Broccoli Garlic','basil pork tofu scrambled rice rice quinoa cheddar beans herb berry.','40','7','65','92','96','21','gluten mindful');
+aData['100216'] = new Array('491','475','612','720','938','89','497','756','955','576','531','672','205','760','105','768','114','727','126','103','14','181','Beans','vegan chicken salmon kale pork mushroom pesto scrambled.','77','18','55','55','4','24','gluten vegetarian');
+aData['100217'] = new Array('353','687','710','269','401','101','79','102','240','3','749','944','432','310','308','938','295','146','720','746','226','335','Scrambled','herb curry carrot waffles oatmeal tofu broccoli vegan lemon quinoa.','50','47','5','33','19','88','vegetarian');
+aData['100218'] = new Array('296','188','838','485','29','937','864','449','797','765','859','165','358','718','820','569','190','354','849','559','355','421','Bagel','mushroom berry eggs salmon vegan rice.','21','98','7','57','11','33','vegan');
+aData['100219'] = new Array('788','578','887','591','122','329','304','509','763','49','520','612','842','330','501','687','772','408','501','483','876','826','Beans Berry Mushroom','sweet pancakes penne oatmeal granola sweet waffles kale pancakes tomato.','94','39','77','94','82','35','mindful vegetarian');
+aData['100220'] = new Array('206','134','869','856','423','934','247','243','962','640','851','664','63','174','227','652','202','302','170','600','732','169','Broccoli Beans Lemon Tomato','carrot grilled scrambled spicy berry basil carrot oatmeal herb kale pork quinoa.','35','15','10','69','14','72','vegetarian mindful');
+aData['100221'] = new Array('561','529','278','879','866','862','310','281','991','280','618','602','194','137','793','470','340','459','977','709','414','86','Grilled Scrambled Berry Scrambled','penne chicken quinoa oatmeal pancakes teriyaki cheddar spicy herb berry yogurt.','18','25','78','82','95','38','vegetarian mindful');
+aData['100222'] = new Array('294','359','932','227','492','29','853','388','273','968','904','696','520','760','808','568','558','858','188','524','236','12','Salmon','granola basil ginger tomato granola broccoli kale.','33','72','53','61','80','96','gluten vegan');
+aData['100223'] = new Array('953','97','73','345','855','754','882','507','220','848','921','892','289','927','489','695','235','177','695','12','65','48','Basil Salsa Scrambled','berry ginger tomato broccoli.','80','78','31','23','23','5','vegetarian');
+aData['100224'] = new Array('202','114','978','352','698','649','894','669','353','475','477','81','802','816','779','644','978','503','856','674','562','501','Basil Tomato Grilled','granola waffles sweet beef berry sesame broccoli salsa lemon cheddar kale penne.','50','94','54','73','13','70','gluten');
+aData['100225'] = new Array('477','396','120','204','69','662','981','181','330','91','602','177','207','90','249','77','71','558','889','935','226','494','Salsa Sweet Herb','lemon beef roasted kale tomato roasted bagel.','59','56','40','60','24','58','');
+aData['100226'] = new Array('481','262','368','903','430','693','582','754','467','579','293','278','846','847','151','954','531','837','378','607','222','657','Lemon Bagel Yogurt Bbq','quinoa ginger quinoa pork waffles ginger pork bbq bbq garlic.','31','24','24','0','89','15','vegan');
+aData['100227'] = new Array('878','783','129','936','337','735','86','350','845','602','118','301','751','178','880','261','556','431','251','797','372','582','Potato Salsa Chicken Berry','yogurt chicken lemon berry tofu roasted cheddar.','93','9','98','77','36','79','mindful');
+aData['100228'] = new Array('314','779','808','594','753','827','539','890','112','83','561','811','630','503','101','130','698','669','577','367','782','589','Berry Tofu Pesto Sweet','herb basil pork lemon ginger pork penne yogurt roasted eggs.','25','99','29','66','82','77','vegan gluten');
+aData['100229'] = new Array('963','940','206','891','945','537','365','612','445','511','677','738','14','365','905','612','938','261','907','230','610','538','Bbq Quinoa Pesto','kale bagel pesto ginger curry.','98','86','72','44','80','34','');
+aData['100230'] = new Array('625','411','656','222','994','480','231','828','850','808','794','216','561','841','736','893','82','27','962','373','949','268','Lemon Quinoa Tomato','spicy rice vegan scrambled chicken potato chicken ginger eggs granola.','80','20','9','16','47','33','');
+aData['100231'] = new Array('100','160','534','110','297','25','172','540','915','744','925','650','233','26','326','286','881','940','828','153','632','179','Oatmeal','oatmeal lemon sweet pork teriyaki spicy oatmeal bbq broccoli salmon teriyaki.','58','27','29','63','62','67','gluten vegetarian');
+aData['100232'] = new Array('91','911','694','123','619','773','37','436','559','218','158','834','852','504','822','258','418','129','485','499','584','418','Penne','herb eggs basil spicy eggs spicy berry grilled oatmeal roasted chicken vegan.','75','94','18','88','38','58','');
+aData['100233'] = new Array('120','909','396','231','227','380','985','728','630','358','107','181','29','889','211','240','364','339','669','89','361','395','Oatmeal Lemon Roasted','broccoli tomato waffles kale spicy.','15','6','91','58','17','87','mindful vegetarian');
+aData['100234'] = new Array('738','586','583','30','838','376','632','179','169','999','101','330','30','214','998','786','311','203','609','810','340','872','Granola Eggs Oatmeal','spicy quinoa cheddar vegan potato pork yogurt teriyaki grilled basil carrot.','24','47','9','62','51','72','mindful vegan');
+aData['100235'] = new Array('949','426','357','636','818','304','319','602','423','211','504','228','816','612','984','148','850','558','519','802','956','496','Berry Cheddar','kale salmon potato garlic quinoa basil beef vegan.','46','63','5','38','94','5','mindful vegan');
+aData['100236'] = new Array('499','192','508','855','343','251','358','926','497','397','100','211','415','98','873','427','333','919','154','696','143','634','Salsa','tomato berry garlic beef kale garlic granola grilled tofu mushroom beans scrambled.','0','74','5','47','2','70','mindful');
+aData['100237'] = new Array('619','653','161','343','137','137','362','296','659','870','360','564','210','515','893','278','943','242','529','831','212','9','Carrot Beans Bbq Garlic','sesame scrambled broccoli sesame quinoa basil ginger ginger pancakes salsa pesto.','74','24','86','51','13','68','mindful');
+aData['100238'] = new Array('192','644','396','38','30','555','219','393','415','705','673','273','128','765','585','416','883','247','735','378','962','66','Salsa Salmon Garlic','quinoa tofu mushroom grilled salmon sesame oatmeal basil beans sesame salsa oatmeal.','46','65','13','82','28','79','');
+aData['100239'] = new Array('104','814','396','286','503','570','257','196','376','501','377','317','982','538','681','874','158','497','563','842','656','502','Granola Roasted Eggs Grilled','roasted potato garlic beef vegan bbq.','73','7','68','38','64','11','vegetarian gluten');
+aData['100240'] = new Array('879','559','995','184','194','849','494','559','168','655','12','972','642','394','218','202','14','25','632','382','101','993','Quinoa Quinoa Scrambled Tomato','garlic granola quinoa sesame sweet mushroom.','71','30','47','57','27','58','vegetarian');
+aData['100241'] = new Array('237','566','309','759','844','425','16','501','357','168','503','58','364','801','337','371','526','883','133','527','133','270','Scrambled Ginger Salmon Roasted','sweet yogurt scrambled carrot broccoli salmon garlic basil herb bagel.','0','69','27','42','34','88','vegan vegetarian');
+aData['100242'] = new Array('974','222','552','476','610','322','796','853','39','251','549','344','984','288','55','344','994','353','437','446','141','480','Sesame Roasted Curry','beef yogurt pancakes potato waffles mushroom scrambled potato.','83','35','36','42','46','74','vegetarian');
+aData['100243'] = new Array('70','788','247','178','199','908','594','639','437','100','975','988','797','214','86','840','122','493','399','646','621','915','Vegan Broccoli Pork Sweet','scrambled bagel pork scrambled pork herb bbq vegan.','6','1','92','66','47','99','');
+aData['100244'] = new Array('836','971','118','896','668','274','769','885','738','247','198','763','815','718','369','553','122','67','404','314','21','782','Tofu Cheddar Mushroom Basil','grilled grilled bagel salsa potato potato garlic beans waffles bbq.','52','50','98','77','94','33','mindful');
+aData['100245'] = new Array('252','642','748','793','782','676','120','683','528','801','789','69','266','542','423','34','841','817','715','973','995','854','Pancakes','mushroom penne sesame waffles lemon pancakes.','27','74','65','62','67','41','');
+aData['100246'] = new Array('437','450','458','263','985','568','539','10','717','412','131','831','321','40','993','168','396','745','178','323','781','274','Quinoa Spicy','oatmeal curry salmon pesto herb potato potato bbq bagel.','79','10','40','87','88','2','');
+aData['100247'] = new Array('27','773','680','115','486','544','710','539','882','919','240','240','193','858','849','368','139','264','853','845','656','14','Rice','pork oatmeal vegan grilled scrambled.','50','19','45','95','98','16','vegetarian mindful');
+aData['100248'] = new Array('476','1','922','133','25','258','392','562','457','153','278','634','682','989','354','873','392','27','998','113','289','867','Carrot Granola Broccoli Garlic','granola quinoa sweet bagel.','55','31','54','30','84','55','vegan mindful');
+aData['100249'] = new Array('849','393','230','828','506','452','849','120','823','114','996','204','565','512','302','16','339','321','349','339','913','127','Pancakes','yogurt garlic pancakes bbq lemon bbq beef sesame sweet salmon beef grilled.','2','76','37','16','33','15','');
+aData['100250'] = new Array('260','164','405','911','606','132','994','736','991','879','855','446','940','801','781','77','580','346','534','828','341','410','Grilled Pork Chicken Basil','oatmeal ginger basil beef salsa beans beans quinoa broccoli spicy tofu.','19','40','2','1','85','32','');
+aData['100251'] = new Array('604','97','230','113','366','420','368','845','25','285','44','924','939','987','396','216','413','375','830','172','441','947','Teriyaki Chicken','scrambled kale yogurt scrambled pork scrambled rice.','12','74','42','38','19','22','vegan');
+aData['100252'] = new Array('520','747','166','478','868','758','652','336','425','750','581','233','430','193','941','7','932','555','107','586','212','441','Salmon Herb Sweet','grilled beef eggs yogurt curry cheddar curry.','16','81','74','76','20','25','vegetarian gluten');
+aData['100253'] = new Array('167','527','477','171','816','330','480','511','343','429','571','717','286','335','332','971','721','443','333','144','190','229','Scrambled','eggs potato herb scrambled scrambled tofu penne.','12','78','33','76','99','54','');
+aData['100254'] = new Array('473','264','544','122','59','542','941','54','226','220','415','237','558','620','73','837','291','502','529','696','702','989','Mushroom','grilled chicken pancakes teriyaki lemon scrambled potato beans bbq quinoa eggs quinoa.','71','41','29','54','16','37','mindful gluten');
+aData['100255'] = new Array('813','103','214','672','38','532','821','114','372','35','187','235','297','398','465','949','471','876','873','433','572','944','Herb Bagel','vegan penne pancakes kale garlic carrot pancakes scrambled.','33','42','43','93','50','24','');
+aData['100256'] = new Array('339','201','310','241','753','555','299','929','419','40','964','274','490','769','213','634','207','370','392','512','355','383','Sweet Teriyaki Tomato','curry broccoli tomato beef berry scrambled granola broccoli tofu oatmeal tomato carrot.','87','40','65','52','61','10','mindful gluten');
+aData['100257'] = new Array('867','365','84','950','699','552','628','489','978','426','331','155','467','275','72','835','297','777','855','330','393','31','Waffles Scrambled Roasted Garlic','sweet penne carrot berry.','86','31','10','34','8','80','vegetarian gluten');
+aData['100258'] = new Array('271','830','643','809','780','379','332','221','153','0','792','61','919','428','565','747','379','935','693','167','370','980','Pesto Eggs','sweet beef oatmeal lemon spicy yogurt salmon ginger quinoa roasted lemon kale.','15','4','44','29','47','28','');
+aData['100259'] = new Array('139','604','594','765','727','911','457','101','347','591','605','46','195','685','450','181','32','740','810','552','30','546','Bagel Oatmeal Pesto Beef','salmon oatmeal potato pancakes.','14','95','51','45','85','3','gluten');
+aData['100260'] = new Array('497','872','85','159','49','623','40','43','598','628','408','422','286','356','48','765','592','794','212','480','157','190','Garlic Oatmeal Yogurt','basil cheddar pancakes basil.','7','13','81','90','90','47','vegetarian gluten');
+aData['100261'] = new Array('607','556','409','352','791','937','303','73','521','226','93','698','935','701','940','748','543','880','680','542','988','918','Teriyaki Basil','berry oatmeal granola granola waffles beef berry garlic garlic mushroom.','30','73','88','16','68','81','');
+aData['100262'] = new Array('751','393','337','302','950','605','522','758','516','313','957','798','249','322','753','148','366','341','732','35','168','362','Scrambled','teriyaki lemon berry potato waffles oatmeal basil pesto berry eggs beef bagel.','60','10','22','32','40','32','');
+aData['100263'] = new Array('6','800','877','700','731','10','501','779','747','775','534','315','179','109','57','720','411','338','861','416','894','399','Cheddar','eggs sesame teriyaki garlic sweet ginger.','8','71','73','61','21','86','vegetarian');
+aData['100264'] = new Array('31','216','336','338','329','22','679','325','153','639','919','240','843','961','104','387','729','444','24','895','923','639','Roasted Bagel Teriyaki','grilled oatmeal teriyaki salsa sesame quinoa grilled curry berry lemon potato.','62','90','54','47','53','56','vegan vegetarian');
+aData['100265'] = new Array('786','899','831','774','183','959','197','225','756','847','284','811','915','784','995','301','559','232','621','84','359','193','Granola Oatmeal Ginger Bbq','rice salmon waffles carrot.','6','9','14','6','51','92','vegetarian mindful');
+aData['100266'] = new Array('78','645','591','353','331','498','798','35','638','952','44','877','451','558','377','282','267','157','855','446','630','362','Salsa Salmon','oatmeal salmon salsa yogurt chicken waffles cheddar rice pork.','36','64','24','84','55','41','mindful vegetarian');
+aData['100267'] = new Array('809','621','491','62','938','626','818','180','981','620','858','787','538','929','375','645','827','671','604','979','973','226','Tomato Yogurt','sesame mushroom pork potato garlic herb tomato eggs potato mushroom.','2','8','22','35','29','62','vegan gluten');
+aData['100268'] = new Array('677','68','880','767','795','514','15','363','471','93','758','410','459','215','229','868','110','652','341','492','212','854','Pesto Eggs Quinoa','kale tomato penne pancakes basil potato ginger quinoa beans waffles.','66','93','42','89','34','22','');
+aData['100269'] = new Array('276','82','410','291','671','552','261','633','774','757','323','79','790','174','974','777','456','655','160','391','506','624','Herb Basil Roasted Waffles','quinoa pesto penne berry vegan penne.','68','4','70','42','29','63','vegetarian vegan');
+aData['100270'] = new Array('65','848','381','558','66','369','265','469','972','430','849','213','307','95','290','71','602','193','60','112','768','172','Yogurt Teriyaki Beef','garlic tomato penne garlic quinoa broccoli.','87','8','14','1','22','11','');
+aData['100271'] = new Array('209','230','1','56','396','184','755','567','707','759','30','512','480','289','684','457','219','784','526','771','473','796','Salmon','teriyaki penne beans ginger sesame berry.','9','64','57','3','2','1','vegan');
+aData['100272'] = new Array('883','267','698','738','146','576','80','455','110','192','288','673','479','220','71','87','417','983','297','290','632','163','Kale Sesame Bbq','teriyaki carrot tomato lemon salmon broccoli.','85','4','52','75','83','77','');
+aData['100273'] = new Array('760','29','148','980','412','602','94','692','732','269','807','71','839','672','828','87','761','899','470','91','986','29','Pancakes Chicken','roasted vegan grilled beans potato potato carrot cheddar.','18','33','53','22','78','90','vegan mindful');
+aData['100274'] = new Array('598','418','557','824','134','103','634','37','104','857','296','712','320','672','651','697','459','566','837','104','808','608','Yogurt Chicken Pork','broccoli roasted pancakes basil rice sweet penne.','59','38','47','94','77','4','');
+aData['100275'] = new Array('686','759','579','411','251','926','126','564','947','127','919','849','275','647','433','548','975','29','178','461','562','677','Mushroom Carrot','roasted pork spicy pancakes tomato pesto yogurt.','17','18','27','57','61','99','');
+aData['100276'] = new Array('36','195','377','772','136','608','54','263','73','890','80','756','621','656','331','575','170','928','130','152','579','318','Teriyaki Lemon Quinoa','pancakes penne herb bbq oatmeal mushroom basil bbq herb penne.','57','31','91','94','74','28','vegetarian gluten');
+aData['100277'] = new Array('874','522','436','909','299','669','454','963','718','341','62','212','353','156','789','781','19','906','725','75','712','472','Sweet Tofu','beef basil curry grilled grilled rice ginger scrambled garlic herb.','45','33','18','53','21','37','gluten');
+aData['100278'] = new Array('682','32','976','815','463','864','341','46','114','432','426','67','303','864','766','824','605','816','412','742','441','250','Tofu Garlic Basil','scrambled bagel eggs pork.','29','51','57','69','87','9','vegetarian');
+aData['100279'] = new Array('112','756','222','76','483','938','813','250','611','508','607','430','577','376','97','491','567','39','415','236','393','417','Teriyaki Bbq Vegan Scrambled','scrambled oatmeal oatmeal potato teriyaki.','72','86','21','13','52','94','vegetarian');
+aData['100280'] = new Array('6','627','862','159','321','169','682','296','163','186','476','164','217','374','942','124','605','48','458','101','709','390','Grilled Yogurt Ginger','salmon bbq cheddar sesame salsa chicken yogurt pancakes kale grilled mushroom mushroom.','69','9','18','16','6','38','');
+aData['100281'] = new Array('61','698','887','551','103','388','910','108','487','959','479','63','611','698','910','351','563','199','518','117','249','386','Potato Lemon Garlic Rice','cheddar bbq lemon beef.','43','45','48','7','81','41','mindful vegetarian');
+aData['100282'] = new Array('808','736','482','188','293','447','529','852','446','882','491','706','605','461','571','145','991','785','85','699','99','713','Bbq Sesame Sesame Carrot','berry berry carrot spicy beef beef beans mushroom teriyaki salmon curry.','95','34','3','92','40','73','vegetarian');
+aData['100283'] = new Array('806','555','202','386','254','368','773','984','719','153','342','847','279','795','785','714','601','664','92','86','593','521','Tofu Spicy Pancakes','grilled chicken bagel sweet.','90','38','99','98','5','48','');
+aData['100284'] = new Array('843','773','118','249','301','270','249','707','510','380','43','577','349','840','481','8','214','926','545','826','876','492','Broccoli Broccoli Cheddar Pork','salmon pesto mushroom lemon cheddar teriyaki.','14','75','30','60','99','72','');
+aData['100285'] = new Array('895','583','681','114','281','230','283','957','849','102','671','978','549','32','22','926','328','10','274','715','40','939','Ginger','grilled chicken roasted chicken bbq oatmeal curry tofu sesame cheddar lemon.','4','16','68','35','50','64','');
+aData['100286'] = new Array('449','983','899','750','803','892','181','288','991','227','464','976','477','53','935','875','709','375','744','706','189','329','Eggs','spicy penne quinoa bagel carrot salmon bbq.','55','0','96','83','13','81','');
+aData['100287'] = new Array('191','545','230','638','574','287','268','644','368','430','659','791','933','534','181','461','439','22','622','279','611','0','Herb Granola Pork Sesame','tofu tofu penne chicken teriyaki.','13','93','30','22','34','26','vegan');
+aData['100288'] = new Array('362','573','438','182','756','555','367','193','377','378','535','976','296','427','430','613','842','462','534','411','285','710','Scrambled Sweet Beef','garlic quinoa scrambled beef rice beef ginger vegan.','58','12','17','34','24','80','vegetarian vegan');
+aData['100289'] = new Array('92','418','451','402','300','915','372','965','94','536','860','208','942','526','174','938','507','812','357','334','875','116','Pancakes Kale Spicy','granola pesto garlic grilled teriyaki.','5','92','21','29','86','0','mindful');
+aData['100290'] = new Array('799','25','526','310','25','201','14','41','83','791','694','176','112','706','261','369','706','874','225','819','836','55','Beans Beans Bbq','curry sesame tofu granola spicy.','56','60','4','48','76','35','vegetarian gluten');
+aData['100291'] = new Array('83','555','681','785','411','771','987','963','738','38','350','739','24','327','351','751','194','440','396','84','963','87','Rice Basil Chicken Pork','lemon scrambled potato bbq sesame broccoli berry.','70','80','18','57','39','41','');
+aData['100292'] = new Array('186','390','778','53','424','184','49','94','634','565','749','245','583','55','527','975','441','69','759','159','973','981','Pancakes Cheddar','yogurt basil beans roasted tomato chicken oatmeal garlic quinoa herb basil berry.','15','50','11','84','27','71','mindful vegetarian');
+aData['100293'] = new Array('629','10','157','548','722','741','956','458','551','981','18','574','612','238','210','652','588','54','875','292','876','483','Chicken Penne Granola','beef yogurt mushroom chicken penne oatmeal garlic pesto tomato salmon potato ginger.','1','60','44','85','87','16','vegetarian');
+aData['100294'] = new Array('215','902','964','113','592','285','894','2','628','264','813','561','279','300','394','897','312','148','306','373','790','49','Mushroom Grilled','herb grilled granola bbq kale.','71','58','77','28','23','2','gluten mindful');
+aData['100295'] = new Array('755','294','668','145','851','302','693','132','126','584','426','522','403','172','120','427','963','810','953','258','305','967','Lemon Sesame Kale','garlic pork spicy beans pork roasted vegan pork kale eggs potato curry.','81','15','88','48','75','95','mindful');
+aData['100296'] = new Array('169','698','807','194','835','667','966','652','142','133','36','768','909','164','151','625','733','350','287','454','917','151','Beans Garlic Berry','bagel rice salsa ginger rice sesame penne chicken eggs.','30','50','29','63','83','40','');
+aData['100297'] = new Array('831','755','588','342','752','85','10','329','329','368','447','608','591','325','719','916','751','216','72','982','459','650','Pork','quinoa cheddar sesame yogurt.','39','73','22','2','40','28','vegan mindful');
+aData['100298'] = new Array('308','74','837','775','53','776','250','683','573','463','898','60','403','763','246','527','324','978','698','326','417','75','Lemon','pancakes salmon rice cheddar pancakes broccoli pancakes pork.','40','77','49','16','47','83','');
+aData['100299'] = new Array('894','125','489','871','48','537','632','563','57','657','923','76','28','517','860','287','307','138','883','162','302','431','Sesame Bagel','curry tofu roasted potato oatmeal sesame kale cheddar herb cheddar basil sesame.','11','22','3','18','54','77','');
+aData['100300'] = new Array('505','567','286','753','89','701','511','253','301','72','209','964','490','592','232','55','993','25','551','355','723','461','Potato Grilled Pesto Waffles','garlic beans spicy garlic pancakes yogurt sesame ginger scrambled chicken sweet.','42','94','12','74','81','67','');
+aData['100301'] = new Array('373','967','60','273','619','461','510','811','869','186','925','879','700','682','706','567','367','791','317','194','441','541','Kale Salmon Sweet','sesame pancakes teriyaki lemon spicy granola beans.','37','28','41','76','0','44','');
+aData['100302'] = new Array('227','245','821','778','592','503','986','805','698','42','577','668','211','467','594','992','911','361','465','440','249','248','Vegan Waffles Tofu Garlic','pancakes potato pancakes broccoli yogurt salsa bagel salsa kale pancakes berry.','2','10','97','42','20','63','mindful');
+aData['100303'] = new Array('94','22','380','79','424','311','705','864','463','368','961','961','410','898','782','165','151','497','519','444','919','888','Roasted Carrot Bagel Scrambled','carrot sweet waffles scrambled teriyaki beef beans teriyaki oatmeal.','73','53','30','80','22','45','gluten mindful');
+aData['100304'] = new Array('834','326','395','715','390','348','472','202','852','797','101','440','198','292','129','318','493','640','713','371','317','914','Granola Waffles Cheddar Beef','quinoa waffles tofu granola kale pork eggs pesto tofu berry waffles.','19','88','38','85','18','7','');
+aData['100305'] = new Array('435','75','894','612','800','800','893','529','426','214','572','314','544','685','259','132','135','485','332','219','68','442','Garlic','scrambled granola granola kale grilled cheddar grilled.','71','90','12','83','32','22','mindful');
+aData['100306'] = new Array('612','784','823','414','811','289','474','117','265','62','337','868','327','397','190','619','750','855','168','677','321','230','Salmon Tomato Oatmeal','waffles scrambled rice salsa bbq tomato beef rice salmon eggs salsa salsa.','95','11','55','84','79','48','');
+aData['100307'] = new Array('806','248','934','949','129','259','403','439','213','405','905','25','5','236','774','752','19','400','710','482','730','136','Curry Curry Sesame','curry herb penne basil garlic yogurt kale sesame pork pork yogurt.','82','27','21','39','17','52','');
+aData['100308'] = new Array('555','39','607','783','993','630','170','552','792','807','415','419','995','738','229','318','529','32','993','612','111','305','Oatmeal','spicy beans vegan granola sweet carrot sesame herb eggs.','8','29','7','34','55','36','mindful');
+aData['100309'] = new Array('352','463','997','720','631','734','264','321','455','820','464','454','534','376','742','373','646','727','21','981','500','964','Tofu Berry','tofu teriyaki pork cheddar oatmeal spicy beans bagel basil quinoa sesame.','80','88','82','57','85','23','vegan');
+aData['100310'] = new Array('183','355','859','622','310','80','866','299','280','314','385','626','294','51','913','833','22','806','828','62','773','681','Tomato Potato','basil berry beans yogurt.','68','9','20','7','90','80','mindful vegetarian');
+aData['100311'] = new Array('880','540','259','602','19','864','596','201','658','605','694','422','573','780','673','572','186','363','983','580','625','891','Pork Curry Chicken Rice','penne lemon bbq yogurt penne pancakes quinoa herb rice cheddar carrot.','54','37','97','38','23','60','');
+aData['100312'] = new Array('59','135','503','425','206','747','666','413','237','855','319','855','549','405','90','947','25','78','851','644','755','616','Salsa Mushroom Mushroom Pancakes','penne tofu mushroom sweet carrot waffles beef cheddar.','90','28','43','30','81','79','');
+aData['100313'] = new Array('251','125','557','909','799','178','500','821','820','485','423','190','562','912','720','317','392','951','583','388','222','257','Beans Spicy Ginger Pork','curry pork sweet spicy spicy spicy grilled garlic vegan potato.','30','84','23','63','97','76','');
+aData['100314'] = new Array('789','579','763','104','447','892','946','9','421','226','65','554','232','325','464','381','821','769','558','940','933','458','Salsa Pancakes Salmon Curry','quinoa tofu roasted cheddar salmon.','35','56','96','98','53','28','');
+aData['100315'] = new Array('116','661','514','218','895','5','661','348','508','801','922','730','774','905','766','585','294','343','212','996','0','547','Pancakes Yogurt Mushroom','vegan grilled grilled garlic.','3','12','0','65','63','23','');
+aData['100316'] = new Array('9','192','627','438','128','690','371','176','119','327','112','262','290','781','767','183','143','787','963','832','728','506','Bbq Granola','eggs beans tomato salmon sweet chicken tomato scrambled.','86','81','23','60','44','10','');
+aData['100317'] = new Array('718','53','185','666','801','100','120','829','814','771','774','942','229','988','519','160','550','397','309','111','732','980','Beef','oatmeal tofu salsa tofu.','56','67','75','31','80','13','');
+aData['100318'] = new Array('766','691','650','422','283','602','894','66','695','936','931','194','496','996','318','326','970','797','916','22','846','43','Mushroom','basil tomato salmon sweet lemon garlic salsa.','11','97','40','38','65','92','mindful gluten');
+aData['100319'] = new Array('29','322','386','788','598','961','965','261','439','761','226','961','48','762','186','88','58','548','391','131','495','873','Yogurt Vegan Rice','beans eggs garlic spicy teriyaki scrambled curry bbq vegan pancakes pesto herb.','77','80','64','51','13','83','');
+aData['100320'] = new Array('740','343','982','677','197','255','872','226','920','698','45','737','974','201','877','823','455','561','207','201','827','679','Granola Cheddar Quinoa','tomato scrambled bbq grilled spicy.','65','78','60','52','60','72','');
+aData['100321'] = new Array('178','769','768','975','200','923','990','476','324','700','758','107','841','74','617','401','684','558','192','929','610','566','Oatmeal Chicken Penne','salsa berry cheddar spicy garlic pork yogurt berry potato.','53','83','44','6','56','96','vegetarian mindful');
+aData['100322'] = new Array('281','935','189','608','265','463','934','116','915','119','854','494','112','676','563','742','768','319','167','161','128','299','Bbq Salsa','cheddar salsa garlic pesto pork sesame.','81','63','95','89','0','77','mindful vegetarian');
+aData['100323'] = new Array('979','233','350','633','645','403','605','412','236','58','594','183','622','752','701','944','477','338','417','645','895','488','Pesto Sweet Yogurt Teriyaki','salmon kale curry sesame eggs bagel tomato sesame rice kale cheddar.','41','42','41','25','43','99','');
+aData['100324'] = new Array('916','509','305','218','535','604','962','460','968','400','776','375','378','717','16','684','588','732','623','800','949','336','Salmon Rice Broccoli Quinoa','lemon chicken pork teriyaki quinoa scrambled.','73','22','60','4','69','11','');
+aData['100325'] = new Array('149','395','172','676','207','249','691','951','721','758','839','623','442','651','453','706','713','666','599','545','874','54','Basil','salsa salmon yogurt pork.','27','71','12','35','37','8','gluten');
+aData['100326'] = new Array('24','300','862','211','86','232','536','250','725','156','499','454','107','757','453','454','818','712','163','598','614','610','Grilled','tomato kale sesame grilled pork tomato teriyaki beef.','71','17','53','16','97','58','mindful');
+aData['100327'] = new Array('548','369','246','790','307','998','663','546','377','90','280','846','720','201','531','56','291','746','657','975','675','643','Broccoli','rice beef salsa pancakes kale scrambled beef ginger salsa.','45','19','18','36','98','32','vegan mindful');
+aData['100328'] = new Array('146','394','393','245','543','466','804','866','424','888','621','446','50','648','87','903','218','464','880','146','568','418','Carrot','basil berry herb granola spicy.','15','95','45','28','34','16','');
+aData['100329'] = new Array('759','268','720','227','409','763','683','806','402','552','264','253','967','807','55','700','480','247','782','463','960','995','Waffles Quinoa','curry carrot garlic herb waffles.','0','36','15','43','50','28','gluten vegetarian');
+aData['100330'] = new Array('282','5','668','489','990','721','121','453','792','31','22','81','822','914','555','72','353','956','474','246','512','207','Curry','spicy carrot scrambled quinoa bbq kale scrambled.','33','69','38','14','12','89','mindful vegan');
+aData['100331'] = new Array('669','362','995','11','18','224','64','500','8','936','6','942','777','793','297','942','570','890','261','116','798','178','Mushroom Sesame Sesame','tofu salmon carrot waffles mushroom berry garlic teriyaki spicy broccoli cheddar.','29','5','66','57','46','85','mindful');
+aData['100332'] = new Array('500','413','541','539','222','665','734','691','237','24','39','58','454','235','432','174','894','822','683','399','672','2','Lemon Granola Sweet','spicy yogurt scrambled sesame curry oatmeal.','4','19','62','55','63','40','');
+aData['100333'] = new Array('744','641','586','994','464','959','701','555','995','524','544','959','246','780','999','445','611','21','516','141','999','586','Tomato','eggs salmon mushroom teriyaki basil berry sesame.','46','40','14','72','77','87','');
+aData['100334'] = new Array('627','991','768','198','951','940','485','534','181','928','161','965','634','222','167','138','291','680','251','637','895','982','Basil','salsa quinoa sweet yogurt granola salmon.','15','56','88','93','31','37','vegetarian mindful');
+aData['100335'] = new Array('323','558','400','807','353','148','203','250','614','339','137','763','503','60','879','247','409','769','946','703','389','519','Quinoa Kale','salsa chicken herb bagel vegan spicy quinoa eggs pancakes penne.','47','31','47','46','35','38','');
+aData['100336'] = new Array('363','705','632','42','733','100','856','465','645','14','64','45','755','965','191','336','826','566','144','86','689','798','Basil','carrot pork penne waffles pancakes bbq.','60','9','47','32','67','58','vegan vegetarian');
+aData['100337'] = new Array('869','602','737','630','474','558','134','725','474','272','80','778','740','752','324','584','505','782','456','845','742','367','Curry Scrambled','spicy chicken grilled carrot potato cheddar kale sweet.','20','60','39','22','82','96','vegan');
+aData['100338'] = new Array('983','174','39','677','48','9','287','885','655','591','664','12','752','937','455','654','608','185','512','835','713','243','Beans','sweet mushroom scrambled tomato salmon quinoa grilled pork chicken mushroom.','19','34','27','40','49','6','mindful');
+aData['100339'] = new Array('21','705','136','854','966','757','210','855','587','333','405','563','489','448','237','111','448','51','300','767','59','645','Berry Scrambled Teriyaki Broccoli','vegan berry penne bbq bbq salmon scrambled beef yogurt.','7','71','85','80','69','56','vegetarian gluten');
+aData['100340'] = new Array('103','905','116','500','503','486','641','718','333','112','376','381','780','193','619','24','122','811','483','652','427','456','Bbq Bagel Potato Kale','potato bagel scrambled teriyaki granola beans yogurt roasted salmon roasted quinoa.','78','75','97','86','5','48','vegetarian vegan');
+aData['100341'] = new Array('869','952','135','570','522','120','604','252','743','926','444','812','284','420','772','588','769','863','440','403','859','403','Pesto Sesame','quinoa mushroom bbq pesto bbq broccoli spicy roasted sweet basil yogurt pancakes.','80','49','78','61','50','17','');
+aData['100342'] = new Array('635','911','818','48','811','773','269','608','410','332','403','658','929','402','827','967','358','266','769','622','958','102','Waffles Teriyaki Eggs','basil roasted sesame spicy herb grilled.','0','48','51','76','83','16','vegan vegetarian');
+aData['100343'] = new Array('829','663','986','282','772','77','817','875','373','257','234','690','935','914','897','236','269','900','930','616','464','207','Penne Beans Tomato','ginger pork vegan mushroom bbq bagel lemon pesto pancakes potato.','7','76','62','8','29','4','vegan');
+aData['100344'] = new Array('226','716','738','682','778','750','5','500','75','658','754','507','544','62','696','974','108','492','597','209','515','489','Berry Garlic Kale Salmon','pesto garlic rice penne broccoli mushroom bagel.','17','34','58','19','61','9','gluten vegetarian');
+aData['100345'] = new Array('124','512','64','302','782','325','961','894','893','783','327','804','88','275','739','927','915','924','560','882','978','385','Sweet Mushroom Kale','oatmeal curry chicken penne berry chicken.','43','8','75','91','31','53','vegan vegetarian');
+aData['100346'] = new Array('664','150','272','587','390','203','626','295','929','815','675','90','541','323','313','699','271','912','570','587','912','943','Broccoli','salsa bbq carrot broccoli potato sesame curry salmon granola curry teriyaki.','27','70','71','82','25','96','');
+aData['100347'] = new Array('179','6','719','821','795','856','6','872','289','62','773','787','969','903','615','678','564','812','322','415','472','26','Chicken','pork sesame granola eggs.','64','4','13','74','56','29','');
+aData['100348'] = new Array('995','635','134','632','869','346','448','941','917','489','123','367','273','280','201','320','146','683','157','367','263','494','Herb','penne berry mushroom pesto carrot kale vegan herb pesto potato broccoli.','11','86','68','54','28','47','vegan gluten');
+aData['100349'] = new Array('668','430','633','356','51','556','467','639','898','336','856','287','99','490','859','402','578','296','710','926','75','156','Rice','pork beans eggs pancakes bagel cheddar scrambled.','37','95','56','37','45','90','mindful');
+aData['100350'] = new Array('823','577','579','765','289','384','976','602','221','66','571','446','87','495','141','199','614','281','836','474','331','764','Pork','ginger chicken basil mushroom salsa tofu beans carrot oatmeal waffles vegan.','49','46','81','0','80','36','vegan vegetarian');
+aData['100351'] = new Array('262','119','892','529','213','707','653','418','598','799','673','98','299','753','581','280','335','895','904','254','586','121','Eggs Sesame Carrot','grilled grilled potato salmon.','20','46','36','79','74','57','');
+aData['100352'] = new Array('585','559','708','824','391','775','546','134','408','882','362','944','833','410','782','961','498','21','737','829','680','564','Beef Tofu Kale','beans sesame salsa rice broccoli sesame broccoli teriyaki salmon.','51','8','94','59','62','61','vegetarian');
+aData['100353'] = new Array('17','330','74','798','238','296','202','332','625','652','864','702','22','626','110','319','484','812','168','858','665','121','Spicy Spicy Beans Sweet','tofu penne tofu granola.','65','65','48','87','18','82','');
+aData['100354'] = new Array('367','534','27','268','618','68','514','624','662','571','516','482','237','255','885','455','494','977','586','904','858','377','Quinoa Teriyaki','salsa cheddar teriyaki sesame yogurt.','37','13','31','47','28','41','gluten mindful');
+aData['100355'] = new Array('887','362','572','371','973','700','638','52','424','897','827','161','737','79','85','131','591','446','125','542','870','678','Ginger Salmon','vegan tofu pork pesto.','80','87','21','96','25','94','');
+aData['100356'] = new Array('393','61','344','746','550','85','28','954','787','732','300','907','368','25','609','214','152','133','693','254','738','150','Berry Granola Quinoa Penne','ginger oatmeal salsa salsa.','58','84','74','20','62','67','gluten vegan');
+aData['100357'] = new Array('237','715','99','574','998','932','179','933','837','359','688','401','203','750','436','893','896','93','145','697','30','153','Tomato Herb Bbq Salsa','eggs teriyaki berry bbq tomato yogurt spicy eggs beans potato teriyaki.','51','68','15','0','48','19','vegan vegetarian');
+aData['100358'] = new Array('424','944','390','389','335','181','247','29','575','283','96','714','799','972','830','210','685','325','363','289','550','250','Spicy Oatmeal Chicken','bagel bbq berry potato salmon garlic penne lemon basil roasted eggs eggs.','75','75','88','80','5','95','mindful');
+aData['100359'] = new Array('752','520','36','981','357','24','581','131','608','745','136','251','542','145','812','886','525','658','850','904','423','729','Rice Scrambled Tomato','curry garlic tofu basil potato broccoli vegan salsa grilled.','14','85','23','50','94','14','');
+aData['100360'] = new Array('368','187','95','520','143','279','49','698','668','363','854','864','502','483','524','175','363','281','326','489','457','225','Beef','penne lemon salsa beef carrot ginger scrambled lemon pesto beef cheddar.','95','93','78','39','64','99','mindful gluten');
+aData['100361'] = new Array('306','600','866','745','523','20','801','692','398','431','776','121','507','245','214','2','892','176','898','618','558','778','Vegan','ginger cheddar sesame vegan salmon sweet kale mushroom roasted lemon.','23','47','69','98','65','51','');
+aData['100362'] = new Array('496','899','559','35','186','981','944','443','97','892','994','168','441','139','877','523','869','404','933','931','769','429','Curry Curry Chicken','cheddar salsa sesame tofu oatmeal vegan pork vegan roasted herb teriyaki lemon.','61','64','34','73','28','29','');
+aData['100363'] = new Array('804','216','829','275','905','859','995','378','300','585','428','978','587','83','380','706','793','971','958','313','842','735','Salmon Chicken Pesto','garlic curry bbq ginger garlic penne.','20','80','84','6','10','8','');
+aData['100364'] = new Array('332','961','170','436','5','744','619','245','359','239','217','860','77','367','44','52','283','865','235','427','666','880','Ginger Garlic','ginger broccoli bbq oatmeal carrot mushroom beans.','59','80','29','46','48','88','mindful vegetarian');
+aData['100365'] = new Array('681','229','203','452','900','645','929','706','186','974','54','918','14','669','828','971','372','480','371','51','441','760','Eggs Granola Pesto Garlic','pork salsa pesto beef lemon tofu salmon.','82','65','93','68','76','71','vegan');
+aData['100366'] = new Array('253','23','858','965','110','377','396','132','270','242','114','632','398','685','485','996','876','327','578','499','24','20','Chicken','beef ginger mushroom penne.','69','3','71','62','41','1','vegan gluten');
+aData['100367'] = new Array('435','644','703','804','675','531','518','982','981','7','466','239','713','566','253','778','744','994','954','437','440','107','Bbq Tofu','garlic scrambled pork pork granola cheddar garlic pancakes pancakes penne sesame tomato.','96','27','81','18','90','14','vegetarian');
+aData['100368'] = new Array('911','105','883','794','103','575','501','37','545','996','870','626','318','616','928','851','873','117','408','868','453','818','Tofu Spicy Pesto','spicy bbq rice rice basil basil bagel pesto tomato.','62','76','33','9','85','76','vegan');
+aData['100369'] = new Array('764','623','221','860','614','586','944','661','257','896','926','282','446','597','979','336','92','825','640','819','47','950','Beans Tomato','vegan tomato pesto pesto ginger yogurt cheddar oatmeal.','97','90','78','50','55','70','mindful vegetarian');
+aData['100370'] = new Array('38','647','638','895','600','65','889','468','4','254','30','112','657','505','460','281','813','33','489','214','576','285','Berry Pancakes','eggs pancakes cheddar grilled basil oatmeal basil chicken waffles berry salsa.','85','90','8','66','44','1','mindful');
+aData['100371'] = new Array('251','47','811','883','869','810','445','153','293','18','437','815','571','341','604','825','326','630','14','15','706','331','Bagel','berry carrot penne scrambled beef penne.','93','18','65','14','79','70','');
+aData['100372'] = new Array('694','256','981','485','560','86','839','921','167','853','864','262','283','153','189','199','75','880','323','166','836','939','Roasted','scrambled roasted waffles curry carrot potato sesame beef pancakes carrot sweet.','43','32','70','82','47','30','vegan');
+aData['100373'] = new Array('907','406','159','313','852','479','234','249','996','33','904','901','787','435','872','228','74','855','78','237','544','879','Roasted Oatmeal Granola Teriyaki','pork beef vegan lemon oatmeal.','99','40','59','41','64','86','');
+aData['100374'] = new Array('906','519','372','769','827','569','351','301','665','936','394','257','901','901','685','883','693','481','789','265','83','346','Quinoa Kale Herb','broccoli garlic roasted chicken.','95','38','55','85','0','87','');
+aData['100375'] = new Array('707','879','672','46','53','792','409','329','978','264','679','606','152','25','736','626','73','938','762','796','588','918','Eggs','salsa broccoli garlic broccoli lemon yogurt scrambled pork quinoa teriyaki potato.','10','52','11','92','81','40','vegetarian');
+aData['100376'] = new Array('521','492','399','878','100','125','834','473','722','972','74','335','572','985','181','692','157','415','479','56','206','111','Bbq Herb','rice vegan kale sesame.','77','29','48','47','62','98','');
+aData['100377'] = new Array('219','886','735','737','245','228','129','321','997','105','498','242','454','255','172','100','770','960','908','498','96','735','Lemon','scrambled yogurt pesto scrambled garlic pork mushroom penne rice.','31','56','7','15','43','89','');
+aData['100378'] = new Array('148','161','562','654','869','150','485','304','287','226','542','180','785','958','452','597','300','25','856','662','739','594','Waffles Sweet','tofu tomato salmon sesame carrot beef waffles pesto tofu cheddar granola.','83','22','1','65','75','51','');
+aData['100379'] = new Array('218','881','550','902','935','921','531','23','229','955','772','176','934','226','329','843','674','963','842','111','828','149','Penne','teriyaki oatmeal pork oatmeal.','16','39','64','39','50','61','mindful');
+aData['100380'] = new Array('532','983','185','219','461','981','29','691','624','498','355','741','399','168','606','847','82','328','758','258','54','554','Granola Berry Cheddar','yogurt salmon herb curry sweet curry quinoa pancakes beans vegan curry pancakes.','16','74','23','38','10','21','');
+aData['100381'] = new Array('242','419','653','12','289','242','853','59','407','31','729','144','169','116','430','294','822','362','451','392','89','46','Garlic Berry','mushroom rice eggs garlic carrot pancakes roasted garlic beans yogurt.','22','80','52','14','65','71','mindful');
+aData['100382'] = new Array('12','335','85','748','477','397','922','822','490','261','700','650','366','963','327','374','346','885','742','480','458','323','Potato Basil','teriyaki quinoa salmon penne grilled tomato sesame pork scrambled penne salsa.','66','8','33','77','40','30','vegan mindful');
+aData['100383'] = new Array('790','976','727','122','753','283','924','24','621','860','816','717','936','175','688','434','699','617','94','115','252','197','Curry Kale Granola Garlic','bbq penne waffles vegan tomato quinoa kale grilled oatmeal.','47','26','29','81','31','53','mindful');
+aData['100384'] = new Array('648','60','791','380','837','261','455','393','615','896','492','206','800','391','928','953','344','657','571','579','702','247','Kale Ginger Pesto','yogurt bbq pork ginger rice roasted salmon potato penne.','12','82','29','93','44','60','mindful vegetarian');
+aData['100385'] = new Array('786','952','922','126','942','370','251','149','563','102','622','117','909','771','503','586','964','796','842','922','276','626','Yogurt Pesto','carrot scrambled basil oatmeal salsa bbq roasted penne bbq broccoli.','75','56','35','70','79','52','vegetarian');
+aData['100386'] = new Array('482','630','979','566','886','454','453','551','418','184','526','582','965','461','984','159','544','498','927','378','234','705','Carrot Ginger','chicken garlic salsa tofu bbq chicken pancakes waffles ginger cheddar.','27','29','64','96','54','89','vegan gluten');
+aData['100387'] = new Array('186','863','34','748','736','795','610','60','150','512','121','154','399','565','258','31','270','67','553','243','107','843','Scrambled Teriyaki Spicy','roasted sweet penne spicy pancakes curry granola.','7','22','85','39','37','57','vegan');
+aData['100388'] = new Array('904','472','150','655','153','221','330','905','75','736','183','336','605','804','555','398','391','450','102','256','248','446','Roasted','granola vegan sesame penne.','99','15','29','12','23','71','');
+aData['100389'] = new Array('352','84','559','752','421','80','797','13','137','324','38','934','653','810','544','175','341','515','242','83','502','248','Penne Pork Spicy','eggs lemon bbq berry rice.','40','9','38','43','3','55','vegan mindful');
+aData['100390'] = new Array('278','184','241','293','380','518','745','574','255','311','532','345','472','267','485','864','47','635','825','609','884','351','Curry Quinoa','beef tomato carrot broccoli tomato eggs grilled rice beans.','52','20','97','30','60','5','vegetarian');
+aData['100391'] = new Array('493','255','644','149','920','68','756','458','973','70','641','824','192','431','775','895','625','560','185','132','3','81','Broccoli Pesto Cheddar Pesto','roasted beef carrot tofu pork carrot curry beans.','64','2','38','17','79','37','');
+aData['100392'] = new Array('152','309','963','345','928','371','681','199','261','999','466','779','725','396','179','552','163','603','476','63','100','342','Lemon','granola herb penne yogurt herb chicken granola salsa pork waffles sweet granola.','31','84','38','67','95','53','vegetarian');
+aData['100393'] = new Array('37','928','848','609','558','223','281','695','694','543','391','47','781','842','243','82','118','101','104','856','932','966','Scrambled Vegan Waffles Quinoa','vegan tomato tofu spicy oatmeal broccoli curry quinoa.','49','88','1','5','98','32','gluten mindful');
+aData['100394'] = new Array('385','825','655','726','779','7','495','837','613','600','975','959','784','989','783','838','515','288','729','872','676','316','Basil Bbq Sweet','tomato sweet roasted yogurt salsa chicken yogurt pork salmon quinoa grilled teriyaki.','87','61','51','51','33','16','');
+aData['100395'] = new Array('574','881','213','863','110','546','761','477','882','459','704','85','742','594','791','893','876','987','442','407','980','8','Penne','teriyaki kale sesame herb lemon yogurt salmon waffles potato berry.','35','77','81','45','31','18','');
+aData['100396'] = new Array('205','968','178','993','405','111','249','270','20','36','631','686','80','825','449','691','84','493','295','524','619','480','Eggs','bagel teriyaki pancakes chicken.','58','91','8','10','17','84','mindful gluten');
+aData['100397'] = new Array('887','578','754','496','116','452','888','605','830','531','79','644','37','973','714','453','656','515','872','101','190','297','Beef Beans','sesame bbq eggs bbq yogurt tofu bagel basil basil bagel.','65','58','51','4','63','65','');
+aData['100398'] = new Array('175','308','792','645','368','289','585','43','635','97','815','27','289','535','256','592','217','618','378','304','280','728','Basil','teriyaki sesame herb beef bagel.','72','28','48','74','51','2','vegan mindful');
+aData['100399'] = new Array('698','374','712','238','332','739','780','318','526','377','88','900','280','152','547','413','821','533','869','789','727','604','Mushroom Salmon Mushroom','pork basil vegan vegan yogurt tofu.','99','15','53','9','98','82','mindful');
+aData['100400'] = new Array('975','797','825','955','563','829','795','837','14','583','552','441','650','593','468','34','258','391','246','937','114','560','Carrot Kale Beans','curry broccoli kale yogurt vegan.','39','25','85','12','58','60','gluten');
+aData['100401'] = new Array('169','518','245','735','732','383','792','387','262','839','955','617','237','323','812','149','323','28','930','394','61','699','Beef Sweet Rice Teriyaki','tomato garlic chicken ginger bbq salsa.','35','47','45','37','74','88','mindful gluten');
+aData['100402'] = new Array('354','921','161','876','671','515','368','5','409','381','725','632','635','539','640','975','914','669','412','475','730','839','Beef Curry Spicy','scrambled salsa penne yogurt.','90','64','4','17','53','5','mindful vegetarian');
+aData['100403'] = new Array('894','590','92','942','1','253','656','985','592','167','673','994','131','369','42','778','77','128','178','735','725','721','Broccoli Scrambled Vegan Tomato','pancakes tofu grilled bbq beef quinoa roasted roasted.','99','61','38','93','42','26','vegan gluten');
+aData['100404'] = new Array('11','345','519','929','447','807','130','229','449','923','929','919','469','846','779','10','471','488','182','838','417','293','Oatmeal Beef Curry Scrambled','chicken beans sesame carrot salsa oatmeal.','87','87','3','84','64','27','mindful');
+aData['100405'] = new Array('606','314','843','252','86','356','154','489','11','736','395','955','731','218','338','724','192','159','877','918','200','81','Teriyaki','pesto grilled oatmeal teriyaki beans tomato potato potato roasted grilled.','70','7','1','80','75','2','vegan vegetarian');
+aData['100406'] = new Array('802','614','437','161','711','90','631','611','705','621','716','438','734','899','951','224','399','948','573','810','455','50','Teriyaki Yogurt','scrambled basil curry pesto ginger berry.','31','7','21','26','52','72','');
+aData['100407'] = new Array('957','674','418','569','570','355','632','492','873','145','581','81','314','700','436','335','453','918','772','493','980','812','Ginger Basil Berry','waffles granola yogurt bagel oatmeal bagel oatmeal granola.','67','40','65','56','57','11','mindful vegetarian');
+aData['100408'] = new Array('272','399','19','675','675','402','80','294','503','806','762','358','960','792','824','784','770','152','95','247','113','914','Cheddar Broccoli Salmon','penne eggs herb basil yogurt.','18','13','86','11','58','49','mindful');
+aData['100409'] = new Array('266','649','379','811','584','706','288','622','198','344','488','49','616','95','661','966','771','692','533','646','471','362','Pork Bbq','vegan chicken roasted penne pork roasted scrambled bbq.','71','45','73','12','34','43','gluten mindful');
+aData['100410'] = new Array('167','799','801','2','59','712','517','325','994','405','380','151','40','180','262','533','487','901','827','653','788','829','Sesame Penne','herb lemon bbq garlic yogurt pesto garlic broccoli bbq.','56','34','78','36','29','43','mindful');
+aData['100411'] = new Array('355','616','978','15','402','58','207','689','380','555','880','635','708','147','605','197','22','856','850','668','250','467','Cheddar Eggs','bagel tofu herb penne tomato tofu spicy ginger.','87','10','42','72','48','96','');
+aData['100412'] = new Array('437','109','481','411','124','774','978','652','965','929','648','755','748','801','408','563','632','470','133','425','270','543','Penne Basil','bbq beans beef bbq kale sesame potato beans bbq bagel.','41','97','41','49','52','48','vegan vegetarian');
+aData['100413'] = new Array('825','995','772','41','960','291','35','114','585','755','854','133','420','531','381','786','383','267','812','917','190','579','Carrot','teriyaki curry broccoli herb pancakes beans penne carrot sesame salmon grilled sweet.','21','51','47','3','32','7','mindful');
+aData['100414'] = new Array('91','464','786','971','745','233','217','891','684','513','336','811','936','219','50','700','487','929','978','89','64','112','Waffles Oatmeal Eggs','scrambled rice sesame waffles quinoa.','15','31','45','50','71','26','gluten');
+aData['100415'] = new Array('274','128','921','393','282','60','397','171','62','340','257','133','106','915','644','780','322','922','305','591','414','759','Chicken Pork Potato Chicken','tomato bbq chicken pork beef grilled.','76','10','79','29','74','11','gluten');
+aData['100416'] = new Array('837','264','886','928','460','915','136','323','436','970','863','134','130','978','346','60','112','650','323','69','137','167','Garlic','tomato grilled beans beef granola spicy scrambled.','34','63','87','3','2','74','');
+aData['100417'] = new Array('299','181','274','752','530','975','630','240','525','532','385','624','260','393','314','36','298','159','395','980','258','297','Granola Beans Salsa','garlic ginger grilled bagel potato ginger beans quinoa.','99','33','78','17','31','94','');
+aData['100418'] = new Array('890','115','372','137','588','562','121','642','973','78','663','516','456','927','298','508','819','930','27','926','504','342','Grilled','lemon curry yogurt tomato curry cheddar grilled mushroom pork teriyaki waffles.','93','74','53','77','38','82','mindful');
+aData['100419'] = new Array('587','967','465','86','465','635','754','250','510','224','852','152','999','893','949','935','965','266','624','553','437','231','Rice Grilled Spicy Potato','tomato vegan basil herb potato waffles potato salmon granola pork chicken.','63','9','61','22','70','46','vegan vegetarian');
+aData['100420'] = new Array('490','403','572','471','360','498','667','119','460','402','507','138','937','53','789','325','455','765','287','328','344','797','Basil Broccoli','granola sweet oatmeal quinoa scrambled lemon eggs cheddar.','1','9','59','2','41','36','');
+aData['100421'] = new Array('957','655','900','988','731','30','600','646','201','91','151','855','634','607','638','107','733','382','931','866','710','943','Vegan Pork','carrot lemon cheddar penne grilled.','90','39','90','35','83','54','');
+aData['100422'] = new Array('499','872','55','570','427','431','281','922','759','694','44','960','456','345','543','341','457','368','684','845','984','634','Eggs Berry','spicy broccoli grilled granola beef grilled broccoli berry.','0','86','92','38','73','41','gluten vegetarian');
+aData['100423'] = new Array('203','288','525','941','550','855','242','757','229','472','893','701','732','32','200','584','341','483','238','252','245','394','Grilled Spicy Roasted Sesame','sesame cheddar bbq herb yogurt quinoa.','0','44','26','11','92','40','gluten vegetarian');
+aData['100424'] = new Array('256','140','972','432','29','90','824','798','147','452','640','682','286','701','365','188','104','899','166','594','574','723','Bagel Cheddar Sesame','pesto roasted oatmeal pancakes salsa waffles.','41','57','1','84','6','62','mindful vegetarian');
+aData['100425'] = new Array('674','672','700','181','753','941','47','775','681','113','233','824','618','580','93','551','762','436','420','96','584','968','Penne Sweet','roasted waffles berry basil.','51','49','54','87','55','44','');
+aData['100426'] = new Array('113','385','183','743','323','308','462','163','58','621','333','648','157','897','462','791','605','772','599','321','566','22','Penne Grilled','beef chicken pesto oatmeal chicken pancakes rice.','47','65','39','65','22','45','');
+aData['100427'] = new Array('227','867','481','892','387','327','516','893','104','220','530','872','399','358','14','426','409','920','950','458','131','865','Berry','vegan vegan pork teriyaki carrot oatmeal penne tofu sesame tomato chicken granola.','17','24','97','17','45','72','gluten vegan');
+aData['100428'] = new Array('213','292','991','995','524','466','203','256','246','427','74','874','430','461','267','449','132','761','900','329','966','547','Carrot Berry Roasted Vegan','beans yogurt tofu kale salsa penne penne pork salmon broccoli.','32','8','50','78','70','15','gluten mindful');
+aData['100429'] = new Array('520','366','942','173','164','437','398','860','869','20','186','763','437','422','329','419','710','202','931','327','576','463','Waffles Spicy Pork','bagel broccoli pork broccoli grilled oatmeal vegan pesto scrambled oatmeal salmon.','20','65','69','46','2','75','');
+aData['100430'] = new Array('453','486','332','917','135','192','380','442','360','643','275','824','677','889','421','956','772','148','887','437','410','939','Yogurt Tomato Waffles','bagel waffles beef tofu broccoli scrambled scrambled oatmeal berry garlic.','26','57','19','76','14','52','mindful vegetarian');
+aData['100431'] = new Array('666','67','298','763','208','813','809','587','222','688','459','463','517','520','510','460','447','420','242','352','746','801','Quinoa Lemon Kale','lemon pork salsa oatmeal beef salmon beans teriyaki potato.','69','53','59','8','10','93','vegetarian');
+aData['100432'] = new Array('678','504','589','933','676','863','715','205','804','407','534','145','894','111','424','600','651','895','154','249','592','837','Lemon Bagel Grilled Bbq','curry curry potato cheddar teriyaki eggs vegan salmon sesame bagel.','0','2','88','61','10','95','');
+aData['100433'] = new Array('138','615','649','558','71','193','467','679','209','995','631','673','10','573','414','623','71','353','819','721','440','116','Teriyaki','kale basil broccoli herb mushroom penne.','73','41','3','64','28','32','gluten');
+aData['100434'] = new Array('534','625','300','216','395','357','405','372','483','486','696','221','415','36','201','171','571','787','453','673','556','834','Teriyaki','basil pancakes cheddar spicy salmon lemon rice tomato roasted eggs ginger quinoa.','45','78','83','45','29','96','');
+aData['100435'] = new Array('529','416','845','654','47','957','945','699','95','296','80','394','171','735','844','939','291','123','379','60','482','692','Sweet Salmon Herb','berry mushroom grilled penne herb roasted bagel ginger pork carrot waffles.','98','74','27','59','14','25','vegan');
+aData['100436'] = new Array('671','348','852','290','307','226','239','119','0','516','85','782','438','163','511','332','35','133','799','631','211','650','Lemon Potato Garlic','penne chicken ginger kale spicy pork salsa granola berry.','48','69','81','69','0','82','mindful');
+aData['100437'] = new Array('701','281','870','236','311','706','349','514','426','659','379','147','134','196','219','489','496','715','926','508','318','623','Salsa Potato Potato Sesame','waffles yogurt ginger salmon.','10','9','20','41','90','74','vegan mindful');
+aData['100438'] = new Array('338','218','625','51','414','214','435','516','899','231','665','463','781','923','932','136','265','450','825','151','954','161','Granola','yogurt potato kale cheddar salmon curry bagel pork tofu.','95','32','7','2','47','63','');
+aData['100439'] = new Array('419','871','699','791','543','77','937','17','138','496','584','401','665','768','388','679','671','422','720','237','256','520','Salsa Yogurt','lemon salmon penne pesto.','50','25','85','9','26','69','');
+aData['100440'] = new Array('636','314','815','342','103','44','48','196','714','968','38','830','812','947','529','994','293','101','779','963','743','913','Eggs Eggs Carrot Potato','broccoli roasted bagel beef quinoa eggs carrot chicken.','61','5','51','19','90','37','');
+aData['100441'] = new Array('832','483','573','797','495','752','684','541','405','684','665','434','544','259','10','427','487','745','371','591','372','669','Sweet Yogurt Broccoli','pesto teriyaki vegan basil beans beef pork.','10','26','43','29','28','53','vegetarian');
+aData['100442'] = new Array('330','369','403','813','723','785','888','80','885','703','344','125','357','658','590','3','686','166','33','130','604','838','Beans Bbq Bagel','berry oatmeal cheddar sweet cheddar garlic bbq yogurt beef cheddar pesto.','59','96','51','8','24','10','vegetarian');
+aData['100443'] = new Array('327','451','638','237','409','882','245','919','0','857','262','465','498','773','866','180','136','199','641','482','171','961','Sweet Penne Broccoli Berry','pork waffles curry bbq oatmeal tomato mushroom roasted beef beef.','80','40','99','4','71','94','gluten vegan');
+aData['100444'] = new Array('925','768','945','439','170','700','150','89','224','213','153','354','610','626','680','267','187','648','479','208','774','532','Pancakes','lemon salmon beans carrot pork pancakes beans eggs scrambled.','96','3','91','60','83','97','');
+aData['100445'] = new Array('736','454','74','399','385','542','532','3','300','430','158','386','90','571','162','793','723','617','201','158','782','916','Broccoli Bagel Eggs','vegan carrot tomato carrot bagel waffles scrambled pork sesame kale pancakes granola.','8','57','12','65','16','9','gluten mindful');
+aData['100446'] = new Array('978','155','323','631','500','217','260','163','588','179','912','722','817','742','639','956','317','31','413','461','941','367','Yogurt','kale oatmeal beans cheddar potato curry.','78','3','85','78','5','79','');
+aData['100447'] = new Array('429','805','859','205','94','188','273','47','12','1','64','327','986','788','700','870','663','556','365','823','400','776','Curry','quinoa potato pancakes grilled beef yogurt bagel salmon scrambled.','91','46','62','48','93','15','');
+aData['100448'] = new Array('768','265','391','229','366','692','578','699','653','865','197','73','84','772','323','733','597','476','356','156','634','619','Granola Chicken','roasted quinoa salsa beef rice ginger berry lemon pesto.','87','77','82','14','92','92','gluten mindful');
+aData['100449'] = new Array('196','586','916','434','489','349','744','424','652','699','165','848','125','99','13','809','263','22','722','657','897','613','Sweet Pork Eggs Oatmeal','mushroom roasted bagel salsa chicken basil mushroom.','41','90','15','96','33','11','');
+aData['100450'] = new Array('807','960','527','931','502','790','178','980','331','330','491','242','944','399','156','640','57','262','684','947','541','586','Carrot Granola Scrambled','salmon sesame tofu grilled broccoli penne oatmeal kale basil.','85','35','8','81','61','45','vegan');
+aData['100451'] = new Array('536','38','810','411','372','146','280','493','101','272','539','958','245','741','708','90','356','453','329','976','494','734','Ginger','pesto pesto pancakes oatmeal carrot.','73','35','80','17','94','40','vegan mindful');
+aData['100452'] = new Array('914','472','861','592','866','46','569','598','146','512','167','496','706','864','366','504','515','983','451','759','957','192','Yogurt Broccoli','beef chicken grilled rice berry ginger vegan salmon.','0','20','75','10','62','10','gluten');
+aData['100453'] = new Array('688','433','716','308','628','317','9','981','282','278','388','35','862','947','233','832','313','733','938','256','129','399','Waffles Sweet','pork mushroom salmon sesame pancakes yogurt sesame spicy scrambled bbq granola.','7','78','10','56','4','78','vegetarian vegan');
+aData['100454'] = new Array('548','147','111','547','558','391','429','423','391','280','977','531','257','769','21','856','359','639','431','828','913','176','Granola Beef Eggs Spicy','pesto eggs rice ginger salsa.','15','40','37','95','70','80','');
+aData['100455'] = new Array('469','389','620','378','23','459','941','455','61','663','257','648','457','225','997','742','327','860','588','980','273','989','Yogurt Garlic Waffles Lemon','waffles quinoa kale broccoli vegan beans waffles rice salsa.','27','89','36','96','74','55','');
+aData['100456'] = new Array('34','85','864','644','739','838','903','480','662','642','702','982','936','325','169','315','860','694','237','815','590','545','Pancakes','broccoli penne kale quinoa pork.','37','28','58','83','24','5','gluten');
+aData['100457'] = new Array('2','607','128','668','38','736','653','259','678','827','7','544','962','91','881','662','954','587','823','230','683','758','Roasted Ginger','chicken mushroom curry sweet curry mushroom broccoli potato.','14','63','2','19','24','2','vegan vegetarian');
+aData['100458'] = new Array('58','912','49','724','99','853','323','498','854','83','354','899','282','808','122','234','362','76','732','447','993','56','Curry Curry Sweet','potato salmon ginger scrambled beans sweet herb basil.','54','47','32','24','13','12','gluten vegan');
+aData['100459'] = new Array('545','300','830','235','526','146','406','629','888','112','987','86','471','882','934','444','108','854','277','751','743','806','Penne Waffles Spicy Beans','teriyaki sweet roasted garlic.','68','74','58','64','64','48','');
+aData['100460'] = new Array('874','106','558','935','6','95','240','808','87','647','428','475','130','691','85','996','984','842','608','813','158','565','Ginger','broccoli potato eggs curry penne carrot.','62','86','74','95','37','85','vegetarian gluten');
+aData['100461'] = new Array('224','241','289','231','331','810','853','909','560','430','900','212','156','459','372','842','164','265','83','758','644','298','Beans','quinoa chicken grilled kale herb.','4','36','12','35','55','51','');
+aData['100462'] = new Array('747','443','414','391','687','832','641','531','397','754','480','863','0','249','47','562','123','695','471','411','827','809','Yogurt Berry','chicken carrot herb granola basil.','35','57','44','97','19','84','');
+aData['100463'] = new Array('399','255','484','127','505','5','575','454','715','133','676','824','716','475','721','329','87','113','893','125','622','429','Salsa Basil','yogurt scrambled ginger waffles ginger penne eggs.','22','67','13','72','46','37','gluten vegan');
+aData['100464'] = new Array('404','859','509','784','701','957','164','763','268','216','635','101','825','581','461','182','66','240','738','324','715','42','Waffles Oatmeal Herb','cheddar spicy oatmeal scrambled beef garlic potato broccoli kale berry.','76','96','44','11','51','25','');
+aData['100465'] = new Array('188','409','845','380','530','273','422','322','440','577','507','229','464','686','317','483','617','989','356','851','590','467','Roasted Salmon Pork Grilled','eggs quinoa salmon broccoli sweet.','44','46','88','52','52','17','vegetarian');
+aData['100466'] = new Array('680','309','66','209','435','200','927','718','277','846','703','251','320','213','46','765','874','207','330','452','485','899','Carrot Pancakes Granola Basil','granola oatmeal grilled tofu grilled.','57','40','58','64','53','52','vegan vegetarian');
+aData['100467'] = new Array('284','415','142','239','158','410','793','327','508','723','581','5','837','272','168','918','633','330','60','147','394','633','Penne','herb chicken basil ginger salmon pork tomato salmon pesto pork sweet rice.','11','49','51','5','77','49','mindful gluten');
+aData['100468'] = new Array('29','337','827','164','535','142','252','168','85','708','881','171','754','348','174','828','46','817','205','942','351','115','Penne Basil','chicken vegan waffles bagel cheddar garlic granola basil basil carrot yogurt.','52','67','23','97','29','97','mindful');
+aData['100469'] = new Array('176','792','716','203','99','847','417','518','631','940','73','377','340','152','63','47','760','76','284','669','265','589','Herb','beans pesto waffles granola quinoa tofu.','8','37','70','65','9','94','');
+aData['100470'] = new Array('840','848','885','320','39','825','555','345','998','929','53','238','597','139','870','929','803','612','956','618','815','922','Carrot Carrot Tofu Sesame','cheddar rice oatmeal ginger spicy kale vegan grilled eggs tomato.','37','56','24','0','24','46','');
+aData['100471'] = new Array('576','585','522','286','0','986','180','641','680','123','663','8','793','417','882','439','143','988','317','496','231','313','Yogurt Yogurt Roasted Bagel','pork grilled broccoli bagel sesame penne teriyaki sesame pork beans garlic tofu.','87','26','19','14','88','72','vegetarian');
+aData['100472'] = new Array('128','452','325','378','404','110','228','250','527','229','273','246','731','916','71','342','583','722','817','608','169','605','Potato Tomato Chicken','pancakes cheddar mushroom teriyaki kale pork spicy eggs.','2','67','16','90','54','66','vegetarian');
+aData['100473'] = new Array('224','744','113','35','552','226','559','646','349','607','453','695','206','335','671','82','983','727','43','862','219','521','Yogurt Herb Garlic','cheddar sweet bbq pesto basil berry chicken salsa tofu tofu grilled.','94','68','84','19','17','43','gluten');
+aData['100474'] = new Array('414','589','746','184','728','333','521','845','975','37','54','313','246','206','739','527','484','206','717','652','531','845','Eggs Scrambled Grilled Berry','bagel yogurt salsa herb quinoa broccoli.','1','73','32','37','6','44','vegan');
+aData['100475'] = new Array('711','544','793','177','101','192','892','866','475','301','192','276','390','578','327','960','222','737','345','811','342','656','Garlic Sweet','ginger teriyaki vegan penne kale.','33','19','31','53','90','11','vegetarian mindful');
+aData['100476'] = new Array('877','258','851','905','155','703','291','774','993','213','119','325','830','552','4','1','692','22','636','981','111','641','Salmon','penne beef chicken bbq grilled spicy tofu salmon waffles salsa.','71','70','66','98','45','62','');
+aData['100477'] = new Array('666','527','878','418','508','276','717','145','889','613','228','63','28','509','858','145','79','333','134','991','47','51','Penne Vegan Chicken Oatmeal','garlic potato bbq bagel bbq oatmeal beans kale lemon lemon rice.','90','20','43','65','52','54','');
+aData['100478'] = new Array('196','328','665','88','47','464','125','255','134','580','880','552','942','573','459','527','200','64','999','237','392','547','Basil Oatmeal Pancakes','tofu potato beef yogurt granola beans beans spicy herb pork.','94','58','56','32','22','75','vegan');
+aData['100479'] = new Array('788','390','500','90','900','836','589','370','442','960','619','882','286','68','693','388','146','811','677','527','453','24','Pesto Broccoli Oatmeal','rice pancakes beef mushroom herb berry sesame beef vegan pancakes.','13','27','58','79','75','11','gluten');
+aData['100480'] = new Array('678','992','513','581','764','954','982','668','85','611','846','699','951','5','235','635','352','472','383','837','810','730','Penne Sweet Mushroom Lemon','yogurt garlic teriyaki penne rice broccoli oatmeal chicken herb.','31','22','12','81','48','95','');
+aData['100481'] = new Array('308','604','182','623','734','569','835','311','419','403','51','690','691','916','675','537','487','66','741','383','246','48','Berry Berry','pesto pesto sweet garlic granola bagel ginger ginger broccoli.','12','80','82','30','96','78','mindful vegan');
+aData['100482'] = new Array('253','827','690','843','875','591','284','51','713','197','644','149','341','975','769','952','707','598','982','598','580','44','Pancakes Chicken','curry scrambled quinoa waffles.','19','34','47','25','88','52','gluten vegetarian');
+aData['100483'] = new Array('882','761','922','772','614','25','438','979','604','496','698','307','186','736','952','687','237','181','343','73','781','140','Bbq Carrot Sweet','rice herb penne pesto.','63','11','90','35','17','61','');
+aData['100484'] = new Array('983','81','312','782','171','341','83','918','6','148','355','835','411','579','803','721','700','891','933','362','227','452','Beans','beans potato yogurt ginger yogurt mushroom scrambled.','21','71','13','24','8','17','mindful vegetarian');
+aData['100485'] = new Array('547','584','188','586','442','364','791','327','752','68','473','350','584','394','326','778','191','826','422','245','685','655','Scrambled Herb','waffles pork vegan spicy berry pesto beans grilled beef.','64','44','91','78','30','59','gluten');
+aData['100486'] = new Array('518','205','422','884','16','413','310','772','45','188','759','253','40','801','877','218','86','379','608','464','347','270','Bbq Berry Curry Tomato','garlic sesame grilled garlic mushroom garlic sweet roasted rice salsa carrot kale.','97','39','69','48','96','56','');
+aData['100487'] = new Array('540','987','696','208','854','396','921','915','77','909','516','671','14','26','554','873','37','672','771','807','339','587','Potato Salmon','teriyaki granola pesto carrot garlic cheddar.','28','46','30','62','87','79','');
+aData['100488'] = new Array('29','330','694','686','238','832','167','412','641','522','216','272','440','897','438','696','120','642','444','278','687','777','Beans Lemon','teriyaki grilled pork lemon scrambled berry lemon oatmeal teriyaki.','80','80','61','31','7','2','');
+aData['100489'] = new Array('93','951','923','993','144','966','674','738','737','769','85','445','801','275','787','153','500','30','774','917','24','120','Scrambled Cheddar','salsa pork penne granola lemon rice beef salmon sesame sesame granola.','76','49','30','24','63','38','vegan mindful');
+aData['100490'] = new Array('545','229','137','639','10','951','276','392','840','763','273','981','653','411','540','436','9','592','827','360','580','977','Curry Rice','beans tomato spicy chicken eggs vegan pancakes garlic roasted sesame vegan.','4','65','84','37','31','25','');
+aData['100491'] = new Array('874','514','276','400','657','13','100','977','700','111','261','935','123','852','618','682','368','622','622','144','932','636','Roasted','carrot vegan teriyaki herb waffles roasted mushroom vegan.','43','67','82','53','56','85','');
+aData['100492'] = new Array('445','29','624','455','882','598','462','613','887','616','764','472','23','914','596','533','752','905','993','983','562','98','Broccoli','waffles ginger teriyaki sweet pork penne.','78','54','97','65','77','8','gluten mindful');
+aData['100493'] = new Array('120','514','219','713','602','19','648','223','487','629','294','104','639','296','187','599','235','536','298','424','787','211','Basil','vegan pesto berry lemon curry berry teriyaki oatmeal grilled sesame salmon.','22','19','25','94','10','38','');
+aData['100494'] = new Array('758','209','880','243','21','604','809','328','667','708','261','770','2','179','22','204','242','406','892','334','566','152','Granola Yogurt Pork','cheddar basil salmon sesame curry roasted tomato roasted lemon bbq beef.','2','12','2','8','1','16','');
+aData['100495'] = new Array('74','485','787','747','421','578','996','287','844','334','969','830','528','47','307','316','951','884','497','92','591','446','Rice','garlic oatmeal salsa basil.','17','7','3','43','33','3','');
+aData['100496'] = new Array('321','249','483','88','225','78','580','353','348','368','255','563','346','955','210','849','727','463','66','793','261','375','Teriyaki Quinoa Pesto Sweet','garlic teriyaki pork grilled lemon eggs potato carrot.','26','12','76','92','7','3','');
+aData['100497'] = new Array('300','877','546','182','313','543','473','824','887','316','546','709','888','159','615','62','82','10','596','373','251','90','Waffles Tomato Pork','sweet pancakes lemon salmon curry spicy rice yogurt kale.','81','77','75','51','55','71','mindful');
+aData['100498'] = new Array('603','191','774','437','208','640','324','268','359','601','5','497','587','140','62','572','966','872','626','284','83','658','Sweet Scrambled Bbq Cheddar','garlic waffles cheddar garlic teriyaki broccoli quinoa sweet salmon.','26','38','46','28','15','78','');
+aData['100499'] = new Array('32','658','317','639','668','18','817','156','505','513','309','564','700','456','511','520','706','32','900','309','247','638','Beef Tomato Beef','cheddar carrot yogurt chicken.','99','25','45','5','4','26','vegetarian gluten');
+aData['100500'] = new Array('540','180','764','800','824','339','65','947','417','358','733','741','604','444','739','910','551','356','207','512','218','179','Rice','granola bagel broccoli waffles granola oatmeal.','35','87','9','81','23','12','');
+aData['100501'] = new Array('183','966','547','485','644','650','159','58','536','949','387','453','941','62','947','848','890','6','289','182','939','140','Bagel Grilled Scrambled Berry','grilled herb oatmeal sweet yogurt pesto bbq sweet garlic waffles.','4','89','3','8','88','64','vegan');
+aData['100502'] = new Array('293','247','147','926','475','205','177','495','655','482','942','538','166','163','188','875','816','220','679','497','768','709','Granola Sweet Yogurt Broccoli','rice pancakes broccoli kale quinoa sesame mushroom pancakes chicken spicy.','89','48','35','63','91','68','');
+aData['100503'] = new Array('51','881','759','495','216','673','64','832','38','956','565','875','0','498','617','535','670','216','866','287','236','338','Bagel','pesto lemon grilled chicken grilled granola chicken tomato vegan.','0','70','92','31','88','65','vegan');
+aData['100504'] = new Array('370','837','787','209','726','835','928','293','782','299','111','22','461','98','441','16','116','376','67','940','13','359','Rice Curry Pork Kale','penne sweet vegan spicy.','70','1','49','57','69','79','gluten');
+aData['100505'] = new Array('113','163','854','447','866','420','799','690','178','738','947','177','681','424','100','298','554','322','634','131','71','550','Bagel Garlic','bbq garlic mushroom ginger waffles eggs roasted.','1','31','49','72','6','29','vegetarian mindful');
+aData['100506'] = new Array('596','326','212','685','136','832','112','61','967','890','733','4','90','514','386','881','222','837','569','580','661','837','Yogurt Broccoli','yogurt pork beef broccoli beans teriyaki broccoli lemon granola waffles.','42','0','25','17','61','1','gluten vegan');
+aData['100507'] = new Array('580','881','62','876','832','242','669','566','200','866','895','795','717','487','669','241','640','357','594','977','105','703','Ginger Pork Grilled Sweet','potato bagel pesto sesame quinoa bbq basil beef beans vegan granola bagel.','93','10','96','48','87','30','');
+aData['100508'] = new Array('130','224','304','168','959','20','608','813','750','883','405','497','754','804','519','486','62','360','729','646','190','399','Oatmeal','yogurt waffles eggs vegan garlic bbq tomato.','19','62','43','68','44','34','');
+aData['100509'] = new Array('901','436','341','873','214','870','74','582','725','242','627','848','526','275','662','538','328','895','541','179','894','270','Pesto','eggs yogurt mushroom pork pancakes eggs pancakes granola penne garlic curry.','74','60','67','49','49','5','gluten');
+aData['100510'] = new Array('747','812','612','776','104','987','380','95','903','976','929','464','152','146','974','339','409','51','225','955','730','324','Cheddar Granola Pork Scrambled','pancakes ginger kale tofu quinoa lemon broccoli spicy berry beans teriyaki waffles.','58','52','46','85','38','34','gluten vegan');
+aData['100511'] = new Array('995','37','478','411','538','122','636','709','811','804','504','497','222','621','768','987','732','74','948','954','140','800','Salsa','yogurt grilled sesame potato pork cheddar roasted curry pesto.','29','33','7','35','65','29','gluten mindful');
+aData['100512'] = new Array('929','670','390','676','151','387','426','286','874','936','137','713','417','311','25','380','598','997','557','999','487','984','Scrambled Tofu Grilled Herb','bagel curry ginger granola oatmeal scrambled.','90','56','68','28','9','86','');
+aData['100513'] = new Array('731','29','30','945','726','879','161','420','67','918','160','247','768','670','610','9','866','30','389','468','34','984','Tofu Tomato','beans salsa bbq chicken salsa basil scrambled quinoa.','26','4','49','29','74','79','vegan');
+aData['100514'] = new Array('991','592','363','918','980','507','292','977','739','560','208','305','216','251','999','607','140','695','29','485','700','782','Tofu Herb Rice Grilled','tofu tomato pancakes garlic mushroom granola yogurt lemon salsa beef broccoli.','28','43','2','99','22','43','vegan');
+aData['100515'] = new Array('37','813','574','281','142','377','290','281','661','201','756','474','952','181','623','483','511','935','803','756','726','38','Tofu','scrambled beef tomato sweet grilled cheddar oatmeal beef bbq beef sweet teriyaki.','26','82','82','95','34','55','gluten');
+aData['100516'] = new Array('998','726','401','431','652','957','253','238','840','731','59','550','399','133','381','265','779','644','160','493','279','341','Ginger Beans Chicken','tomato basil scrambled scrambled yogurt ginger granola potato penne oatmeal rice.','29','96','58','24','63','61','gluten vegan');
+aData['100517'] = new Array('685','131','560','489','279','751','40','997','17','598','286','508','824','178','827','805','245','113','222','593','306','363','Salmon Carrot Tomato','roasted garlic mushroom pancakes pancakes roasted salmon teriyaki vegan kale.','35','39','0','73','65','79','');
+aData['100518'] = new Array('146','702','583','813','831','192','830','486','434','986','852','712','633','888','735','318','721','420','648','157','83','95','Carrot Salsa Oatmeal','quinoa cheddar sesame beef salsa salsa mushroom pesto curry beef.','88','0','98','73','50','48','vegan mindful');
+aData['100519'] = new Array('827','418','739','287','67','787','188','112','855','275','319','45','870','137','37','366','66','467','409','72','92','219','Pancakes Curry','herb penne salmon scrambled lemon bbq kale.','22','56','67','78','71','94','gluten');
+aData['100520'] = new Array('477','274','972','762','541','122','815','174','981','202','115','395','24','511','796','521','192','511','85','345','986','180','Tofu','scrambled tomato basil tomato salmon granola eggs granola garlic quinoa.','50','55','47','71','7','1','gluten');
+aData['100521'] = new Array('196','46','247','442','738','970','490','6','842','790','170','302','893','590','686','181','672','18','968','111','954','25','Mushroom Curry Carrot','chicken ginger grilled kale.','21','18','44','54','44','40','');
+aData['100522'] = new Array('368','153','401','490','104','916','801','218','62','76','174','454','920','315','510','43','66','940','726','699','654','864','Sesame Waffles Bagel Tomato','rice teriyaki cheddar beans pancakes broccoli teriyaki.','18','47','56','8','11','6','vegetarian gluten');
+aData['100523'] = new Array('877','252','902','706','512','633','270','302','993','163','978','563','360','120','131','754','858','569','770','797','256','977','Sesame','garlic beef salsa potato broccoli.','39','87','31','33','20','89','vegetarian mindful');
+aData['100524'] = new Array('712','406','463','256','691','582','626','356','406','683','403','203','523','263','660','386','59','708','854','783','301','489','Salmon Beef Berry Pancakes','salsa penne ginger grilled herb lemon.','85','85','53','44','4','88','vegan mindful');
+aData['100525'] = new Array('740','643','401','440','27','890','613','735','425','246','199','61','362','689','961','480','660','330','563','581','655','616','Curry','beef mushroom sweet kale rice.','58','69','25','88','6','82','vegetarian gluten');
+aData['100526'] = new Array('244','82','72','276','114','29','537','897','585','236','75','75','666','44','469','588','107','368','696','909','31','881','Bagel Penne Pesto','sweet herb vegan herb spicy grilled quinoa.','38','50','12','41','32','93','');
+aData['100527'] = new Array('854','977','820','55','810','727','874','78','496','767','481','239','322','790','129','603','781','178','297','351','632','222','Cheddar','broccoli yogurt tofu bagel mushroom mushroom beans sweet bbq bagel tofu pancakes.','32','72','49','99','98','58','gluten vegan');
+aData['100528'] = new Array('629','51','592','262','656','609','204','925','572','642','405','192','271','200','866','453','242','311','237','98','188','268','Teriyaki Grilled Oatmeal Grilled','cheddar broccoli penne sweet cheddar.','9','74','21','28','19','20','');
+aData['100529'] = new Array('466','345','992','782','138','379','508','892','353','90','591','521','623','642','529','860','594','894','526','16','712','348','Tofu Herb','sesame bagel granola bagel rice curry garlic vegan ginger beef broccoli beans.','60','24','69','75','74','26','vegan');
+aData['100530'] = new Array('470','812','459','892','561','159','692','533','169','342','300','248','69','432','982','702','806','436','877','274','486','20','Eggs','basil lemon beans yogurt.','18','20','89','17','50','7','vegan');
+aData['100531'] = new Array('3','950','592','671','670','396','546','263','686','785','809','83','317','597','139','68','459','783','959','977','343','802','Herb Bbq Spicy','beef pesto salsa penne broccoli pork.','51','58','16','93','60','0','');
+aData['100532'] = new Array('724','571','86','339','161','714','837','126','976','527','664','80','580','71','702','556','948','186','312','159','375','895','Cheddar Kale Salmon Vegan','bbq grilled berry garlic oatmeal penne waffles teriyaki yogurt.','44','61','79','55','32','32','vegetarian');
+aData['100533'] = new Array('954','6','421','146','60','239','31','80','240','778','566','361','530','39','502','330','308','125','349','853','899','295','Ginger Eggs','rice herb quinoa cheddar sweet kale sesame.','42','70','0','43','52','79','vegetarian');
+aData['100534'] = new Array('610','380','266','446','9','760','751','536','137','127','348','252','534','474','89','469','26','431','168','176','871','678','Garlic Cheddar Tomato','rice broccoli rice carrot salmon tofu eggs berry tofu eggs rice.','81','32','85','12','53','69','mindful');
+aData['100535'] = new Array('246','362','796','901','644','372','269','316','847','80','524','505','870','571','565','459','177','282','887','516','54','553','Lemon Vegan Eggs','vegan cheddar roasted oatmeal beans basil chicken salsa.','52','96','12','1','66','85','vegetarian');
+aData['100536'] = new Array('147','241','530','813','88','211','79','744','54','606','93','639','874','252','67','975','656','742','41','52','148','545','Bagel','eggs oatmeal granola garlic garlic salmon.','14','31','58','77','20','71','');
+aData['100537'] = new Array('588','901','888','280','294','952','972','968','658','427','287','496','376','637','730','420','670','820','523','313','258','489','Salmon','berry cheddar eggs broccoli kale berry herb kale vegan tomato.','94','78','35','54','61','47','vegetarian');
+aData['100538'] = new Array('990','540','224','109','213','242','638','991','516','685','173','476','586','465','71','581','781','311','599','643','967','548','Beef Spicy Grilled','ginger waffles spicy grilled carrot curry basil.','22','10','99','50','90','17','vegetarian vegan');
+aData['100539'] = new Array('800','684','715','557','128','940','659','42','426','133','35','676','240','793','822','45','52','690','425','633','791','722','Bagel Eggs Salsa Carrot','vegan berry pesto waffles mushroom berry roasted bagel.','14','43','93','24','54','92','mindful');
+aData['100540'] = new Array('797','636','136','785','150','856','203','665','183','308','258','221','480','392','646','805','282','511','797','95','910','409','Penne Lemon Ginger','waffles teriyaki basil tofu carrot.','62','52','99','98','76','47','gluten vegan');
+aData['100541'] = new Array('921','373','131','384','807','933','981','299','32','175','593','880','306','364','0','995','518','354','258','655','685','11','Pork Yogurt Yogurt','salmon chicken rice berry ginger bagel ginger vegan oatmeal.','98','15','15','11','90','56','');
+aData['100542'] = new Array('210','530','474','564','96','558','873','845','593','727','346','583','696','706','89','34','653','359','244','159','593','139','Tofu Salmon','penne waffles waffles pancakes scrambled teriyaki beef spicy berry eggs pesto eggs.','33','5','18','1','4','21','vegan');
+aData['100543'] = new Array('284','232','315','378','559','844','98','760','614','637','275','281','156','259','510','904','153','839','476','567','58','252','Berry Pancakes','basil tomato tofu roasted garlic berry.','11','9','49','2','13','67','');
+aData['100544'] = new Array('227','167','68','738','305','806','175','708','661','870','471','209','651','839','629','114','676','560','906','348','433','231','Tomato','penne ginger scrambled sweet rice.','0','93','38','97','26','9','');
+aData['100545'] = new Array('838','592','231','461','901','299','677','871','91','658','794','392','223','474','260','642','793','967','858','984','510','546','Ginger Sesame Yogurt','sesame pancakes pesto pesto curry pork ginger cheddar potato oatmeal.','1','65','19','91','37','81','vegetarian');
+aData['100546'] = new Array('384','993','738','156','636','368','766','809','267','978','962','819','554','583','531','618','166','334','485','553','753','226','Granola Bbq','vegan cheddar quinoa tomato eggs oatmeal.','4','87','27','33','58','10','gluten');
+aData['100547'] = new Array('786','157','81','653','143','658','120','146','280','776','650','337','61','37','938','820','187','156','693','429','322','714','Pancakes Carrot Roasted','carrot tofu bbq grilled salmon pork basil mushroom cheddar.','95','88','5','4','16','71','');
+aData['100548'] = new Array('653','264','19','362','636','290','509','345','58','374','418','366','433','656','707','672','577','445','614','625','272','663','Quinoa Salsa','rice waffles sweet lemon grilled.','22','30','45','32','42','72','gluten');
+aData['100549'] = new Array('723','194','327','812','449','441','240','861','137','7','645','523','98','221','977','406','166','100','531','594','79','603','Pesto Broccoli','beans curry penne berry rice ginger ginger.','47','69','17','89','32','46','');
+aData['100550'] = new Array('250','558','240','985','607','157','335','501','322','149','778','307','846','168','487','328','757','195','394','279','995','418','Garlic Salsa','vegan curry vegan oatmeal grilled salmon salmon vegan cheddar curry tomato.','28','76','93','14','47','48','');
+aData['100551'] = new Array('980','441','44','93','344','33','997','462','737','39','989','845','481','853','837','549','450','377','380','579','399','73','Bagel Cheddar Rice Granola','broccoli spicy bagel salsa sweet vegan.','74','68','44','54','59','79','');
+aData['100552'] = new Array('757','639','854','842','421','619','60','189','619','142','384','882','83','777','587','199','787','717','295','514','941','745','Tofu Scrambled Roasted Grilled','granola waffles salsa ginger vegan curry grilled tomato eggs yogurt waffles yogurt.','0','86','64','30','35','47','');
+aData['100553'] = new Array('609','201','303','302','270','352','976','994','788','350','842','52','813','32','729','758','495','135','833','582','366','624','Spicy','spicy garlic herb bbq basil yogurt lemon herb pesto bbq grilled potato.','57','0','87','82','78','93','vegan');
+aData['100554'] = new Array('424','684','752','700','865','247','630','176','648','530','146','369','17','132','428','842','699','439','125','192','989','330','Pancakes','bbq pancakes curry vegan waffles ginger.','91','14','73','51','83','42','vegan');
+aData['100555'] = new Array('473','605','929','545','378','802','882','612','200','641','189','912','65','907','246','548','308','765','411','866','750','825','Sweet','broccoli waffles kale scrambled bbq berry rice tomato quinoa berry yogurt penne.','96','23','59','97','65','54','vegetarian');
+aData['100556'] = new Array('316','473','123','829','583','797','994','206','589','817','37','840','139','456','53','767','595','196','336','924','980','75','Yogurt','granola scrambled tomato basil kale pancakes broccoli.','9','58','20','11','34','41','vegan gluten');
+aData['100557'] = new Array('282','311','780','480','22','796','710','719','364','937','971','814','682','798','98','187','921','657','434','287','25','59','Yogurt Kale Rice Salmon','basil potato beans spicy grilled berry bbq.','8','26','35','71','24','45','gluten vegan');
+aData['100558'] = new Array('212','628','538','400','879','364','244','685','10','435','521','322','696','681','912','256','55','215','779','629','537','7','Pancakes','granola eggs sweet tomato yogurt.','37','17','81','87','97','94','vegetarian');
+aData['100559'] = new Array('263','880','865','21','645','762','745','924','879','354','125','270','384','195','324','220','426','896','179','143','713','508','Granola Carrot','vegan pesto grilled oatmeal mushroom.','81','54','33','41','75','18','mindful vegetarian');
+aData['100560'] = new Array('126','225','739','183','911','588','21','817','941','298','688','865','618','195','757','315','590','71','206','667','402','123','Bbq','waffles sweet mushroom herb spicy salsa.','57','85','72','85','71','37','mindful');
+aData['100561'] = new Array('945','200','854','336','326','248','332','164','111','422','461','492','612','611','129','384','427','320','587','313','41','846','Grilled','mushroom tofu sesame teriyaki penne broccoli curry potato.','35','41','81','9','19','10','vegetarian');
+aData['100562'] = new Array('882','195','6','878','871','129','721','932','581','894','623','644','389','723','752','859','14','705','634','188','984','435','Sesame Carrot','granola salmon salmon kale.','17','94','61','42','99','9','mindful');
+aData['100563'] = new Array('274','900','507','878','473','45','117','951','78','361','662','848','789','978','52','137','199','989','760','898','207','235','Scrambled Mushroom Salsa','mushroom salsa rice carrot vegan chicken waffles beans.','50','35','19','50','64','59','');
+aData['100564'] = new Array('665','405','60','620','198','252','860','1','635','41','797','615','232','213','919','971','289','849','340','661','934','166','Tofu Basil','bbq sweet pork eggs roasted yogurt.','51','1','65','22','94','93','gluten');
+aData['100565'] = new Array('755','86','333','604','977','192','151','870','869','240','855','851','188','257','289','54','244','504','320','943','304','590','Yogurt Kale','lemon scrambled bagel oatmeal grilled sweet scrambled.','60','58','81','12','44','59','mindful');
+aData['100566'] = new Array('433','824','618','5','486','36','349','41','10','297','699','737','603','840','112','30','396','85','231','132','925','794','Oatmeal Cheddar','broccoli berry cheddar pancakes curry salsa bagel eggs.','74','94','64','2','8','16','vegetarian');
+aData['100567'] = new Array('170','595','825','589','200','791','777','350','524','784','366','275','342','794','645','671','87','525','867','729','397','639','Sweet Teriyaki Salsa','mushroom spicy berry roasted tofu.','98','64','7','63','25','57','');
+aData['100568'] = new Array('744','811','986','879','918','12','359','179','676','933','437','587','370','167','673','347','107','247','307','308','922','2','Bagel','ginger yogurt roasted teriyaki herb.','62','60','62','78','73','37','');
+aData['100569'] = new Array('302','538','637','250','424','30','923','409','428','412','644','817','79','463','768','134','701','587','139','81','615','324','Herb Broccoli Chicken Granola','berry ginger beef sweet herb chicken chicken eggs.','18','25','52','83','61','7','');
+aData['100570'] = new Array('286','551','759','566','779','309','430','886','281','757','258','6','393','920','283','768','261','177','489','247','970','819','Chicken Quinoa Broccoli','scrambled penne salsa salsa basil berry garlic waffles yogurt pancakes.','34','65','8','86','34','94','vegan');
+aData['100571'] = new Array('432','451','280','559','829','235','408','144','468','502','682','589','613','442','994','978','880','112','938','759','552','30','Pancakes Grilled Beans','quinoa bagel bbq sesame beans herb yogurt.','75','80','35','49','48','59','mindful vegan');
+aData['100572'] = new Array('239','941','662','204','527','324','609','239','123','396','334','335','670','112','798','653','465','130','8','465','215','781','Curry Sweet Quinoa Curry','scrambled lemon carrot eggs kale berry herb mushroom teriyaki bbq basil.','58','54','51','57','88','7','vegetarian gluten');
+aData['100573'] = new Array('355','211','256','930','405','947','913','718','588','642','740','492','951','985','78','30','35','693','80','970','824','706','Curry Bbq Pesto Kale','potato broccoli granola eggs potato sweet eggs pancakes herb.','86','46','31','48','22','17','vegan');
+aData['100574'] = new Array('205','922','153','687','81','339','659','99','907','80','835','847','166','359','179','92','582','310','612','942','875','601','Grilled Penne','rice broccoli scrambled garlic pork bagel vegan pancakes spicy granola.','82','18','79','7','27','84','mindful');
+aData['100575'] = new Array('992','1','387','536','126','148','801','162','364','181','424','264','558','795','251','471','215','877','174','988','644','760','Herb Roasted Scrambled Penne','roasted beans kale grilled bagel tofu penne sweet teriyaki granola eggs.','27','19','98','19','8','15','');
+aData['100576'] = new Array('174','148','242','546','745','112','147','443','511','611','902','438','572','643','380','32','564','894','195','755','843','781','Curry Tomato Broccoli','tofu garlic tofu basil bagel beef tofu penne.','79','55','25','77','38','82','mindful gluten');
+aData['100577'] = new Array('207','468','596','119','796','112','94','336','919','535','671','291','132','134','887','771','685','768','868','328','971','964','Tofu Quinoa','scrambled pancakes granola beans carrot beans.','11','46','99','15','56','88','');
+aData['100578'] = new Array('22','692','973','503','908','328','479','569','111','467','75','450','730','278','735','473','175','106','995','17','23','924','Carrot','herb basil herb quinoa berry broccoli eggs tomato carrot cheddar.','45','68','46','74','52','58','');
+aData['100579'] = new Array('776','113','764','836','165','487','785','115','100','170','588','704','828','218','925','561','420','557','494','469','441','851','Pancakes Beef Kale','roasted roasted broccoli penne salsa herb scrambled berry cheddar quinoa teriyaki.','30','27','4','52','40','23','gluten mindful');
+aData['100580'] = new Array('526','436','717','929','455','810','975','392','330','845','729','666','861','991','749','843','999','157','407','92','564','117','Grilled Penne Bbq Beef','spicy grilled carrot chicken penne pancakes pork.','96','39','57','43','68','15','');
+aData['100581'] = new Array('12','758','819','869','179','13','671','664','207','944','494','116','291','764','923','584','53','944','525','191','272','324','Pesto Teriyaki','penne salsa kale salsa berry carrot penne scrambled penne spicy bbq beef.','41','85','37','30','13','41','mindful');
+aData['100582'] = new Array('663','138','840','689','689','883','387','942','245','451','731','917','945','177','247','352','580','961','160','327','36','211','Salsa Quinoa Tofu','teriyaki beans cheddar teriyaki teriyaki tofu.','33','55','49','68','55','7','');
+aData['100583'] = new Array('126','76','861','582','655','389','389','982','137','432','934','214','960','783','602','173','610','771','594','816','766','134','Beef Lemon','salmon lemon kale teriyaki vegan pancakes grilled mushroom lemon scrambled eggs basil.','83','11','9','54','52','83','vegan gluten');
+aData['100584'] = new Array('565','294','293','532','153','164','72','770','233','445','555','258','172','710','346','393','242','466','105','12','183','447','Ginger Chicken Vegan Pork','pork oatmeal potato lemon.','99','15','19','94','47','45','');
+aData['100585'] = new Array('446','504','460','643','443','62','910','52','82','496','83','756','404','194','963','316','471','136','688','732','508','992','Salmon Ginger Sweet Herb','beans lemon basil cheddar scrambled tomato berry basil ginger granola herb.','28','26','15','92','81','32','vegan gluten');
+aData['100586'] = new Array('863','483','904','213','729','216','956','839','1','382','787','749','943','519','635','860','532','535','530','46','519','881','Pork Waffles Pesto Waffles','sesame chicken sesame pesto broccoli granola pancakes bagel.','5','48','33','6','18','34','vegetarian');
+aData['100587'] = new Array('667','613','623','308','386','514','320','43','447','431','124','19','227','360','189','851','634','899','403','364','304','923','Kale Penne Pancakes Granola','salsa basil salmon penne penne beans oatmeal potato sesame spicy curry beans.','88','77','10','80','18','75','vegetarian');
+aData['100588'] = new Array('736','656','970','105','395','513','8','60','782','613','244','391','850','557','663','721','335','130','943','540','660','469','Quinoa','scrambled garlic roasted mushroom tomato broccoli yogurt lemon broccoli.','9','14','18','13','1','69','');
+aData['100589'] = new Array('2','334','377','881','298','545','110','876','40','348','545','789','410','762','244','205','647','48','219','524','463','103','Herb Pancakes','teriyaki pork tomato potato broccoli.','69','29','34','35','11','57','mindful gluten');
+aData['100590'] = new Array('620','459','263','135','599','882','129','74','19','422','859','130','518','274','548','599','622','545','546','336','613','494','Lemon Beef Sweet','sweet lemon tomato eggs bagel tofu pancakes kale chicken waffles tomato.','6','17','38','60','36','57','gluten');
+aData['100591'] = new Array('94','679','545','514','656','240','125','125','152','692','641','189','721','815','782','275','346','271','422','550','357','1','Herb','quinoa granola rice garlic yogurt bbq.','54','78','2','66','61','45','gluten');
+aData['100592'] = new Array('827','220','602','287','195','545','781','252','586','948','233','595','152','540','926','676','926','119','392','23','498','85','Broccoli','pancakes vegan penne grilled quinoa teriyaki spicy kale berry mushroom teriyaki waffles.','87','4','98','76','3','60','');
+aData['100593'] = new Array('737','674','596','114','724','658','419','672','834','954','218','648','639','396','698','574','647','435','252','467','96','998','Lemon Basil Mushroom','mushroom herb chicken carrot granola ginger salsa.','79','45','97','82','15','2','mindful vegetarian');
+aData['100594'] = new Array('987','723','896','933','510','737','824','157','323','776','204','45','503','414','740','258','582','240','583','895','812','548','Salsa','tomato vegan ginger lemon.','32','72','39','54','0','64','mindful');
+aData['100595'] = new Array('769','662','303','758','486','809','848','418','461','607','561','370','919','168','695','236','217','798','87','244','991','519','Beans Beef','penne eggs bbq cheddar bbq chicken rice vegan oatmeal granola.','68','50','46','45','8','47','gluten');
+aData['100596'] = new Array('990','46','180','120','10','821','254','703','44','395','854','69','184','103','820','785','621','692','946','751','765','222','Mushroom Basil Basil Sweet','beef pancakes lemon penne yogurt bagel waffles pesto pork waffles scrambled.','96','28','11','14','45','85','vegetarian mindful');
+aData['100597'] = new Array('547','715','819','434','321','662','711','3','908','447','720','251','993','326','996','232','563','655','856','245','614','321','Teriyaki','rice carrot spicy quinoa berry sesame curry waffles garlic.','93','59','62','93','19','71','');
+aData['100598'] = new Array('345','761','851','334','193','932','915','16','112','750','742','942','813','918','980','37','150','292','567','497','235','460','Sweet','herb lemon bbq salmon vegan lemon carrot.','23','81','95','89','95','90','');
+aData['100599'] = new Array('186','847','1','195','3','244','212','968','754','452','692','211','628','731','506','320','380','359','932','510','421','961','Vegan Granola Ginger Bagel','herb cheddar pesto bbq yogurt salmon yogurt sweet roasted.','73','54','17','54','33','28','');
+aData['100600'] = new Array('50','645','466','780','714','694','304','755','509','568','581','549','411','987','30','113','121','161','111','761','2','660','Grilled Potato Herb Beef','bagel waffles ginger yogurt beans broccoli curry yogurt vegan.','26','33','19','85','54','81','vegetarian gluten');
+aData['100601'] = new Array('626','838','158','378','232','537','292','400','536','42','204','52','812','54','494','411','854','861','36','15','514','406','Granola Sesame Pork Basil','salsa pesto scrambled mushroom salsa beef vegan yogurt vegan vegan.','75','0','52','81','39','18','');
+aData['100602'] = new Array('609','841','925','281','694','734','323','828','754','83','794','615','141','94','50','683','163','239','568','553','151','129','Granola','pork teriyaki bbq berry tofu broccoli roasted quinoa rice garlic.','93','3','4','43','68','59','vegan');
+aData['100603'] = new Array('661','55','506','280','15','837','21','331','759','870','805','115','757','165','853','276','73','299','504','298','150','493','Broccoli Scrambled Pancakes Curry','sweet sesame bbq pesto grilled salmon spicy pesto penne vegan lemon salsa.','48','92','47','48','15','46','gluten vegetarian');
+aData['100604'] = new Array('429','65','176','752','474','99','649','967','694','379','515','257','221','679','215','262','80','369','45','807','829','938','Herb Salsa Salsa','tomato bbq mushroom oatmeal bbq garlic berry eggs.','16','41','39','16','83','44','mindful gluten');
+aData['100605'] = new Array('477','442','8','658','831','126','227','183','583','491','91','645','750','534','522','713','731','145','839','711','298','389','Pesto Tomato Spicy','potato pesto bbq beans.','2','86','63','33','79','96','vegetarian');
+aData['100606'] = new Array('821','825','449','721','362','112','679','904','371','136','281','316','779','76','997','837','726','49','613','466','358','958','Rice','roasted carrot bbq chicken mushroom cheddar basil.','71','43','23','70','24','84','gluten mindful');
+aData['100607'] = new Array('479','973','288','660','999','402','64','173','643','172','191','644','492','490','72','168','510','885','710','592','337','301','Mushroom Beef Ginger','roasted tofu basil pork waffles sweet salmon potato.','55','8','16','1','41','38','gluten mindful');
+aData['100608'] = new Array('885','390','122','127','918','442','26','674','978','309','25','992','279','834','237','558','178','351','648','254','437','891','Kale Carrot Lemon Lemon','ginger eggs penne roasted pancakes rice lemon bbq rice sweet kale.','91','38','5','10','21','70','vegetarian');
+aData['100609'] = new Array('736','741','951','788','407','814','226','370','923','367','893','82','816','747','884','681','434','652','510','126','713','174','Rice Tofu Kale Eggs','penne beans beans chicken beans.','32','98','99','8','80','4','vegan gluten');
+aData['100610'] = new Array('1','394','221','190','619','424','596','278','977','564','525','224','466','580','182','155','290','291','517','525','581','690','Pesto Lemon','cheddar pesto curry spicy oatmeal.','0','15','66','86','61','42','');
+aData['100611'] = new Array('784','344','959','395','676','436','67','247','55','561','353','703','561','514','124','208','697','852','794','587','12','41','Beans Salmon Curry Tomato','scrambled spicy tomato garlic chicken pesto carrot lemon.','73','91','94','1','82','46','gluten vegan');
+aData['100612'] = new Array('562','399','976','846','568','211','125','711','197','968','469','511','939','27','917','324','157','13','738','139','272','613','Spicy','salmon tofu eggs grilled salmon tomato eggs.','52','87','13','84','93','37','vegetarian mindful');
+aData['100613'] = new Array('618','781','856','917','160','432','865','841','744','381','100','242','833','945','925','441','102','726','309','379','254','495','Potato Teriyaki','yogurt spicy quinoa yogurt yogurt chicken sesame cheddar curry.','47','38','19','80','81','10','vegan gluten');
+aData['100614'] = new Array('521','587','807','562','344','22','726','547','579','212','174','772','838','247','655','206','304','804','141','74','392','741','Mushroom','grilled curry beans vegan rice yogurt quinoa spicy mushroom rice.','55','46','87','11','85','83','gluten vegetarian');
+aData['100615'] = new Array('269','532','449','825','427','808','761','27','352','738','724','458','210','112','793','113','37','521','678','777','693','760','Lemon Berry Sweet Mushroom','potato chicken berry rice rice carrot yogurt carrot penne broccoli yogurt spicy.','78','26','73','0','60','63','');
+aData['100616'] = new Array('408','490','154','980','966','828','677','0','720','660','509','860','102','148','433','911','48','793','18','206','162','648','Scrambled Chicken','berry potato basil berry waffles spicy curry chicken grilled teriyaki basil.','84','76','73','92','42','5','vegetarian');
+aData['100617'] = new Array('221','114','949','217','182','992','485','626','143','361','934','302','600','167','486','611','494','695','9','34','422','58','Broccoli','beans beans yogurt bagel kale cheddar eggs vegan mushroom beans.','58','54','98','57','24','5','mindful');
+aData['100618'] = new Array('516','709','529','508','482','464','410','790','156','54','165','303','161','194','5','248','967','398','243','535','108','187','Ginger Grilled Ginger Scrambled','garlic bagel spicy tomato chicken salsa pesto salsa waffles berry scrambled potato.','49','81','44','47','63','8','');
+aData['100619'] = new Array('192','151','933','712','367','892','223','335','992','981','324','156','883','871','519','411','554','889','91','433','430','609','Granola Oatmeal','roasted roasted vegan carrot herb berry granola roasted grilled.','9','34','26','17','43','2','gluten');
+aData['100620'] = new Array('452','587','677','74','942','235','777','970','761','543','428','197','569','705','971','767','738','739','348','138','419','595','Chicken Herb Yogurt Spicy','pork waffles basil bbq tofu bbq spicy grilled potato scrambled.','18','87','7','46','67','62','vegan');
+aData['100621'] = new Array('856','308','241','753','263','424','853','846','204','889','517','473','278','936','62','176','353','260','963','968','406','250','Kale Granola Chicken Teriyaki','pesto chicken spicy cheddar beef cheddar granola beans eggs tomato potato.','57','81','34','1','15','57','mindful gluten');
+aData['100622'] = new Array('114','29','863','790','513','11','291','751','669','846','721','860','4','331','508','692','133','300','175','476','981','84','Bagel Lemon','sesame kale mushroom herb grilled beans penne.','76','13','98','5','62','65','');
+aData['100623'] = new Array('52','321','608','572','822','428','333','119','471','847','866','376','728','19','608','270','349','132','87','93','3','100','Sweet Eggs','salsa tofu roasted bbq herb granola yogurt vegan tofu sesame.','49','67','30','92','77','36','vegetarian vegan');
+aData['100624'] = new Array('992','716','239','407','608','909','425','743','838','229','665','412','239','475','753','134','557','214','390','978','18','355','Spicy Granola','chicken pancakes spicy pork teriyaki.','77','93','91','68','44','60','');
+aData['100625'] = new Array('707','805','392','200','175','97','190','927','971','700','773','156','402','194','706','795','702','677','417','753','40','591','Vegan Penne Berry','pancakes bbq potato berry garlic.','57','21','7','25','91','54','mindful');
+aData['100626'] = new Array('629','129','967','351','832','128','995','151','220','738','445','464','997','621','506','321','265','845','196','728','64','637','Garlic Berry Garlic Basil','berry quinoa bagel scrambled vegan oatmeal roasted berry carrot quinoa mushroom ginger.','13','58','71','35','48','21','mindful');
+aData['100627'] = new Array('54','435','370','609','487','627','987','54','511','578','835','483','92','769','678','146','834','543','837','544','631','275','Vegan Ginger Teriyaki Carrot','vegan salmon yogurt eggs.','45','10','42','44','61','64','vegan vegetarian');
+aData['100628'] = new Array('79','595','835','874','461','236','772','838','889','867','547','373','854','162','435','608','280','166','278','146','761','641','Quinoa','pesto sesame spicy tofu.','75','47','58','24','82','73','mindful');
+aData['100629'] = new Array('287','603','996','52','535','182','354','371','604','968','724','178','270','872','119','466','225','143','627','266','59','164','Spicy Potato','cheddar herb mushroom scrambled.','82','99','21','54','92','22','vegan');
+aData['100630'] = new Array('253','642','678','169','559','489','952','128','233','421','280','798','297','6','841','375','726','622','164','425','952','960','Waffles Quinoa','mushroom grilled quinoa berry penne granola grilled.','67','29','69','52','34','22','vegetarian');
+aData['100631'] = new Array('279','492','821','233','464','275','843','889','815','132','960','627','280','892','916','280','259','695','78','989','407','162','Granola Sweet Tofu','vegan chicken eggs eggs pancakes pancakes eggs cheddar garlic pork.','93','55','7','73','57','86','');
+aData['100632'] = new Array('114','575','360','104','372','118','507','174','275','435','662','623','535','906','239','17','647','34','292','931','589','951','Eggs Broccoli Grilled','tofu yogurt quinoa quinoa basil berry.','43','3','81','42','13','87','mindful gluten');
+aData['100633'] = new Array('892','853','261','89','61','357','759','453','484','625','520','438','107','83','518','521','535','279','969','945','218','330','Scrambled Garlic','oatmeal ginger grilled pork rice.','76','63','3','48','67','23','mindful');
+aData['100634'] = new Array('249','21','233','32','976','320','902','229','322','892','769','162','817','211','429','532','730','194','14','395','833','644','Salmon Potato','granola curry garlic lemon vegan pork oatmeal mushroom potato salmon kale bagel.','73','26','52','54','54','10','gluten mindful');
+aData['100635'] = new Array('357','436','621','87','931','906','134','402','499','840','589','70','950','264','120','212','119','694','512','930','687','815','Yogurt Waffles Grilled Salmon','kale pork broccoli tomato vegan kale pork berry vegan quinoa vegan.','54','11','34','93','89','93','vegan');
+aData['100636'] = new Array('859','69','947','124','646','916','424','982','195','473','690','431','560','285','995','619','658','698','904','384','832','423','Pork','beef sesame scrambled mushroom yogurt garlic rice ginger cheddar.','93','43','89','85','9','51','');
+aData['100637'] = new Array('687','50','323','564','333','584','46','321','781','128','29','967','309','907','27','172','852','783','39','65','199','240','Yogurt Vegan Chicken Pancakes','granola vegan vegan bagel basil beans salsa vegan cheddar.','89','64','33','36','70','79','');
+aData['100638'] = new Array('112','142','170','379','112','89','553','615','413','736','904','188','122','992','922','670','775','365','665','170','997','216','Spicy Cheddar','bbq salsa berry pork berry beans.','79','4','6','44','52','93','vegetarian mindful');
+aData['100639'] = new Array('928','180','551','186','785','780','208','658','404','309','158','990','903','980','518','84','655','230','922','114','907','773','Salsa Pancakes Garlic Bagel','tofu spicy quinoa yogurt potato lemon penne roasted pancakes sweet sweet spicy.','83','45','87','49','40','70','mindful gluten');
+aData['100640'] = new Array('167','317','745','544','210','70','679','893','500','689','771','440','947','58','920','983','33','251','276','572','909','205','Potato Oatmeal','granola salmon beef quinoa mushroom yogurt sweet garlic pesto.','68','70','37','45','47','24','gluten');
+aData['100641'] = new Array('62','729','781','2','153','901','986','763','176','213','327','408','841','173','666','516','112','764','288','696','419','459','Tofu Cheddar','beans penne basil teriyaki herb mushroom oatmeal ginger.','44','94','49','95','12','65','vegetarian');
+aData['100642'] = new Array('497','638','483','669','117','789','878','640','925','842','376','478','726','161','941','610','859','920','120','443','718','472','Waffles Cheddar Salsa','garlic sweet beans kale basil cheddar curry bbq grilled pork mushroom.','3','67','29','88','13','5','mindful');
+aData['100643'] = new Array('653','799','436','667','883','301','187','443','629','43','526','252','408','882','4','362','980','495','390','618','818','846','Salmon Salmon Roasted Sweet','eggs roasted bagel cheddar tofu pork.','62','13','77','12','81','59','gluten');
+aData['100644'] = new Array('133','64','705','242','623','939','647','874','152','41','870','353','337','487','586','826','240','585','171','894','806','293','Roasted Lemon Carrot Pancakes','bagel mushroom chicken carrot mushroom cheddar.','85','37','98','29','76','18','gluten');
+aData['100645'] = new Array('439','997','179','418','255','582','309','241','716','535','918','506','999','885','967','166','23','904','734','855','730','382','Rice Mushroom Grilled Rice','mushroom teriyaki vegan oatmeal tomato herb.','77','89','75','89','22','62','mindful vegan');
+aData['100646'] = new Array('388','847','5','622','529','582','200','677','84','818','361','149','632','272','543','339','53','863','887','119','978','857','Salmon Garlic Beans','sesame chicken beef yogurt garlic sweet.','14','46','29','99','19','70','gluten');
+aData['100647'] = new Array('0','330','456','298','187','88','84','59','405','619','315','272','573','475','918','610','346','578','246','620','863','858','Mushroom Grilled Grilled','teriyaki grilled beef granola chicken.','28','49','9','90','57','10','');
+aData['100648'] = new Array('106','267','128','525','303','483','948','822','767','893','829','495','120','502','919','11','922','308','345','582','930','567','Mushroom Sweet Tofu','pesto oatmeal pesto basil cheddar potato scrambled sweet tofu beef sweet.','28','16','43','31','86','29','vegetarian gluten');
+aData['100649'] = new Array('874','889','308','144','98','272','430','258','725','818','169','380','419','276','201','528','761','924','626','776','980','983','Curry','curry bagel carrot pancakes broccoli roasted bagel ginger.','88','52','57','53','83','39','vegan');
+aData['100650'] = new Array('534','812','305','274','723','642','400','160','221','433','318','74','585','8','803','320','651','366','800','678','328','192','Bagel Teriyaki','vegan basil herb basil berry penne garlic quinoa berry rice bbq.','1','66','27','22','63','88','');
+aData['100651'] = new Array('626','178','412','901','463','535','456','228','774','551','300','162','780','995','987','810','102','794','101','610','928','874','Basil Broccoli','carrot herb mushroom pancakes roasted granola scrambled yogurt grilled sesame herb.','54','11','6','77','58','66','vegan');
+aData['100652'] = new Array('436','399','919','649','268','589','488','743','394','804','668','472','912','898','724','732','806','784','189','454','857','426','Lemon','pancakes waffles ginger kale garlic beans berry grilled.','86','45','45','22','19','69','gluten vegetarian');
+aData['100653'] = new Array('24','869','862','580','341','583','627','673','504','388','282','524','633','404','16','549','558','956','343','372','412','483','Cheddar Rice','scrambled potato penne chicken.','7','13','57','94','64','6','vegan');
+aData['100654'] = new Array('936','271','898','862','28','554','792','124','518','275','435','699','890','383','889','480','868','628','925','631','342','810','Chicken Tomato Oatmeal','carrot beans kale pesto bagel garlic roasted curry penne bagel.','59','39','83','51','54','86','gluten vegan');
+aData['100655'] = new Array('190','204','111','810','481','749','683','305','818','241','813','586','822','934','936','992','649','287','355','574','206','385','Teriyaki Tofu','vegan ginger vegan tofu bagel penne penne pork broccoli oatmeal bbq.','19','49','70','82','59','50','gluten mindful');
+aData['100656'] = new Array('96','224','890','658','130','988','260','603','724','356','697','390','797','742','531','836','958','754','149','834','319','677','Beef Roasted','carrot granola salsa carrot grilled carrot sesame pork chicken ginger.','52','70','39','6','21','70','');
+aData['100657'] = new Array('137','936','814','548','48','818','563','224','873','403','155','598','133','576','269','221','416','806','63','631','432','416','Potato Spicy Eggs','granola cheddar bbq eggs basil scrambled lemon.','3','18','39','58','58','29','vegetarian vegan');
+aData['100658'] = new Array('253','494','959','399','711','292','711','742','33','673','488','516','386','358','631','995','875','110','161','627','560','296','Berry Roasted','bagel penne roasted oatmeal beans chicken granola oatmeal beef.','48','75','89','41','1','97','vegan gluten');
+aData['100659'] = new Array('984','374','790','514','54','846','800','977','870','448','87','957','735','258','604','223','372','177','480','307','651','251','Salsa Granola Chicken','carrot oatmeal granola tofu tomato vegan ginger.','46','32','44','7','49','74','');
+aData['100660'] = new Array('664','633','954','834','112','956','106','71','483','383','372','260','817','365','903','53','793','182','506','960','707','401','Salsa','potato waffles quinoa teriyaki pancakes spicy.','64','56','11','98','95','95','vegetarian gluten');
+aData['100661'] = new Array('303','969','719','678','992','539','629','189','662','377','478','960','582','28','678','279','369','701','236','557','101','969','Sesame','teriyaki ginger bbq broccoli tofu.','91','99','60','46','17','18','');
+aData['100662'] = new Array('917','561','72','104','309','997','195','811','187','11','936','523','878','135','609','176','911','508','884','348','227','342','Cheddar Berry Ginger','penne eggs pancakes scrambled beef beans teriyaki tofu pesto bbq.','49','94','74','24','14','50','mindful vegan');
+aData['100663'] = new Array('650','260','563','610','49','618','81','834','55','292','951','392','646','503','844','230','824','84','450','550','612','708','Pancakes Sweet Penne','salmon garlic curry salsa tomato carrot pesto salmon bbq.','89','44','94','44','58','17','');
+aData['100664'] = new Array('760','660','580','423','388','164','168','636','410','25','543','206','416','399','630','586','566','395','622','182','207','297','Carrot Roasted Beef','sesame lemon pancakes mushroom scrambled mushroom salmon potato pesto potato.','58','25','55','22','33','17','');
+aData['100665'] = new Array('528','739','559','752','750','615','410','595','685','201','286','903','197','967','742','817','382','651','669','616','402','351','Lemon Basil Pancakes Pesto','herb granola sweet quinoa beans beef waffles carrot sweet.','84','74','99','18','12','6','');
+aData['100666'] = new Array('635','161','364','138','195','774','762','507','674','69','43','120','442','730','620','261','623','964','955','676','499','968','Bbq Beef','chicken garlic curry salsa.','54','44','66','92','18','58','vegetarian');
+aData['100667'] = new Array('776','484','991','123','457','662','642','550','470','78','859','652','222','729','409','652','893','60','289','506','155','995','Cheddar Carrot Sesame Mushroom','pork yogurt beef waffles.','70','7','30','44','44','53','');
+aData['100668'] = new Array('66','891','849','672','975','669','310','386','917','284','350','511','282','716','89','639','175','140','277','52','615','884','Beef Tomato Yogurt Salsa','cheddar potato kale garlic eggs teriyaki salmon yogurt bagel.','54','62','66','67','41','79','vegetarian gluten');
+aData['100669'] = new Array('776','90','273','496','495','737','277','618','392','608','304','568','635','950','532','546','298','250','205','458','500','936','Kale Roasted Tofu Garlic','vegan curry carrot quinoa ginger roasted.','64','41','59','89','58','88','');
+aData['100670'] = new Array('177','244','443','168','647','59','182','704','797','631','634','66','834','399','793','572','985','490','292','917','371','365','Lemon Eggs Beans Beans','salmon ginger bbq herb curry roasted roasted teriyaki kale bbq mushroom.','39','99','27','4','91','3','mindful');
+aData['100671'] = new Array('96','957','664','580','559','460','693','773','186','874','829','931','943','239','793','87','284','714','606','271','459','790','Kale','potato penne bagel yogurt curry.','47','39','4','47','76','45','');
+aData['100672'] = new Array('672','106','472','288','751','722','468','361','467','907','423','96','269','85','27','2','148','731','62','75','275','760','Herb','garlic granola garlic grilled.','45','59','80','48','98','72','vegetarian gluten');
+aData['100673'] = new Array('137','383','482','91','789','601','616','798','137','263','443','642','856','36','676','466','320','465','446','239','862','940','Sweet Pork','oatmeal oatmeal chicken cheddar sesame yogurt vegan cheddar sesame garlic penne lemon.','62','73','65','10','29','6','');
+aData['100674'] = new Array('897','42','450','924','677','34','42','908','102','126','978','234','452','435','737','241','464','884','221','548','809','118','Potato Teriyaki Cheddar','sweet rice teriyaki waffles ginger cheddar bagel beans penne carrot basil scrambled.','89','7','36','60','26','65','vegan');
+aData['100675'] = new Array('561','547','859','554','178','939','800','663','210','138','28','319','277','969','604','82','715','392','112','772','308','642','Teriyaki Potato Salsa','curry tofu eggs curry bagel curry yogurt carrot cheddar sesame.','37','9','6','99','8','33','gluten');
+aData['100676'] = new Array('399','251','234','661','242','19','860','303','944','949','958','681','685','456','535','46','125','446','884','485','448','669','Vegan Spicy Tofu Oatmeal','garlic pork kale granola salmon cheddar salsa scrambled.','68','17','14','62','1','26','');
+aData['100677'] = new Array('939','385','925','333','796','177','96','706','749','12','397','313','991','144','688','415','841','921','666','856','177','760','Berry Bagel','potato rice salmon lemon bagel beef kale ginger roasted broccoli bbq.','28','52','89','33','53','50','vegetarian');
+aData['100678'] = new Array('750','49','836','403','787','93','210','447','878','536','542','225','31','332','251','304','757','390','230','260','337','775','Waffles','potato salmon tofu potato salsa bagel potato pesto yogurt.','67','48','76','73','90','55','vegetarian');
+aData['100679'] = new Array('32','893','183','367','578','925','93','767','107','341','600','215','130','538','734','33','90','903','761','211','808','636','Broccoli Potato','broccoli potato granola garlic grilled cheddar pork.','47','89','57','94','54','89','');
+aData['100680'] = new Array('827','199','0','976','904','454','773','35','161','631','759','35','966','61','799','472','803','77','798','456','603','836','Herb Pancakes Spicy','bagel pesto garlic pancakes chicken herb pork carrot.','70','80','68','71','91','17','vegetarian mindful');
+aData['100681'] = new Array('0','393','526','36','80','753','387','713','2','126','801','924','177','447','474','754','136','19','876','922','179','999','Bagel Eggs','broccoli lemon herb sweet yogurt beans lemon.','10','85','21','98','37','31','');
+aData['100682'] = new Array('688','458','991','980','847','97','955','807','319','848','792','422','77','257','195','70','520','173','851','840','965','793','Sesame Herb','grilled teriyaki chicken beef pancakes carrot sweet basil quinoa chicken berry eggs.','67','20','65','37','86','6','vegan');
+aData['100683'] = new Array('139','338','698','302','537','422','533','855','932','158','546','228','728','211','913','585','62','948','290','383','198','926','Vegan Vegan','tofu rice salmon vegan granola beans mushroom berry beef penne chicken.','29','23','75','44','75','32','gluten');
+aData['100684'] = new Array('370','284','131','404','528','439','63','557','949','828','52','92','276','714','48','19','872','317','692','755','837','266','Bagel','yogurt tomato penne oatmeal.','99','24','28','93','95','74','');
+aData['100685'] = new Array('445','123','106','925','269','687','615','287','157','451','511','601','0','224','899','380','101','622','539','306','678','6','Scrambled Herb Penne','eggs kale kale basil curry salmon beans pork quinoa granola.','25','42','48','96','46','13','mindful');
+aData['100686'] = new Array('590','769','133','475','148','848','896','755','120','891','738','365','950','15','389','184','115','2','423','537','437','431','Garlic Spicy Broccoli Granola','salsa beans yogurt berry salsa carrot potato granola eggs ginger garlic berry.','62','27','17','49','68','1','');
+aData['100687'] = new Array('817','376','293','520','443','25','975','729','494','141','393','181','155','333','953','275','85','577','809','274','326','482','Tomato Lemon Garlic Mushroom','rice herb bagel chicken grilled spicy garlic basil scrambled berry pork.','25','17','27','25','99','18','');
+aData['100688'] = new Array('113','812','844','546','793','278','569','863','428','603','578','148','11','301','395','506','560','86','341','427','247','153','Salsa','tofu cheddar broccoli pork grilled waffles.','11','53','81','31','84','68','vegetarian');
+aData['100689'] = new Array('915','65','985','323','581','759','62','856','929','770','465','216','540','42','326','30','706','45','68','672','123','859','Salmon Tomato','spicy curry quinoa tomato granola pesto scrambled eggs sesame sesame.','28','28','11','20','70','53','vegetarian');
+aData['100690'] = new Array('513','907','39','484','648','852','483','21','202','149','555','581','578','114','832','777','16','689','454','303','617','968','Herb Tomato Spicy','quinoa teriyaki chicken vegan yogurt sweet potato spicy scrambled tofu.','99','44','49','69','2','46','');
+aData['100691'] = new Array('529','529','574','843','74','49','112','237','590','702','21','958','576','75','114','491','10','548','438','486','191','46','Quinoa Quinoa Eggs','pesto chicken beans waffles.','80','26','43','48','46','38','vegan');
+aData['100692'] = new Array('474','623','6','245','655','340','455','638','436','256','314','890','423','295','643','645','360','323','458','698','203','775','Mushroom Waffles','beans vegan penne scrambled salsa pesto chicken carrot teriyaki.','48','16','49','40','33','46','');
+aData['100693'] = new Array('570','700','525','579','970','732','378','870','781','901','701','839','793','323','396','417','776','42','431','250','769','609','Herb Garlic Garlic Berry','beef eggs eggs pancakes potato vegan waffles curry beans sesame garlic kale.','73','81','5','68','13','35','');
+aData['100694'] = new Array('460','289','806','353','278','6','210','731','618','318','123','792','871','861','614','215','143','967','758','964','160','602','Herb Salsa Ginger','sweet vegan beans lemon eggs.','27','58','85','56','65','47','');
+aData['100695'] = new Array('456','69','925','438','17','915','751','400','14','711','979','753','23','485','363','681','743','355','240','93','927','169','Herb Potato Carrot','grilled vegan potato pesto mushroom penne pancakes.','49','27','29','89','97','75','');
+aData['100696'] = new Array('285','222','520','662','717','52','383','405','693','257','865','461','540','534','51','592','729','48','154','985','747','675','Sweet Vegan Lemon','herb ginger penne beans teriyaki broccoli curry oatmeal berry beans grilled.','92','32','17','7','59','57','mindful');
+aData['100697'] = new Array('922','55','457','645','391','581','612','867','527','792','688','687','236','453','884','265','41','729','762','957','412','120','Sesame Waffles Cheddar','basil berry kale spicy broccoli sweet grilled spicy.','80','41','99','44','15','4','');
+aData['100698'] = new Array('685','882','954','636','240','384','70','964','925','27','395','51','774','110','217','496','262','889','657','66','590','556','Pesto Rice','roasted yogurt salsa teriyaki yogurt salsa ginger yogurt basil roasted.','37','80','49','77','24','6','');
+aData['100699'] = new Array('557','53','876','548','681','674','764','725','989','835','487','438','471','523','702','36','824','952','290','646','302','201','Kale Lemon Vegan','teriyaki scrambled salmon broccoli beef curry beans beef quinoa.','58','51','67','2','2','20','vegan vegetarian');
+aData['100700'] = new Array('708','419','94','178','115','846','466','149','388','10','475','283','322','407','85','932','77','367','464','649','595','133','Vegan','quinoa pancakes tomato quinoa sweet basil tomato curry scrambled grilled berry granola.','14','27','57','71','88','73','vegan');
+aData['100701'] = new Array('767','771','714','507','442','768','788','544','73','97','334','979','818','689','983','985','709','788','671','305','745','329','Scrambled','tomato broccoli waffles bbq kale grilled scrambled tofu sweet tomato berry broccoli.','91','14','44','52','69','74','gluten vegetarian');
+aData['100702'] = new Array('372','353','3','819','236','752','136','539','372','168','319','924','518','39','114','884','278','173','979','724','421','91','Scrambled Grilled Chicken Chicken','bagel yogurt chicken chicken basil salmon quinoa cheddar broccoli beans bbq eggs.','19','30','50','19','22','9','vegetarian gluten');
+aData['100703'] = new Array('649','787','673','447','675','865','263','961','567','663','718','366','31','334','266','263','900','999','339','226','223','201','Waffles Ginger Cheddar','chicken roasted quinoa lemon berry oatmeal sweet.','1','57','25','13','87','88','');
+aData['100704'] = new Array('552','200','113','991','179','683','914','290','39','513','695','88','876','89','948','934','884','960','767','928','951','379','Granola Salsa','roasted potato sesame waffles eggs pork pork pesto yogurt pork salsa.','91','54','90','68','84','40','vegan');
+aData['100705'] = new Array('828','574','538','135','701','235','971','759','309','437','958','762','74','710','779','926','621','541','643','524','364','37','Tofu Pancakes Roasted Basil','ginger bagel tofu beans vegan oatmeal potato spicy sweet potato.','49','69','22','62','67','32','');
+aData['100706'] = new Array('254','489','901','85','131','982','133','119','505','174','100','476','535','128','683','810','914','187','142','92','625','624','Berry Granola','eggs garlic pesto sesame salmon sweet kale penne.','9','81','51','16','89','86','vegan');
+aData['100707'] = new Array('227','403','393','744','816','428','845','764','68','58','274','247','764','281','39','968','167','859','560','709','572','656','Chicken Broccoli Penne','kale mushroom carrot garlic spicy pesto curry mushroom tofu waffles spicy tofu.','3','80','93','15','42','79','mindful gluten');
+aData['100708'] = new Array('952','824','760','506','574','668','139','600','762','538','680','125','29','706','751','824','604','219','528','351','776','109','Cheddar Spicy Chicken','scrambled berry pancakes beef chicken bagel pesto ginger broccoli.','83','4','77','20','76','17','mindful');
+aData['100709'] = new Array('997','732','804','133','453','20','506','764','263','907','976','751','276','381','294','653','759','304','885','214','239','876','Grilled Beans Potato','oatmeal mushroom cheddar beef curry berry tofu tomato basil tofu pancakes salsa.','32','59','89','0','55','70','');
+aData['100710'] = new Array('805','594','636','942','926','288','664','390','180','388','216','72','165','304','412','424','913','252','720','813','598','759','Roasted','tomato pork sesame tofu quinoa vegan salmon curry pancakes.','62','99','6','77','43','88','vegan gluten');
+aData['100711'] = new Array('162','708','461','406','673','168','558','310','147','74','139','940','58','43','836','781','327','691','818','689','418','775','Mushroom Chicken','ginger pork basil salmon berry pesto beans roasted beef pork herb.','79','82','99','82','63','55','vegetarian');
+aData['100712'] = new Array('109','922','406','163','474','207','114','990','187','63','570','991','765','388','659','40','498','556','887','465','588','728','Basil Quinoa Granola','waffles broccoli basil waffles roasted cheddar penne curry beef scrambled.','36','65','14','48','95','63','mindful vegetarian');
+aData['100713'] = new Array('787','606','655','768','964','413','71','429','478','583','182','997','220','317','292','835','674','449','212','616','346','384','Basil Pancakes','eggs yogurt roasted potato kale tofu carrot.','83','66','12','59','66','88','vegetarian');
+aData['100714'] = new Array('687','185','648','92','652','108','443','195','449','646','941','887','623','533','673','142','466','220','461','579','769','377','Bbq Oatmeal Basil Curry','basil carrot chicken berry herb.','77','19','55','28','7','61','gluten vegetarian');
+aData['100715'] = new Array('369','344','895','630','568','977','741','136','226','488','756','266','832','607','773','751','979','725','853','687','167','153','Salsa','pork grilled beans lemon scrambled kale sesame grilled tofu tomato beef mushroom.','25','10','13','3','66','74','');
+aData['100716'] = new Array('375','890','857','318','863','804','722','936','256','543','451','269','726','32','382','795','430','894','215','229','63','538','Sweet Beans Cheddar','yogurt bbq lemon vegan basil.','72','32','6','91','51','98','');
+aData['100717'] = new Array('167','689','832','183','922','745','127','979','994','579','511','465','109','33','895','656','783','812','565','479','335','25','Broccoli Spicy Quinoa Broccoli','berry cheddar yogurt curry salmon eggs roasted teriyaki potato.','43','41','96','68','81','10','vegan');
+aData['100718'] = new Array('961','958','578','450','12','633','214','568','683','496','209','306','975','515','128','976','507','277','995','434','370','678','Salmon Rice Vegan','quinoa potato curry roasted chicken oatmeal.','86','66','68','84','10','66','vegetarian mindful');
+aData['100719'] = new Array('826','441','288','502','223','819','764','443','237','719','537','918','907','729','336','697','288','597','7','581','90','119','Sesame','waffles garlic tofu roasted bagel curry.','93','35','54','98','3','25','gluten');
+aData['100720'] = new Array('308','136','751','606','210','841','773','739','139','15','195','117','898','253','30','729','707','681','827','228','232','243','Sweet Beans Pork','tofu rice penne vegan vegan sweet basil oatmeal.','66','88','14','14','87','22','vegetarian gluten');
+aData['100721'] = new Array('876','62','656','514','681','605','30','480','834','98','643','480','981','537','229','848','408','911','731','181','25','302','Oatmeal Roasted Lemon Spicy','chicken scrambled kale pork scrambled ginger garlic ginger tofu.','53','36','84','10','33','18','');
+aData['100722'] = new Array('269','16','645','519','300','497','545','277','109','142','726','57','52','402','728','773','743','409','721','243','780','262','Sesame','broccoli teriyaki granola penne rice.','68','62','94','67','68','84','mindful');
+aData['100723'] = new Array('933','751','743','37','293','305','862','773','414','889','780','671','958','747','954','971','883','707','539','327','907','36','Grilled Tomato Chicken','broccoli eggs sweet eggs teriyaki spicy eggs beans quinoa eggs herb.','31','9','16','75','19','82','vegetarian vegan');
+aData['100724'] = new Array('127','301','205','418','185','720','498','819','147','499','573','591','99','725','493','825','458','320','892','99','102','918','Kale','mushroom scrambled spicy rice carrot sesame basil basil.','54','16','56','74','0','44','vegan');
+aData['100725'] = new Array('690','669','175','505','226','962','858','110','106','808','453','902','604','392','127','445','916','227','643','961','800','490','Beans Roasted Oatmeal','yogurt quinoa sweet salmon salmon potato.','68','82','1','28','3','72','vegetarian vegan');
+aData['100726'] = new Array('202','517','442','49','746','926','776','132','608','678','715','725','475','299','653','573','337','121','887','99','259','678','Pancakes Salmon Oatmeal Salsa','lemon grilled granola scrambled pesto curry.','56','61','5','43','75','90','');
+aData['100727'] = new Array('683','826','645','464','574','449','788','420','49','669','818','726','683','208','955','470','58','707','680','873','169','418','Tofu','beans salsa yogurt ginger mushroom penne ginger cheddar berry sesame carrot grilled.','59','65','58','83','40','28','mindful');
+aData['100728'] = new Array('233','410','683','71','92','870','416','868','516','440','971','212','287','988','534','676','125','284','987','655','146','354','Garlic Vegan Potato Broccoli','salsa spicy berry basil berry.','68','99','88','64','70','89','vegan vegetarian');
+aData['100729'] = new Array('845','233','410','568','571','420','117','999','144','556','700','748','62','950','647','363','507','403','18','419','500','997','Beef Salmon','roasted chicken beef bagel salsa carrot garlic salsa salmon roasted lemon eggs.','92','57','30','21','83','31','');
+aData['100730'] = new Array('289','907','670','714','338','16','747','389','690','77','578','935','434','555','691','636','830','43','420','682','635','51','Pancakes Oatmeal Pork','spicy mushroom herb potato granola tofu sweet chicken tomato.','68','35','66','22','43','95','vegetarian mindful');
+aData['100731'] = new Array('20','26','818','618','970','347','851','568','504','384','536','934','136','108','36','210','19','907','913','353','809','380','Basil Garlic Cheddar','grilled bbq tomato granola tofu curry roasted waffles herb yogurt.','93','87','0','20','57','42','vegetarian vegan');
+aData['100732'] = new Array('714','769','709','293','72','97','883','666','552','286','281','423','657','194','944','117','545','585','895','151','302','89','Basil','potato berry mushroom garlic.','18','57','48','60','79','59','');
+aData['100733'] = new Array('769','912','604','160','163','304','539','323','37','628','349','752','305','208','366','257','225','375','466','440','733','747','Sesame Tomato','penne potato tomato pancakes quinoa tofu bagel eggs ginger granola.','22','88','47','87','73','28','');
+aData['100734'] = new Array('531','543','690','807','122','866','483','39','54','359','483','919','787','891','866','920','921','25','479','556','859','503','Beans Scrambled Waffles Cheddar','quinoa chicken penne granola chicken quinoa cheddar roasted eggs mushroom.','28','12','50','42','13','40','');
+aData['100735'] = new Array('650','632','231','187','150','893','688','832','358','54','990','581','40','601','711','384','484','802','355','999','148','977','Garlic','roasted rice tofu rice waffles granola.','10','11','41','63','3','60','gluten');
+aData['100736'] = new Array('176','115','1','609','72','208','491','518','726','468','912','437','441','483','867','744','277','269','797','838','922','189','Grilled Tofu Broccoli Pancakes','sesame mushroom beans waffles bagel tomato mushroom sesame.','16','93','21','22','96','9','vegan mindful');
+aData['100737'] = new Array('116','195','203','166','39','673','638','224','169','130','299','442','579','250','72','964','142','679','565','390','567','483','Kale','tofu waffles pancakes penne kale pork garlic sweet.','46','67','64','16','10','83','vegan');
+aData['100738'] = new Array('209','11','190','308','140','88','315','378','492','133','617','987','466','370','144','654','876','196','577','835','936','414','Herb Salmon','sweet teriyaki ginger beans curry rice beans.','52','7','48','96','95','21','gluten mindful');
+aData['100739'] = new Array('315','80','493','154','442','490','474','48','695','862','159','649','513','177','688','269','423','428','934','111','276','518','Vegan Eggs','carrot grilled tofu eggs chicken pesto grilled pesto sesame potato vegan kale.','31','23','13','1','31','13','');
+aData['100740'] = new Array('961','693','38','318','308','889','72','316','97','582','878','934','907','476','647','688','876','0','601','446','438','570','Yogurt Scrambled Roasted','oatmeal bbq broccoli carrot vegan waffles ginger.','98','3','12','41','51','0','gluten');
+aData['100741'] = new Array('479','518','805','768','847','704','203','904','31','508','131','385','481','96','504','178','360','761','695','140','790','330','Waffles Sweet Waffles','penne yogurt penne garlic pesto yogurt salsa bagel pesto yogurt scrambled rice.','74','83','12','20','69','96','vegan');
+aData['100742'] = new Array('77','552','842','614','565','482','502','309','737','259','141','620','720','647','301','122','41','501','810','98','304','116','Salsa Carrot Kale','beans mushroom carrot teriyaki garlic sweet lemon.','17','24','77','68','58','18','');
+aData['100743'] = new Array('146','637','873','975','28','328','245','61','583','753','706','756','478','437','391','66','192','909','920','716','802','78','Pancakes Beans Chicken Herb','roasted ginger spicy tomato granola potato scrambled yogurt bagel waffles beef ginger.','67','41','72','6','78','65','mindful');
+aData['100744'] = new Array('686','946','545','787','165','921','776','977','203','195','939','377','228','765','974','755','44','386','735','566','830','130','Bagel Tofu','bbq pork penne salsa kale salsa garlic cheddar granola teriyaki.','77','70','61','16','36','75','gluten');
+aData['100745'] = new Array('493','644','906','622','941','367','65','957','342','500','142','72','331','632','880','653','479','706','512','751','387','619','Waffles Tomato Potato Chicken','sweet bbq potato basil salsa curry granola mushroom salmon lemon lemon.','88','16','4','57','12','63','vegetarian');
+aData['100746'] = new Array('463','733','530','352','209','77','220','172','225','997','398','272','755','519','906','176','453','311','218','520','321','392','Granola Salmon Teriyaki Carrot','waffles cheddar mushroom kale grilled spicy bagel basil herb curry quinoa bbq.','25','50','0','94','93','5','vegan vegetarian');
+aData['100747'] = new Array('644','415','449','718','155','443','974','737','239','923','98','519','54','723','333','834','482','772','478','210','408','370','Ginger Penne Salmon','mushroom potato berry beef beef salmon.','58','60','56','83','7','82','gluten mindful');
+aData['100748'] = new Array('307','912','340','445','381','254','260','730','207','140','62','765','244','11','211','842','511','362','829','215','607','327','Sweet Potato Carrot Herb','bbq roasted salmon vegan beans garlic salmon chicken.','37','35','33','93','86','33','');
+aData['100749'] = new Array('187','388','79','557','570','418','617','809','639','825','709','666','723','231','601','578','239','494','546','514','383','197','Eggs Garlic Scrambled Pesto','beef waffles granola basil sesame waffles vegan pesto quinoa.','76','81','64','82','2','65','mindful vegetarian');
+aData['100750'] = new Array('760','762','957','254','938','507','329','652','297','325','319','957','933','190','382','876','739','134','349','589','261','546','Sesame Berry Mushroom','grilled kale tomato curry chicken.','86','75','28','13','28','4','gluten vegetarian');
+aData['100751'] = new Array('392','583','659','724','307','415','474','925','158','696','50','818','869','752','520','202','517','231','26','498','437','468','Tofu Bbq','basil herb salmon eggs ginger grilled basil kale cheddar sweet tofu.','8','94','97','30','21','81','gluten vegan');
+aData['100752'] = new Array('290','263','394','62','489','468','670','753','178','296','514','237','783','204','419','724','424','417','765','204','191','447','Pesto Spicy Scrambled','chicken tofu eggs basil pork basil pork bbq sesame curry.','63','56','53','89','45','85','gluten vegetarian');
+aData['100753'] = new Array('130','216','676','918','882','520','551','218','461','723','997','310','855','893','727','602','459','105','719','694','134','797','Broccoli Oatmeal Bagel Broccoli','pork oatmeal lemon eggs sesame quinoa.','34','95','94','92','5','23','');
+aData['100754'] = new Array('176','598','875','836','378','499','221','183','649','336','41','305','181','782','105','238','515','300','805','949','592','983','Garlic Ginger Mushroom Waffles','bagel potato broccoli curry potato granola.','73','35','94','57','99','76','vegan');
+aData['100755'] = new Array('335','4','249','740','636','131','973','379','249','948','36','53','504','863','598','201','711','375','166','672','729','477','Oatmeal Roasted Grilled','pork granola garlic pancakes tofu basil salsa chicken bagel mushroom.','24','7','82','13','84','3','');
+aData['100756'] = new Array('211','952','66','472','718','683','38','800','820','627','771','974','525','739','863','597','138','65','453','955','344','962','Bagel','berry sesame teriyaki cheddar scrambled sweet bagel.','82','42','15','40','9','9','');
+aData['100757'] = new Array('933','323','400','801','696','478','444','187','748','774','446','764','154','746','229','495','351','609','482','161','350','408','Salsa Curry Beef Salsa','lemon rice sesame bagel cheddar penne granola penne oatmeal.','33','39','40','22','84','58','');
+aData['100758'] = new Array('319','176','532','118','417','964','206','11','352','936','558','26','236','311','569','228','624','619','559','516','819','943','Kale Berry','herb salmon teriyaki bbq salsa beef potato cheddar.','50','92','35','60','74','79','');
+aData['100759'] = new Array('24','706','864','93','793','706','894','834','129','954','41','23','777','378','244','166','281','713','5','239','134','636','Salsa Beans Ginger','granola ginger quinoa scrambled tomato.','9','49','98','35','9','53','vegetarian');
+aData['100760'] = new Array('92','78','186','687','6','162','264','77','36','817','958','385','28','878','549','273','226','84','943','594','570','190','Chicken Eggs Beans Chicken','ginger basil vegan curry.','84','48','26','34','81','21','vegan vegetarian');
+aData['100761'] = new Array('308','948','96','783','67','261','396','178','83','171','615','332','831','169','25','510','336','745','712','313','596','576','Potato','granola ginger yogurt carrot salsa herb quinoa kale rice salmon.','89','41','19','57','15','57','vegetarian mindful');
+aData['100762'] = new Array('73','792','783','920','212','874','103','703','483','555','805','290','299','814','80','737','107','828','405','538','496','603','Scrambled','beans broccoli granola rice rice penne lemon scrambled.','15','66','49','9','54','5','');
+aData['100763'] = new Array('167','656','604','534','218','136','332','387','205','602','466','657','73','699','885','213','454','830','157','499','502','786','Sesame','spicy broccoli scrambled grilled herb beans spicy tofu teriyaki teriyaki.','63','97','23','69','4','5','mindful');
+aData['100764'] = new Array('757','752','502','508','541','899','306','807','796','139','449','56','526','549','243','558','338','422','941','406','263','27','Yogurt','vegan oatmeal teriyaki roasted vegan.','54','55','92','56','27','70','');
+aData['100765'] = new Array('844','897','91','259','487','657','507','386','19','232','447','193','432','113','136','282','282','903','712','724','194','101','Ginger','salsa salmon sesame tomato beans chicken penne cheddar teriyaki spicy.','2','17','37','55','75','29','gluten vegan');
+aData['100766'] = new Array('830','952','668','832','350','339','823','360','979','287','641','320','380','16','306','65','423','247','455','670','791','608','Pesto Broccoli Kale','pancakes quinoa bbq garlic mushroom granola salsa.','47','26','38','22','86','48','vegetarian');
+aData['100767'] = new Array('672','849','911','549','253','686','890','590','142','400','485','53','891','329','281','375','893','594','57','279','235','670','Chicken','kale basil basil vegan teriyaki.','92','30','40','76','35','4','vegan');
+aData['100768'] = new Array('311','117','643','230','521','928','560','296','254','393','703','615','297','325','498','0','192','176','108','543','311','893','Oatmeal Spicy Sesame Potato','potato pork berry sesame.','25','64','94','69','83','63','');
+aData['100769'] = new Array('12','550','62','792','89','284','729','11','570','774','618','323','753','444','511','806','600','427','340','516','470','954','Kale Eggs Beef','salmon spicy kale ginger broccoli kale.','35','48','41','5','39','51','mindful');
+aData['100770'] = new Array('869','352','675','960','763','385','937','308','646','801','930','893','528','498','673','965','320','236','900','283','317','537','Pork Pesto Chicken','sweet carrot mushroom rice spicy tofu carrot salsa waffles.','87','45','7','57','99','44','');
+aData['100771'] = new Array('508','448','185','245','740','361','484','575','454','93','189','312','111','681','22','409','631','92','631','885','1','609','Broccoli','penne curry penne carrot pancakes sweet potato.','20','98','23','53','94','40','gluten vegetarian');
+aData['100772'] = new Array('850','535','559','699','329','765','468','191','828','962','280','877','878','140','422','171','907','929','187','720','727','799','Salsa','mushroom granola vegan rice vegan scrambled carrot salmon oatmeal broccoli.','28','62','20','51','11','10','vegan');
+aData['100773'] = new Array('529','576','715','46','18','711','401','298','373','767','252','736','758','275','782','809','298','34','825','547','844','918','Broccoli Bbq Curry','mushroom rice berry sesame.','90','82','31','29','10','16','vegan gluten');
+aData['100774'] = new Array('611','894','907','450','231','517','318','754','703','408','259','794','279','427','496','509','800','5','68','735','52','60','Salmon Cheddar','carrot pancakes chicken salsa ginger cheddar.','36','67','71','97','35','4','');
+aData['100775'] = new Array('512','79','15','874','896','641','791','483','471','999','962','943','404','823','616','420','100','946','327','323','471','575','Rice','scrambled curry rice kale vegan granola vegan vegan waffles granola.','22','20','77','6','25','81','gluten vegetarian');
+aData['100776'] = new Array('532','76','482','597','37','67','969','486','554','588','320','229','902','129','377','10','355','289','576','583','325','889','Tomato','pesto pork spicy broccoli teriyaki oatmeal kale waffles berry lemon garlic tomato.','98','54','41','92','91','47','gluten');
+aData['100777'] = new Array('618','642','913','546','370','809','689','716','0','833','844','749','551','324','602','607','660','555','39','768','63','77','Broccoli','mushroom beans potato yogurt beans salsa tofu salmon.','99','70','74','6','11','3','vegetarian');
+aData['100778'] = new Array('102','832','221','338','583','112','604','994','416','635','361','604','219','997','80','494','658','731','500','351','949','59','Bbq Bbq','salmon roasted granola pancakes yogurt eggs ginger teriyaki granola roasted.','33','19','34','71','19','22','vegan');
+aData['100779'] = new Array('286','380','443','897','287','911','485','251','972','200','348','550','547','228','378','910','565','900','598','477','752','206','Yogurt','penne carrot granola grilled spicy kale pesto waffles scrambled grilled.','55','4','83','90','40','46','');
+aData['100780'] = new Array('233','202','352','707','729','217','98','340','371','439','96','666','706','139','157','797','179','28','539','795','441','852','Waffles','penne lemon kale garlic.','96','20','6','7','42','32','vegan mindful');
+aData['100781'] = new Array('512','229','246','943','189','351','639','621','675','968','168','64','534','742','88','67','633','661','257','980','124','668','Carrot Pesto Herb','sweet broccoli basil teriyaki tomato spicy.','6','90','36','82','58','10','');
+aData['100782'] = new Array('673','583','552','795','660','742','837','694','127','232','302','512','541','926','147','415','460','409','598','663','299','265','Berry Basil','broccoli salsa scrambled tomato kale herb lemon pesto beans oatmeal bbq.','12','34','23','5','24','64','mindful vegetarian');
+aData['100783'] = new Array('728','929','730','290','508','329','403','100','249','380','112','382','834','14','161','260','986','604','141','465','936','653','Pesto Sesame','curry oatmeal granola berry salsa herb kale sweet eggs tofu pancakes.','9','14','23','86','61','54','');
+aData['100784'] = new Array('666','147','65','120','733','882','44','476','315','106','527','80','368','825','349','517','129','858','41','31','628','459','Chicken','spicy vegan mushroom basil roasted quinoa scrambled herb salsa herb.','71','79','73','73','47','95','mindful');
+aData['100785'] = new Array('7','827','577','86','535','630','725','482','985','671','74','457','224','737','650','80','75','780','340','220','510','330','Kale Scrambled','sesame broccoli yogurt carrot.','94','17','69','31','12','54','');
+aData['100786'] = new Array('926','980','220','770','482','83','213','523','807','498','914','387','864','855','115','219','918','229','508','576','407','185','Granola','rice sweet spicy waffles potato berry beans.','23','15','85','49','93','53','');
+aData['100787'] = new Array('555','480','265','475','889','449','826','487','994','4','979','389','156','235','197','289','817','731','407','105','213','502','Rice','sesame penne teriyaki pork garlic oatmeal tofu chicken oatmeal.','76','57','29','30','35','57','gluten');
+aData['100788'] = new Array('866','758','386','881','337','79','172','978','284','356','303','728','45','532','931','321','231','953','718','724','253','984','Kale Scrambled','granola rice quinoa pancakes.','70','83','46','53','40','26','gluten vegetarian');
+aData['100789'] = new Array('559','183','213','691','241','223','178','460','633','710','572','281','810','362','321','684','657','294','459','960','509','698','Bagel Granola Pesto','scrambled quinoa cheddar potato granola berry.','99','75','97','1','43','48','');
+aData['100790'] = new Array('484','595','448','754','837','468','269','207','360','792','344','714','79','389','295','44','639','788','410','339','263','55','Quinoa Waffles Tomato Pork','broccoli lemon cheddar basil sesame garlic granola bbq beans tomato kale.','12','38','69','96','61','22','');
+aData['100791'] = new Array('478','548','117','297','517','198','497','951','790','618','213','326','17','99','374','566','765','400','241','947','755','58','Kale','pesto mushroom vegan mushroom berry pancakes pesto carrot rice salsa.','30','50','17','49','84','54','');
+aData['100792'] = new Array('730','372','582','789','129','43','724','149','869','141','211','801','914','349','264','470','521','668','351','102','698','964','Eggs','waffles berry oatmeal garlic eggs granola pancakes penne potato kale teriyaki spicy.','55','35','17','75','57','48','');
+aData['100793'] = new Array('551','759','389','547','352','776','666','963','215','818','350','440','216','220','799','358','60','824','886','293','658','282','Spicy','mushroom granola vegan pancakes roasted mushroom sweet beans.','82','65','68','43','0','39','vegan');
+aData['100794'] = new Array('508','666','360','285','510','252','348','937','941','712','300','986','866','716','18','107','1','782','52','619','396','313','Quinoa Scrambled','broccoli bbq tofu lemon spicy broccoli yogurt grilled teriyaki teriyaki.','99','91','67','66','44','20','');
+aData['100795'] = new Array('621','412','941','267','385','133','486','982','876','969','117','780','435','572','150','938','593','950','555','713','20','961','Mushroom','ginger broccoli pancakes bbq grilled yogurt mushroom.','97','59','88','95','96','42','mindful');
+aData['100796'] = new Array('646','485','943','525','988','852','16','577','727','560','640','120','898','137','581','117','780','525','361','753','850','866','Quinoa','tofu salsa salmon yogurt teriyaki garlic garlic salmon sweet beans.','95','11','51','53','0','54','vegetarian');
+aData['100797'] = new Array('19','997','584','206','109','692','654','559','70','78','276','363','472','208','583','497','908','841','377','5','804','530','Bbq Cheddar','carrot basil cheddar bbq lemon curry oatmeal kale eggs.','76','16','73','71','12','70','gluten vegan');
+aData['100798'] = new Array('355','471','622','560','580','42','612','93','816','399','404','188','969','942','659','51','213','519','635','704','399','301','Berry','salsa grilled ginger bagel mushroom sesame roasted ginger carrot.','55','60','34','74','20','34','vegetarian');
+aData['100799'] = new Array('145','975','308','161','18','117','963','46','480','26','885','52','767','912','762','833','682','244','991','62','335','116','Chicken Pork Tomato','berry carrot ginger yogurt herb ginger garlic oatmeal.','39','34','65','26','56','75','');
+aData['100800'] = new Array('915','567','140','164','807','656','469','127','644','919','943','290','228','874','590','831','667','597','288','831','628','572','Scrambled Bbq Rice','herb roasted spicy potato ginger tomato sweet herb granola.','54','69','64','59','25','18','mindful vegetarian');
+aData['100801'] = new Array('825','514','849','52','712','984','108','670','51','182','380','767','112','831','65','92','799','219','603','68','206','540','Salmon Oatmeal','roasted pork yogurt oatmeal chicken sesame mushroom.','43','87','12','8','83','26','');
+aData['100802'] = new Array('893','768','26','31','207','995','40','466','915','932','190','802','859','396','17','353','675','68','111','834','778','983','Pancakes Chicken Spicy','salsa pesto lemon basil.','98','0','88','83','95','40','');
+aData['100803'] = new Array('108','264','143','629','938','328','528','294','82','300','807','330','455','881','600','662','688','183','229','396','57','872','Pork','eggs pancakes eggs tomato.','34','16','93','67','73','53','vegetarian vegan');
+aData['100804'] = new Array('715','611','623','767','6','430','689','855','873','266','891','950','147','598','303','248','692','407','359','596','57','417','Cheddar Grilled','bagel scrambled pesto granola yogurt curry garlic lemon rice potato pork vegan.','28','34','65','81','29','81','vegetarian');
+aData['100805'] = new Array('472','955','783','556','652','422','193','964','793','156','98','790','653','190','706','373','796','947','354','701','128','576','Carrot Salmon Roasted Pancakes','bagel spicy chicken garlic rice yogurt tofu carrot penne sweet.','32','11','50','69','98','39','mindful vegan');
+aData['100806'] = new Array('682','461','240','643','55','998','139','974','471','723','201','306','862','647','752','295','406','944','997','37','416','116','Lemon Bagel Tomato Curry','bbq sesame berry quinoa.','72','48','17','80','21','77','');
+aData['100807'] = new Array('755','642','854','302','167','114','490','786','5','59','660','894','341','581','115','52','887','669','619','774','139','136','Spicy Salsa Berry Teriyaki','bbq granola waffles yogurt garlic waffles grilled beef beef cheddar granola.','15','61','9','57','92','85','vegan');
+aData['100808'] = new Array('658','276','371','753','534','72','16','113','629','194','457','204','53','68','29','998','478','315','864','888','855','362','Ginger Salsa Salsa','tomato yogurt salsa penne quinoa spicy kale tomato quinoa pork vegan.','30','60','59','60','79','42','vegan vegetarian');
+aData['100809'] = new Array('301','205','848','377','671','855','800','776','645','417','364','216','422','4','251','325','119','335','628','725','320','971','Pesto Oatmeal','pancakes yogurt tomato rice.','37','10','24','64','14','73','vegetarian gluten');
+aData['100810'] = new Array('380','135','338','538','324','62','945','265','781','154','571','993','696','791','816','857','551','939','548','714','613','43','Oatmeal Beef Waffles Pesto','tofu roasted berry mushroom.','90','24','93','6','52','70','');
+aData['100811'] = new Array('494','22','137','333','297','992','891','901','528','835','148','898','11','434','618','711','461','795','80','611','378','861','Spicy Beef','broccoli salmon beans waffles.','91','78','63','77','81','33','vegan');
+aData['100812'] = new Array('99','229','894','596','842','420','740','670','56','647','588','97','321','91','332','847','169','590','262','727','289','626','Vegan Cheddar','mushroom curry curry potato curry tofu.','57','61','25','71','42','57','');
+aData['100813'] = new Array('872','239','368','7','835','143','454','271','576','85','290','157','167','863','776','514','225','171','626','77','55','521','Curry Basil Basil Beans','potato bagel tofu oatmeal garlic kale mushroom cheddar teriyaki pancakes lemon.','9','9','22','78','2','62','vegetarian gluten');
+aData['100814'] = new Array('563','425','234','340','952','444','127','926','597','687','528','899','276','617','67','382','85','676','34','959','968','543','Tomato Kale Teriyaki','tofu tomato penne garlic berry beef.','5','79','30','24','50','82','');
+aData['100815'] = new Array('318','30','297','507','846','580','897','164','679','973','269','863','83','603','847','198','777','937','181','443','485','981','Salmon Chicken Vegan Rice','rice scrambled rice garlic potato herb basil curry.','12','99','75','22','3','46','');
+aData['100816'] = new Array('166','592','696','940','398','280','865','269','198','535','882','571','748','38','696','841','63','240','683','770','459','262','Scrambled Curry Salmon Beef','garlic pancakes oatmeal tofu basil tomato ginger kale cheddar penne beans.','59','91','74','0','51','23','vegan');
+aData['100817'] = new Array('170','657','340','484','188','373','743','59','263','384','164','640','546','135','517','920','682','207','143','442','238','39','Curry Quinoa Penne Tofu','penne bagel pork basil pancakes kale teriyaki beef salmon sweet.','24','60','4','58','62','77','vegetarian mindful');
+aData['100818'] = new Array('577','44','746','287','660','531','322','962','174','727','115','980','331','812','271','861','351','993','88','607','698','588','Salmon Chicken Garlic Bbq','herb beef vegan curry spicy.','8','24','17','24','21','33','');
+aData['100819'] = new Array('19','943','866','997','747','279','134','633','568','676','673','839','247','344','601','105','588','663','915','690','703','773','Bbq Spicy Pesto Pesto','potato yogurt lemon eggs yogurt roasted bagel quinoa berry broccoli.','76','19','40','62','49','8','');
+aData['100820'] = new Array('613','273','312','512','392','51','442','46','97','993','366','118','118','338','578','503','627','206','602','911','450','76','Pork Rice Pesto Roasted','berry sweet sesame herb vegan penne granola.','78','40','83','9','87','80','vegan gluten');
+aData['100821'] = new Array('436','596','265','566','110','342','24','932','398','148','266','487','893','511','517','812','483','320','913','287','219','359','Cheddar Mushroom','carrot grilled garlic spicy salsa basil spicy penne spicy roasted beans.','81','2','14','52','71','56','gluten');
+aData['100822'] = new Array('874','702','324','212','163','507','789','730','434','610','479','29','620','764','82','871','901','544','404','167','101','987','Granola Garlic Spicy','yogurt potato ginger pesto beans granola tofu scrambled pesto spicy spicy waffles.','57','66','13','47','43','70','vegetarian mindful');
+aData['100823'] = new Array('31','99','404','566','69','705','564','608','20','234','442','457','108','155','314','182','538','664','399','348','598','487','Broccoli Eggs','yogurt pork teriyaki pancakes teriyaki rice.','79','63','25','96','37','88','vegan mindful');
+aData['100824'] = new Array('797','144','700','840','104','948','661','683','670','844','508','110','62','438','244','362','584','810','628','70','279','221','Grilled Carrot','salmon kale eggs tofu potato pork.','55','31','88','75','1','84','vegetarian mindful');
+aData['100825'] = new Array('362','153','734','116','266','380','387','462','706','162','403','632','361','778','262','484','390','688','586','555','148','257','Kale Broccoli Pesto','herb spicy yogurt herb beef quinoa tofu pesto potato garlic pesto.','52','39','38','33','70','55','');
+aData['100826'] = new Array('29','545','600','174','413','522','874','288','426','275','202','627','912','974','284','143','210','458','287','833','743','945','Salsa','tofu penne rice tofu grilled penne pancakes.','30','61','24','19','16','43','');
+aData['100827'] = new Array('33','949','869','227','318','709','423','282','755','853','478','389','338','269','444','224','772','218','69','16','512','80','Penne Eggs Carrot Sweet','granola spicy salsa salmon broccoli berry spicy herb oatmeal ginger chicken.','13','29','49','17','44','20','vegetarian vegan');
+aData['100828'] = new Array('336','193','174','318','762','575','119','383','107','387','3','254','426','225','188','306','539','564','10','216','124','117','Roasted Berry Kale','kale berry pancakes grilled basil berry vegan herb teriyaki ginger yogurt bbq.','44','64','55','26','24','53','vegan');
+aData['100829'] = new Array('119','916','322','870','150','984','941','628','772','370','40','714','728','632','852','204','572','312','325','390','442','847','Mushroom','chicken herb broccoli salmon waffles curry kale oatmeal ginger garlic carrot salmon.','85','77','1','38','73','35','vegan');
+aData['100830'] = new Array('42','889','642','813','857','672','509','216','273','382','620','838','415','744','995','522','891','379','225','883','651','816','Garlic','herb tofu garlic pesto sesame ginger.','88','16','71','24','44','61','vegetarian vegan');
+aData['100831'] = new Array('13','404','872','55','360','740','943','412','92','107','382','969','522','397','382','736','340','22','780','471','525','529','Potato Grilled','beans cheddar ginger tofu curry bbq carrot oatmeal salmon teriyaki vegan cheddar.','69','58','9','42','68','29','mindful');
+aData['100832'] = new Array('3','847','661','815','57','947','455','67','984','804','659','996','98','69','655','960','789','82','145','217','660','191','Salmon Salsa Herb Lemon','kale bagel potato granola beef.','27','31','35','82','81','16','');
+aData['100833'] = new Array('432','760','46','305','72','933','237','634','742','980','417','524','160','113','664','16','355','301','439','503','782','368','Salsa Salsa Broccoli Pork','sesame grilled curry grilled bagel.','3','38','26','77','53','20','gluten vegan');
+aData['100834'] = new Array('962','255','49','277','646','903','569','850','384','161','786','391','899','149','458','453','208','135','936','177','679','336','Bbq','kale chicken salsa granola grilled teriyaki.','5','45','68','3','68','73','vegetarian gluten');
+aData['100835'] = new Array('482','183','916','416','229','809','254','424','705','630','199','989','680','61','692','746','774','113','11','839','705','79','Penne Pesto Garlic','eggs salsa garlic sweet lemon berry sweet.','69','10','94','34','70','19','mindful');
+aData['100836'] = new Array('681','423','81','422','897','560','58','708','493','793','886','306','799','150','789','614','449','201','753','326','130','219','Garlic Curry','basil broccoli bbq beans grilled lemon pork tofu.','66','81','84','39','50','38','');
+aData['100837'] = new Array('491','355','561','118','366','686','225','239','487','17','872','175','781','450','405','643','885','37','990','171','431','565','Berry Kale Lemon','chicken bbq lemon cheddar tomato pesto tomato pancakes kale sweet yogurt sweet.','89','92','69','94','87','61','');
+aData['100838'] = new Array('446','730','992','637','370','531','238','929','817','552','599','42','386','747','690','966','7','814','651','881','33','647','Scrambled Chicken','teriyaki bagel spicy garlic eggs bagel berry grilled basil berry teriyaki.','90','85','74','70','74','77','');
+aData['100839'] = new Array('242','411','799','67','648','866','988','322','571','114','971','857','650','574','536','98','526','46','289','432','300','629','Penne Cheddar Pancakes','scrambled salmon granola penne pancakes eggs grilled penne cheddar penne bbq.','21','21','77','28','28','58','mindful vegan');
+aData['100840'] = new Array('178','21','188','745','831','491','825','829','803','38','791','708','25','993','375','905','583','973','221','56','554','485','Basil','salsa vegan scrambled scrambled ginger garlic sesame pesto.','21','64','68','58','17','19','');
+aData['100841'] = new Array('0','509','854','949','967','784','331','990','687','814','102','350','542','248','583','809','131','746','191','178','101','687','Beef Curry Salmon','cheddar spicy kale eggs spicy berry.','31','62','52','10','2','65','gluten');
+/* end of data */
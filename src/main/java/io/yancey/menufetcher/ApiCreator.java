@@ -6,7 +6,7 @@ import java.nio.file.*;
 import java.time.*;
 import java.util.*;
 
-import com.google.gson.*;
+import com.google.gson.stream.*;
 
 import io.yancey.menufetcher.data.*;
 import io.yancey.menufetcher.fetchers.*;
@@ -16,118 +16,224 @@ public class ApiCreator {
 		return name.toLowerCase().replaceAll("\\s+", "-");
 	}
 	
-	public static void writeJson(Path apiPath, String apiNode, JsonElement json) throws IOException {
-		Files.write(apiPath.resolve(apiNode), json.toString().getBytes(StandardCharsets.UTF_8));
+	/**
+	 * Writes every node of the api in one walk over the menus.
+	 * <p>
+	 * The json is written once, through a single {@link JsonWriter}, into a stream that copies it
+	 * to every file it belongs in: a node's own {@code all} file, its parent's summary file,
+	 * and the {@code all} files of all of its ancestors.
+	 */
+	private static class ApiWriter implements Closeable {
+		private final Output output;
+		private final TeeOutputStream tee = new TeeOutputStream();
+		private final JsonWriter json = new JsonWriter(new OutputStreamWriter(tee, StandardCharsets.UTF_8));
+		private final Deque<OutputStream> openFiles = new ArrayDeque<>();
+		
+		public ApiWriter(Output output) {
+			this.output = output;
+		}
+		
+		private OutputStream open(Path folder, String apiNode) throws IOException {
+			OutputStream file = output.open(folder.resolve(apiNode));
+			openFiles.push(file);
+			return file;
+		}
+		
+		/**
+		 * Start writing an array of nodes, whose summaries go in {@code summaryNode}
+		 * and which are written in full to {@code allNodes}.
+		 */
+		public NodeArray beginArray(Path folder, String summaryNode, String... allNodes) throws IOException {
+			json.beginArray();
+			json.flush();
+			NodeArray array = new NodeArray(open(folder, summaryNode));
+			for(String allNode: allNodes) {
+				array.allFiles.add(open(folder, allNode));
+			}
+			for(OutputStream file: array.files()) {
+				file.write('[');
+			}
+			tee.sinks.addAll(array.allFiles);
+			return array;
+		}
+		
+		public void endArray(NodeArray array) throws IOException {
+			json.flush();
+			tee.sinks.removeAll(array.allFiles);
+			for(OutputStream file: array.files()) {
+				file.write(']');
+				openFiles.remove(file);
+				file.close();
+			}
+			json.endArray();
+		}
+		
+		/**
+		 * Start writing a node; everything until {@link #endSummary} is in its summary as well.
+		 */
+		public void beginNode(NodeArray array) throws IOException {
+			json.flush();
+			tee.sinks.add(array.summaryFile);
+			json.beginObject();
+		}
+		
+		public void endSummary(NodeArray array) throws IOException {
+			json.flush();
+			tee.sinks.remove(array.summaryFile);
+			array.summaryFile.write('}');
+		}
+		
+		public void endNode() throws IOException {
+			json.endObject();
+		}
+		
+		@Override
+		public void close() throws IOException {
+			IOException failure = null;
+			while(!openFiles.isEmpty()) {
+				try {
+					openFiles.pop().close();
+				} catch(IOException e) {
+					failure = e;
+				}
+			}
+			if(failure != null) throw failure;
+		}
 	}
 	
-	public static void createAPI(String folder, LocalDate day, List<Menu> menus) throws IOException {
-		Path apiFolder = Paths.get(folder, "api", "v1");
-		Files.createDirectories(apiFolder);
-		createMenus(apiFolder, menus, day);
+	private static class NodeArray {
+		public final OutputStream summaryFile;
+		public final List<OutputStream> allFiles = new ArrayList<>();
+		
+		public NodeArray(OutputStream summaryFile) {
+			this.summaryFile = summaryFile;
+		}
+		
+		public List<OutputStream> files() {
+			List<OutputStream> files = new ArrayList<>(allFiles);
+			files.add(summaryFile);
+			return files;
+		}
 	}
 	
-	public static JsonElement createMenus(Path apiFolder, List<Menu> menus, LocalDate day) throws IOException {
-		Path dayFolder = apiFolder.resolve(day.toString());
-		Files.createDirectories(dayFolder);
-		JsonArray menusJson = new JsonArray();
-		JsonArray menusAllJson = new JsonArray();
-		for(Menu menu: menus) {
-			menusJson.add(createMenu(menu));
-			JsonObject menuAllJson = createMenu(menu);
-			JsonElement mealsJson = createMeals(dayFolder, menu);
-			menuAllJson.add("meals", mealsJson);
-			menusAllJson.add(menuAllJson);
-		}
-		writeJson(dayFolder, "dining-halls", menusJson);
-		writeJson(dayFolder, "all", menusAllJson);
+	/**
+	 * Copies everything written to it into each of its sinks.
+	 */
+	private static class TeeOutputStream extends OutputStream {
+		public final List<OutputStream> sinks = new ArrayList<>();
 		
-		return menusAllJson;
+		@Override
+		public void write(int b) throws IOException {
+			for(OutputStream sink: sinks) sink.write(b);
+		}
+		
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			for(OutputStream sink: sinks) sink.write(b, off, len);
+		}
+		
+		@Override
+		public void flush() {
+			// the sinks are flushed when they're closed
+		}
 	}
 	
-	public static JsonElement createMeals(Path dayFolder, Menu menu) throws IOException {
-		Path menuFolder = dayFolder.resolve(menu.diningHallId);
-		Files.createDirectories(menuFolder);
-		JsonArray mealsJson = new JsonArray();
-		JsonArray mealsAllJson = new JsonArray();
-		for(Meal meal: menu.meals) {
-			mealsJson.add(createMeal(meal));
-			JsonObject mealAllJson = createMeal(meal);
-			JsonElement stationsJson = createStations(menuFolder, meal);
-			mealAllJson.add("stations", stationsJson);
-			mealsAllJson.add(mealAllJson);
-		}
-		writeJson(menuFolder, "meals", mealsJson);
-		writeJson(menuFolder, "all", mealsAllJson);
-		
-		return mealsAllJson;
+	public static void createAPI(String folder, LocalDate day, List<Menu> menus) throws IOException {
+		Path apiFolder = Paths.get(folder, "api", "v1");
+		Files.createDirectories(apiFolder);
+		// the day is written all at once, and only if it changed
+		AtomicDirectoryWriter dayFolder = new AtomicDirectoryWriter(apiFolder.resolve(day.toString()));
+		Profiler.Span write = Profiler.span("write api", day);
+		try {
+			writeAPI(dayFolder::open, menus);
+		} finally {
+			write.end();
+		}
+		Profiler.Span commit = Profiler.span("commit api", day);
+		try {
+			dayFolder.commit();
+		} finally {
+			commit.end();
+		}
 	}
 	
-	public static JsonElement createStations(Path menuFolder, Meal meal) throws IOException {
-		Path mealFolder = menuFolder.resolve(toId(meal.name));
-		Files.createDirectories(mealFolder);
-		JsonArray stationsJson = new JsonArray();
-		JsonArray stationsAllJson = new JsonArray();
-		for(Station station: meal.stations) {
-			stationsJson.add(createStation(station));
-			JsonObject stationAllJson = createStation(station);
-			JsonElement itemsJson = createItems(mealFolder, station);
-			stationAllJson.add("items", itemsJson);
-			stationsAllJson.add(stationAllJson);
-		}
-		writeJson(mealFolder, "stations", stationsJson);
-		writeJson(mealFolder, "all", stationsAllJson);
-		
-		return stationsAllJson;
+	/**
+	 * Somewhere to put the files of a day's api.
+	 */
+	public interface Output {
+		/**
+		 * @param file the path of the file, relative to the day's folder
+		 */
+		public OutputStream open(Path file) throws IOException;
 	}
 	
-	public static JsonElement createItems(Path mealFolder, Station station) throws IOException {
-		Path stationFolder = mealFolder.resolve(toId(station.name));
-		Files.createDirectories(stationFolder);
-		JsonArray itemsJson = new JsonArray();
-		for(MenuItem item: station.menu) {
-			itemsJson.add(createMenuItem(item));
+	/**
+	 * Write the api files for one day's menus.
+	 */
+	public static void writeAPI(Output output, List<Menu> menus) throws IOException {
+		try(ApiWriter api = new ApiWriter(output)) {
+			writeMenus(api, Paths.get(""), menus);
 		}
-		writeJson(stationFolder, "items", itemsJson);
-		writeJson(stationFolder, "all", itemsJson);
-		
-		return itemsJson;
 	}
 	
-	private static JsonObject createMenu(Menu menu) {
-		JsonObject json = new JsonObject();
-		json.addProperty("id", menu.diningHallId);
-		json.addProperty("name", menu.diningHallName);
-		json.addProperty("url", menu.publicUrl);
-		return json;
+	private static void writeMenus(ApiWriter api, Path dayFolder, List<Menu> menus) throws IOException {
+		NodeArray menusArray = api.beginArray(dayFolder, "dining-halls", "all");
+		for(Menu menu: menus) {
+			api.beginNode(menusArray);
+			api.json.name("id").value(menu.diningHallId);
+			api.json.name("name").value(menu.diningHallName);
+			api.json.name("url").value(menu.publicUrl);
+			api.endSummary(menusArray);
+			api.json.name("meals");
+			writeMeals(api, dayFolder.resolve(menu.diningHallId), menu);
+			api.endNode();
+		}
+		api.endArray(menusArray);
 	}
 	
-	private static JsonObject createMeal(Meal meal) {
-		JsonObject json = new JsonObject();
-		json.addProperty("id", toId(meal.name));
-		json.addProperty("name", meal.name);
-		json.addProperty("description", meal.description);
-		if(meal.hours != null) {
-			json.addProperty("startTime", meal.hours.startTime.toString());
-			json.addProperty("endTime", meal.hours.endTime.toString());
-		}
-		return json;
+	private static void writeMeals(ApiWriter api, Path menuFolder, Menu menu) throws IOException {
+		NodeArray mealsArray = api.beginArray(menuFolder, "meals", "all");
+		for(Meal meal: menu.meals) {
+			api.beginNode(mealsArray);
+			api.json.name("id").value(toId(meal.name));
+			api.json.name("name").value(meal.name);
+			api.json.name("description").value(meal.description);
+			if(meal.hours != null) {
+				api.json.name("startTime").value(meal.hours.startTime.toString());
+				api.json.name("endTime").value(meal.hours.endTime.toString());
+			}
+			api.endSummary(mealsArray);
+			api.json.name("stations");
+			writeStations(api, menuFolder.resolve(toId(meal.name)), meal);
+			api.endNode();
+		}
+		api.endArray(mealsArray);
 	}
 	
-	private static JsonObject createStation(Station station) {
-		JsonObject json = new JsonObject();
-		json.addProperty("id", toId(station.name));
-		json.addProperty("name", station.name);
-		return json;
+	private static void writeStations(ApiWriter api, Path mealFolder, Meal meal) throws IOException {
+		NodeArray stationsArray = api.beginArray(mealFolder, "stations", "all");
+		for(Station station: meal.stations) {
+			api.beginNode(stationsArray);
+			api.json.name("id").value(toId(station.name));
+			api.json.name("name").value(station.name);
+			api.endSummary(stationsArray);
+			api.json.name("items");
+			writeItems(api, mealFolder.resolve(toId(station.name)), station);
+			api.endNode();
+		}
+		api.endArray(stationsArray);
 	}
 	
-	private static JsonObject createMenuItem(MenuItem item) {
-		JsonObject json = new JsonObject();
-		json.addProperty("name", item.name);
-		json.addProperty("description", item.description);
-		JsonArray tags = new JsonArray();
-		for(String tag: item.tags) tags.add(tag);
-		json.add("tags", tags);
-		return json;
+	private static void writeItems(ApiWriter api, Path stationFolder, Station station) throws IOException {
+		// items have no children, so their summaries are the whole thing
+		NodeArray itemsArray = api.beginArray(stationFolder, "items", "all");
+		api.tee.sinks.add(itemsArray.summaryFile);
+		for(MenuItem item: station.menu) {
+			item.toJson(api.json);
+		}
+		api.json.flush();
+		api.tee.sinks.remove(itemsArray.summaryFile);
+		api.endArray(itemsArray);
 	}
 
 	public static void createAPI(String folder, LocalDate day, Collection<MenuFetcher> menuFetchers) throws IOException {
@@ -0,0 +1,242 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.locks.*;
+import java.util.stream.*;
+
+import com.google.common.hash.*;
+import com.google.common.util.concurrent.*;
+
+/**
+ * Collects the files that should be in a directory, then replaces the directory with them all at once.
+ * <p>
+ * Nothing is written until {@link #commit()}.  If every file is already there with the same contents
+ * nothing is written at all; otherwise a new version of the directory is built next to the old one
+ * (hard-linking the files that haven't changed), and the directory's name is a symbolic link
+ * that's switched over to it with a single rename.  So readers never see a half-written directory,
+ * or no directory at all.  The version before is kept until the next commit,
+ * so anyone in the middle of reading it can finish.
+ * <p>
+ * Where symbolic links aren't supported, and the first time for a directory that isn't a link yet,
+ * the old directory is moved aside and then the new one moved in instead,
+ * so for a moment in between the directory isn't there.
+ * <p>
+ * Commits to the same directory wait for each other, in this process and in others
+ * (with a {@code .name.lock} file next to it).
+ */
+public class AtomicDirectoryWriter {
+	private static final HashFunction hashFunction = Hashing.sha256();
+	private static final Striped<Lock> directoryLocks = Striped.lock(64);
+
+	private final Path directory;
+	private final Map<Path, ByteArrayOutputStream> files = new LinkedHashMap<>();
+
+	public AtomicDirectoryWriter(Path directory) {
+		this.directory = directory.toAbsolutePath();
+	}
+
+	/**
+	 * Start writing a file; if it was already written in this batch, the new contents replace the old.
+	 *
+	 * @param file the path of the file relative to the directory
+	 */
+	public OutputStream open(Path file) {
+		if(file.isAbsolute() || file.normalize().startsWith("..")) {
+			throw new IllegalArgumentException(file + " is not inside " + directory);
+		}
+		ByteArrayOutputStream contents = new ByteArrayOutputStream();
+		files.put(file.normalize(), contents);
+		return contents;
+	}
+
+	/**
+	 * Replace the directory with the files that have been written.
+	 *
+	 * @return whether anything changed
+	 */
+	public boolean commit() throws IOException {
+		Lock lock = directoryLocks.get(directory);
+		lock.lock();
+		try(FileChannel lockFile = FileChannel.open(sibling("lock"),
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+			// released when the file is closed
+			lockFile.lock();
+			return commitLocked();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private boolean commitLocked() throws IOException {
+		Set<Path> unchanged = new HashSet<>();
+		for(Map.Entry<Path, ByteArrayOutputStream> file: files.entrySet()) {
+			if(isUnchanged(directory.resolve(file.getKey()), file.getValue())) {
+				unchanged.add(file.getKey());
+			}
+		}
+		if(unchanged.size() == files.size() && listFiles(directory).equals(files.keySet())) {
+			return false;
+		}
+
+		Path newDirectory = createSibling("v");
+		boolean published = false;
+		try {
+			Set<Path> createdDirectories = new HashSet<>();
+			for(Map.Entry<Path, ByteArrayOutputStream> file: files.entrySet()) {
+				Path target = newDirectory.resolve(file.getKey());
+				if(createdDirectories.add(target.getParent())) {
+					Files.createDirectories(target.getParent());
+				}
+				if(unchanged.contains(file.getKey())) {
+					link(directory.resolve(file.getKey()), target);
+				} else {
+					try(OutputStream out = Files.newOutputStream(target)) {
+						file.getValue().writeTo(out);
+					}
+				}
+			}
+			publish(newDirectory);
+			published = true;
+		} finally {
+			if(!published && Files.exists(newDirectory)) deleteRecursively(newDirectory);
+		}
+		return true;
+	}
+
+	private static boolean isUnchanged(Path existing, ByteArrayOutputStream contents) throws IOException {
+		if(!Files.isRegularFile(existing) || Files.size(existing) != contents.size()) return false;
+		HashCode existingHash;
+		try(InputStream in = new BufferedInputStream(Files.newInputStream(existing))) {
+			Hasher hasher = hashFunction.newHasher();
+			byte[] buffer = new byte[8192];
+			for(int read; (read = in.read(buffer)) >= 0;) {
+				hasher.putBytes(buffer, 0, read);
+			}
+			existingHash = hasher.hash();
+		}
+		return existingHash.equals(hashFunction.hashBytes(contents.toByteArray()));
+	}
+
+	private static Set<Path> listFiles(Path directory) throws IOException {
+		if(!Files.isDirectory(directory)) return Collections.emptySet();
+		try(Stream<Path> paths = Files.walk(directory, FileVisitOption.FOLLOW_LINKS)) {
+			return paths.filter(Files::isRegularFile)
+					.map(directory::relativize)
+					.collect(Collectors.toSet());
+		}
+	}
+
+	private static void link(Path existing, Path target) throws IOException {
+		try {
+			Files.createLink(target, existing);
+		} catch(UnsupportedOperationException | IOException e) {
+			Files.copy(existing, target);
+		}
+	}
+
+	private void publish(Path newDirectory) throws IOException {
+		Path link;
+		try {
+			link = createLinkSibling(newDirectory.getFileName());
+		} catch(UnsupportedOperationException | FileSystemException e) {
+			replace(newDirectory);
+			return;
+		}
+		Path previous = null;
+		try {
+			if(Files.isSymbolicLink(directory)) {
+				previous = directory.resolveSibling(Files.readSymbolicLink(directory));
+			} else if(Files.exists(directory)) {
+				// from before it was a link; this once, it has to be moved out of the way first
+				previous = createSibling("v");
+				Files.delete(previous);
+				Files.move(directory, previous, StandardCopyOption.ATOMIC_MOVE);
+			}
+			// renaming a link over another one replaces it in one step
+			Files.move(link, directory, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(link);
+		}
+		deleteOldVersions(newDirectory, previous);
+	}
+
+	private void deleteOldVersions(Path current, Path previous) throws IOException {
+		List<Path> old = new ArrayList<>();
+		try(DirectoryStream<Path> versions = Files.newDirectoryStream(directory.getParent(),
+				"." + directory.getFileName() + ".v-*")) {
+			for(Path version: versions) {
+				if(!version.equals(current) && !version.equals(previous)) old.add(version);
+			}
+		}
+		for(Path version: old) {
+			deleteRecursively(version);
+		}
+	}
+
+	/**
+	 * Replace the directory without a link, moving the old one out of the way first
+	 * (since a directory can't be renamed over another one).
+	 */
+	private void replace(Path newDirectory) throws IOException {
+		if(!Files.exists(directory)) {
+			Files.move(newDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+			return;
+		}
+		Path oldDirectory = createSibling("old");
+		Files.delete(oldDirectory);
+		Files.move(directory, oldDirectory, StandardCopyOption.ATOMIC_MOVE);
+		try {
+			Files.move(newDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+		} catch(IOException e) {
+			Files.move(oldDirectory, directory, StandardCopyOption.ATOMIC_MOVE);
+			throw e;
+		}
+		deleteRecursively(oldDirectory);
+	}
+
+	private Path sibling(String kind) {
+		return directory.resolveSibling("." + directory.getFileName() + "." + kind);
+	}
+
+	/**
+	 * Create a symbolic link next to ours, pointing at {@code target} (relative to the parent directory).
+	 */
+	private Path createLinkSibling(Path target) throws IOException {
+		Random random = new Random();
+		while(true) {
+			Path sibling = sibling("link-" + Integer.toHexString(random.nextInt()));
+			try {
+				return Files.createSymbolicLink(sibling, target);
+			} catch(FileAlreadyExistsException e) {
+				// try another name
+			}
+		}
+	}
+
+	/**
+	 * Create an empty directory next to ours, with the normal permissions
+	 * (unlike {@link Files#createTempDirectory}, which makes it private).
+	 */
+	private Path createSibling(String kind) throws IOException {
+		Random random = new Random();
+		while(true) {
+			Path sibling = sibling(kind + "-" + Integer.toHexString(random.nextInt()));
+			try {
+				return Files.createDirectory(sibling);
+			} catch(FileAlreadyExistsException e) {
+				// try another name
+			}
+		}
+	}
+
+	private static void deleteRecursively(Path path) throws IOException {
+		try(Stream<Path> paths = Files.walk(path)) {
+			for(Path p: paths.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+				Files.delete(p);
+			}
+		}
+	}
+}
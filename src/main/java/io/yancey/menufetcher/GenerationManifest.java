@@ -0,0 +1,79 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+
+import com.google.gson.*;
+
+import io.yancey.menufetcher.data.*;
+
+/**
+ * Remembers what the menus were the last time each day's outputs were generated,
+ * so days whose menus haven't changed can be skipped.
+ * <p>
+ * It's stored as json, mapping each day to the hash of its menus when each output was last written:
+ * {@code {"2016-03-02": {"web": 12345, "api": 12345}}}.
+ */
+public class GenerationManifest {
+	private final Path file;
+	private final Map<LocalDate, Map<String, Integer>> hashes = new TreeMap<>();
+
+	public GenerationManifest(Path file) {
+		this.file = file;
+		if(!Files.exists(file)) return;
+		try {
+			JsonObject json = new JsonParser().parse(new String(
+					Files.readAllBytes(file), StandardCharsets.UTF_8)).getAsJsonObject();
+			for(Map.Entry<String, JsonElement> day: json.entrySet()) {
+				Map<String, Integer> outputs = new HashMap<>();
+				for(Map.Entry<String, JsonElement> output: day.getValue().getAsJsonObject().entrySet()) {
+					outputs.put(output.getKey(), output.getValue().getAsInt());
+				}
+				hashes.put(LocalDate.parse(day.getKey()), outputs);
+			}
+		} catch(IOException | RuntimeException e) {
+			System.err.println("Error reading manifest "+file+"; regenerating everything: "+e);
+			hashes.clear();
+		}
+	}
+
+	/**
+	 * A hash of the contents of the menus, which is the same from run to run.
+	 */
+	public static int hash(List<Menu> menus) {
+		return menus.hashCode();
+	}
+
+	/**
+	 * @return whether the output was last generated from menus with the same hash
+	 */
+	public synchronized boolean isUpToDate(LocalDate day, String output, int menusHash) {
+		Map<String, Integer> outputs = hashes.get(day);
+		return outputs != null && Integer.valueOf(menusHash).equals(outputs.get(output));
+	}
+
+	public synchronized void update(LocalDate day, String output, int menusHash) {
+		hashes.computeIfAbsent(day, d -> new HashMap<>()).put(output, menusHash);
+	}
+
+	public synchronized void save() throws IOException {
+		JsonObject json = new JsonObject();
+		for(Map.Entry<LocalDate, Map<String, Integer>> day: hashes.entrySet()) {
+			JsonObject outputs = new JsonObject();
+			for(Map.Entry<String, Integer> output: new TreeMap<>(day.getValue()).entrySet()) {
+				outputs.addProperty(output.getKey(), output.getValue());
+			}
+			json.add(day.getKey().toString(), outputs);
+		}
+		Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temp, json.toString().getBytes(StandardCharsets.UTF_8));
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.common.base.*;
+
+import io.yancey.menufetcher.data.*;
+
+/**
+ * Runs fetching, rendering and writing for a range of dates as separate stages,
+ * so that later days can be fetched while earlier ones are still being written.
+ * <p>
+ * Stages are connected by bounded queues, so fetching never gets more than
+ * {@code inFlight} days ahead of the slowest stage.
+ */
+public class GenerationPipeline {
+	public interface Fetch {
+		public List<Menu> fetch(LocalDate day);
+	}
+
+	public interface Stage {
+		public void process(LocalDate day, List<Menu> menus) throws IOException;
+	}
+
+	private static final DayMenus END_OF_DAYS = new DayMenus(null, null);
+
+	private final int inFlight;
+	private final List<String> stageNames = new ArrayList<>();
+	private final List<Stage> stages = new ArrayList<>();
+	private volatile boolean stopped = false;
+
+	public GenerationPipeline(int inFlight) {
+		if(inFlight < 1) {
+			throw new IllegalArgumentException("Need at least one day in flight, not " + inFlight);
+		}
+		this.inFlight = inFlight;
+	}
+
+	public GenerationPipeline addStage(String name, Stage stage) {
+		stageNames.add(name);
+		stages.add(stage);
+		return this;
+	}
+
+	/**
+	 * Stop fetching new days; the days already fetched are still written.
+	 */
+	public void stop() {
+		stopped = true;
+	}
+	
+	public void run(List<LocalDate> dates, Fetch fetch) {
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<Thread> threads = new ArrayList<>();
+		BlockingQueue<DayMenus> firstQueue = new ArrayBlockingQueue<>(inFlight);
+		BlockingQueue<DayMenus> input = firstQueue;
+		for(int i = 0; i < stages.size(); i++) {
+			BlockingQueue<DayMenus> output = i == stages.size() - 1?
+					null: new ArrayBlockingQueue<>(inFlight);
+			Thread thread = new Thread(
+					new StageRunner(stageNames.get(i), stages.get(i), input, output, failure),
+					"pipeline-" + stageNames.get(i));
+			thread.start();
+			threads.add(thread);
+			input = output;
+		}
+
+		try {
+			for(LocalDate day: dates) {
+				if(failure.get() != null || stopped) break;
+				firstQueue.put(new DayMenus(day, fetch.fetch(day)));
+			}
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted while fetching menus", e);
+		} catch(RuntimeException | Error e) {
+			failure.compareAndSet(null, e);
+		} finally {
+			try {
+				if(!threads.isEmpty()) firstQueue.put(END_OF_DAYS);
+				for(Thread thread: threads) thread.join();
+			} catch(InterruptedException e) {
+				for(Thread thread: threads) thread.interrupt();
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		if(failure.get() != null) {
+			throw Throwables.propagate(failure.get());
+		}
+	}
+
+	private static class StageRunner implements Runnable {
+		private final String name;
+		private final Stage stage;
+		private final BlockingQueue<DayMenus> input;
+		private final BlockingQueue<DayMenus> output;
+		private final AtomicReference<Throwable> failure;
+
+		public StageRunner(String name, Stage stage,
+				BlockingQueue<DayMenus> input, BlockingQueue<DayMenus> output,
+				AtomicReference<Throwable> failure) {
+			this.name = name;
+			this.stage = stage;
+			this.input = input;
+			this.output = output;
+			this.failure = failure;
+		}
+
+		@Override
+		public void run() {
+			try {
+				while(true) {
+					DayMenus dayMenus = input.take();
+					if(dayMenus != END_OF_DAYS && failure.get() == null) {
+						process(dayMenus);
+					}
+					// keep passing days along after a failure so upstream never blocks
+					if(output != null) output.put(dayMenus);
+					if(dayMenus == END_OF_DAYS) return;
+				}
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+
+		private void process(DayMenus dayMenus) {
+			try {
+				stage.process(dayMenus.day, dayMenus.menus);
+			} catch(IOException e) {
+				System.err.println("error in "+name+" for "+dayMenus.day+":");
+				e.printStackTrace();
+			} catch(RuntimeException | Error e) {
+				System.err.println("error in "+name+" for "+dayMenus.day+": "+e);
+				failure.compareAndSet(null, e);
+			}
+		}
+	}
+
+	private static class DayMenus {
+		public final LocalDate day;
+		public final List<Menu> menus;
+
+		public DayMenus(LocalDate day, List<Menu> menus) {
+			this.day = day;
+			this.menus = menus;
+		}
+	}
+}
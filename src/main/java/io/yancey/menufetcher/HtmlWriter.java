@@ -0,0 +1,262 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.util.*;
+
+import org.jsoup.nodes.*;
+import org.jsoup.parser.*;
+
+/**
+ * Writes html straight to a stream, formatted exactly the way Jsoup would pretty-print
+ * the same nodes, without ever building them into a document.
+ * <p>
+ * Elements are written with {@link #startElement(String)}, then any {@link #attr attributes},
+ * then their children, then {@link #endElement()}.
+ */
+public class HtmlWriter implements Flushable {
+	private static final Tag ROOT = Tag.valueOf("#root");
+
+	private final Writer out;
+	private final Deque<OpenElement> openElements = new ArrayDeque<>();
+	private boolean written;
+
+	public HtmlWriter(Writer out) {
+		this(out, ROOT, -1, false);
+	}
+
+	private HtmlWriter(Writer out, Tag parent, int parentDepth, boolean written) {
+		this.out = out;
+		this.openElements.push(new OpenElement(parent, parentDepth));
+		this.openElements.peek().headOpen = false;
+		this.written = written;
+	}
+
+	/**
+	 * Pretty-print a node ahead of time, so it can be copied into a page with {@link #prerendered}.
+	 * The node must not be the first thing in its document.
+	 */
+	public static String prerender(Node node) {
+		Node parent = node.parentNode();
+		Tag parentTag = parent instanceof Element? ((Element)parent).tag(): ROOT;
+		int parentDepth = parent instanceof Element && !(parent instanceof Document)?
+				((Element)parent).parents().size(): -1;
+		StringWriter rendered = new StringWriter();
+		try {
+			new HtmlWriter(rendered, parentTag, parentDepth, true).node(node);
+		} catch(IOException e) {
+			throw new AssertionError("StringWriter threw an IOException", e);
+		}
+		return rendered.toString();
+	}
+
+	private static class OpenElement {
+		public final Tag tag;
+		public final int depth;
+		public int children = 0;
+		public boolean headOpen = true;
+
+		public OpenElement(Tag tag, int depth) {
+			this.tag = tag;
+			this.depth = depth;
+		}
+	}
+
+	public HtmlWriter startElement(String tagName) throws IOException {
+		return startElement(Tag.valueOf(tagName));
+	}
+
+	public HtmlWriter startElement(Tag tag) throws IOException {
+		OpenElement parent = startChild();
+		int depth = parent.depth + 1;
+		if(written && (tag.formatAsBlock() || parent.tag.formatAsBlock())) {
+			indent(depth);
+		}
+		out.write('<');
+		out.write(tag.getName());
+		written = true;
+		openElements.push(new OpenElement(tag, depth));
+		return this;
+	}
+
+	public HtmlWriter attr(String key, String value) throws IOException {
+		if(!openElements.peek().headOpen) {
+			throw new IllegalStateException("Attribute "+key+" added after the element's contents");
+		}
+		out.write(' ');
+		out.write(key);
+		if(!(value.isEmpty() || value.equalsIgnoreCase(key)) || !isBooleanAttribute(key)) {
+			out.write("=\"");
+			escape(value, true, false);
+			out.write('"');
+		}
+		return this;
+	}
+
+	public HtmlWriter endElement() throws IOException {
+		OpenElement element = openElements.pop();
+		if(element.children == 0 && element.tag.isSelfClosing()) {
+			out.write(element.tag.isEmpty()? ">": " />");
+			return this;
+		}
+		if(element.headOpen) out.write('>');
+		if(element.children > 0 && element.tag.formatAsBlock()) {
+			indent(element.depth);
+		}
+		out.write("</");
+		out.write(element.tag.getName());
+		out.write('>');
+		return this;
+	}
+
+	public HtmlWriter text(String text) throws IOException {
+		OpenElement parent = openElements.peek();
+		boolean first = parent.children == 0;
+		startChild();
+		if(first && parent.tag.formatAsBlock() && !isBlank(text)) {
+			indent(parent.depth + 1);
+		}
+		escape(text, false, !preservesWhitespace());
+		written = true;
+		return this;
+	}
+
+	/**
+	 * Write an element that just holds some text.
+	 */
+	public HtmlWriter element(String tagName, String text) throws IOException {
+		return startElement(tagName).text(text).endElement();
+	}
+
+	/**
+	 * Write a node from a parsed document, and everything inside it.
+	 */
+	public HtmlWriter node(Node node) throws IOException {
+		if(node instanceof Element) {
+			Element element = (Element) node;
+			startElement(element.tag());
+			for(Attribute attribute: element.attributes()) {
+				attr(attribute.getKey(), attribute.getValue());
+			}
+			for(Node child: element.childNodes()) {
+				node(child);
+			}
+			endElement();
+		} else if(node instanceof TextNode) {
+			text(((TextNode)node).getWholeText());
+		} else if(node instanceof DataNode) {
+			startChild();
+			out.write(((DataNode)node).getWholeData());
+			written = true;
+		} else if(node instanceof Comment) {
+			OpenElement parent = startChild();
+			indent(parent.depth + 1);
+			out.write("<!--");
+			out.write(((Comment)node).getData());
+			out.write("-->");
+			written = true;
+		} else {
+			// doctypes and the like never depend on where they are
+			startChild();
+			out.write(node.outerHtml());
+			written = true;
+		}
+		return this;
+	}
+
+	/**
+	 * Copy in a node rendered by {@link #prerender(Node)}; it must have come from the same place
+	 * in the same document as where it's being written.
+	 */
+	public HtmlWriter prerendered(String rendered) throws IOException {
+		startChild();
+		out.write(rendered);
+		written = true;
+		return this;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	private OpenElement startChild() throws IOException {
+		OpenElement parent = openElements.peek();
+		if(parent.headOpen) {
+			out.write('>');
+			parent.headOpen = false;
+		}
+		parent.children++;
+		return parent;
+	}
+
+	private boolean preservesWhitespace() {
+		Iterator<OpenElement> parents = openElements.iterator();
+		OpenElement parent = parents.next();
+		return parent.tag.preserveWhitespace() ||
+				(parents.hasNext() && parents.next().tag.preserveWhitespace());
+	}
+
+	private void indent(int depth) throws IOException {
+		out.write('\n');
+		for(int i = 0; i < depth; i++) out.write(' ');
+	}
+
+	private void escape(String string, boolean inAttribute, boolean normaliseWhite) throws IOException {
+		boolean lastWasWhite = false;
+		for(int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if(normaliseWhite) {
+				if(isWhitespace(c)) {
+					if(!lastWasWhite) out.write(' ');
+					lastWasWhite = true;
+					continue;
+				}
+				lastWasWhite = false;
+			}
+			switch(c) {
+				case '&':
+					out.write("&amp;");
+					break;
+				case '\u00a0':
+					out.write("&nbsp;");
+					break;
+				case '<':
+					if(inAttribute) out.write(c);
+					else out.write("&lt;");
+					break;
+				case '>':
+					if(inAttribute) out.write(c);
+					else out.write("&gt;");
+					break;
+				case '"':
+					if(inAttribute) out.write("&quot;");
+					else out.write(c);
+					break;
+				default:
+					out.write(c);
+			}
+		}
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\t' || c == '\n' || c == '\f' || c == '\r';
+	}
+
+	private static boolean isBlank(String string) {
+		for(int i = 0; i < string.length(); i++) {
+			if(!isWhitespace(string.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	private static final String[] booleanAttributes = {
+			"allowfullscreen", "async", "autofocus", "checked", "compact", "declare", "default", "defer",
+			"disabled", "formnovalidate", "hidden", "inert", "ismap", "itemscope", "multiple", "muted",
+			"nohref", "noresize", "noshade", "novalidate", "nowrap", "open", "readonly", "required",
+			"reversed", "seamless", "selected", "sortable", "truespeed", "typemustmatch"
+	};
+
+	private static boolean isBooleanAttribute(String key) {
+		return Arrays.binarySearch(booleanAttributes, key) >= 0;
+	}
+}
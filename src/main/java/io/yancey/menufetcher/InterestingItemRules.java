@@ -0,0 +1,404 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.regex.*;
+
+import com.google.gson.*;
+
+import io.yancey.menufetcher.data.*;
+
+/**
+ * The rules for which items show up in the summary, compiled from their json so they can be applied
+ * to every menu without looking anything up in the json again.
+ * <p>
+ * The json maps each dining hall id to its meals, and each meal name to its station rules, in order.
+ * A station rule is keyed by the station's name (ignoring case), or by {@code ""} with a
+ * {@code "regex-match"} for every station whose name matches.  Its value says which items to keep:
+ * <ul>
+ * <li>a number {@code n}: the first {@code n} items, or the last {@code -n} (backwards) if it's negative
+ * <li>{@code "all"}: every item
+ * <li>{@code "single"}: every item, joined into one
+ * <li>an object with a {@code "number"} (any of these) and optionally an {@code "include-if"}
+ *     of {@code {"contains": text}} or {@code {"not-contains": text}}, tested against the whole station
+ * </ul>
+ */
+public class InterestingItemRules {
+	/** a hash of the json the rules were compiled from, which is the same from run to run */
+	public final int sourceHash;
+	private final Map<String, Map<String, MealRules>> rulesByHall;
+
+	private InterestingItemRules(int sourceHash, Map<String, Map<String, MealRules>> rulesByHall) {
+		this.sourceHash = sourceHash;
+		this.rulesByHall = rulesByHall;
+	}
+
+	/**
+	 * Load and compile the rules in a json file.
+	 *
+	 * @throws IllegalArgumentException if the file isn't valid json or the rules aren't valid
+	 */
+	public static InterestingItemRules load(Path file) throws IOException {
+		try(Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+			return compile(new JsonParser().parse(reader));
+		} catch(JsonIOException e) {
+			throw new IOException(e.getMessage(), e);
+		} catch(JsonParseException e) {
+			throw new IllegalArgumentException("not valid json: " + e.getMessage(), e);
+		}
+	}
+
+	/**
+	 * @throws IllegalArgumentException if the rules aren't valid, saying which one is wrong
+	 */
+	public static InterestingItemRules compile(JsonElement ruleTable) {
+		Map<String, Map<String, MealRules>> rulesByHall = new HashMap<>();
+		for(Map.Entry<String, JsonElement> hall: asObject(ruleTable, "the rules").entrySet()) {
+			Map<String, MealRules> rulesByMeal = new HashMap<>();
+			for(Map.Entry<String, JsonElement> meal: asObject(hall.getValue(), hall.getKey()).entrySet()) {
+				rulesByMeal.put(meal.getKey(),
+						MealRules.compile(meal.getValue(), hall.getKey() + "/" + meal.getKey()));
+			}
+			rulesByHall.put(hall.getKey(), Collections.unmodifiableMap(rulesByMeal));
+		}
+		return new InterestingItemRules(ruleTable.toString().hashCode(), Collections.unmodifiableMap(rulesByHall));
+	}
+
+	public List<Meal> getInterestingItems(Menu menu) {
+		Map<String, MealRules> rulesByMeal = rulesByHall.get(menu.diningHallId);
+		if(rulesByMeal == null) return Collections.emptyList();
+		List<Meal> meals = new ArrayList<>();
+		for(Meal baseMeal: menu.meals) {
+			MealRules rules = rulesByMeal.get(baseMeal.name);
+			if(rules != null) meals.add(rules.apply(baseMeal));
+		}
+		return meals;
+	}
+
+	private static JsonObject asObject(JsonElement json, String where) {
+		if(json == null || !json.isJsonObject()) {
+			throw new IllegalArgumentException(where + ": expected an object, not " + json);
+		}
+		return json.getAsJsonObject();
+	}
+
+	private static class MealRules {
+		private final StationRule[] rules;
+		/**
+		 * An open-addressed hash table of the named rules, keyed ignoring case:
+		 * each slot is a rule's index plus one, or 0 if it's empty.
+		 */
+		private final int[] namedSlots;
+		private final int namedRules;
+
+		private MealRules(StationRule[] rules) {
+			this.rules = rules;
+			int named = 0;
+			for(StationRule rule: rules) {
+				if(rule.name != null) named++;
+			}
+			this.namedRules = named;
+			this.namedSlots = new int[Integer.highestOneBit(Math.max(1, named) * 2) * 2];
+			for(int i = 0; i < rules.length; i++) {
+				String name = rules[i].name;
+				if(name == null || findNamedRule(name) >= 0) continue;
+				int slot = caselessHash(name) & (namedSlots.length - 1);
+				while(namedSlots[slot] != 0) slot = (slot + 1) & (namedSlots.length - 1);
+				namedSlots[slot] = i + 1;
+			}
+		}
+
+		public static MealRules compile(JsonElement json, String where) {
+			Set<Map.Entry<String, JsonElement>> entries = asObject(json, where).entrySet();
+			StationRule[] rules = new StationRule[entries.size()];
+			int i = 0;
+			for(Map.Entry<String, JsonElement> entry: entries) {
+				String ruleWhere = where + "/" + entry.getKey();
+				if(entry.getKey().isEmpty()) {
+					JsonElement regex = asObject(entry.getValue(), ruleWhere).get("regex-match");
+					if(regex == null || !regex.isJsonPrimitive()) {
+						throw new IllegalArgumentException(ruleWhere + ": an unnamed station needs a regex-match");
+					}
+					Pattern pattern;
+					try {
+						pattern = Pattern.compile(regex.getAsString());
+					} catch(PatternSyntaxException e) {
+						throw new IllegalArgumentException(ruleWhere + ": invalid regex-match: " + e.getMessage(), e);
+					}
+					rules[i++] = new StationRule(null, pattern, Selection.compile(entry.getValue(), ruleWhere));
+				} else {
+					rules[i++] = new StationRule(entry.getKey(), null, Selection.compile(entry.getValue(), ruleWhere));
+				}
+			}
+			return new MealRules(rules);
+		}
+
+		/**
+		 * @return the index of the first rule for the station, or -1 if there isn't one
+		 */
+		private int findNamedRule(String stationName) {
+			int slot = caselessHash(stationName) & (namedSlots.length - 1);
+			for(int index; (index = namedSlots[slot] - 1) >= 0; slot = (slot + 1) & (namedSlots.length - 1)) {
+				if(rules[index].name.equalsIgnoreCase(stationName)) return index;
+			}
+			return -1;
+		}
+
+		public Meal apply(Meal baseMeal) {
+			// each named rule applies to the first station with its name
+			Station[] namedStations = namedRules == 0? null: new Station[rules.length];
+			if(namedStations != null) {
+				for(Station station: baseMeal.stations) {
+					int index = findNamedRule(station.name);
+					if(index >= 0 && namedStations[index] == null) namedStations[index] = station;
+				}
+			}
+			List<Station> newStations = new ArrayList<>();
+			for(int i = 0; i < rules.length; i++) {
+				StationRule rule = rules[i];
+				if(rule.name != null) {
+					// later rules for the same name (ignoring case) look up the same station
+					int index = findNamedRule(rule.name);
+					Station baseStation = namedStations[index];
+					if(baseStation == null) continue;
+					Station newStation = rule.selection.select(baseStation);
+					if(newStation != null) newStations.add(newStation);
+				} else {
+					Matcher matcher = rule.matcher.get();
+					for(Station baseStation: baseMeal.stations) {
+						if(matcher.reset(baseStation.name).matches()) {
+							Station newStation = rule.selection.select(baseStation);
+							if(newStation != null) newStations.add(newStation);
+						}
+					}
+				}
+			}
+			return new Meal(newStations, baseMeal.hours, baseMeal.name, baseMeal.description);
+		}
+	}
+
+	/**
+	 * A hash that's the same for strings that are {@link String#equalsIgnoreCase equal ignoring case}.
+	 */
+	private static int caselessHash(String s) {
+		int hash = 0;
+		for(int i = 0; i < s.length(); i++) {
+			hash = 31 * hash + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+		}
+		return hash ^ (hash >>> 16);
+	}
+
+	private static class StationRule {
+		/** the station's name, or null if it's matched by pattern instead */
+		public final String name;
+		/** matchers are reused, but they can't be shared between threads */
+		public final ThreadLocal<Matcher> matcher;
+		public final Selection selection;
+
+		public StationRule(String name, Pattern pattern, Selection selection) {
+			this.name = name;
+			this.matcher = pattern == null? null: ThreadLocal.withInitial(() -> pattern.matcher(""));
+			this.selection = selection;
+		}
+	}
+
+	/**
+	 * Picks the interesting items out of a station.
+	 */
+	private static abstract class Selection {
+		/**
+		 * @return the station with only its interesting items, or null to leave it out
+		 */
+		public abstract Station select(Station baseStation);
+
+		public static Selection compile(JsonElement json, String where) {
+			if(json != null && json.isJsonPrimitive()) {
+				JsonPrimitive primitive = json.getAsJsonPrimitive();
+				if(primitive.isNumber()) {
+					return new Count(primitive.getAsInt());
+				} else if(primitive.isString() && primitive.getAsString().equals("all")) {
+					return All.INSTANCE;
+				} else if(primitive.isString() && primitive.getAsString().equals("single")) {
+					return Single.INSTANCE;
+				}
+			} else if(json != null && json.isJsonObject()) {
+				JsonObject rule = json.getAsJsonObject();
+				Selection number = compile(rule.get("number"), where + "/number");
+				JsonElement filter = rule.get("include-if");
+				return filter == null? number: new Filtered(Filter.compile(filter, where + "/include-if"), number);
+			}
+			throw new IllegalArgumentException(where + ": bad rule " + json +
+					"; expected a number, \"all\", \"single\" or an object with a number");
+		}
+	}
+
+	private static class Count extends Selection {
+		private final int count;
+
+		public Count(int count) {
+			this.count = count;
+		}
+
+		@Override
+		public Station select(Station baseStation) {
+			List<MenuItem> menu = baseStation.menu;
+			List<MenuItem> newMenuItems = new ArrayList<>(Math.min(Math.abs(count), menu.size()));
+			if(count > 0) {
+				for(int i = 0; i < count && i < menu.size(); i++) {
+					newMenuItems.add(menu.get(i));
+				}
+			} else {
+				for(int i = 0; i < -count && i < menu.size(); i++) {
+					newMenuItems.add(menu.get(menu.size() - i - 1));
+				}
+			}
+			return new Station(baseStation.name, newMenuItems);
+		}
+	}
+
+	private static class All extends Selection {
+		public static final All INSTANCE = new All();
+
+		@Override
+		public Station select(Station baseStation) {
+			return baseStation;
+		}
+	}
+
+	private static class Single extends Selection {
+		public static final Single INSTANCE = new Single();
+		private static final Pattern surroundingSpace = Pattern.compile("(^\\h*)|(\\h*$)");
+
+		@Override
+		public Station select(Station baseStation) {
+			if(baseStation.menu.isEmpty()) {
+				return new Station(baseStation.name, Collections.emptyList());
+			}
+			StringBuilder newName = new StringBuilder();
+			for(MenuItem item: baseStation.menu) {
+				if(newName.length() > 0) newName.append(", ");
+				newName.append(surroundingSpace.matcher(item.name).replaceAll(""));
+			}
+			return new Station(baseStation.name, Collections.singletonList(
+					new MenuItem(newName.toString(), "", Collections.emptySet())));
+		}
+	}
+
+	private static class Filtered extends Selection {
+		private final Filter filter;
+		private final Selection selection;
+
+		public Filtered(Filter filter, Selection selection) {
+			this.filter = filter;
+			this.selection = selection;
+		}
+
+		@Override
+		public Station select(Station baseStation) {
+			return filter.test(baseStation)? selection.select(baseStation): null;
+		}
+	}
+
+	/**
+	 * Whether a station's text (as in {@link Station#toString()}) contains some text,
+	 * searched without building the text.
+	 */
+	private static class Filter {
+		private final String needle;
+		private final boolean negate;
+		/** for each prefix of the needle, the length of its longest proper prefix that's also a suffix */
+		private final int[] fallback;
+
+		private Filter(String needle, boolean negate) {
+			this.needle = needle;
+			this.negate = negate;
+			this.fallback = new int[needle.length()];
+			for(int i = 1, matched = 0; i < needle.length(); i++) {
+				while(matched > 0 && needle.charAt(i) != needle.charAt(matched)) matched = fallback[matched - 1];
+				if(needle.charAt(i) == needle.charAt(matched)) matched++;
+				fallback[i] = matched;
+			}
+		}
+
+		public static Filter compile(JsonElement json, String where) {
+			Set<Map.Entry<String, JsonElement>> entries = asObject(json, where).entrySet();
+			if(entries.size() != 1) {
+				throw new IllegalArgumentException(where + ": expected exactly one test, not " + json);
+			}
+			Map.Entry<String, JsonElement> test = entries.iterator().next();
+			if(!test.getValue().isJsonPrimitive()) {
+				throw new IllegalArgumentException(where + ": expected text for " + test.getKey());
+			}
+			switch(test.getKey()) {
+				case "contains":
+					return new Filter(test.getValue().getAsString(), false);
+				case "not-contains":
+					return new Filter(test.getValue().getAsString(), true);
+				default:
+					throw new IllegalArgumentException(where + ": unknown test " + test.getKey() +
+							"; expected contains or not-contains");
+			}
+		}
+
+		public boolean test(Station station) {
+			return contains(station) != negate;
+		}
+
+		private boolean contains(Station station) {
+			if(needle.isEmpty()) return true;
+			int matched = feed(station.name, 0);
+			if(matched < 0) return true;
+			matched = feed("\n\n", matched);
+			if(matched < 0) return true;
+			for(MenuItem item: station.menu) {
+				matched = feed(item.name, matched);
+				if(matched < 0) return true;
+				if(!item.description.isEmpty()) {
+					matched = feed(": \n\t", matched);
+					if(matched < 0) return true;
+					matched = feedDescription(item.description, matched);
+					if(matched < 0) return true;
+				}
+				matched = feed("\n", matched);
+				if(matched < 0) return true;
+			}
+			return false;
+		}
+
+		/**
+		 * @return how much of the needle is matched after the text, or -1 if it was found
+		 */
+		private int feed(String text, int matched) {
+			for(int i = 0; i < text.length(); i++) {
+				matched = step(matched, text.charAt(i));
+				if(matched == needle.length()) return -1;
+			}
+			return matched;
+		}
+
+		/**
+		 * Like {@link #feed} with the line breaks replaced the same way as in {@link MenuItem#toString()}.
+		 */
+		private int feedDescription(String description, int matched) {
+			for(int i = 0; i < description.length(); i++) {
+				if(description.startsWith("<br />", i)) {
+					matched = step(matched, '\n');
+					if(matched == needle.length()) return -1;
+					matched = step(matched, '\t');
+					i += "<br />".length() - 1;
+				} else {
+					matched = step(matched, description.charAt(i));
+				}
+				if(matched == needle.length()) return -1;
+			}
+			return matched;
+		}
+
+		private int step(int matched, char c) {
+			while(matched > 0 && needle.charAt(matched) != c) matched = fallback[matched - 1];
+			return needle.charAt(matched) == c? matched + 1: matched;
+		}
+	}
+}
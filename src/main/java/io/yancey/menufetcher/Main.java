@@ -1,17 +1,24 @@
 package io.yancey.menufetcher;
 
 import java.io.*;
+import java.net.*;
 import java.nio.file.*;
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.common.util.concurrent.*;
 
 import io.yancey.menufetcher.data.*;
 import io.yancey.menufetcher.fetchers.*;
 import io.yancey.menufetcher.fetchers.dininghalls.*;
+import io.yancey.menufetcher.http.*;
 import joptsimple.*;
 
 public class Main {
+	private static final long DAEMON_SHUTDOWN_TIMEOUT_MINUTES = 5;
+	
 	public static void main(String[] stringArgs) throws IOException {
 		OptionParser parser = new OptionParser();
 		OptionSpec<File> basedirOpt = parser.acceptsAll(
@@ -58,6 +65,178 @@ public class Main {
 		OptionSpec<Void> apiOpt = parser.acceptsAll(
 				Arrays.asList("api", "a"),
 				"Generate the api");
+		OptionSpec<Integer> threadsOpt = parser.acceptsAll(
+				Arrays.asList("threads", "t"),
+				"How many dining halls to fetch at once (1 fetches them one at a time)")
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(1);
+		OptionSpec<Integer> fetchTimeoutOpt = parser.acceptsAll(
+				Arrays.asList("fetchTimeout"),
+				"How many seconds to wait for each dining hall when fetching concurrently")
+				.availableIf(threadsOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(60);
+		OptionSpec<Integer> totalTimeoutOpt = parser.acceptsAll(
+				Arrays.asList("totalTimeout"),
+				"How many seconds to wait for all of the dining halls when fetching concurrently")
+				.availableIf(threadsOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(180);
+		OptionSpec<Integer> inFlightOpt = parser.acceptsAll(
+				Arrays.asList("inFlight", "k"),
+				"How many days can be fetched ahead of the day being written")
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(2);
+		OptionSpec<Void> forceOpt = parser.acceptsAll(
+				Arrays.asList("force"),
+				"Regenerate every day, even if its menus haven't changed since the last run");
+		OptionSpec<Void> daemonOpt = parser.acceptsAll(
+				Arrays.asList("daemon"),
+				"Keep running, regenerating the next --numDays days (7 by default) in the background")
+				.availableUnless(dateListOpt, endDateOpt);
+		OptionSpec<Integer> refreshNearOpt = parser.acceptsAll(
+				Arrays.asList("refreshNear"),
+				"How many minutes between refreshes of today and tomorrow in --daemon mode")
+				.availableIf(daemonOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(15);
+		OptionSpec<Integer> refreshFarOpt = parser.acceptsAll(
+				Arrays.asList("refreshFar"),
+				"How many minutes between refreshes of the later days in --daemon mode")
+				.availableIf(daemonOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(120);
+		OptionSpec<String> cadenceOpt = parser.acceptsAll(
+				Arrays.asList("cadence"),
+				"In --daemon mode, only re-download a dining hall's menus this often (--refreshNear by default)")
+				.availableIf(daemonOpt)
+				.withRequiredArg()
+				.describedAs("id=minutes");
+		OptionSpec<Integer> serveOpt = parser.acceptsAll(
+				Arrays.asList("serve"),
+				"Serve the webpages and api over http on this port, instead of writing them to disk")
+				.availableUnless(daemonOpt)
+				.withRequiredArg()
+				.ofType(Integer.class);
+		OptionSpec<Integer> serveThreadsOpt = parser.acceptsAll(
+				Arrays.asList("serveThreads"),
+				"How many requests to handle at once with --serve")
+				.availableIf(serveOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(8);
+		OptionSpec<Integer> serveTtlOpt = parser.acceptsAll(
+				Arrays.asList("serveTtl"),
+				"How many minutes --serve keeps a day's menus before fetching them again")
+				.availableIf(serveOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(15);
+		OptionSpec<File> cacheDirOpt = parser.acceptsAll(
+				Arrays.asList("cacheDir", "c"),
+				"Cache downloaded data in this directory between runs")
+				.withRequiredArg().ofType(File.class);
+		OptionSpec<Integer> cacheSizeOpt = parser.acceptsAll(
+				Arrays.asList("cacheSize"),
+				"The maximum size of the download cache, in megabytes")
+				.availableIf(cacheDirOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(64);
+		OptionSpec<Integer> cacheTtlOpt = parser.acceptsAll(
+				Arrays.asList("cacheTtl"),
+				"How many minutes a cached download can be used without checking whether it changed")
+				.availableIf(cacheDirOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(60);
+		OptionSpec<String> hostTtlOpt = parser.acceptsAll(
+				Arrays.asList("hostTtl"),
+				"Override --cacheTtl for a single host")
+				.availableIf(cacheDirOpt)
+				.withRequiredArg()
+				.describedAs("host=minutes");
+		OptionSpec<Integer> httpTimeoutOpt = parser.acceptsAll(
+				Arrays.asList("httpTimeout"),
+				"How many seconds to wait to connect to or hear back from a server")
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(HttpClient.DEFAULT_TIMEOUT_MILLIS / 1000);
+		OptionSpec<Integer> httpRetriesOpt = parser.acceptsAll(
+				Arrays.asList("httpRetries"),
+				"How many times to retry a download after a transient failure")
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(HttpClient.DEFAULT_MAX_RETRIES);
+		OptionSpec<Integer> hostConnectionsOpt = parser.acceptsAll(
+				Arrays.asList("hostConnections"),
+				"How many downloads from a single server can run at once")
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(HttpClient.DEFAULT_CONNECTIONS_PER_HOST);
+		OptionSpec<File> recordOpt = parser.acceptsAll(
+				Arrays.asList("record"),
+				"Save every download into this folder, so the run can be played back with --replay")
+				.availableUnless(cacheDirOpt)
+				.withRequiredArg()
+				.ofType(File.class);
+		OptionSpec<File> replayOpt = parser.acceptsAll(
+				Arrays.asList("replay"),
+				"Instead of using the network, answer every download from a folder saved with --record")
+				.availableUnless(cacheDirOpt, recordOpt)
+				.withRequiredArg()
+				.ofType(File.class);
+		OptionSpec<Integer> replayLatencyOpt = parser.acceptsAll(
+				Arrays.asList("replayLatency"),
+				"How many milliseconds each replayed download takes")
+				.availableIf(replayOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(0);
+		OptionSpec<Integer> replayJitterOpt = parser.acceptsAll(
+				Arrays.asList("replayJitter"),
+				"Up to how many more milliseconds (at random) each replayed download takes")
+				.availableIf(replayOpt)
+				.withRequiredArg()
+				.ofType(Integer.class)
+				.defaultsTo(0);
+		OptionSpec<File> rulesOpt = parser.acceptsAll(
+				Arrays.asList("rules"),
+				"Choose the items in the summary with the rules in this file instead of the built-in ones; "+
+				"with --daemon or --serve, the file is reloaded whenever it changes")
+				.withRequiredArg()
+				.ofType(File.class);
+		OptionSpec<File> metricsOpt = parser.acceptsAll(
+				Arrays.asList("metrics"),
+				"Write how long each fetch and download took, and how it turned out, to this file at the end "+
+				"(in the Prometheus text format if it ends in .prom, or as json otherwise); "+
+				"with --daemon or --serve, it's also rewritten every minute")
+				.withRequiredArg()
+				.ofType(File.class);
+		OptionSpec<File> storeOpt = parser.acceptsAll(
+				Arrays.asList("store"),
+				"Keep every menu that's fetched in a history in this folder, and use the stored menus "+
+				"for days that can't be fetched any more")
+				.withRequiredArg()
+				.ofType(File.class);
+		OptionSpec<Void> fromStoreOpt = parser.acceptsAll(
+				Arrays.asList("from-store"),
+				"Use the stored menus for days that are already in the --store, without fetching them again")
+				.availableIf(storeOpt);
+		OptionSpec<File> profileOpt = parser.acceptsAll(
+				Arrays.asList("profile"),
+				"Time each phase of generating the menus (fetching, building and writing the pages and api) "+
+				"and what it allocates, and at the end print the most expensive ones and write every phase "+
+				"to this file as a trace for chrome://tracing")
+				.withOptionalArg()
+				.ofType(File.class)
+				.defaultsTo(new File("profile-trace.json"));
 		OptionSpec<Void> helpOpt = parser.acceptsAll(
 				Arrays.asList("help", "h", "?"),
 				"Get help")
@@ -129,8 +308,10 @@ public class Main {
 			return;
 		}
 		
-		if(!(args.has(apiOpt) || args.has(webOpt) || args.has(nomenuOpt) || args.has(interactiveOpt))) {
-			System.err.println("Please specify something to output (--web or --api or --nomenu or --interactive)");
+		if(!(args.has(apiOpt) || args.has(webOpt) || args.has(nomenuOpt) || args.has(interactiveOpt) ||
+				args.has(serveOpt))) {
+			System.err.println("Please specify something to output "+
+					"(--web or --api or --nomenu or --interactive or --serve)");
 			System.err.println();
 			try {
 				parser.printHelpOn(System.err);
@@ -149,20 +330,135 @@ public class Main {
 			return;
 		}
 		
+		DiskCache cache = null;
+		if(args.has(cacheDirOpt)) {
+			Map<String, Long> hostTtls = new HashMap<>();
+			for(String hostTtl: args.valuesOf(hostTtlOpt)) {
+				String[] parts = hostTtl.split("=");
+				long minutes = -1;
+				if(parts.length == 2) {
+					try {
+						minutes = Long.parseLong(parts[1].trim());
+					} catch(NumberFormatException e) {
+						// reported below
+					}
+				}
+				if(minutes < 0) {
+					System.err.println("Invalid --hostTtl " + hostTtl + ": should be host=minutes");
+					return;
+				}
+				hostTtls.put(parts[0].trim(), TimeUnit.MINUTES.toMillis(minutes));
+			}
+			cache = new DiskCache(
+					args.valueOf(cacheDirOpt).toPath(),
+					args.valueOf(cacheSizeOpt) * 1024L * 1024L,
+					TimeUnit.MINUTES.toMillis(args.valueOf(cacheTtlOpt)),
+					hostTtls);
+		}
+		int httpTimeoutMillis = (int) TimeUnit.SECONDS.toMillis(args.valueOf(httpTimeoutOpt));
+		Transport transport;
+		if(args.has(replayOpt)) {
+			transport = new ReplayTransport(new ResponseArchive(args.valueOf(replayOpt).toPath()),
+					args.valueOf(replayLatencyOpt), args.valueOf(replayJitterOpt));
+		} else {
+			transport = new UrlConnectionTransport(httpTimeoutMillis, httpTimeoutMillis);
+			if(args.has(recordOpt)) {
+				transport = new RecordingTransport(transport, new ResponseArchive(args.valueOf(recordOpt).toPath()));
+			}
+		}
+		HttpClient.setDefault(new HttpClient(cache, transport,
+				args.valueOf(httpRetriesOpt), HttpClient.DEFAULT_RETRY_DELAY_MILLIS,
+				args.valueOf(hostConnectionsOpt)));
+		
+		if(args.has(metricsOpt)) {
+			Path metricsFile = args.valueOf(metricsOpt).toPath();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> writeMetrics(metricsFile), "metrics-shutdown"));
+			if(args.has(daemonOpt) || args.has(serveOpt)) {
+				Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+						.setNameFormat("metrics-writer")
+						.setDaemon(true)
+						.build())
+						.scheduleWithFixedDelay(() -> writeMetrics(metricsFile), 1, 1, TimeUnit.MINUTES);
+			}
+		}
+		
+		if(args.has(profileOpt)) {
+			Profiler profiler = Profiler.start();
+			Path traceFile = args.valueOf(profileOpt).toPath();
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> writeProfile(profiler, traceFile),
+					"profile-shutdown"));
+		}
+		
+		if(args.has(rulesOpt)) {
+			Path rulesFile = args.valueOf(rulesOpt).toPath();
+			try {
+				InterestingItemExtractor.instance.setRules(InterestingItemRules.load(rulesFile));
+			} catch(IOException e) {
+				System.err.println("Error reading --rules "+rulesFile+": "+e);
+				return;
+			} catch(IllegalArgumentException e) {
+				System.err.println("Invalid --rules "+rulesFile+": "+e.getMessage());
+				return;
+			}
+			if(args.has(daemonOpt) || args.has(serveOpt)) {
+				new RulesWatcher(rulesFile, InterestingItemExtractor.instance).start();
+			}
+		}
+		
+		List<MenuFetcher> menuFetchers = MenuFetcher.getAllMenuFetchers();
+		if(args.has(storeOpt)) {
+			// left open for as long as this runs; its lock goes away when the process exits
+			MenuStore store;
+			try {
+				store = new MenuStore(args.valueOf(storeOpt).toPath());
+			} catch(IOException e) {
+				System.err.println("Error opening --store "+args.valueOf(storeOpt)+": "+e);
+				return;
+			}
+			menuFetchers = StoredMenuFetcher.wrap(menuFetchers, store, args.has(fromStoreOpt));
+		}
+		
 		List<LocalDate> dates = getDates(args, dateListOpt, startDateOpt, endDateOpt, numDaysOpt);
 		String baseDir = args.valueOf(basedirOpt).getAbsolutePath();
 		if(args.has(baseDir)) Files.createDirectories(args.valueOf(basedirOpt).toPath());
 		
 		if(args.has(nomenuOpt)) {
-			for(LocalDate day: args.valueOf(nomenuOpt)) {
+			LocalDateRange nomenuDays = args.valueOf(nomenuOpt);
+			for(LocalDate day: nomenuDays) {
+				// --nomenu has always left out the first day of the range
+				if(day.equals(nomenuDays.startDate)) continue;
 				WebpageCreator.createAndSaveBlankpage(baseDir, day, 
 						args.valueOf(nomenuReplaceOpt).equals("blank"), 
 						args.valueOf(nomenuReplaceOpt).equals("all"));
 			}
 		}
 		
+		if(args.has(serveOpt)) {
+			int threads = args.valueOf(threadsOpt);
+			MenuServer server = new MenuServer(new InetSocketAddress(args.valueOf(serveOpt)),
+					args.valueOf(serveThreadsOpt), TimeUnit.MINUTES.toMillis(args.valueOf(serveTtlOpt)),
+					menuFetchers,
+					threads > 1? new ConcurrentMenuFetcher(threads,
+							args.valueOf(fetchTimeoutOpt), args.valueOf(totalTimeoutOpt), TimeUnit.SECONDS):
+					null);
+			Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(1), "menu-server-shutdown"));
+			server.start();
+			return;
+		}
+		
+		if(args.has(daemonOpt)) {
+			runDaemon(createGenerator(args, baseDir, menuFetchers, webOpt, apiOpt, forceOpt,
+							threadsOpt, fetchTimeoutOpt, totalTimeoutOpt, inFlightOpt),
+					baseDir, args.has(indexOpt), args.has(numDaysOpt)? args.valueOf(numDaysOpt): 7,
+					args.valueOf(refreshNearOpt), args.valueOf(refreshFarOpt), args.valuesOf(cadenceOpt));
+			return;
+		}
+		
 		if(args.has(webOpt) || args.has(apiOpt)) {
-			generateStuff(args, dates, baseDir, webOpt, apiOpt);
+			try(MenuGenerator generator = createGenerator(args, baseDir, menuFetchers, webOpt, apiOpt, forceOpt,
+					threadsOpt, fetchTimeoutOpt, totalTimeoutOpt, inFlightOpt)) {
+				generator.generate(dates);
+			}
 		}
 		
 		if(args.has(indexOpt)) {
@@ -179,6 +475,24 @@ public class Main {
 		}
 	}
 
+	private static void writeMetrics(Path file) {
+		try {
+			Metrics.instance.writeTo(file);
+		} catch(IOException | RuntimeException e) {
+			System.err.println("Error writing metrics to "+file+": "+e);
+		}
+	}
+
+	private static void writeProfile(Profiler profiler, Path traceFile) {
+		profiler.printReport(System.out);
+		try {
+			profiler.writeTrace(traceFile);
+			System.out.println("Wrote the profile trace to "+traceFile);
+		} catch(IOException | RuntimeException e) {
+			System.err.println("Error writing the profile trace to "+traceFile+": "+e);
+		}
+	}
+
 	private static void runInteractiveLoop() {
 		Scanner sc = new Scanner(System.in);
 		while(true) {
@@ -277,7 +591,7 @@ public class Main {
 					System.err.println("missing menufetcher");
 					break;
 				}
-				System.out.println(new InterestingItemExtractor().getInterestingItems(menu));
+				System.out.println(InterestingItemExtractor.instance.getInterestingItems(menu));
 				break;
 			default:
 				System.err.println("Invalid command "+cmd);
@@ -310,25 +624,47 @@ public class Main {
 		}
 	}
 
-	private static void generateStuff(OptionSet args, List<LocalDate> dates, String baseDir,
-			OptionSpec<Void> webOpt, OptionSpec<Void> apiOpt) {
-		List<MenuFetcher> menuFetchers = MenuFetcher.getAllMenuFetchers();
-		for(LocalDate day: dates) {
-			List<Menu> menus = MenuFetcher.fetchAllMenus(menuFetchers, day);
-			
-			if(args.has(webOpt)) {
-				WebpageCreator.createAndSaveWebpage(baseDir, day, menus);
-			}
-			
-			if(args.has(apiOpt)) {
+	private static MenuGenerator createGenerator(OptionSet args, String baseDir, List<MenuFetcher> menuFetchers,
+			OptionSpec<Void> webOpt, OptionSpec<Void> apiOpt, OptionSpec<Void> forceOpt,
+			OptionSpec<Integer> threadsOpt, OptionSpec<Integer> fetchTimeoutOpt,
+			OptionSpec<Integer> totalTimeoutOpt, OptionSpec<Integer> inFlightOpt) {
+		return new MenuGenerator(baseDir, args.has(webOpt), args.has(apiOpt), args.has(forceOpt),
+				menuFetchers, args.valueOf(threadsOpt),
+				args.valueOf(fetchTimeoutOpt), args.valueOf(totalTimeoutOpt), TimeUnit.SECONDS,
+				args.valueOf(inFlightOpt));
+	}
+
+	private static void runDaemon(MenuGenerator generator, String baseDir, boolean index, int days,
+			int nearMinutes, int farMinutes, List<String> cadences) {
+		Map<String, Long> cadenceMillisById = new HashMap<>();
+		for(String cadence: cadences) {
+			String[] parts = cadence.split("=");
+			long minutes = -1;
+			if(parts.length == 2) {
 				try {
-					ApiCreator.createAPI(baseDir, day, menus);
-				} catch (IOException e) {
-					System.err.println("error creating api:");
-					e.printStackTrace();
+					minutes = Long.parseLong(parts[1].trim());
+				} catch(NumberFormatException e) {
+					// reported below
 				}
 			}
+			if(minutes <= 0) {
+				System.err.println("Invalid --cadence " + cadence + ": should be id=minutes");
+				return;
+			}
+			cadenceMillisById.put(parts[0].trim(), TimeUnit.MINUTES.toMillis(minutes));
 		}
+		MenuDaemon daemon = new MenuDaemon(generator, baseDir, index, days,
+				TimeUnit.MINUTES.toMillis(nearMinutes), TimeUnit.MINUTES.toMillis(farMinutes),
+				TimeUnit.MINUTES.toMillis(nearMinutes), cadenceMillisById);
+		Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+			System.out.println("Shutting down...");
+			try {
+				daemon.shutdown(DAEMON_SHUTDOWN_TIMEOUT_MINUTES, TimeUnit.MINUTES);
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}, "menu-daemon-shutdown"));
+		daemon.start();
 	}
 
 	private static List<LocalDate> getDates(OptionSet args, 
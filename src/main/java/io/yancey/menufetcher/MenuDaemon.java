@@ -0,0 +1,106 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import com.google.common.util.concurrent.*;
+
+import io.yancey.menufetcher.fetchers.*;
+
+/**
+ * Keeps regenerating the menus in the background, so the fetchers and caches stay warm between runs.
+ * <p>
+ * Today and tomorrow are refreshed often, the rest of the days less often.
+ * Each fetcher only throws away what it has downloaded once its own cadence has passed,
+ * so a dining hall that only changes its menus weekly isn't hit on every refresh.
+ * Refreshes run one at a time, so a fetcher is never used by two of them at once.
+ */
+public class MenuDaemon {
+	private final MenuGenerator generator;
+	private final String baseDir;
+	private final boolean index;
+	private final int days;
+	private final long nearIntervalMillis;
+	private final long farIntervalMillis;
+	private final long defaultCadenceMillis;
+	private final Map<String, Long> cadenceMillisById;
+	private final Map<String, Long> lastClearedById = new HashMap<>();
+	private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+			new ThreadFactoryBuilder().setNameFormat("menu-daemon").build());
+
+	/**
+	 * @param index whether to point index.html at today's page after each refresh
+	 * @param days how many days to keep generated, starting with today
+	 */
+	public MenuDaemon(MenuGenerator generator, String baseDir, boolean index, int days,
+			long nearIntervalMillis, long farIntervalMillis,
+			long defaultCadenceMillis, Map<String, Long> cadenceMillisById) {
+		this.generator = generator;
+		this.baseDir = baseDir;
+		this.index = index;
+		this.days = days;
+		this.nearIntervalMillis = nearIntervalMillis;
+		this.farIntervalMillis = farIntervalMillis;
+		this.defaultCadenceMillis = defaultCadenceMillis;
+		this.cadenceMillisById = new HashMap<>(cadenceMillisById);
+	}
+
+	public void start() {
+		scheduler.scheduleWithFixedDelay(() -> refresh(0, Math.min(days, 2)),
+				0, nearIntervalMillis, TimeUnit.MILLISECONDS);
+		if(days > 2) {
+			scheduler.scheduleWithFixedDelay(() -> refresh(2, days),
+					0, farIntervalMillis, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Regenerate the days from {@code today + fromDay} until (but not including) {@code today + toDay}.
+	 */
+	private void refresh(int fromDay, int toDay) {
+		try {
+			clearStaleCaches();
+			LocalDate today = LocalDate.now();
+			List<LocalDate> dates = new ArrayList<>();
+			for(int i = fromDay; i < toDay; i++) {
+				dates.add(today.plusDays(i));
+			}
+			System.out.println("Refreshing "+dates.get(0)+" to "+dates.get(dates.size() - 1));
+			generator.generate(dates);
+			if(index && fromDay == 0) {
+				WebpageCreator.createIndex(baseDir, today);
+			}
+		} catch(IOException | RuntimeException e) {
+			// anything thrown out of here would cancel all future refreshes
+			System.err.println("error refreshing menus:");
+			e.printStackTrace();
+		}
+	}
+
+	private void clearStaleCaches() {
+		long now = System.currentTimeMillis();
+		for(MenuFetcher menuFetcher: generator.getMenuFetchers()) {
+			Long lastCleared = lastClearedById.get(menuFetcher.getId());
+			long cadence = cadenceMillisById.getOrDefault(menuFetcher.getId(), defaultCadenceMillis);
+			if(lastCleared == null || now - lastCleared >= cadence) {
+				menuFetcher.clearCache();
+				lastClearedById.put(menuFetcher.getId(), now);
+			}
+		}
+	}
+
+	/**
+	 * Stop refreshing, waiting for the refresh in progress to finish writing
+	 * whatever days it has already fetched.
+	 */
+	public void shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+		scheduler.shutdown();
+		generator.stop();
+		if(!scheduler.awaitTermination(timeout, unit)) {
+			System.err.println("Gave up waiting for the current refresh to finish");
+		}
+		generator.close();
+	}
+}
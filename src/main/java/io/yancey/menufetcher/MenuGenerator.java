@@ -0,0 +1,192 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+import java.util.function.*;
+
+import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.fetchers.*;
+
+/**
+ * Fetches the menus for some days and regenerates whichever of their pages and api files changed.
+ */
+public class MenuGenerator implements AutoCloseable {
+	/** consecutive days are fetched this many at a time, so halls that publish a week at once fetch it once */
+	private static final int MAX_DAYS_PER_FETCH = 7;
+
+	private final String baseDir;
+	private final boolean web;
+	private final boolean api;
+	private final boolean force;
+	private final int inFlight;
+	private final List<MenuFetcher> menuFetchers;
+	private final ConcurrentMenuFetcher concurrentFetcher;
+	private final GenerationManifest manifest;
+	private volatile GenerationPipeline currentPipeline = null;
+
+	/**
+	 * @param threads how many dining halls to fetch at once; 1 fetches them one at a time
+	 */
+	public MenuGenerator(String baseDir, boolean web, boolean api, boolean force,
+			List<MenuFetcher> menuFetchers, int threads, long fetchTimeout, long totalTimeout, TimeUnit unit,
+			int inFlight) {
+		this.baseDir = baseDir;
+		this.web = web;
+		this.api = api;
+		this.force = force;
+		this.inFlight = inFlight;
+		this.menuFetchers = menuFetchers;
+		this.concurrentFetcher = threads > 1?
+				new ConcurrentMenuFetcher(threads, fetchTimeout, totalTimeout, unit):
+				null;
+		this.manifest = new GenerationManifest(Paths.get(baseDir, ".generation-manifest.json"));
+	}
+
+	public List<MenuFetcher> getMenuFetchers() {
+		return menuFetchers;
+	}
+
+	public void generate(List<LocalDate> dates) {
+		List<IncrementalStage> stages = new ArrayList<>();
+		if(web) {
+			// the summary depends on the interesting item rules too, which can change while running
+			stages.add(new IncrementalStage("web", manifest, force,
+					menus -> 31 * GenerationManifest.hash(menus) +
+							InterestingItemExtractor.instance.getRules().sourceHash,
+					day -> new File(baseDir, day + ".html").exists(),
+					(day, menus) -> WebpageCreator.createAndSaveWebpage(baseDir, day, menus)));
+		}
+		if(api) {
+			stages.add(new IncrementalStage("api", manifest, force,
+					GenerationManifest::hash,
+					day -> Files.isDirectory(Paths.get(baseDir, "api", "v1", day.toString())),
+					(day, menus) -> ApiCreator.createAPI(baseDir, day, menus)));
+		}
+		GenerationPipeline pipeline = new GenerationPipeline(inFlight);
+		for(IncrementalStage stage: stages) {
+			pipeline.addStage(stage.output, stage);
+		}
+		currentPipeline = pipeline;
+		try {
+			Map<LocalDate, LocalDateRange> rangesByStart = new HashMap<>();
+			for(LocalDateRange range: toRanges(dates, MAX_DAYS_PER_FETCH)) {
+				rangesByStart.put(range.startDate, range);
+			}
+			// only used from the pipeline's fetching thread
+			Map<LocalDate, List<Menu>> fetched = new HashMap<>();
+			pipeline.run(dates, day -> {
+				if(!fetched.containsKey(day)) {
+					fetched.putAll(fetch(rangesByStart.getOrDefault(day, new LocalDateRange(day, day))));
+				}
+				return fetched.remove(day);
+			});
+		} finally {
+			currentPipeline = null;
+			try {
+				manifest.save();
+			} catch (IOException e) {
+				System.err.println("error saving manifest:");
+				e.printStackTrace();
+			}
+			for(IncrementalStage stage: stages) {
+				System.out.println(stage.output+": rebuilt "+stage.rebuilt+" days, skipped "+
+						stage.skipped+" unchanged");
+			}
+		}
+	}
+
+	private SortedMap<LocalDate, List<Menu>> fetch(LocalDateRange days) {
+		Profiler.Span span = Profiler.span("fetch", days);
+		try {
+			if(concurrentFetcher != null) {
+				return concurrentFetcher.fetchAllMenus(menuFetchers, days);
+			} else {
+				return MenuFetcher.fetchAllMenus(menuFetchers, days);
+			}
+		} finally {
+			span.end();
+		}
+	}
+
+	/**
+	 * Split dates into runs of consecutive days, each at most {@code maxDays} long.
+	 */
+	private static List<LocalDateRange> toRanges(List<LocalDate> dates, int maxDays) {
+		List<LocalDateRange> ranges = new ArrayList<>();
+		LocalDate start = null;
+		LocalDate end = null;
+		for(LocalDate day: dates) {
+			if(start != null && day.equals(end.plusDays(1)) &&
+					new LocalDateRange(start, day).length() <= maxDays) {
+				end = day;
+				continue;
+			}
+			if(start != null) ranges.add(new LocalDateRange(start, end));
+			start = end = day;
+		}
+		if(start != null) ranges.add(new LocalDateRange(start, end));
+		return ranges;
+	}
+
+	/**
+	 * Make the current {@link #generate} stop fetching new days; the ones already fetched are still written.
+	 */
+	public void stop() {
+		GenerationPipeline pipeline = currentPipeline;
+		if(pipeline != null) pipeline.stop();
+	}
+
+	@Override
+	public void close() {
+		if(concurrentFetcher != null) concurrentFetcher.close();
+	}
+
+	/**
+	 * Only runs a stage for days whose menus have changed since its output was last generated.
+	 */
+	private static class IncrementalStage implements GenerationPipeline.Stage {
+		public final String output;
+		private final GenerationManifest manifest;
+		private final boolean force;
+		private final ToIntFunction<List<Menu>> hash;
+		private final Predicate<LocalDate> outputExists;
+		private final GenerationPipeline.Stage stage;
+		public final AtomicInteger rebuilt = new AtomicInteger();
+		public final AtomicInteger skipped = new AtomicInteger();
+
+		/**
+		 * @param hash a hash of everything the output depends on
+		 */
+		public IncrementalStage(String output, GenerationManifest manifest, boolean force,
+				ToIntFunction<List<Menu>> hash,
+				Predicate<LocalDate> outputExists, GenerationPipeline.Stage stage) {
+			this.output = output;
+			this.manifest = manifest;
+			this.force = force;
+			this.hash = hash;
+			this.outputExists = outputExists;
+			this.stage = stage;
+		}
+
+		@Override
+		public void process(LocalDate day, List<Menu> menus) throws IOException {
+			Profiler.Span span = Profiler.span(output, day);
+			try {
+				int hash = this.hash.applyAsInt(menus);
+				if(!force && manifest.isUpToDate(day, output, hash) && outputExists.test(day)) {
+					skipped.incrementAndGet();
+					return;
+				}
+				stage.process(day, menus);
+				manifest.update(day, output, hash);
+				rebuilt.incrementAndGet();
+			} finally {
+				span.end();
+			}
+		}
+	}
+}
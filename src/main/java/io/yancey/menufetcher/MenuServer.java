@@ -0,0 +1,324 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.time.format.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+import com.google.common.hash.*;
+import com.google.common.util.concurrent.*;
+import com.sun.net.httpserver.*;
+
+import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.fetchers.*;
+
+/**
+ * Serves the webpages and the api straight from memory, instead of writing them to disk
+ * for some other web server.
+ * <p>
+ * The first request for a day fetches its menus and renders every page and api node for it at once;
+ * requests for the same day that come in meanwhile wait for that instead of fetching it again.
+ * The rendered bytes (and gzipped copies) are kept for a while (or until the interesting item rules change),
+ * and served with ETags so clients can revalidate them cheaply.
+ */
+public class MenuServer {
+	private static final int MAX_CACHED_DAYS = 64;
+	private static final String HTML_TYPE = "text/html; charset=utf-8";
+	private static final String JSON_TYPE = "application/json; charset=utf-8";
+
+	private final List<MenuFetcher> menuFetchers;
+	private final ConcurrentMenuFetcher concurrentFetcher;
+	private final long ttlMillis;
+	private final HttpServer server;
+	private final ExecutorService executor;
+	private final ConcurrentMap<LocalDate, Future<RenderedDay>> days = new ConcurrentHashMap<>();
+	private long lastClearedCaches = System.currentTimeMillis();
+
+	/**
+	 * @param concurrentFetcher used to fetch the dining halls at once, or null to fetch them one at a time
+	 */
+	public MenuServer(InetSocketAddress address, int threads, long ttlMillis,
+			List<MenuFetcher> menuFetchers, ConcurrentMenuFetcher concurrentFetcher) throws IOException {
+		this.menuFetchers = menuFetchers;
+		this.concurrentFetcher = concurrentFetcher;
+		this.ttlMillis = ttlMillis;
+		this.executor = Executors.newFixedThreadPool(threads,
+				new ThreadFactoryBuilder().setNameFormat("menu-server-%d").build());
+		this.server = HttpServer.create(address, 0);
+		server.setExecutor(executor);
+		server.createContext("/", this::handle);
+	}
+
+	public void start() {
+		server.start();
+		System.out.println("Serving menus on http://localhost:"+server.getAddress().getPort()+"/");
+	}
+
+	public void stop(int delaySeconds) {
+		server.stop(delaySeconds);
+		executor.shutdown();
+	}
+
+	/**
+	 * A pre-rendered response.
+	 */
+	private static class Resource {
+		public final String contentType;
+		public final byte[] body;
+		public final String etag;
+		/** the body gzipped, or null if that doesn't make it any smaller */
+		public final byte[] gzippedBody;
+
+		public Resource(String contentType, byte[] body) {
+			this.contentType = contentType;
+			this.body = body;
+			this.etag = Hashing.sha256().hashBytes(body).toString().substring(0, 32);
+			byte[] gzipped = gzip(body);
+			this.gzippedBody = gzipped.length < body.length? gzipped: null;
+		}
+
+		private static byte[] gzip(byte[] body) {
+			ByteArrayOutputStream gzipped = new ByteArrayOutputStream(body.length / 4);
+			try(GZIPOutputStream out = new GZIPOutputStream(gzipped)) {
+				out.write(body);
+			} catch(IOException e) {
+				throw new AssertionError("ByteArrayOutputStream threw an IOException", e);
+			}
+			return gzipped.toByteArray();
+		}
+	}
+
+	private static class RenderedDay {
+		public final long renderedAt = System.currentTimeMillis();
+		public final InterestingItemRules rules;
+		public final Resource page;
+		/** api nodes, by their path under the day (like {@code hoch/lunch/all}) */
+		public final Map<String, Resource> api;
+
+		public RenderedDay(InterestingItemRules rules, Resource page, Map<String, Resource> api) {
+			this.rules = rules;
+			this.page = page;
+			this.api = api;
+		}
+	}
+
+	private void handle(HttpExchange exchange) throws IOException {
+		try {
+			String method = exchange.getRequestMethod();
+			if(!method.equals("GET") && !method.equals("HEAD")) {
+				exchange.getResponseHeaders().set("Allow", "GET, HEAD");
+				sendStatus(exchange, 405);
+				return;
+			}
+			Resource resource = findResource(exchange.getRequestURI().getPath());
+			if(resource == null) {
+				sendStatus(exchange, 404);
+			} else {
+				send(exchange, resource);
+			}
+		} catch(RuntimeException | ExecutionException e) {
+			System.err.println("error serving "+exchange.getRequestURI()+":");
+			e.printStackTrace();
+			sendStatus(exchange, 500);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			sendStatus(exchange, 503);
+		} finally {
+			exchange.close();
+		}
+	}
+
+	private Resource findResource(String path) throws ExecutionException, InterruptedException {
+		if(path.equals("/") || path.equals("/index.html")) {
+			return getDay(LocalDate.now()).page;
+		}
+		if(path.endsWith(".html") && path.indexOf('/', 1) < 0) {
+			LocalDate day = parseDate(path.substring(1, path.length() - ".html".length()));
+			return day == null? null: getDay(day).page;
+		}
+		String apiPrefix = "/api/v1/";
+		if(path.startsWith(apiPrefix)) {
+			String[] parts = path.substring(apiPrefix.length()).split("/", 2);
+			LocalDate day = parseDate(parts[0]);
+			if(day == null || parts.length < 2) return null;
+			String node = parts[1].endsWith("/")? parts[1].substring(0, parts[1].length() - 1): parts[1];
+			return getDay(day).api.get(node);
+		}
+		return null;
+	}
+
+	private static LocalDate parseDate(String date) {
+		try {
+			return LocalDate.parse(date);
+		} catch(DateTimeParseException e) {
+			return null;
+		}
+	}
+
+	private RenderedDay getDay(LocalDate day) throws ExecutionException, InterruptedException {
+		while(true) {
+			Future<RenderedDay> future = days.get(day);
+			if(future == null) {
+				FutureTask<RenderedDay> task = new FutureTask<>(() -> render(day));
+				future = days.putIfAbsent(day, task);
+				if(future == null) {
+					future = task;
+					task.run();
+					evictOldDays();
+				}
+			}
+			try {
+				RenderedDay rendered = future.get();
+				if(System.currentTimeMillis() - rendered.renderedAt < ttlMillis &&
+						rendered.rules == InterestingItemExtractor.instance.getRules()) {
+					return rendered;
+				}
+			} catch(ExecutionException e) {
+				// don't remember failures; the next request can try again
+				days.remove(day, future);
+				throw e;
+			}
+			// stale; whoever gets here first starts rendering it again
+			days.remove(day, future);
+		}
+	}
+
+	private void evictOldDays() {
+		if(days.size() <= MAX_CACHED_DAYS) return;
+		long now = System.currentTimeMillis();
+		List<Map.Entry<LocalDate, Long>> renderTimes = new ArrayList<>();
+		for(Map.Entry<LocalDate, Future<RenderedDay>> entry: days.entrySet()) {
+			if(!entry.getValue().isDone()) continue;
+			try {
+				renderTimes.add(new AbstractMap.SimpleEntry<>(entry.getKey(), entry.getValue().get().renderedAt));
+			} catch(ExecutionException | InterruptedException e) {
+				days.remove(entry.getKey(), entry.getValue());
+			}
+		}
+		renderTimes.sort(Map.Entry.comparingByValue());
+		for(Map.Entry<LocalDate, Long> oldest: renderTimes) {
+			if(days.size() <= MAX_CACHED_DAYS && now - oldest.getValue() < ttlMillis) break;
+			days.remove(oldest.getKey());
+		}
+	}
+
+	private RenderedDay render(LocalDate day) throws IOException {
+		clearStaleCaches();
+		// days are fetched in parallel; the fetchers share downloads between them (like a week's menus)
+		List<Menu> menus;
+		if(concurrentFetcher != null) {
+			menus = concurrentFetcher.fetchAllMenus(menuFetchers, day);
+		} else {
+			menus = MenuFetcher.fetchAllMenus(menuFetchers, day);
+		}
+		InterestingItemRules rules = InterestingItemExtractor.instance.getRules();
+		ByteArrayOutputStream page = new ByteArrayOutputStream();
+		WebpageCreator.writeWebpage(page, day, menus);
+
+		Map<String, ByteArrayOutputStream> apiFiles = new HashMap<>();
+		ApiCreator.writeAPI(file -> {
+			ByteArrayOutputStream contents = new ByteArrayOutputStream();
+			apiFiles.put(toUrlPath(file), contents);
+			return contents;
+		}, menus);
+		Map<String, Resource> api = new HashMap<>();
+		for(Map.Entry<String, ByteArrayOutputStream> file: apiFiles.entrySet()) {
+			api.put(file.getKey(), new Resource(JSON_TYPE, file.getValue().toByteArray()));
+		}
+		return new RenderedDay(rules, new Resource(HTML_TYPE, page.toByteArray()), api);
+	}
+
+	/**
+	 * Otherwise the fetchers would keep handing back what they downloaded the first time.
+	 */
+	private synchronized void clearStaleCaches() {
+		if(System.currentTimeMillis() - lastClearedCaches >= ttlMillis) {
+			for(MenuFetcher menuFetcher: menuFetchers) menuFetcher.clearCache();
+			lastClearedCaches = System.currentTimeMillis();
+		}
+	}
+
+	private static String toUrlPath(Path file) {
+		StringJoiner path = new StringJoiner("/");
+		for(Path name: file) {
+			path.add(name.toString());
+		}
+		return path.toString();
+	}
+
+	private static void send(HttpExchange exchange, Resource resource) throws IOException {
+		Headers requestHeaders = exchange.getRequestHeaders();
+		boolean gzip = resource.gzippedBody != null && acceptsGzip(requestHeaders.get("Accept-Encoding"));
+		// the gzipped version is a different representation, so it gets its own tag
+		String etag = "\"" + resource.etag + (gzip? "-gzip": "") + "\"";
+
+		Headers headers = exchange.getResponseHeaders();
+		headers.set("Content-Type", resource.contentType);
+		headers.set("ETag", etag);
+		headers.set("Cache-Control", "no-cache");
+		headers.set("Vary", "Accept-Encoding");
+		if(matchesEtag(requestHeaders.get("If-None-Match"), resource.etag)) {
+			exchange.sendResponseHeaders(304, -1);
+			return;
+		}
+		byte[] body = gzip? resource.gzippedBody: resource.body;
+		if(gzip) headers.set("Content-Encoding", "gzip");
+		if(exchange.getRequestMethod().equals("HEAD")) {
+			headers.set("Content-Length", Integer.toString(body.length));
+			exchange.sendResponseHeaders(200, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(200, body.length);
+		try(OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static void sendStatus(HttpExchange exchange, int status) throws IOException {
+		byte[] body = (status + "\n").getBytes(StandardCharsets.UTF_8);
+		exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+		if(exchange.getRequestMethod().equals("HEAD")) {
+			exchange.sendResponseHeaders(status, -1);
+			return;
+		}
+		exchange.sendResponseHeaders(status, body.length);
+		try(OutputStream out = exchange.getResponseBody()) {
+			out.write(body);
+		}
+	}
+
+	private static boolean acceptsGzip(List<String> acceptEncodings) {
+		if(acceptEncodings == null) return false;
+		for(String header: acceptEncodings) {
+			for(String encoding: header.split(",")) {
+				String[] parts = encoding.trim().split(";");
+				if(!parts[0].trim().equalsIgnoreCase("gzip")) continue;
+				if(parts.length > 1 && parts[1].trim().replace(" ", "").matches("q=0(\\.0*)?")) return false;
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether any of the tags match either representation of the resource
+	 */
+	private static boolean matchesEtag(List<String> ifNoneMatch, String etag) {
+		if(ifNoneMatch == null) return false;
+		for(String header: ifNoneMatch) {
+			for(String tag: header.split(",")) {
+				tag = tag.trim();
+				if(tag.startsWith("W/")) tag = tag.substring(2);
+				if(tag.equals("*") || tag.equals("\"" + etag + "\"") || tag.equals("\"" + etag + "-gzip\"")) {
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,463 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.time.*;
+import java.util.*;
+import java.util.zip.*;
+
+import io.yancey.menufetcher.data.*;
+
+/**
+ * A history of every menu that's been fetched, kept on disk by day and dining hall,
+ * so past days can be loaded again without fetching them.
+ * <p>
+ * It's a single append-only file, {@code menus.dat}, of records like {@code [length][crc32][body]},
+ * where the body holds the day, the dining hall's id, when it was stored, and the menu
+ * in a compact binary form (strings that repeat within a menu are only written once).
+ * A day's menu is only appended when it's changed, and the newest one is what's returned;
+ * the older ones are still there, for {@link #getHistory}.
+ * <p>
+ * Where each record is is indexed in memory, sorted by day, so a day or a range of days
+ * is a lookup and one read for each menu.  The index is rebuilt by reading through the file
+ * when it's opened; a record at the end that was cut off (by a crash in the middle of writing it)
+ * is thrown away then.  Only one process can have the store open at a time.
+ * <p>
+ * The file is read and written through a {@link RandomAccessFile} rather than a {@link FileChannel},
+ * since fetches that time out are interrupted, and an interrupted thread touching a channel
+ * would close it for everyone.
+ */
+public class MenuStore implements Closeable {
+	private static final int MAGIC = 0x4d454e55; // "MENU"
+	private static final int VERSION = 1;
+	private static final int FILE_HEADER_SIZE = 8;
+	private static final int RECORD_HEADER_SIZE = 8;
+
+	private final Path file;
+	private final RandomAccessFile data;
+	private final NavigableMap<LocalDate, Map<String, Record>> index = new TreeMap<>();
+	private long size;
+	private int records = 0;
+
+	/**
+	 * A stored menu, and when it was stored.
+	 */
+	public static class Snapshot {
+		public final Instant storedAt;
+		public final Menu menu;
+
+		public Snapshot(Instant storedAt, Menu menu) {
+			this.storedAt = storedAt;
+			this.menu = menu;
+		}
+	}
+
+	/**
+	 * Where a record is in the file.
+	 */
+	private static class Record {
+		public final long position;
+		public final int length;
+		/** the snapshot of the same day and dining hall before this one, or null */
+		public final Record previous;
+
+		public Record(long position, int length, Record previous) {
+			this.position = position;
+			this.length = length;
+			this.previous = previous;
+		}
+	}
+
+	public MenuStore(Path directory) throws IOException {
+		Files.createDirectories(directory);
+		this.file = directory.resolve("menus.dat");
+		this.data = new RandomAccessFile(file.toFile(), "rw");
+		try {
+			FileLock lock;
+			try {
+				lock = data.getChannel().tryLock();
+			} catch(OverlappingFileLockException e) {
+				lock = null;
+			}
+			if(lock == null) {
+				throw new IOException(file + " is already open");
+			}
+			if(data.length() == 0) {
+				data.writeInt(MAGIC);
+				data.writeInt(VERSION);
+			}
+			buildIndex();
+		} catch(IOException | RuntimeException e) {
+			data.close();
+			throw e;
+		}
+	}
+
+	private void buildIndex() throws IOException {
+		long fileSize = data.length();
+		data.seek(0);
+		// not closed, since that would close the file too
+		DataInputStream in = new DataInputStream(new BufferedInputStream(
+				new FileInputStream(data.getFD()), 65536));
+		if(fileSize < FILE_HEADER_SIZE || in.readInt() != MAGIC) {
+			throw new IOException(file + " isn't a menu store");
+		}
+		int version = in.readInt();
+		if(version != VERSION) {
+			throw new IOException(file + " is version " + version + " of the menu store; expected " + VERSION);
+		}
+		long position = FILE_HEADER_SIZE;
+		while(position < fileSize) {
+			if(fileSize - position < RECORD_HEADER_SIZE) break;
+			int length = in.readInt();
+			int crc = in.readInt();
+			if(length < 0 || fileSize - position - RECORD_HEADER_SIZE < length) break;
+			byte[] body = new byte[length];
+			in.readFully(body);
+			if(crc(body) != crc) {
+				if(position + RECORD_HEADER_SIZE + length < fileSize) {
+					throw new IOException(file + " is corrupt: the record at " + position + " doesn't match its checksum");
+				}
+				break;
+			}
+			DataInputStream record = new DataInputStream(new ByteArrayInputStream(body));
+			LocalDate day = LocalDate.ofEpochDay(record.readInt());
+			String diningHallId = record.readUTF();
+			addToIndex(day, diningHallId, position, length);
+			position += RECORD_HEADER_SIZE + length;
+		}
+		if(position < fileSize) {
+			System.err.println("Dropping an unfinished record at the end of "+file+
+					" ("+(fileSize - position)+" bytes)");
+			data.setLength(position);
+		}
+		size = position;
+	}
+
+	private void addToIndex(LocalDate day, String diningHallId, long position, int length) {
+		// each day's dining halls stay in the order they were first stored
+		Map<String, Record> halls = index.computeIfAbsent(day, d -> new LinkedHashMap<>());
+		halls.put(diningHallId, new Record(position, length, halls.get(diningHallId)));
+		records++;
+	}
+
+	/**
+	 * Store a day's menu, unless it's the same as the last one stored for that day and dining hall.
+	 *
+	 * @return whether it was stored
+	 */
+	public synchronized boolean put(LocalDate day, Menu menu) throws IOException {
+		byte[] encoded = encode(menu);
+		Record latest = getRecord(day, menu.diningHallId);
+		if(latest != null && Arrays.equals(encoded, readMenuBytes(latest))) {
+			return false;
+		}
+		ByteArrayOutputStream bodyBytes = new ByteArrayOutputStream(encoded.length + 32);
+		DataOutputStream body = new DataOutputStream(bodyBytes);
+		body.writeInt((int)day.toEpochDay());
+		body.writeUTF(menu.diningHallId);
+		body.writeLong(System.currentTimeMillis());
+		body.write(encoded);
+		byte[] bodyArray = bodyBytes.toByteArray();
+
+		ByteBuffer record = ByteBuffer.allocate(RECORD_HEADER_SIZE + bodyArray.length);
+		record.putInt(bodyArray.length).putInt(crc(bodyArray)).put(bodyArray);
+		long position = size;
+		data.seek(position);
+		data.write(record.array());
+		size += record.capacity();
+		addToIndex(day, menu.diningHallId, position, bodyArray.length);
+		return true;
+	}
+
+	/**
+	 * @return the latest menu stored for a day and dining hall, or null if there isn't one
+	 */
+	public Menu get(LocalDate day, String diningHallId) throws IOException {
+		Record record;
+		synchronized(this) {
+			record = getRecord(day, diningHallId);
+		}
+		return record == null? null: read(record).menu;
+	}
+
+	/**
+	 * @return the latest menus stored for a day, in the order their dining halls were first stored
+	 */
+	public List<Menu> get(LocalDate day) throws IOException {
+		List<Record> records;
+		synchronized(this) {
+			Map<String, Record> halls = index.get(day);
+			if(halls == null) return new ArrayList<>();
+			records = new ArrayList<>(halls.values());
+		}
+		List<Menu> menus = new ArrayList<>(records.size());
+		for(Record record: records) {
+			menus.add(read(record).menu);
+		}
+		return menus;
+	}
+
+	/**
+	 * @return the latest menus stored for each day in the range that has any
+	 */
+	public SortedMap<LocalDate, List<Menu>> get(LocalDateRange days) throws IOException {
+		SortedMap<LocalDate, List<Menu>> menus = new TreeMap<>();
+		for(LocalDate day: getDays(days)) {
+			menus.put(day, get(day));
+		}
+		return menus;
+	}
+
+	/**
+	 * @return every menu stored for a day and dining hall, newest first
+	 */
+	public List<Snapshot> getHistory(LocalDate day, String diningHallId) throws IOException {
+		Record record;
+		synchronized(this) {
+			record = getRecord(day, diningHallId);
+		}
+		List<Snapshot> history = new ArrayList<>();
+		for(; record != null; record = record.previous) {
+			history.add(read(record));
+		}
+		return history;
+	}
+
+	/**
+	 * @return the days in the range that have any menus stored
+	 */
+	public synchronized SortedSet<LocalDate> getDays(LocalDateRange days) {
+		return new TreeSet<>(index.subMap(days.startDate, true, days.endDate, true).keySet());
+	}
+
+	public synchronized SortedSet<LocalDate> getDays() {
+		return new TreeSet<>(index.keySet());
+	}
+
+	/**
+	 * @return how many menus are stored, counting each snapshot
+	 */
+	public synchronized int size() {
+		return records;
+	}
+
+	private Record getRecord(LocalDate day, String diningHallId) {
+		Map<String, Record> halls = index.get(day);
+		return halls == null? null: halls.get(diningHallId);
+	}
+
+	private byte[] readBody(Record record) throws IOException {
+		byte[] bytes = new byte[RECORD_HEADER_SIZE + record.length];
+		// seeking and reading has to happen together
+		synchronized(this) {
+			data.seek(record.position);
+			data.readFully(bytes);
+		}
+		ByteBuffer buffer = ByteBuffer.wrap(bytes);
+		buffer.getInt();
+		int crc = buffer.getInt();
+		byte[] body = new byte[record.length];
+		buffer.get(body);
+		if(crc(body) != crc) {
+			throw new IOException(file + " is corrupt: the record at " + record.position + " doesn't match its checksum");
+		}
+		return body;
+	}
+
+	private byte[] readMenuBytes(Record record) throws IOException {
+		byte[] body = readBody(record);
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(body));
+		in.readInt();
+		in.readUTF();
+		in.readLong();
+		return Arrays.copyOfRange(body, body.length - in.available(), body.length);
+	}
+
+	private Snapshot read(Record record) throws IOException {
+		DataInputStream in = new DataInputStream(new ByteArrayInputStream(readBody(record)));
+		in.readInt();
+		String diningHallId = in.readUTF();
+		Instant storedAt = Instant.ofEpochMilli(in.readLong());
+		return new Snapshot(storedAt, new Decoder(in).readMenu(diningHallId));
+	}
+
+	private static int crc(byte[] bytes) {
+		CRC32 crc = new CRC32();
+		crc.update(bytes, 0, bytes.length);
+		return (int)crc.getValue();
+	}
+
+	@Override
+	public synchronized void close() throws IOException {
+		data.close();
+	}
+
+	/**
+	 * Encode a menu, except for its dining hall's id, which is stored with the record.
+	 */
+	private static byte[] encode(Menu menu) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		Encoder out = new Encoder(new DataOutputStream(bytes));
+		out.writeString(menu.diningHallName);
+		out.writeNullableString(menu.publicUrl);
+		out.writeVarLong(menu.meals.size());
+		for(Meal meal: menu.meals) {
+			out.writeString(meal.name);
+			out.writeString(meal.description);
+			if(meal.hours == null) {
+				out.writeVarLong(0);
+			} else {
+				// each is one more than the nanosecond of the day, so 0 can mean there are no hours
+				out.writeVarLong(meal.hours.startTime.toNanoOfDay() + 1);
+				out.writeVarLong(meal.hours.endTime.toNanoOfDay());
+			}
+			out.writeVarLong(meal.stations.size());
+			for(Station station: meal.stations) {
+				out.writeString(station.name);
+				out.writeVarLong(station.menu.size());
+				for(MenuItem item: station.menu) {
+					out.writeString(item.name);
+					out.writeString(item.description);
+					out.writeVarLong(item.tags.size());
+					for(String tag: item.tags) {
+						out.writeString(tag);
+					}
+				}
+			}
+		}
+		return bytes.toByteArray();
+	}
+
+	/**
+	 * Writes strings as either their UTF-8 bytes, the first time, or which string they were after that.
+	 */
+	private static class Encoder {
+		private final DataOutputStream out;
+		private final Map<String, Integer> strings = new HashMap<>();
+
+		public Encoder(DataOutputStream out) {
+			this.out = out;
+		}
+
+		public void writeVarLong(long value) throws IOException {
+			while((value & ~0x7FL) != 0) {
+				out.writeByte((int)(value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			out.writeByte((int)value);
+		}
+
+		/**
+		 * Written as {@code length << 1} and the bytes, or {@code index << 1 | 1} for one that was already written.
+		 */
+		public void writeString(String string) throws IOException {
+			Integer index = strings.get(string);
+			if(index != null) {
+				writeVarLong((long)index << 1 | 1);
+				return;
+			}
+			strings.put(string, strings.size());
+			byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+			writeVarLong((long)bytes.length << 1);
+			out.write(bytes);
+		}
+
+		public void writeNullableString(String string) throws IOException {
+			out.writeBoolean(string != null);
+			if(string != null) writeString(string);
+		}
+	}
+
+	private static class Decoder {
+		private final DataInputStream in;
+		private final List<String> strings = new ArrayList<>();
+
+		public Decoder(DataInputStream in) {
+			this.in = in;
+		}
+
+		public Menu readMenu(String diningHallId) throws IOException {
+			String diningHallName = readString();
+			String publicUrl = readNullableString();
+			int mealCount = readCount();
+			List<Meal> meals = new ArrayList<>(mealCount);
+			for(int i = 0; i < mealCount; i++) {
+				String name = readString();
+				String description = readString();
+				long start = readVarLong();
+				LocalTimeRange hours = start == 0? null: new LocalTimeRange(
+						LocalTime.ofNanoOfDay(start - 1), LocalTime.ofNanoOfDay(readVarLong()));
+				int stationCount = readCount();
+				List<Station> stations = new ArrayList<>(stationCount);
+				for(int j = 0; j < stationCount; j++) {
+					String stationName = readString();
+					int itemCount = readCount();
+					List<MenuItem> items = new ArrayList<>(itemCount);
+					for(int k = 0; k < itemCount; k++) {
+						String itemName = readString();
+						String itemDescription = readString();
+						int tagCount = readCount();
+						// keep the tags in the order they were in, so the api comes out the same
+						Set<String> tags = new LinkedHashSet<>();
+						for(int l = 0; l < tagCount; l++) {
+							tags.add(readString());
+						}
+						items.add(new MenuItem(itemName, itemDescription, tags));
+					}
+					stations.add(new Station(stationName, items));
+				}
+				meals.add(new Meal(stations, hours, name, description));
+			}
+			return new Menu(diningHallName, diningHallId, publicUrl, meals);
+		}
+
+		public long readVarLong() throws IOException {
+			long value = 0;
+			for(int shift = 0; shift < 64; shift += 7) {
+				int b = in.readUnsignedByte();
+				value |= (long)(b & 0x7F) << shift;
+				if((b & 0x80) == 0) return value;
+			}
+			throw new IOException("Invalid stored menu: a number is too long");
+		}
+
+		private int readCount() throws IOException {
+			return checkCount(readVarLong());
+		}
+
+		/**
+		 * Everything takes at least a byte, so there can't be more of anything than there are bytes left.
+		 */
+		private int checkCount(long count) throws IOException {
+			if(count > in.available()) {
+				throw new IOException("Invalid stored menu: " + count + " more things, but only " +
+						in.available() + " bytes left");
+			}
+			return (int)count;
+		}
+
+		public String readString() throws IOException {
+			long value = readVarLong();
+			if((value & 1) != 0) {
+				long index = value >>> 1;
+				if(index >= strings.size()) {
+					throw new IOException("Invalid stored menu: string " + index + " hasn't been read yet");
+				}
+				return strings.get((int)index);
+			}
+			byte[] bytes = new byte[checkCount(value >>> 1)];
+			in.readFully(bytes);
+			String string = new String(bytes, StandardCharsets.UTF_8);
+			strings.add(string);
+			return string;
+		}
+
+		public String readNullableString() throws IOException {
+			return in.readBoolean()? readString(): null;
+		}
+	}
+}
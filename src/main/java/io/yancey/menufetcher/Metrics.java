@@ -0,0 +1,281 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.stream.*;
+
+/**
+ * Counters and histograms of how the fetchers and downloads are doing, so it's easy to see
+ * which dining hall is slow or failing.
+ * <p>
+ * Each metric has a fixed set of label names, and keeps a separate series for every combination
+ * of label values it's given (like each fetcher and outcome).  They can be written out
+ * in the Prometheus text format or as json.
+ */
+public class Metrics {
+	public static final Metrics instance = new Metrics();
+
+	/** for durations, in seconds */
+	public static final double[] SECONDS_BUCKETS = {0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10, 30, 60};
+	/** for sizes, in bytes */
+	public static final double[] BYTES_BUCKETS = {1024, 4096, 16384, 65536, 262144, 1048576, 4194304};
+
+	private final Map<String, Metric<?>> metrics = new LinkedHashMap<>();
+
+	public synchronized Histogram histogram(String name, String help, double[] buckets, String... labelNames) {
+		return register(new Histogram(name, help, buckets, labelNames));
+	}
+
+	public synchronized Counter counter(String name, String help, String... labelNames) {
+		return register(new Counter(name, help, labelNames));
+	}
+
+	private <M extends Metric<?>> M register(M metric) {
+		if(metrics.containsKey(metric.name)) {
+			throw new IllegalArgumentException("There's already a metric named " + metric.name);
+		}
+		metrics.put(metric.name, metric);
+		return metric;
+	}
+
+	private synchronized List<Metric<?>> getMetrics() {
+		return new ArrayList<>(metrics.values());
+	}
+
+	/**
+	 * A named family of series, one for each combination of label values.
+	 */
+	public static abstract class Metric<S> {
+		public final String name;
+		public final String help;
+		public final String[] labelNames;
+		private final ConcurrentMap<List<String>, S> series = new ConcurrentHashMap<>();
+
+		public Metric(String name, String help, String[] labelNames) {
+			this.name = name;
+			this.help = help;
+			this.labelNames = labelNames;
+		}
+
+		public S labels(String... labelValues) {
+			if(labelValues.length != labelNames.length) {
+				throw new IllegalArgumentException(name + " has labels " + Arrays.toString(labelNames) +
+						" but was given " + Arrays.toString(labelValues));
+			}
+			List<String> key = Arrays.asList(labelValues);
+			S s = series.get(key);
+			if(s == null) {
+				s = series.computeIfAbsent(key, k -> newSeries());
+			}
+			return s;
+		}
+
+		protected abstract S newSeries();
+
+		/**
+		 * @return the series, sorted by their label values so the output is stable
+		 */
+		public List<Map.Entry<List<String>, S>> getSeries() {
+			List<Map.Entry<List<String>, S>> sorted = new ArrayList<>(series.entrySet());
+			sorted.sort((a, b) -> {
+				for(int i = 0; i < labelNames.length; i++) {
+					int compare = a.getKey().get(i).compareTo(b.getKey().get(i));
+					if(compare != 0) return compare;
+				}
+				return 0;
+			});
+			return sorted;
+		}
+	}
+
+	public static class Counter extends Metric<LongAdder> {
+		public Counter(String name, String help, String[] labelNames) {
+			super(name, help, labelNames);
+		}
+
+		@Override
+		protected LongAdder newSeries() {
+			return new LongAdder();
+		}
+	}
+
+	public static class Histogram extends Metric<Histogram.Series> {
+		private final double[] buckets;
+
+		public Histogram(String name, String help, double[] buckets, String[] labelNames) {
+			super(name, help, labelNames);
+			this.buckets = buckets.clone();
+			Arrays.sort(this.buckets);
+		}
+
+		@Override
+		protected Series newSeries() {
+			return new Series(buckets);
+		}
+
+		public static class Series {
+			private final double[] buckets;
+			/** how many observations fell in each bucket (not cumulative), and the last one is everything bigger */
+			private final LongAdder[] counts;
+			private final DoubleAdder sum = new DoubleAdder();
+
+			private Series(double[] buckets) {
+				this.buckets = buckets;
+				this.counts = new LongAdder[buckets.length + 1];
+				for(int i = 0; i < counts.length; i++) {
+					counts[i] = new LongAdder();
+				}
+			}
+
+			public void observe(double value) {
+				int bucket = Arrays.binarySearch(buckets, value);
+				if(bucket < 0) bucket = -bucket - 1;
+				counts[bucket].increment();
+				sum.add(value);
+			}
+
+			/**
+			 * Observe how long it's been since {@code startNanos} (from {@link System#nanoTime()}), in seconds.
+			 */
+			public void observeSince(long startNanos) {
+				observe((System.nanoTime() - startNanos) / 1e9);
+			}
+
+			private long[] cumulativeCounts() {
+				long[] cumulative = new long[counts.length];
+				long total = 0;
+				for(int i = 0; i < counts.length; i++) {
+					total += counts[i].sum();
+					cumulative[i] = total;
+				}
+				return cumulative;
+			}
+		}
+	}
+
+	/**
+	 * Write every metric to a file: in the Prometheus text format if its name ends in {@code .prom},
+	 * or as json otherwise.
+	 * <p>
+	 * The file is replaced all at once, so it can be read while it's being rewritten.
+	 */
+	public void writeTo(Path file) throws IOException {
+		file = file.toAbsolutePath();
+		Path temp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+		try {
+			try(Writer out = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+				if(file.getFileName().toString().endsWith(".prom")) {
+					writePrometheus(out);
+				} else {
+					writeJson(out);
+				}
+			}
+			Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	public void writePrometheus(Writer out) throws IOException {
+		for(Metric<?> metric: getMetrics()) {
+			out.write("# HELP " + metric.name + " " + metric.help.replace("\\", "\\\\").replace("\n", "\\n") + "\n");
+			if(metric instanceof Counter) {
+				out.write("# TYPE " + metric.name + " counter\n");
+				for(Map.Entry<List<String>, LongAdder> series: ((Counter)metric).getSeries()) {
+					out.write(metric.name + labels(metric, series.getKey(), null) + " " + series.getValue().sum() + "\n");
+				}
+			} else {
+				Histogram histogram = (Histogram)metric;
+				out.write("# TYPE " + metric.name + " histogram\n");
+				for(Map.Entry<List<String>, Histogram.Series> series: histogram.getSeries()) {
+					long[] counts = series.getValue().cumulativeCounts();
+					for(int i = 0; i < counts.length; i++) {
+						String le = i < histogram.buckets.length? formatDouble(histogram.buckets[i]): "+Inf";
+						out.write(metric.name + "_bucket" + labels(metric, series.getKey(), le) + " " + counts[i] + "\n");
+					}
+					out.write(metric.name + "_sum" + labels(metric, series.getKey(), null) + " " +
+							formatDouble(series.getValue().sum.sum()) + "\n");
+					out.write(metric.name + "_count" + labels(metric, series.getKey(), null) + " " +
+							counts[counts.length - 1] + "\n");
+				}
+			}
+		}
+	}
+
+	private static String labels(Metric<?> metric, List<String> values, String le) {
+		StringJoiner labels = new StringJoiner(",", "{", "}").setEmptyValue("");
+		for(int i = 0; i < metric.labelNames.length; i++) {
+			labels.add(metric.labelNames[i] + "=\"" + escapeLabelValue(values.get(i)) + "\"");
+		}
+		if(le != null) labels.add("le=\"" + le + "\"");
+		return labels.toString();
+	}
+
+	private static String escapeLabelValue(String value) {
+		return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+	}
+
+	private static String formatDouble(double value) {
+		if(value == Math.rint(value) && Math.abs(value) < 1e15) return Long.toString((long)value);
+		return Double.toString(value);
+	}
+
+	/**
+	 * Write every metric as json, like
+	 * <pre>{"name": {"type": "histogram", "help": "...", "series": [
+	 *     {"labels": {...}, "count": 3, "sum": 1.5, "buckets": {"0.5": 1, ..., "+Inf": 3}}]}}</pre>
+	 * where the bucket counts are cumulative, as in Prometheus.
+	 */
+	public void writeJson(Writer out) throws IOException {
+		JsonWriter json = new JsonWriter(out);
+		json.setIndent("\t");
+		json.beginObject();
+		for(Metric<?> metric: getMetrics()) {
+			json.name(metric.name).beginObject();
+			json.name("type").value(metric instanceof Counter? "counter": "histogram");
+			json.name("help").value(metric.help);
+			json.name("series").beginArray();
+			if(metric instanceof Counter) {
+				for(Map.Entry<List<String>, LongAdder> series: ((Counter)metric).getSeries()) {
+					json.beginObject();
+					writeJsonLabels(json, metric, series.getKey());
+					json.name("value").value(series.getValue().sum());
+					json.endObject();
+				}
+			} else {
+				Histogram histogram = (Histogram)metric;
+				for(Map.Entry<List<String>, Histogram.Series> series: histogram.getSeries()) {
+					long[] counts = series.getValue().cumulativeCounts();
+					json.beginObject();
+					writeJsonLabels(json, metric, series.getKey());
+					json.name("count").value(counts[counts.length - 1]);
+					json.name("sum").value(series.getValue().sum.sum());
+					json.name("buckets").beginObject();
+					for(int i = 0; i < counts.length; i++) {
+						json.name(i < histogram.buckets.length? formatDouble(histogram.buckets[i]): "+Inf").value(counts[i]);
+					}
+					json.endObject();
+					json.endObject();
+				}
+			}
+			json.endArray();
+			json.endObject();
+		}
+		json.endObject();
+		json.flush();
+		out.write("\n");
+	}
+
+	private static void writeJsonLabels(JsonWriter json, Metric<?> metric, List<String> values) throws IOException {
+		json.name("labels").beginObject();
+		for(int i = 0; i < metric.labelNames.length; i++) {
+			json.name(metric.labelNames[i]).value(values.get(i));
+		}
+		json.endObject();
+	}
+}
@@ -0,0 +1,250 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.lang.management.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import com.google.gson.stream.*;
+
+/**
+ * Times the phases of a run (fetching, building pages, writing them, ...) and how much each allocates,
+ * for {@code --profile}.
+ * <p>
+ * Code marks a phase with {@code Profiler.Span span = Profiler.span("phase", day);} and
+ * {@code span.end()} in a {@code finally}, which does nothing unless profiling has been started.
+ * Spans can be nested (and have to end in the opposite order they started), and each one's self time
+ * (and allocation) leaves out the spans nested in it on the same thread; work handed to other threads
+ * shows up as its own spans on those threads instead.
+ * <p>
+ * Allocation is counted per thread with {@link com.sun.management.ThreadMXBean}, where the JVM supports it.
+ * <p>
+ * Only the first {@link #MAX_SPANS} spans are kept, so a long-running daemon or server doesn't
+ * fill up memory; the ones after that are counted, and the report says how many were dropped.
+ */
+public class Profiler {
+	public static final int MAX_SPANS = 200000;
+
+	private static volatile Profiler current = null;
+
+	private final long startNanos = System.nanoTime();
+	private final com.sun.management.ThreadMXBean allocationCounter;
+	private final Queue<Event> events = new ConcurrentLinkedQueue<>();
+	/** how many spans have been recorded, including any dropped */
+	private final AtomicLong spans = new AtomicLong();
+	private final ThreadLocal<Span> openSpans = new ThreadLocal<>();
+
+	private Profiler() {
+		ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+		if(threads instanceof com.sun.management.ThreadMXBean &&
+				((com.sun.management.ThreadMXBean)threads).isThreadAllocatedMemorySupported()) {
+			allocationCounter = (com.sun.management.ThreadMXBean)threads;
+			allocationCounter.setThreadAllocatedMemoryEnabled(true);
+		} else {
+			allocationCounter = null;
+		}
+	}
+
+	/**
+	 * Start recording spans, from now on.
+	 */
+	public static Profiler start() {
+		Profiler profiler = new Profiler();
+		current = profiler;
+		return profiler;
+	}
+
+	/**
+	 * @param day what the phase is working on (a day or a range of them), or null for the same as
+	 *            the span it's nested in
+	 */
+	public static Span span(String phase, Object day) {
+		Profiler profiler = current;
+		if(profiler == null) return Span.NONE;
+		return profiler.new Recording(phase, day);
+	}
+
+	public static Span span(String phase) {
+		return span(phase, null);
+	}
+
+	public static class Span {
+		private static final Span NONE = new Span();
+
+		public void end() {}
+	}
+
+	private long allocatedBytes() {
+		return allocationCounter == null? 0:
+				allocationCounter.getThreadAllocatedBytes(Thread.currentThread().getId());
+	}
+
+	private class Recording extends Span {
+		private final String phase;
+		private final Object day;
+		private final Span parent;
+		private final long startNanos;
+		private final long startBytes;
+		private long childNanos = 0;
+		private long childBytes = 0;
+
+		public Recording(String phase, Object day) {
+			this.parent = openSpans.get();
+			this.phase = phase;
+			this.day = day == null && parent instanceof Recording? ((Recording)parent).day: day;
+			openSpans.set(this);
+			this.startBytes = allocatedBytes();
+			this.startNanos = System.nanoTime();
+		}
+
+		@Override
+		public void end() {
+			long nanos = System.nanoTime() - startNanos;
+			long bytes = allocatedBytes() - startBytes;
+			openSpans.set(parent);
+			if(parent instanceof Recording) {
+				((Recording)parent).childNanos += nanos;
+				((Recording)parent).childBytes += bytes;
+			}
+			if(spans.incrementAndGet() > MAX_SPANS) return;
+			Thread thread = Thread.currentThread();
+			events.add(new Event(phase, day == null? null: day.toString(), thread.getId(), thread.getName(),
+					startNanos - Profiler.this.startNanos, nanos, nanos - childNanos, bytes, bytes - childBytes));
+		}
+	}
+
+	private static class Event {
+		public final String phase;
+		public final String day;
+		public final long threadId;
+		public final String threadName;
+		/** since the profiler started */
+		public final long startNanos;
+		public final long nanos;
+		public final long selfNanos;
+		public final long bytes;
+		public final long selfBytes;
+
+		public Event(String phase, String day, long threadId, String threadName,
+				long startNanos, long nanos, long selfNanos, long bytes, long selfBytes) {
+			this.phase = phase;
+			this.day = day;
+			this.threadId = threadId;
+			this.threadName = threadName;
+			this.startNanos = startNanos;
+			this.nanos = nanos;
+			this.selfNanos = selfNanos;
+			this.bytes = bytes;
+			this.selfBytes = selfBytes;
+		}
+	}
+
+	private static class Totals {
+		public final String phase;
+		public final String day;
+		public int calls = 0;
+		public long nanos = 0;
+		public long selfNanos = 0;
+		public long maxNanos = 0;
+		public long selfBytes = 0;
+
+		public Totals(String phase, String day) {
+			this.phase = phase;
+			this.day = day;
+		}
+
+		public void add(Event event) {
+			calls++;
+			nanos += event.nanos;
+			selfNanos += event.selfNanos;
+			maxNanos = Math.max(maxNanos, event.nanos);
+			selfBytes += event.selfBytes;
+		}
+	}
+
+	/**
+	 * Print how long each phase took in total and for each day, the most expensive first.
+	 */
+	public void printReport(PrintStream out) {
+		Map<String, Totals> byPhase = new HashMap<>();
+		Map<List<String>, Totals> byDay = new HashMap<>();
+		for(Event event: events) {
+			byPhase.computeIfAbsent(event.phase, phase -> new Totals(phase, null)).add(event);
+			if(event.day != null) {
+				byDay.computeIfAbsent(Arrays.asList(event.day, event.phase),
+						key -> new Totals(event.phase, event.day)).add(event);
+			}
+		}
+		String allocated = allocationCounter == null? "(allocation isn't measured by this JVM)": "";
+		out.println("Profile, by phase "+allocated);
+		long dropped = spans.get() - MAX_SPANS;
+		if(dropped > 0) {
+			out.println("(only the first "+MAX_SPANS+" phases were kept; "+dropped+" more were dropped)");
+		}
+		out.printf("%-24s %7s %11s %11s %11s %12s%n", "phase", "calls", "total ms", "self ms", "max ms", "self alloc MB");
+		for(Totals totals: sortByCost(byPhase.values())) {
+			out.printf("%-24s %7d %11.1f %11.1f %11.1f %12.1f%n", totals.phase, totals.calls,
+					totals.nanos / 1e6, totals.selfNanos / 1e6, totals.maxNanos / 1e6, totals.selfBytes / 1048576.0);
+		}
+		if(byDay.isEmpty()) return;
+		out.println();
+		out.println("Profile, by day and phase");
+		out.printf("%-24s %-24s %7s %11s %11s %12s%n", "day", "phase", "calls", "total ms", "self ms", "self alloc MB");
+		for(Totals totals: sortByCost(byDay.values())) {
+			out.printf("%-24s %-24s %7d %11.1f %11.1f %12.1f%n", totals.day, totals.phase, totals.calls,
+					totals.nanos / 1e6, totals.selfNanos / 1e6, totals.selfBytes / 1048576.0);
+		}
+	}
+
+	private static List<Totals> sortByCost(Collection<Totals> totals) {
+		List<Totals> sorted = new ArrayList<>(totals);
+		sorted.sort(Comparator.comparingLong((Totals t) -> t.selfNanos).reversed());
+		return sorted;
+	}
+
+	/**
+	 * Write every span in the Chrome trace event format, for {@code chrome://tracing} or Perfetto.
+	 */
+	public void writeTrace(Path file) throws IOException {
+		try(JsonWriter json = new JsonWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+			json.beginObject();
+			json.name("displayTimeUnit").value("ms");
+			json.name("traceEvents").beginArray();
+			Map<Long, String> threadNames = new TreeMap<>();
+			for(Event event: events) {
+				threadNames.put(event.threadId, event.threadName);
+				json.beginObject();
+				json.name("name").value(event.phase);
+				json.name("cat").value("menufetcher");
+				json.name("ph").value("X");
+				json.name("pid").value(1);
+				json.name("tid").value(event.threadId);
+				json.name("ts").value(event.startNanos / 1000.0);
+				json.name("dur").value(event.nanos / 1000.0);
+				json.name("args").beginObject();
+				if(event.day != null) json.name("day").value(event.day);
+				json.name("selfMillis").value(event.selfNanos / 1e6);
+				if(allocationCounter != null) {
+					json.name("allocatedBytes").value(event.bytes);
+					json.name("selfAllocatedBytes").value(event.selfBytes);
+				}
+				json.endObject();
+				json.endObject();
+			}
+			for(Map.Entry<Long, String> thread: threadNames.entrySet()) {
+				json.beginObject();
+				json.name("name").value("thread_name");
+				json.name("ph").value("M");
+				json.name("pid").value(1);
+				json.name("tid").value(thread.getKey());
+				json.name("args").beginObject().name("name").value(thread.getValue()).endObject();
+				json.endObject();
+			}
+			json.endArray();
+			json.endObject();
+		}
+	}
+}
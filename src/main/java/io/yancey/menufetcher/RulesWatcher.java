@@ -0,0 +1,94 @@
+package io.yancey.menufetcher;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.*;
+
+import com.google.common.util.concurrent.*;
+
+/**
+ * Watches a file of interesting item rules, and swaps the new rules into an extractor whenever it changes.
+ * <p>
+ * The file is compiled on the watcher's own thread, so rendering carries on with the old rules
+ * until the new ones are ready.  If the new file isn't valid it's rejected and the old rules stay in use.
+ */
+public class RulesWatcher implements AutoCloseable {
+	/** editors often save a file in several steps, so wait for it to be quiet this long before loading it */
+	private static final long SETTLE_MILLIS = 200;
+
+	private final Path file;
+	private final InterestingItemExtractor extractor;
+	private final WatchService watchService;
+	private final Thread thread;
+
+	public RulesWatcher(Path file, InterestingItemExtractor extractor) throws IOException {
+		this.file = file.toAbsolutePath();
+		this.extractor = extractor;
+		this.watchService = this.file.getFileSystem().newWatchService();
+		// files can't be watched, only directories; this also sees the file being replaced by a rename
+		this.file.getParent().register(watchService,
+				StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+		this.thread = new ThreadFactoryBuilder()
+				.setNameFormat("rules-watcher")
+				.setDaemon(true)
+				.build()
+				.newThread(this::watch);
+	}
+
+	public void start() {
+		thread.start();
+	}
+
+	private void watch() {
+		try {
+			while(true) {
+				WatchKey key = watchService.take();
+				boolean changed = false;
+				for(WatchEvent<?> event: key.pollEvents()) {
+					if(event.kind() == StandardWatchEventKinds.OVERFLOW || file.getFileName().equals(event.context())) {
+						changed = true;
+					}
+				}
+				if(!key.reset()) {
+					System.err.println("Stopped watching "+file+" for new rules: its directory is gone");
+					return;
+				}
+				if(!changed) continue;
+				while((key = watchService.poll(SETTLE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+					key.pollEvents();
+					key.reset();
+				}
+				reload();
+			}
+		} catch(InterruptedException | ClosedWatchServiceException e) {
+			// closed
+		}
+	}
+
+	/**
+	 * Load the rules from the file, and use them if they're valid.
+	 *
+	 * @return whether the new rules are being used
+	 */
+	public boolean reload() {
+		InterestingItemRules rules;
+		try {
+			rules = InterestingItemRules.load(file);
+		} catch(IOException e) {
+			System.err.println("Error reading "+file+" (still using the previous rules): "+e);
+			return false;
+		} catch(IllegalArgumentException e) {
+			System.err.println("Rejected the rules in "+file+" (still using the previous rules): "+e.getMessage());
+			return false;
+		}
+		extractor.setRules(rules);
+		System.out.println("Loaded new interesting item rules from "+file);
+		return true;
+	}
+
+	@Override
+	public void close() throws IOException {
+		watchService.close();
+		thread.interrupt();
+	}
+}
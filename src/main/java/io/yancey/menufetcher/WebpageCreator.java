@@ -19,35 +19,54 @@ public class WebpageCreator {
 	private static final String NOT_FOUND_PAGE_ID = 
 			"29b834b1c0e9c7c946c6dc1d7a49c2218be33fefb150e17f2e6bf8a7ee42fec7";
 	
-	public static Document createBlankpage(LocalDate day) {
-		Document template = loadTemplate();
-		setupDayList(template, day);
-		deleteTables(template);
-		addBlankPageFlair(template, day);
-		return template;
+	public static void writeBlankpage(OutputStream out, LocalDate day) throws IOException {
+		Page page = new Page();
+		setupDayList(page, day);
+		deleteTables(page);
+		addBlankPageFlair(page, day);
+		page.write(out);
 	}
 	
-	private static void addBlankPageFlair(Document template, LocalDate day) {
-		Element notFound = template.getElementById("header").parent().appendElement("p");
-		notFound.text("The menu for "+day+" is not available yet.");
-		notFound.attr("id", "not-found");
-		// mark as not found page
-		notFound.addClass(NOT_FOUND_PAGE_ID);
+	private static void addBlankPageFlair(Page page, LocalDate day) {
+		page.slot(templatePrototype.getElementById("header").parent()).append(html -> {
+			html.startElement("p");
+			html.attr("id", "not-found");
+			// mark as not found page
+			html.attr("class", NOT_FOUND_PAGE_ID);
+			html.text("The menu for "+day+" is not available yet.");
+			html.endElement();
+		});
 	}
 
-	private static void deleteTables(Document template) {
-		template.getElementById("menu-summary").remove();
-		template.getElementById("menu").remove();
+	private static void deleteTables(Page page) {
+		page.slot("menu-summary").remove();
+		page.slot("menu").remove();
 	}
 
-	public static Document createWebpage(LocalDate day, List<Menu> menus) {
-		Document template = loadTemplate();
-		setupDayList(template, day);
-		addMenus(template, menus);
-		return template;
+	public static void writeWebpage(OutputStream out, LocalDate day, List<Menu> menus) throws IOException {
+		Page page = new Page();
+		Profiler.Span build = Profiler.span("build page", day);
+		try {
+			setupDayList(page, day);
+			addMenus(page, menus);
+		} finally {
+			build.end();
+		}
+		Profiler.Span write = Profiler.span("write page", day);
+		try {
+			page.write(out);
+		} finally {
+			write.end();
+		}
 	}
 	
-	private static Document loadTemplate() {
+	/**
+	 * The parsed template, which is never modified; pages are written by walking it
+	 * and filling in the slots (elements with ids) as we go.
+	 */
+	private static final Document templatePrototype = parseTemplate();
+	
+	private static Document parseTemplate() {
 		try(InputStream templateFile = WebpageCreator.class.getResourceAsStream("/template.html")) {
 			return Jsoup.parse(templateFile, "UTF-8", "");
 		} catch (IOException e) {
@@ -55,58 +74,272 @@ public class WebpageCreator {
 		}
 	}
 	
-	private static void addMenus(Document template, List<Menu> menus) {
+	private static final Map<String, Element> templateElementsById = new HashMap<>();
+	/** the parts of the template that are the same on every page, already rendered */
+	private static final Map<Element, String> prerenderedElements = new IdentityHashMap<>();
+	static {
+		for(Element element: templatePrototype.getAllElements()) {
+			if(!element.id().isEmpty()) {
+				templateElementsById.put(element.id(), element);
+			}
+		}
+		prerenderStaticElements(templatePrototype);
+	}
+	
+	/**
+	 * Anything without an id in it (and isn't the body, where the not found message goes)
+	 * never changes, so we only need to render it once.
+	 * 
+	 * @return whether the element is static
+	 */
+	private static boolean prerenderStaticElements(Element element) {
+		boolean isStatic = element.id().isEmpty() && 
+				element != templatePrototype && element != templatePrototype.body();
+		for(Element child: element.children()) {
+			isStatic &= prerenderStaticElements(child);
+		}
+		if(isStatic) {
+			prerenderedElements.put(element, HtmlWriter.prerender(element));
+		}
+		return isStatic;
+	}
+	
+	private interface Content {
+		public void write(HtmlWriter html) throws IOException;
+	}
+	
+	/**
+	 * The changes we're making to one element of the template.
+	 */
+	private static class Slot {
+		private final Element element;
+		private Map<String, String> attributes = null;
+		private boolean removed = false;
+		private final List<Content> appended = new ArrayList<>();
+		
+		public Slot(Element element) {
+			this.element = element;
+		}
+		
+		private Map<String, String> attributes() {
+			if(attributes == null) {
+				attributes = new LinkedHashMap<>();
+				for(Attribute attribute: element.attributes()) {
+					attributes.put(attribute.getKey(), attribute.getValue());
+				}
+			}
+			return attributes;
+		}
+		
+		public Slot attr(String key, String value) {
+			attributes().put(key, value);
+			return this;
+		}
+		
+		public Slot addClass(String className) {
+			Set<String> classNames = splitClassNames(attributes().getOrDefault("class", ""));
+			classNames.add(className);
+			return attr("class", String.join(" ", classNames));
+		}
+		
+		public void remove() {
+			removed = true;
+		}
+		
+		public Slot append(Content content) {
+			appended.add(content);
+			return this;
+		}
+	}
+	
+	private static Set<String> splitClassNames(String className) {
+		Set<String> classNames = new LinkedHashSet<>(Arrays.asList(className.trim().split("\\s+")));
+		classNames.remove("");
+		return classNames;
+	}
+	
+	private static class Page {
+		private final Map<Element, Slot> slots = new IdentityHashMap<>();
+		
+		public Slot slot(String id) {
+			Element element = templateElementsById.get(id);
+			if(element == null) {
+				throw new IllegalArgumentException("No element with id "+id+" in the template");
+			}
+			return slot(element);
+		}
+		
+		public Slot slot(Element element) {
+			return slots.computeIfAbsent(element, Slot::new);
+		}
+		
+		public void write(OutputStream out) throws IOException {
+			Writer writer = new BufferedWriter(new OutputStreamWriter(out, Charsets.UTF_8));
+			HtmlWriter html = new HtmlWriter(writer);
+			for(Node node: templatePrototype.childNodes()) {
+				write(html, node);
+			}
+			html.flush();
+		}
+		
+		private void write(HtmlWriter html, Node node) throws IOException {
+			String prerendered = prerenderedElements.get(node);
+			if(prerendered != null) {
+				html.prerendered(prerendered);
+				return;
+			}
+			if(!(node instanceof Element)) {
+				html.node(node);
+				return;
+			}
+			Slot slot = slots.get(node);
+			if(slot != null && slot.removed) return;
+			Element element = (Element) node;
+			html.startElement(element.tag());
+			if(slot != null && slot.attributes != null) {
+				for(Map.Entry<String, String> attribute: slot.attributes.entrySet()) {
+					html.attr(attribute.getKey(), attribute.getValue());
+				}
+			} else {
+				for(Attribute attribute: element.attributes()) {
+					html.attr(attribute.getKey(), attribute.getValue());
+				}
+			}
+			for(Node child: element.childNodes()) {
+				write(html, child);
+			}
+			if(slot != null) {
+				for(Content content: slot.appended) {
+					content.write(html);
+				}
+			}
+			html.endElement();
+		}
+	}
+	
+	private static class Row {
+		public final String id;
+		public final Set<String> classNames = new LinkedHashSet<>();
+		/** the meals that this row has a (non-spacer) cell for */
+		public final Set<String> meals = new HashSet<>();
+		public final List<Content> cells = new ArrayList<>();
+		
+		public Row(String id) {
+			this.id = id;
+		}
+		
+		public void write(HtmlWriter html) throws IOException {
+			html.startElement("tr");
+			html.attr("id", id);
+			html.attr("class", String.join(" ", classNames));
+			for(Content cell: cells) {
+				cell.write(html);
+			}
+			html.endElement();
+		}
+	}
+	
+	/**
+	 * Keeps track of the rows of the full menu table as we lay it out.
+	 */
+	private static class PageIndex {
+		public final List<Row> rows = new ArrayList<>();
+		public final Map<String, Row> rowsById = new HashMap<>();
+		public final Map<String, List<Row>> rowsByDiningHall = new HashMap<>();
+		public final Map<String, String> firstRowIds = new HashMap<>();
+		public final Set<String> cellIds = new HashSet<>();
+		
+		public void addRow(String diningHallId, Row row) {
+			rows.add(row);
+			rowsById.put(row.id, row);
+			rowsByDiningHall.computeIfAbsent(diningHallId, id -> new ArrayList<>()).add(row);
+		}
+		
+		public List<Row> getRows(String diningHallId) {
+			return rowsByDiningHall.getOrDefault(diningHallId, Collections.emptyList());
+		}
+	}
+	
+	private static void addMenus(Page page, List<Menu> menus) {
 		//System.out.println(menus);
-		addMenuSummary(template, menus);
-		addFullMenus(template, menus);
+		PageIndex index = new PageIndex();
+		addMenuSummary(page, menus, index);
+		addFullMenus(page, menus, index);
 	}
 
-	private static void addMenuSummary(Document template, List<Menu> menus) {
+	private static void addMenuSummary(Page page, List<Menu> menus, PageIndex index) {
 		for(Menu menu: menus) {
-			Element nameCell = template.getElementById("menu-summary-title-" + menu.diningHallId);
-			nameCell.addClass(menu.diningHallId);
-			nameCell.addClass("colored");
-			Element nameLink = nameCell.appendElement("a");
-			nameLink.attr("id", "menu-summary-"+menu.diningHallId+"-link-to-full");
-			nameLink.text(menu.diningHallName);
+			page.slot("menu-summary-title-" + menu.diningHallId)
+					.addClass(menu.diningHallId)
+					.addClass("colored")
+					.append(html -> {
+						html.startElement("a");
+						html.attr("id", "menu-summary-"+menu.diningHallId+"-link-to-full");
+						String firstRowId = index.firstRowIds.get(menu.diningHallId);
+						if(firstRowId != null) {
+							html.attr("href", "#"+firstRowId);
+						}
+						html.text(menu.diningHallName);
+						html.endElement();
+					});
 		}
 		boolean hasLunch = false;
 		for(Menu menu: menus) {
-			for(Meal meal: InterestingItemExtractor.instance.getInterestingItems(menu)) {
+			List<Meal> interestingItems;
+			Profiler.Span span = Profiler.span("interesting items");
+			try {
+				interestingItems = InterestingItemExtractor.instance.getInterestingItems(menu);
+			} finally {
+				span.end();
+			}
+			for(Meal meal: interestingItems) {
 				if(meal.name.equalsIgnoreCase("lunch")) {
 					hasLunch = true;
 				}
-				Element cell = template.getElementById("menu-summary-"+meal.name.toLowerCase()+"-"+menu.diningHallId);
+				Slot cell = page.slot("menu-summary-"+meal.name.toLowerCase()+"-"+menu.diningHallId);
 				cell.addClass(menu.diningHallId);
 				cell.addClass("colored");
 				if(!meal.description.isEmpty()) {
-					cell.appendText(meal.description);
+					cell.append(html -> html.text(meal.description));
 				}
-				Element list = cell.appendElement("ul").addClass("menu-item-list");
-				for(Station station: meal.stations) {
-					for(MenuItem item: station.menu) {
-						item.createElement(list.appendElement("li"));
+				cell.append(html -> {
+					html.startElement("ul").attr("class", "menu-item-list");
+					for(Station station: meal.stations) {
+						writeItems(html, station);
 					}
-				}
+					html.endElement();
+				});
 			}
 		}
-		if(!hasLunch) template.getElementById("menu-summary-lunch").remove();
+		if(!hasLunch) page.slot("menu-summary-lunch").remove();
+	}
+	
+	private static void writeItems(HtmlWriter html, Station station) throws IOException {
+		for(MenuItem item: station.menu) {
+			html.startElement("li");
+			item.writeElement(html);
+			html.endElement();
+		}
 	}
 
-	private static void addFullMenus(Document template, List<Menu> menus) {
-		Element menuTable = template.getElementById("menu").child(0);
+	private static void addFullMenus(Page page, List<Menu> menus, PageIndex index) {
 		for(Menu menu: menus) {
-			addStationNames(template, menuTable, menu);
+			addStationNames(menu, index);
 		}
+		page.slot(templateElementsById.get("menu").child(0)).append(html -> {
+			for(Row row: index.rows) {
+				row.write(html);
+			}
+		});
 		
-		List<String> mealTitles = setupMealTitles(template, menus);
+		List<String> mealTitles = setupMealTitles(page, menus);
 		
 		for(String mealTitle: mealTitles) {
-			addFoodForMeal(mealTitle, menus, menuTable);
+			addFoodForMeal(mealTitle, menus, index);
 		}
 	}
 	
-	private static void addFoodForMeal(String mealTitle, List<Menu> menus, Element menuTable) {
+	private static void addFoodForMeal(String mealTitle, List<Menu> menus, PageIndex index) {
 		for(Menu menu: menus) {
 			Meal thisMeal = null;
 			for(Meal meal: menu.meals) {
@@ -118,33 +351,37 @@ public class WebpageCreator {
 				for(Station station: thisMeal.stations) {
 					String stationId = getStationIdFromName(station.name);
 					int duplicateId = 0;
-					String cellId = "menu-cell-" + menu.diningHallId + "-" + stationId + "-" + mealTitle + "-";
-					while(menuTable.getElementById(cellId + duplicateId) != null) duplicateId++;
-					cellId += duplicateId;
-					Element cell = menuTable
-							.getElementById("menu-row-" + menu.diningHallId + "-" + stationId + "-" + duplicateId)
-							.appendElement("td");
-					cell.attr("id",cellId);
-					cell.addClass("menu-cell");
-					cell.addClass(mealTitle);
-					Element list = cell.appendElement("ul").addClass("menu-item-list");
-					for(MenuItem item: station.menu) {
-						item.createElement(list.appendElement("li"));
-					}
+					String cellIdPrefix = "menu-cell-" + menu.diningHallId + "-" + stationId + "-" + mealTitle + "-";
+					while(index.cellIds.contains(cellIdPrefix + duplicateId)) duplicateId++;
+					String cellId = cellIdPrefix + duplicateId;
+					Row row = index.rowsById
+							.get("menu-row-" + menu.diningHallId + "-" + stationId + "-" + duplicateId);
+					index.cellIds.add(cellId);
+					row.meals.add(mealTitle);
+					row.cells.add(html -> {
+						html.startElement("td");
+						html.attr("id", cellId);
+						html.attr("class", "menu-cell " + mealTitle);
+						html.startElement("ul").attr("class", "menu-item-list");
+						writeItems(html, station);
+						html.endElement();
+						html.endElement();
+					});
 				}
 			}
-			for(Element stationElement: menuTable.getElementsByClass("menu-row-" + menu.diningHallId)) {
-				if(stationElement.getElementsByClass(mealTitle).size() == 0) {
-					Element spacer = stationElement.appendElement("td");
-					spacer.attr("id", stationElement.id() + "-" + mealTitle);
-					spacer.addClass("menu-cell");
-					spacer.addClass("menu-spacer");
+			for(Row row: index.getRows(menu.diningHallId)) {
+				if(!row.meals.contains(mealTitle)) {
+					row.cells.add(html -> html
+							.startElement("td")
+							.attr("id", row.id + "-" + mealTitle)
+							.attr("class", "menu-cell menu-spacer")
+							.endElement());
 				}
 			}
 		}
 	}
 
-	private static List<String> setupMealTitles(Document template, List<Menu> menus) {
+	private static List<String> setupMealTitles(Page page, List<Menu> menus) {
 		Set<String> unusedMealTitles = new HashSet<>(Arrays.asList("breakfast","lunch","brunch","dinner"));
 		for(Menu menu: menus) {
 			for(Meal meal: menu.meals) {
@@ -152,14 +389,14 @@ public class WebpageCreator {
 			}
 		}
 		for(String mealTitle: unusedMealTitles) {
-			template.getElementById("menu-header-meals-" + mealTitle).remove();
+			page.slot("menu-header-meals-" + mealTitle).remove();
 		}
 		List<String> mealTitles = new ArrayList<>(Arrays.asList("breakfast","lunch","brunch","dinner"));
 		mealTitles.removeAll(unusedMealTitles);
 		return mealTitles;
 	}
 	
-	private static void addStationNames(Document template, Element menuTable, Menu menu) {
+	private static void addStationNames(Menu menu, PageIndex index) {
 		Multiset<String> stationNames = LinkedHashMultiset.create();
 		for(Meal meal: menu.meals) {
 			Multiset<String> stationNamesForMeal = LinkedHashMultiset.create();
@@ -176,75 +413,77 @@ public class WebpageCreator {
 			String stationId = getStationIdFromName(station);
 			int duplicateId = 0;
 			String rowId = "menu-row-" + menu.diningHallId + "-" + stationId + "-";
-			while(menuTable.getElementById(rowId + duplicateId) != null) duplicateId++;
-			rowId += duplicateId;
-			Element stationRow = menuTable.appendElement("tr");
-			stationRow.attr("id","menu-row-"+menu.diningHallId+"-"+stationId+"-"+duplicateId);
-			stationRow.addClass("menu-row-"+menu.diningHallId);
-			stationRow.addClass(menu.diningHallId);
-			stationRow.addClass("colored");
+			while(index.rowsById.containsKey(rowId + duplicateId)) duplicateId++;
+			Row stationRow = new Row(rowId + duplicateId);
+			stationRow.classNames.add("menu-row-"+menu.diningHallId);
+			stationRow.classNames.add(menu.diningHallId);
+			stationRow.classNames.add("colored");
+			index.addRow(menu.diningHallId, stationRow);
 			if(isOddRow) {
-				stationRow.addClass("menu-row-odd");
+				stationRow.classNames.add("menu-row-odd");
 			}
 			isOddRow = !isOddRow;
 			if(isFirstStation) {
-				stationRow.addClass("menu-row-first");
-				addDiningHallName(template, stationRow, stationNames.size(), menu);
+				stationRow.classNames.add("menu-row-first");
+				addDiningHallName(index, stationRow, stationNames.size(), menu);
 				isFirstStation = false;
 			}
-			Element stationName = stationRow.appendElement("td");
-			stationName.attr("id", 
-					"menu-title-" + menu.diningHallId + "-station-" + stationId + "-" + duplicateId);
-			stationName.addClass("menu-cell");
-			stationName.text(station);
-			
+			String stationNameId = "menu-title-" + menu.diningHallId + "-station-" + stationId + "-" + duplicateId;
+			stationRow.cells.add(html -> html
+					.startElement("td")
+					.attr("id", stationNameId)
+					.attr("class", "menu-cell")
+					.text(station)
+					.endElement());
 		}
 	}
 	
 	private static final DateTimeFormatter hmFormat = DateTimeFormatter.ofPattern("h:mm");
-	private static void addDiningHallName(Document template, Element stationRow, int height, Menu menu) {
-		Element summaryLinkToFull = template.getElementById("menu-summary-"+menu.diningHallId+"-link-to-full");
-		summaryLinkToFull.attr("href", "#"+stationRow.id());
-		Element diningHallName = stationRow.appendElement("td");
-		diningHallName.attr("id", "menu-title-" + menu.diningHallId);
-		diningHallName.addClass("menu-cell");
-		diningHallName.addClass("menu-title");
-		Element nameLink = diningHallName.appendElement("a");
-		nameLink.attr("href", menu.publicUrl);
-		nameLink.text(menu.diningHallName);
-		Element times = diningHallName.appendElement("div");
-		for(Meal meal: menu.meals) {
-			if(meal.hours == null) continue;
-			times.appendText(meal.name+":");
-			times.appendElement("br");
-			times.appendText(meal.hours.startTime.format(hmFormat) + "\u00a0-\u00a0" +
-			                 meal.hours.endTime.format(hmFormat));
-			times.appendElement("br");
-		}
-		diningHallName.attr("rowspan",Integer.toString(height));
+	private static void addDiningHallName(PageIndex index, Row stationRow, int height, Menu menu) {
+		index.firstRowIds.put(menu.diningHallId, stationRow.id);
+		stationRow.cells.add(html -> {
+			html.startElement("td");
+			html.attr("id", "menu-title-" + menu.diningHallId);
+			html.attr("class", "menu-cell menu-title");
+			html.attr("rowspan", Integer.toString(height));
+			html.startElement("a").attr("href", menu.publicUrl).text(menu.diningHallName).endElement();
+			html.startElement("div");
+			for(Meal meal: menu.meals) {
+				if(meal.hours == null) continue;
+				html.text(meal.name+":");
+				html.startElement("br").endElement();
+				html.text(meal.hours.startTime.format(hmFormat) + "\u00a0-\u00a0" +
+				          meal.hours.endTime.format(hmFormat));
+				html.startElement("br").endElement();
+			}
+			html.endElement();
+			html.endElement();
+		});
 	}
 
 	private static String getStationIdFromName(String stationName) {
 		return stationName.toLowerCase().replaceAll("\\s+", "-");
 	}
 
-	private static void setupDayList(Document template, LocalDate day) {
+	private static void setupDayList(Page page, LocalDate day) {
 		for(int dayNumber = 1; dayNumber <= 7; dayNumber++) {
 			DayOfWeek dayOfWeek = DayOfWeek.of(dayNumber);
-			Element tableItem = template.getElementById("day-list-day-"+dayNumber);
+			Slot tableItem = page.slot("day-list-day-"+dayNumber);
 			LocalDate tagDay = (LocalDate)dayOfWeek.adjustInto(day);
 			if(tagDay.equals(day)) {
 				tableItem.addClass("day-list-item-selected");
 			}
-			Element link = tableItem.appendElement("a");
-			link.appendElement("u").text(dayOfWeek.getDisplayName(TextStyle.FULL_STANDALONE, Locale.US));
-			link.appendElement("br");
-			link.appendText(tagDay.toString());
-			link.attr("href", tagDay.toString() + ".html");
+			tableItem.append(html -> {
+				html.startElement("a").attr("href", tagDay.toString() + ".html");
+				html.element("u", dayOfWeek.getDisplayName(TextStyle.FULL_STANDALONE, Locale.US));
+				html.startElement("br").endElement();
+				html.text(tagDay.toString());
+				html.endElement();
+			});
 		}
-		template.getElementById("day-list-back-link").attr("href",
+		page.slot("day-list-back-link").attr("href",
 				((LocalDate)DayOfWeek.MONDAY.adjustInto(day)).minusDays(1) + ".html");
-		template.getElementById("day-list-fwd-link").attr("href",
+		page.slot("day-list-fwd-link").attr("href",
 				((LocalDate)DayOfWeek.SUNDAY.adjustInto(day)).plusDays(1) + ".html");
 	}
 	
@@ -259,16 +498,17 @@ public class WebpageCreator {
 				return;
 			}
 		}
-		try(FileWriter w = new FileWriter(fp)) {
-			w.write(WebpageCreator.createBlankpage(day).toString());
+		try(OutputStream out = new BufferedOutputStream(new FileOutputStream(fp))) {
+			writeBlankpage(out, day);
 		} catch (IOException e) {
 			throw new RuntimeException("Error saving webpage",e);
 		}
 	}
 	
 	public static void createAndSaveWebpage(String folder, LocalDate day, List<Menu> menus) {
-		try(FileWriter w = new FileWriter(new File(folder, day.toString() + ".html"))) {
-			w.write(WebpageCreator.createWebpage(day, menus).toString());
+		try(OutputStream out = new BufferedOutputStream(
+				new FileOutputStream(new File(folder, day.toString() + ".html")))) {
+			writeWebpage(out, day, menus);
 		} catch (IOException e) {
 			throw new RuntimeException("Error saving webpage",e);
 		}
@@ -65,6 +65,16 @@ public class LocalDateRange implements Iterable<LocalDate> {
 		return startDate.hashCode() ^ endDate.hashCode();
 	}
 
+	/**
+	 * @return how many days are in this range, counting both ends
+	 */
+	public int length() {
+		return Math.max(0, (int)(endDate.toEpochDay() - startDate.toEpochDay() + 1));
+	}
+
+	/**
+	 * Iterates over every day in this range, including both the start and end dates.
+	 */
 	@Override
 	public Iterator<LocalDate> iterator() {
 		return new Iterator<LocalDate>() {
@@ -72,12 +82,15 @@ public class LocalDateRange implements Iterable<LocalDate> {
 			
 			@Override
 			public LocalDate next() {
-				return date = date.plusDays(1);
+				if(!hasNext()) throw new NoSuchElementException();
+				LocalDate next = date;
+				date = date.plusDays(1);
+				return next;
 			}
 			
 			@Override
 			public boolean hasNext() {
-				return !date.equals(endDate);
+				return !date.isAfter(endDate);
 			}
 		};
 	}
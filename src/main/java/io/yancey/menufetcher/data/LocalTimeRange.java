@@ -1,6 +1,7 @@
 package io.yancey.menufetcher.data;
 
 import java.time.*;
+import java.util.*;
 
 public class LocalTimeRange {
 	public final LocalTime startTime;
@@ -61,6 +62,6 @@ public class LocalTimeRange {
 	}
 	
 	public int hashCode() {
-		return startTime.hashCode() ^ endTime.hashCode();
+		return Objects.hash(startTime, endTime);
 	}
 }
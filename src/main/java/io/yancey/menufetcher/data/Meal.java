@@ -42,13 +42,14 @@ public class Meal {
 	
 	public boolean equals(Object o) {
 		return o instanceof Meal &&
-				((Meal)o).name == name &&
+				((Meal)o).name.equals(name) &&
+				((Meal)o).description.equals(description) &&
+				Objects.equals(((Meal)o).hours, hours) &&
 				((Meal)o).stations.equals(stations);
 	}
 	
 	public int hashCode() {
-		return name.hashCode() ^ stations.hashCode() ^
-				(hours == null? 0: hours.startTime.hashCode() ^ hours.endTime.hashCode());
+		return Objects.hash(name, description, hours, stations);
 	}
 	
 	public void toJson(JsonWriter writer) throws IOException {
@@ -26,4 +26,19 @@ public class Menu {
 		}
 		return sb.toString();
 	}
+	
+	public boolean equals(Object o) {
+		return o instanceof Menu &&
+				((Menu)o).diningHallName.equals(diningHallName) &&
+				((Menu)o).diningHallId.equals(diningHallId) &&
+				Objects.equals(((Menu)o).publicUrl, publicUrl) &&
+				((Menu)o).meals.equals(meals);
+	}
+	
+	/**
+	 * Only depends on the contents of the menu, so it's the same from run to run.
+	 */
+	public int hashCode() {
+		return Objects.hash(diningHallName, diningHallId, publicUrl, meals);
+	}
 }
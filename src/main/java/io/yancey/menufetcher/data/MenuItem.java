@@ -3,10 +3,10 @@ package io.yancey.menufetcher.data;
 import java.io.*;
 import java.util.*;
 
-import org.jsoup.nodes.*;
-
 import com.google.gson.stream.*;
 
+import io.yancey.menufetcher.*;
+
 public class MenuItem {
 	public final String name;
 	public final String description;
@@ -26,14 +26,14 @@ public class MenuItem {
 		}
 	}
 	
-	public Element createElement(Element parent) {
-		Element itemSpan = parent.appendElement("span");
-		itemSpan.text(name);
+	public void writeElement(HtmlWriter html) throws IOException {
+		html.startElement("span");
 		if(!description.isEmpty() && !description.equals(name)){
-			itemSpan.attr("rel", "tooltip");
-			itemSpan.attr("title", description.replaceAll("<br[^>]*>", "\n"));
+			html.attr("rel", "tooltip");
+			html.attr("title", description.replaceAll("<br[^>]*>", "\n"));
 		}
-		return itemSpan;
+		html.text(name);
+		html.endElement();
 	}
 	
 	public boolean equals(Object o) {
@@ -44,7 +44,7 @@ public class MenuItem {
 	}
 	
 	public int hashCode() {
-		return name.hashCode() ^ description.hashCode() ^ tags.hashCode();
+		return Objects.hash(name, description, tags);
 	}
 	
 	public void toJson(JsonWriter writer) throws IOException {
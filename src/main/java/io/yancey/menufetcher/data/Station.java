@@ -31,7 +31,7 @@ public class Station {
 	}
 	
 	public int hashCode() {
-		return name.hashCode() ^ menu.hashCode();
+		return Objects.hash(name, menu);
 	}
 	
 	public void toJson(JsonWriter writer) throws IOException {
@@ -1,7 +1,6 @@
 package io.yancey.menufetcher.fetchers;
 
 import java.io.*;
-import java.net.*;
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
@@ -13,6 +12,7 @@ import com.google.gson.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public abstract class AbstractNewSodexoMenuFetcher extends AbstractMenuFetcher {
 	private final int menuId;
@@ -20,7 +20,12 @@ public abstract class AbstractNewSodexoMenuFetcher extends AbstractMenuFetcher {
 	private final String sitename;
 	private final String dininghallname;
 	
-	private HashMap<LocalDate, JsonObject> jsonCache = new HashMap<>();
+	private final SingleFlightCache<LocalDate, JsonObject> jsonCache = new SingleFlightCache<>();
+	
+	@Override
+	public void clearCache() {
+		jsonCache.clear();
+	}
 	
 	private String menuUrl(LocalDate day) {
 		String startDateString = day.format(DateTimeFormatter.ofPattern("MM/dd/yyyy"));
@@ -42,30 +47,36 @@ public abstract class AbstractNewSodexoMenuFetcher extends AbstractMenuFetcher {
 				menuId, locationId, whereAmIUrl(), startDateString);
 	}
 	
-	private void fetchMenu(LocalDate day) throws MenuNotAvailableException {
+	/**
+	 * Fetch the menus for the week starting on {@code day}, caching the other days of the week too.
+	 */
+	private JsonObject fetchMenu(LocalDate day) throws MenuNotAvailableException {
 		Document menuPage;
-		try(Scanner sc = new Scanner(new URL(menuUrl(day)).openStream())) {
-			menuPage = Jsoup.parseBodyFragment(sc.useDelimiter("\\A").next());
+		try {
+			menuPage = Jsoup.parseBodyFragment(HttpClient.getDefault().getString(menuUrl(day)));
 		} catch (IOException e) {
 			throw new MenuNotAvailableException("Error fetching menu data", e);
 		}
 		String text = menuPage.getElementById("nutData").text();
 		JsonArray menus = new JsonParser().parse(text).getAsJsonArray();
+		JsonObject dayMenu = null;
 		for (JsonElement e: menus) {
 			JsonObject menu = e.getAsJsonObject();
 			LocalDate menuDay = LocalDate.parse(menu.get("date").getAsString(), DateTimeFormatter.ISO_DATE_TIME);
-			jsonCache.put(menuDay, menu);
-		}
-	}
-	
-	private JsonObject getMenuJson(LocalDate day) throws MenuNotAvailableException {
-		if (!jsonCache.containsKey(day)) {
-			fetchMenu(day);
+			if (menuDay.equals(day)) {
+				dayMenu = menu;
+			} else {
+				jsonCache.putIfAbsent(menuDay, menu);
+			}
 		}
-		if (!jsonCache.containsKey(day)) {
+		if (dayMenu == null) {
 			throw new MenuNotAvailableException(String.format("fetchMenu(%s) didn't add a menu for %s", day, day));
 		}
-		return jsonCache.get(day);
+		return dayMenu;
+	}
+	
+	private JsonObject getMenuJson(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
+		return jsonCache.get(day, () -> fetchMenu(day));
 	}
 	
 	public AbstractNewSodexoMenuFetcher(String name, String id, String sitename, int menuId, int locationId, String dininghallname) {
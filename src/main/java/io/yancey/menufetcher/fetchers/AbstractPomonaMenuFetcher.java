@@ -6,26 +6,32 @@ import java.time.*;
 import java.util.*;
 import java.util.regex.*;
 
-import org.jsoup.*;
 import org.jsoup.nodes.*;
 
 import com.google.gson.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public abstract class AbstractPomonaMenuFetcher extends AbstractMenuFetcher {
 	private final String sitename;
 	private static final String urlPrefix = "http://www.pomona.edu/administration/dining/menus/";
 
-	protected Map<String, Document> documentCache = new HashMap<>();
-	protected Map<String, JsonElement> jsonCache = new HashMap<>();
+	protected final SingleFlightCache<String, Document> documentCache = new SingleFlightCache<>();
+	protected final SingleFlightCache<String, JsonArray> jsonCache = new SingleFlightCache<>();
 	
 	public AbstractPomonaMenuFetcher(String name, String id, String sitename) {
 		super(name, id);
 		this.sitename = sitename;
 	}
 	
+	@Override
+	public void clearCache() {
+		documentCache.clear();
+		jsonCache.clear();
+	}
+	
 	private String getMenuUrl() {
 		return urlPrefix + sitename;
 	}
@@ -76,21 +82,18 @@ public abstract class AbstractPomonaMenuFetcher extends AbstractMenuFetcher {
 	private JsonArray getSpreadsheets(Element menuSpreadsheetInfo)
 			throws MalformedMenuException, MenuNotAvailableException {
 		String url = getDocumentUrl(menuSpreadsheetInfo);
-		if(!jsonCache.containsKey(url)) {
-			try(Scanner sc = new Scanner(new URL(url).openStream(), "UTF-8")) {
-				sc.useDelimiter("\\A");
-				String spreadsheetsString = sc.hasNext()? sc.next(): "";
-				jsonCache.put(url,
-						new JsonParser().parse(spreadsheetsString).getAsJsonObject()
+		return jsonCache.get(url, () -> {
+			try {
+				String spreadsheetsString = HttpClient.getDefault().getString(url);
+				return new JsonParser().parse(spreadsheetsString).getAsJsonObject()
 						.getAsJsonObject("feed")
-						.getAsJsonArray("entry"));
+						.getAsJsonArray("entry");
 			} catch (MalformedURLException e) {
 				throw new MalformedMenuException("Invalid spreadsheets url", e);
 			} catch (IOException e) {
 				throw new MenuNotAvailableException("Error fetching spreadsheets",e);
 			}
-		}
-		return jsonCache.get(url).getAsJsonArray();
+		});
 	}
 	
 	private static final Pattern spreadsheetDateStringRegex = 
@@ -139,21 +142,18 @@ public abstract class AbstractPomonaMenuFetcher extends AbstractMenuFetcher {
 	private JsonArray getSpreadsheetData(JsonObject spreadsheetInfo)
 			throws MalformedMenuException, MenuNotAvailableException {
 		String url = getSpreadsheetUrl(spreadsheetInfo);
-		if(!jsonCache.containsKey(url)) {
-			try(Scanner sc = new Scanner(new URL(url).openStream(), "UTF-8")) {
-				sc.useDelimiter("\\A");
-				String spreadsheetString = sc.hasNext()? sc.next(): "";
-				jsonCache.put(url,
-						new JsonParser().parse(spreadsheetString).getAsJsonObject()
+		return jsonCache.get(url, () -> {
+			try {
+				String spreadsheetString = HttpClient.getDefault().getString(url);
+				return new JsonParser().parse(spreadsheetString).getAsJsonObject()
 						.getAsJsonObject("feed")
-						.getAsJsonArray("entry"));
+						.getAsJsonArray("entry");
 			} catch (MalformedURLException e) {
 				throw new MalformedMenuException("Invalid spreadsheet url",e);
 			} catch (IOException e) {
 				throw new MenuNotAvailableException("Error fetching spreadsheet data",e);
 			}
-		}
-		return jsonCache.get(url).getAsJsonArray();
+		});
 	}
 	
 	private static int getCols(JsonObject spreadsheetInfo) {
@@ -264,21 +264,47 @@ public abstract class AbstractPomonaMenuFetcher extends AbstractMenuFetcher {
 	
 	@Override
 	public Menu getMeals(LocalDate day) throws MalformedMenuException, MenuNotAvailableException {
-		if(!documentCache.containsKey(getMenuUrl())) {
+		return getMeals(day, new HashMap<>());
+	}
+	
+	/**
+	 * Each week is one spreadsheet, so it's only parsed once for all of its days.
+	 */
+	@Override
+	public SortedMap<LocalDate, Menu> getMeals(LocalDateRange days)
+			throws MalformedMenuException, MenuNotAvailableException {
+		Map<LocalDate, String[][]> spreadsheetsByWeek = new HashMap<>();
+		SortedMap<LocalDate, Menu> menus = new TreeMap<>();
+		for(LocalDate day: days) {
+			menus.put(day, getMeals(day, spreadsheetsByWeek));
+		}
+		return menus;
+	}
+	
+	/**
+	 * @param spreadsheetsByWeek the spreadsheets already parsed, by the monday of their week
+	 */
+	private Menu getMeals(LocalDate day, Map<LocalDate, String[][]> spreadsheetsByWeek)
+			throws MalformedMenuException, MenuNotAvailableException {
+		Document menuInfoPage = documentCache.get(getMenuUrl(), () -> {
 			try {
-				documentCache.put(getMenuUrl(), Jsoup.connect(getMenuUrl()).timeout(10*1000).get());
+				return HttpClient.getDefault().getDocument(getMenuUrl());
 			} catch (IOException e) {
 				throw new MenuNotAvailableException("Error fetching menu info",e);
 			}
-		}
-		Document menuInfoPage = documentCache.get(getMenuUrl());
+		});
 		Element menuSpreadsheetInfo = getMenuSpreadsheetInfo(menuInfoPage);
 		JsonObject spreadsheetInfo = getSpreadsheetInfo(day, menuSpreadsheetInfo);
 		if(spreadsheetInfo == null) {
 			// couldn't find any info for requested day
 			return new Menu(name, id, getMenuUrl(), Collections.emptyList());
 		}
-		String[][] spreadsheet = getSpreadsheet(spreadsheetInfo);
+		LocalDate week = (LocalDate)DayOfWeek.MONDAY.adjustInto(day);
+		String[][] spreadsheet = spreadsheetsByWeek.get(week);
+		if(spreadsheet == null) {
+			spreadsheet = getSpreadsheet(spreadsheetInfo);
+			spreadsheetsByWeek.put(week, spreadsheet);
+		}
 		
 		String menuType = getMenuType(menuSpreadsheetInfo);
 		if(!isRightType(menuType)) {
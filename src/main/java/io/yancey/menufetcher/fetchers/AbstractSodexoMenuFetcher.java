@@ -4,38 +4,43 @@ import java.io.*;
 import java.time.*;
 import java.util.*;
 
-import org.jsoup.*;
 import org.jsoup.nodes.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public abstract class AbstractSodexoMenuFetcher extends AbstractMenuFetcher {
 	protected final String sitename;
 
-	protected Map<String, Document> pageCache = new HashMap<>();
+	protected final SingleFlightCache<String, Document> pageCache = new SingleFlightCache<>();
 
 	public AbstractSodexoMenuFetcher(String name, String id, String sitename) {
 		super(name, id);
 		this.sitename = sitename;
 	}
+	
+	@Override
+	public void clearCache() {
+		pageCache.clear();
+	}
 
 	protected abstract LocalTimeRange parseMealTime(Element accordianDiv, String mealName, LocalDate day);
 	
-	protected LocalTimeRange getMealTime(String mealName, LocalDate day) throws MenuNotAvailableException {
+	protected LocalTimeRange getMealTime(String mealName, LocalDate day)
+			throws MenuNotAvailableException, MalformedMenuException {
 		return parseMealTime(fetchPortalPage().getElementById("accordion_3543")
 				.getElementsByClass("accordionBody").get(1), mealName, day);
 	}
 	
-	public Document fetchPortalPage() throws MenuNotAvailableException {
-		if(!pageCache.containsKey(getPortalUrl())) {
+	public Document fetchPortalPage() throws MenuNotAvailableException, MalformedMenuException {
+		return pageCache.get(getPortalUrl(), () -> {
 			try {
-				pageCache.put(getPortalUrl(), Jsoup.connect(getPortalUrl()).timeout(10*1000).get());
+				return HttpClient.getDefault().getDocument(getPortalUrl());
 			} catch (IOException e) {
 				throw new MenuNotAvailableException("Error fetching portal", e);
 			}
-		}
-		return pageCache.get(getPortalUrl());
+		});
 	}
 
 	protected String getPortalUrl() {
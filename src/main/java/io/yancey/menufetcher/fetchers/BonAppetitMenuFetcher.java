@@ -2,20 +2,21 @@ package io.yancey.menufetcher.fetchers;
 
 import java.io.*;
 import java.net.*;
+import java.nio.charset.*;
 import java.time.*;
 import java.time.format.*;
 import java.util.*;
 import java.util.regex.*;
-import java.util.stream.*;
 
 import org.jsoup.*;
 import org.jsoup.nodes.*;
 import org.jsoup.parser.*;
 
-import com.google.gson.*;
+import com.google.gson.stream.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 	private final int cafeId;
@@ -34,38 +35,292 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 				cafeId, day.format(DateTimeFormatter.ISO_LOCAL_DATE));
 	}
 	
-	private JsonElement getMenuJson(LocalDate day)
+	private MenuData getMenuData(LocalDate day)
 			throws MenuNotAvailableException, MalformedMenuException {
 		String url = getJsonMenuUrl(day);
-		try(Scanner sc = new Scanner(new URL(url).openStream(), "UTF-8")) {
-			sc.useDelimiter("\\A");
-			String menuString = sc.hasNext()? sc.next(): "";
-			return new JsonParser().parse(menuString);
+		HttpResponse response;
+		try {
+			response = HttpClient.getDefault().get(url);
 		} catch (MalformedURLException e) {
 			throw new MalformedMenuException("Invalid json url", e);
 		} catch (IOException e) {
 			throw new MenuNotAvailableException("Error fetching json",e);
 		}
+		try(JsonReader reader = new JsonReader(new InputStreamReader(
+				response.openStream(), StandardCharsets.UTF_8))) {
+			return parseMenuData(reader, Integer.toString(cafeId));
+		} catch (IOException | IllegalStateException | NumberFormatException e) {
+			throw new MalformedMenuException("Invalid json", e);
+		}
+	}
+
+	/**
+	 * The parts of the menu json that we actually use.
+	 * <p>
+	 * The json has an {@code items} object with every item the cafe has ever served,
+	 * so rather than building a tree of the whole thing we stream through it
+	 * and only hold on to the dayparts and the items they reference.
+	 */
+	private static class MenuData {
+		public final List<DaypartData> dayparts;
+		public final Map<String, ItemData> items;
+
+		public MenuData(List<DaypartData> dayparts, Map<String, ItemData> items) {
+			this.dayparts = dayparts;
+			this.items = items;
+		}
+	}
+
+	private static class DaypartData {
+		public final String label;
+		public final String starttime;
+		public final String endtime;
+		public final List<StationData> stations;
+
+		public DaypartData(String label, String starttime, String endtime, List<StationData> stations) {
+			this.label = label;
+			this.starttime = starttime;
+			this.endtime = endtime;
+			this.stations = stations;
+		}
+	}
+
+	private static class StationData {
+		public final String label;
+		public final List<String> itemIds;
+
+		public StationData(String label, List<String> itemIds) {
+			this.label = label;
+			this.itemIds = itemIds;
+		}
+	}
+
+	private static class ItemData {
+		public final String label;
+		public final String description;
+		public final Set<String> tags;
+		public final boolean isSpecial;
+
+		public ItemData(String label, String description, Set<String> tags, boolean isSpecial) {
+			this.label = label;
+			this.description = description;
+			this.tags = tags;
+			this.isSpecial = isSpecial;
+		}
+	}
+
+	private static MenuData parseMenuData(JsonReader reader, String cafeId)
+			throws IOException, MalformedMenuException {
+		List<DaypartData> dayparts = null;
+		Map<String, ItemData> items = null;
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "days":
+					dayparts = parseDays(reader, cafeId);
+					break;
+				case "items":
+					// if the dayparts came first we know which items we need;
+					// otherwise (or if there are no dayparts, so we may need the RSS feed)
+					// we have to keep all of them
+					Set<String> referencedIds = null;
+					if(dayparts != null && !dayparts.isEmpty()) {
+						referencedIds = new HashSet<>();
+						for(DaypartData daypart: dayparts) {
+							for(StationData station: daypart.stations) {
+								referencedIds.addAll(station.itemIds);
+							}
+						}
+					}
+					items = parseItems(reader, referencedIds);
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		if(dayparts == null) {
+			throw new MalformedMenuException("Menu json has no days");
+		}
+		if(items == null) {
+			items = Collections.emptyMap();
+		}
+		return new MenuData(dayparts, items);
+	}
+
+	private static List<DaypartData> parseDays(JsonReader reader, String cafeId)
+			throws IOException, MalformedMenuException {
+		List<DaypartData> dayparts = null;
+		reader.beginArray();
+		if(reader.hasNext()) {
+			reader.beginObject();
+			while(reader.hasNext()) {
+				if(reader.nextName().equals("cafes")) {
+					reader.beginObject();
+					while(reader.hasNext()) {
+						if(reader.nextName().equals(cafeId)) {
+							dayparts = parseCafe(reader);
+						} else {
+							reader.skipValue();
+						}
+					}
+					reader.endObject();
+				} else {
+					reader.skipValue();
+				}
+			}
+			reader.endObject();
+		}
+		while(reader.hasNext()) reader.skipValue();
+		reader.endArray();
+		if(dayparts == null) {
+			throw new MalformedMenuException("Menu json has no data for cafe "+cafeId);
+		}
+		return dayparts;
+	}
+
+	private static List<DaypartData> parseCafe(JsonReader reader) throws IOException {
+		List<DaypartData> dayparts = Collections.emptyList();
+		reader.beginObject();
+		while(reader.hasNext()) {
+			if(reader.nextName().equals("dayparts") && reader.peek() == JsonToken.BEGIN_ARRAY) {
+				reader.beginArray();
+				if(reader.hasNext()) {
+					dayparts = new ArrayList<>(3);
+					reader.beginArray();
+					while(reader.hasNext()) {
+						dayparts.add(parseDaypart(reader));
+					}
+					reader.endArray();
+				}
+				while(reader.hasNext()) reader.skipValue();
+				reader.endArray();
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return dayparts;
+	}
+
+	private static DaypartData parseDaypart(JsonReader reader) throws IOException {
+		String label = null, starttime = null, endtime = null;
+		List<StationData> stations = new ArrayList<>();
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "label":
+					label = reader.nextString();
+					break;
+				case "starttime":
+					starttime = reader.nextString();
+					break;
+				case "endtime":
+					endtime = reader.nextString();
+					break;
+				case "stations":
+					reader.beginArray();
+					while(reader.hasNext()) {
+						stations.add(parseStationData(reader));
+					}
+					reader.endArray();
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new DaypartData(label, starttime, endtime, stations);
+	}
+
+	private static StationData parseStationData(JsonReader reader) throws IOException {
+		String label = null;
+		List<String> itemIds = new ArrayList<>();
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "label":
+					label = reader.nextString();
+					break;
+				case "items":
+					reader.beginArray();
+					while(reader.hasNext()) {
+						itemIds.add(reader.nextString());
+					}
+					reader.endArray();
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new StationData(label, itemIds);
+	}
+
+	private static Map<String, ItemData> parseItems(JsonReader reader, Set<String> referencedIds)
+			throws IOException {
+		// in document order, since the RSS fallback picks the first item with a matching label
+		Map<String, ItemData> items = new LinkedHashMap<>();
+		reader.beginObject();
+		while(reader.hasNext()) {
+			String itemId = reader.nextName();
+			if(referencedIds == null || referencedIds.contains(itemId)) {
+				items.put(itemId, parseItem(reader));
+			} else {
+				reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return items;
+	}
+
+	private static ItemData parseItem(JsonReader reader) throws IOException {
+		String label = null, description = "";
+		Set<String> tags = Collections.emptySet();
+		boolean isSpecial = true;
+		reader.beginObject();
+		while(reader.hasNext()) {
+			switch(reader.nextName()) {
+				case "label":
+					label = reader.nextString();
+					break;
+				case "description":
+					description = reader.nextString();
+					break;
+				case "cor_icon":
+					// an object of tags, or an empty array if there aren't any
+					if(reader.peek() == JsonToken.BEGIN_OBJECT) {
+						tags = new HashSet<>();
+						reader.beginObject();
+						while(reader.hasNext()) {
+							reader.nextName();
+							tags.add(reader.nextString());
+						}
+						reader.endObject();
+					} else {
+						reader.skipValue();
+					}
+					break;
+				case "special":
+					isSpecial = reader.nextInt() != 0;
+					break;
+				default:
+					reader.skipValue();
+			}
+		}
+		reader.endObject();
+		return new ItemData(label, description, tags, isSpecial);
 	}
 
 	@Override
 	public Menu getMeals(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
-		JsonObject menuData = getMenuJson(day).getAsJsonObject();
-		JsonArray mealsDataParts = menuData
-				.getAsJsonArray("days")
-				.get(0).getAsJsonObject()
-				.getAsJsonObject("cafes")
-				.getAsJsonObject(Integer.toString(cafeId))
-				.getAsJsonArray("dayparts");
-		JsonObject itemsData = menuData
-				.getAsJsonObject("items");
-		JsonArray mealsData;
-		if(mealsDataParts.size() > 0 && mealsDataParts.get(0).getAsJsonArray().size() > 0) {
-			mealsData = mealsDataParts
-					.get(0).getAsJsonArray();
+		MenuData menuData = getMenuData(day);
+		List<DaypartData> mealsData;
+		if(!menuData.dayparts.isEmpty()) {
+			mealsData = menuData.dayparts;
 		} else if(isInCurrentWeek(day)) {
 			System.err.printf("%s missing dayparts: trying RSS feed\n", name);
-			mealsData = getMealsDataFromRSS(day, itemsData);
+			mealsData = getMealsDataFromRSS(day, menuData.items);
 			if(mealsData == null) {
 				System.err.println("fetching RSS failed");
 				return new Menu(name, id, getMenuUrl(day), Collections.emptyList());
@@ -75,52 +330,61 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 			return new Menu(name, id, getMenuUrl(day), Collections.emptyList());
 		}
 		List<Meal> meals = new ArrayList<>(3);
-		for(JsonElement mealData: mealsData) {
-			meals.add(createMeal(mealData.getAsJsonObject(), itemsData));
+		for(DaypartData mealData: mealsData) {
+			meals.add(createMeal(mealData, menuData.items));
 		}
-		// consolodate duplicate stations
+		consolidateStations(meals);
+		removeEmptyStations(meals);
+		return new Menu(name, id, getMenuUrl(day), meals);
+	}
+	
+	/**
+	 * Merge stations with the same name (ignoring case) into the first one with that name.
+	 */
+	private static void consolidateStations(List<Meal> meals) {
 		for(Meal m: meals) {
-			for(ListIterator<Station> sli = m.stations.listIterator(); sli.hasNext();) {
-				Station s = sli.next();
-				int sliIndex = sli.nextIndex();
-				for(ListIterator<Station> sli2 = m.stations.listIterator(sli.nextIndex()); sli2.hasNext();) {
-					Station s2 = sli2.next();
-					if(s.name.equalsIgnoreCase(s2.name)) {
-						sli2.remove();
-						s.menu.addAll(s2.menu);
-						// avoid a ConcurrentModificationException by refreshing the iterator
-						sli = m.stations.listIterator(sliIndex);
-					}
+			Map<String, Station> stationsByName = new LinkedHashMap<>();
+			for(Station s: m.stations) {
+				Station first = stationsByName.putIfAbsent(s.name.toLowerCase(Locale.ROOT), s);
+				if(first != null) {
+					first.menu.addAll(s.menu);
 				}
 			}
-		}
-		// remove unused stations and empty meals
-		for(ListIterator<Meal> mli = meals.listIterator(); mli.hasNext();) {
-			Meal m = mli.next();
-			stationLoop:
-			for(ListIterator<Station> sli = m.stations.listIterator(); sli.hasNext();) {
-				Station station = sli.next();
-				if(!station.menu.isEmpty()) continue stationLoop;
-				for(ListIterator<Meal> mli2 = meals.listIterator(mli.nextIndex()); mli2.hasNext();) {
-					for(Station s2: mli2.next().stations) {
-						if(s2.name.equals(station.name) && !s2.menu.isEmpty()) {
-							continue stationLoop;
-						}
-					}
-				}
-				sli.remove();
+			if(stationsByName.size() != m.stations.size()) {
+				m.stations.clear();
+				m.stations.addAll(stationsByName.values());
 			}
-			if(m.stations.isEmpty()) {
-				mli.remove();
+		}
+	}
+
+	/**
+	 * Remove empty stations, unless a station with the same name has items in a later meal,
+	 * and then remove meals with no stations left.
+	 */
+	private static void removeEmptyStations(List<Meal> meals) {
+		// the index of the last meal where each station has items
+		Map<String, Integer> lastUsed = new HashMap<>();
+		for(int i = 0; i < meals.size(); i++) {
+			for(Station s: meals.get(i).stations) {
+				if(!s.menu.isEmpty()) lastUsed.put(s.name, i);
 			}
 		}
-		return new Menu(name, id, getMenuUrl(day), meals);
+		List<Meal> nonEmptyMeals = new ArrayList<>(meals.size());
+		for(int i = 0; i < meals.size(); i++) {
+			Meal m = meals.get(i);
+			int mealIndex = i;
+			m.stations.removeIf(s -> s.menu.isEmpty() &&
+					lastUsed.getOrDefault(s.name, -1) <= mealIndex);
+			if(!m.stations.isEmpty()) nonEmptyMeals.add(m);
+		}
+		meals.clear();
+		meals.addAll(nonEmptyMeals);
 	}
 	
-	private JsonArray getMealsDataFromRSS(LocalDate day, JsonObject itemsData) {
+	private List<DaypartData> getMealsDataFromRSS(LocalDate day, Map<String, ItemData> itemsData) {
 		Document rssFeed;
 		try {
-			rssFeed = Jsoup.connect(getRssUrl()).timeout(10*1000).get();
+			rssFeed = HttpClient.getDefault().getDocument(getRssUrl());
 		} catch (IOException e) {
 			System.err.println("error loading RSS");
 			return null;
@@ -131,7 +395,7 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 			LocalDate itemDate = LocalDate.parse(dateString, DateTimeFormatter.ofPattern("EEE, dd MMM yyyy"));
 			if(itemDate.equals(day)) {
 				String itemText = Parser.unescapeEntities(item.getElementsByTag("description").get(0).text(), false);
-				return formatAsMealsData(itemText, itemsData);
+				return formatAsMealsData(itemText, new ItemIndex(itemsData));
 			}
 		}
 		
@@ -140,8 +404,8 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 	}
 
 	private static final Pattern mealTitleRegex = Pattern.compile("<h3>([^<]+)</h3>");
-	private static JsonArray formatAsMealsData(String feedItemText, JsonObject itemsData) {
-		JsonArray mealsData = new JsonArray();
+	private static List<DaypartData> formatAsMealsData(String feedItemText, ItemIndex itemIndex) {
+		List<DaypartData> mealsData = new ArrayList<>();
 		Matcher mealTitleMatcher = mealTitleRegex.matcher(feedItemText);
 		if(!mealTitleMatcher.find()) return null;
 		while(!mealTitleMatcher.hitEnd()) {
@@ -154,20 +418,16 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 				mealEnd = feedItemText.length();
 			}
 			
-			JsonObject mealData = createMealDataFromRss(mealTitle, 
-					feedItemText.substring(mealStart, mealEnd), itemsData);
-			if(mealData != null) {
-				mealsData.add(mealData);
-			} else {
-				System.err.printf("error adding %s\n", mealTitle);
-			}
+			mealsData.add(createMealDataFromRss(mealTitle, 
+					feedItemText.substring(mealStart, mealEnd), itemIndex));
 		}
 		return mealsData;
 	}
 
 	private static final Pattern itemRegex = Pattern.compile("<h4>\\s*\\[([^]]+)\\]\\s*([^<]+)</h4>");
-	private static JsonObject createMealDataFromRss(String mealTitle, String mealDataString, JsonObject itemsData) {
-		Map<String, JsonArray> stationsMap = new HashMap<>();
+	private static DaypartData createMealDataFromRss(String mealTitle, String mealDataString,
+			ItemIndex itemIndex) {
+		Map<String, List<String>> stationsMap = new HashMap<>();
 		Matcher itemMatcher = itemRegex.matcher(mealDataString);
 		
 		while(itemMatcher.find()) {
@@ -175,9 +435,9 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 			String itemName = itemMatcher.group(2);
 			
 			if(!stationsMap.containsKey(stationName)) {
-				stationsMap.put(stationName, new JsonArray());
+				stationsMap.put(stationName, new ArrayList<>());
 			}
-			String itemId = guessItemId(itemName, itemsData);
+			String itemId = itemIndex.guessItemId(itemName);
 			if(itemId != null) {
 				stationsMap.get(stationName).add(itemId);
 			} else {
@@ -185,35 +445,102 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 			}
 		}
 		
-		JsonArray stations = new JsonArray();
-		for(Map.Entry<String, JsonArray> stationData: stationsMap.entrySet()) {
-			JsonObject station = new JsonObject();
-			station.addProperty("label", stationData.getKey());
-			station.add("items", stationData.getValue());
-			stations.add(station);
+		List<StationData> stations = new ArrayList<>();
+		for(Map.Entry<String, List<String>> stationData: stationsMap.entrySet()) {
+			stations.add(new StationData(stationData.getKey(), stationData.getValue()));
 		}
 		
-		JsonObject mealData = new JsonObject();
-		mealData.addProperty("label", mealTitle);
-		mealData.add("stations", stations);
-		
 		//TODO: fake these better
-		mealData.addProperty("starttime", "00:00");
-		mealData.addProperty("endtime", "00:00");
-		
-		return mealData;
+		return new DaypartData(mealTitle, "00:00", "00:00", stations);
 	}
 
-	private static String guessItemId(String itemName, JsonObject itemsData) {
-		itemName = itemName.trim();
-		if(itemName.endsWith("&nbsp;")) itemName = itemName.substring(0, itemName.length() - 6);
-		if(itemName.endsWith("\u00a0")) itemName = itemName.substring(0, itemName.length() - 1);
-		for(Map.Entry<String, JsonElement> itemData: itemsData.entrySet()) {
-			if(itemData.getValue().getAsJsonObject().get("label").getAsString().equalsIgnoreCase(itemName)) {
-				return itemData.getKey();
+	/**
+	 * Looks up item ids by label, for matching the names in the RSS feed to items in the json.
+	 */
+	private static class ItemIndex {
+		private static final Pattern whitespaceRegex = Pattern.compile("(?:\\s|\u00a0|&nbsp;)+");
+		private static final Pattern punctuationRegex = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+		/** labels shorter than this (ignoring punctuation) are too easy to mistake for another dish */
+		private static final int MIN_FUZZY_LENGTH = 6;
+
+		// in the items' order, so the first item with a label wins
+		private final Map<String, String> idsByLabel = new LinkedHashMap<>();
+		private final Map<String, String> idsByLooseLabel = new LinkedHashMap<>();
+
+		public ItemIndex(Map<String, ItemData> itemsData) {
+			for(Map.Entry<String, ItemData> itemData: itemsData.entrySet()) {
+				if(itemData.getValue().label == null) continue;
+				String label = normalize(itemData.getValue().label);
+				idsByLabel.putIfAbsent(label, itemData.getKey());
+				idsByLooseLabel.putIfAbsent(loosen(label), itemData.getKey());
 			}
 		}
-		return null;
+
+		private static String normalize(String label) {
+			return whitespaceRegex.matcher(label).replaceAll(" ").trim().toLowerCase(Locale.ROOT);
+		}
+
+		private static String loosen(String normalizedLabel) {
+			return punctuationRegex.matcher(normalizedLabel).replaceAll("");
+		}
+
+		/**
+		 * @return the id of the item with the given label, 
+		 *         or failing that the item with the most similar label,
+		 *         or null if nothing is close enough (or more than one item is equally close)
+		 */
+		public String guessItemId(String itemName) {
+			String label = normalize(itemName);
+			String id = idsByLabel.get(label);
+			if(id != null) return id;
+			
+			// second tier: ignore punctuation, then allow a few typos
+			String looseLabel = loosen(label);
+			id = idsByLooseLabel.get(looseLabel);
+			if(id != null) return id;
+			if(looseLabel.length() < MIN_FUZZY_LENGTH) return null;
+			int maxDistance = Math.max(1, looseLabel.length() / 10);
+			String bestId = null;
+			int bestDistance = maxDistance + 1;
+			boolean tied = false;
+			for(Map.Entry<String, String> candidate: idsByLooseLabel.entrySet()) {
+				int distance = editDistance(looseLabel, candidate.getKey(), Math.min(bestDistance, maxDistance));
+				if(distance < bestDistance) {
+					bestDistance = distance;
+					bestId = candidate.getValue();
+					tied = false;
+				} else if(distance == bestDistance && bestId != null && !bestId.equals(candidate.getValue())) {
+					tied = true;
+				}
+			}
+			return tied? null: bestId;
+		}
+
+		/**
+		 * @return the Levenshtein distance between a and b, 
+		 *         or something larger than limit if it's larger than limit
+		 */
+		private static int editDistance(String a, String b, int limit) {
+			if(Math.abs(a.length() - b.length()) > limit) return limit + 1;
+			int[] previous = new int[b.length() + 1];
+			int[] current = new int[b.length() + 1];
+			for(int j = 0; j <= b.length(); j++) previous[j] = j;
+			for(int i = 1; i <= a.length(); i++) {
+				current[0] = i;
+				int rowMin = current[0];
+				for(int j = 1; j <= b.length(); j++) {
+					int substitution = previous[j - 1] + (a.charAt(i - 1) == b.charAt(j - 1)? 0: 1);
+					current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+					rowMin = Math.min(rowMin, current[j]);
+				}
+				if(rowMin > limit) return limit + 1;
+				int[] swap = previous;
+				previous = current;
+				current = swap;
+			}
+			return previous[b.length()];
+		}
 	}
 
 	private String getRssUrl() {
@@ -227,48 +554,32 @@ public class BonAppetitMenuFetcher extends AbstractMenuFetcher {
 		return !today.isBefore(startOfWeek) && !today.isAfter(endOfWeek);
 	}
 
-	private static Meal createMeal(JsonObject mealData, JsonObject itemsData) {
+	private static Meal createMeal(DaypartData mealData, Map<String, ItemData> itemsData) {
 		List<Station> stations = new ArrayList<>();
-		for(JsonElement stationData: mealData.getAsJsonArray("stations")) {
-			stations.add(createStation(stationData.getAsJsonObject(), itemsData));
+		for(StationData stationData: mealData.stations) {
+			stations.add(createStation(stationData, itemsData));
 		}
 		return new Meal(stations,
 				new LocalTimeRange(
-						LocalTime.parse(mealData.get("starttime").getAsString()),
-				        LocalTime.parse(mealData.get("endtime").getAsString())),
-				mealData.get("label").getAsString(), "");
+						LocalTime.parse(mealData.starttime),
+				        LocalTime.parse(mealData.endtime)),
+				mealData.label, "");
 	}
 
-	private static Station createStation(JsonObject stationData, JsonObject itemsData) {
+	private static Station createStation(StationData stationData, Map<String, ItemData> itemsData) {
 		List<MenuItem> items = new ArrayList<>();
-		boolean hasItems = false;
-		for(JsonElement itemId: stationData.getAsJsonArray("items")) {
-			hasItems = true;
-			JsonObject itemData = itemsData.getAsJsonObject(itemId.getAsString());
-			if(itemData.has("special") && itemData.get("special").getAsInt() == 0) {
+		for(String itemId: stationData.itemIds) {
+			ItemData itemData = itemsData.get(itemId);
+			if(itemData == null) {
+				System.err.println("missing data for item "+itemId);
 				continue;
 			}
-			items.add(createMenuItem(itemData));
-		}
-		//if(hasItems && items.isEmpty()) {
-		//	items.add(new MenuItem(stationData.get("label").getAsString(), 
-		//			"", Collections.emptySet()));
-		//}
-		return new Station(stationData.get("label").getAsString(), items);
-	}
-
-	private static MenuItem createMenuItem(JsonObject itemData) {
-		Set<String> tags;
-		if(itemData.get("cor_icon").isJsonObject()) {
-			JsonObject tagArray = itemData.getAsJsonObject("cor_icon");
-			tags = tagArray.entrySet().parallelStream()
-					.map((e) -> e.getValue().getAsString())
-					.collect(Collectors.toSet());
-		} else {
-			tags = Collections.emptySet();
+			if(!itemData.isSpecial) {
+				continue;
+			}
+			items.add(new MenuItem(itemData.label, itemData.description, itemData.tags));
 		}
-		return new MenuItem(itemData.get("label").getAsString(),
-				itemData.get("description").getAsString(), tags);
+		return new Station(stationData.label, items);
 	}
 	
 	private String getMenuUrl(LocalDate day) {
@@ -0,0 +1,211 @@
+package io.yancey.menufetcher.fetchers;
+
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+import com.google.common.base.*;
+import com.google.common.util.concurrent.*;
+
+import io.yancey.menufetcher.*;
+import io.yancey.menufetcher.data.*;
+
+/**
+ * Fetches the menus for every dining hall at once on a bounded pool of threads.
+ * <p>
+ * Each fetcher gets its own timeout, counted from when it actually starts running,
+ * and the whole batch gets an overall timeout.  Fetchers that fail or time out are
+ * logged and skipped, the same as {@link MenuFetcher#fetchAllMenus(List, LocalDate)}.
+ */
+public class ConcurrentMenuFetcher implements AutoCloseable {
+	private final ExecutorService executor;
+	private final long fetcherTimeoutNanos;
+	private final long totalTimeoutNanos;
+
+	public ConcurrentMenuFetcher(int threads, long fetcherTimeout, long totalTimeout, TimeUnit unit) {
+		if(threads < 1) {
+			throw new IllegalArgumentException("Need at least one thread, not " + threads);
+		}
+		// the queue is unbounded so every fetch runs on the pool, under its timeouts;
+		// one that's still waiting when the total timeout runs out is cancelled before it starts
+		this.executor = new ThreadPoolExecutor(threads, threads,
+				0, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(),
+				new ThreadFactoryBuilder()
+						.setNameFormat("menu-fetcher-%d")
+						.setDaemon(true)
+						.build());
+		this.fetcherTimeoutNanos = unit.toNanos(fetcherTimeout);
+		this.totalTimeoutNanos = unit.toNanos(totalTimeout);
+	}
+
+	/**
+	 * Fetch all of the menus for the given day.
+	 *
+	 * @return the menus that were fetched successfully,
+	 *         in the same order as {@code menuFetchers}
+	 */
+	public List<Menu> fetchAllMenus(List<MenuFetcher> menuFetchers, LocalDate day) {
+		long totalDeadline = System.nanoTime() + totalTimeoutNanos;
+		List<FetchTask> tasks = new ArrayList<>(menuFetchers.size());
+		List<Future<Menu>> futures = new ArrayList<>(menuFetchers.size());
+		for(MenuFetcher menuFetcher: menuFetchers) {
+			FetchTask task = new FetchTask(menuFetcher, day);
+			tasks.add(task);
+			futures.add(executor.submit(task));
+		}
+
+		List<Menu> menus = new ArrayList<>();
+		for(int i = 0; i < tasks.size(); i++) {
+			FetchTask task = tasks.get(i);
+			Future<Menu> future = futures.get(i);
+			try {
+				menus.add(await(task, future, totalDeadline));
+				System.out.print(".");
+			} catch(TimeoutException e) {
+				future.cancel(true);
+				System.err.println("Error fetching "+task.menuFetcher.getId()+
+						" for "+day+": timed out");
+			} catch(InterruptedException e) {
+				for(Future<Menu> f: futures) f.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while fetching menus for "+day, e);
+			} catch(ExecutionException e) {
+				Throwable cause = e.getCause();
+				if(cause instanceof MenuNotAvailableException) {
+					System.err.println("Error fetching "+task.menuFetcher.getId()+
+							" for "+day+": menu not found");
+					cause.printStackTrace();
+				} else if(cause instanceof MalformedMenuException) {
+					System.err.println("Error fetching "+task.menuFetcher.getId()+
+							" for "+day+": invalid data recieved");
+					cause.printStackTrace();
+				} else {
+					System.err.println("Invalid exception recieved fetching "+
+							task.menuFetcher.getId()+" for "+day+": "+cause);
+					throw Throwables.propagate(cause);
+				}
+			}
+		}
+		System.out.println();
+		return menus;
+	}
+
+	/**
+	 * Fetch all of the menus for a range of days, with one task per dining hall
+	 * so halls that publish a week at a time only fetch it once.
+	 * <p>
+	 * The timeouts are stretched by the number of days, since a hall may still need a download per day.
+	 *
+	 * @return the menus that were fetched successfully for each day,
+	 *         in the same order as {@code menuFetchers}
+	 */
+	public SortedMap<LocalDate, List<Menu>> fetchAllMenus(List<MenuFetcher> menuFetchers, LocalDateRange days) {
+		long timeoutScale = Math.max(1, days.length());
+		long totalDeadline = System.nanoTime() + totalTimeoutNanos * timeoutScale;
+		List<RangeFetchTask> tasks = new ArrayList<>(menuFetchers.size());
+		List<Future<SortedMap<LocalDate, Menu>>> futures = new ArrayList<>(menuFetchers.size());
+		for(MenuFetcher menuFetcher: menuFetchers) {
+			RangeFetchTask task = new RangeFetchTask(menuFetcher, days);
+			tasks.add(task);
+			futures.add(executor.submit(task));
+		}
+
+		SortedMap<LocalDate, List<Menu>> menus = new TreeMap<>();
+		for(LocalDate day: days) {
+			menus.put(day, new ArrayList<>());
+		}
+		for(int i = 0; i < tasks.size(); i++) {
+			RangeFetchTask task = tasks.get(i);
+			Future<SortedMap<LocalDate, Menu>> future = futures.get(i);
+			try {
+				for(Map.Entry<LocalDate, Menu> menu: await(
+						future, () -> task.startTime, fetcherTimeoutNanos * timeoutScale, totalDeadline).entrySet()) {
+					menus.get(menu.getKey()).add(menu.getValue());
+				}
+				System.out.print(".");
+			} catch(TimeoutException e) {
+				future.cancel(true);
+				System.err.println("Error fetching "+task.menuFetcher.getId()+
+						" for "+days+": timed out");
+			} catch(InterruptedException e) {
+				for(Future<?> f: futures) f.cancel(true);
+				Thread.currentThread().interrupt();
+				throw new RuntimeException("Interrupted while fetching menus for "+days, e);
+			} catch(ExecutionException e) {
+				// fetchMenus already logged anything it could recover from
+				throw Throwables.propagate(e.getCause());
+			}
+		}
+		System.out.println();
+		return menus;
+	}
+
+	private Menu await(FetchTask task, Future<Menu> future, long totalDeadline)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		return await(future, () -> task.startTime, fetcherTimeoutNanos, totalDeadline);
+	}
+
+	private static <T> T await(Future<T> future, LongSupplier startTimeOf,
+			long fetcherTimeoutNanos, long totalDeadline)
+			throws InterruptedException, ExecutionException, TimeoutException {
+		while(true) {
+			long now = System.nanoTime();
+			long startTime = startTimeOf.getAsLong();
+			// a task that hasn't started yet is still waiting for a thread,
+			// so its own timeout hasn't begun counting
+			long deadline = Math.min(totalDeadline,
+					(startTime == 0? now: startTime) + fetcherTimeoutNanos);
+			try {
+				return future.get(Math.max(0, deadline - now), TimeUnit.NANOSECONDS);
+			} catch(TimeoutException e) {
+				long after = System.nanoTime();
+				startTime = startTimeOf.getAsLong();
+				if(after - totalDeadline >= 0 ||
+						(startTime != 0 && after - startTime >= fetcherTimeoutNanos)) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	@Override
+	public void close() {
+		executor.shutdownNow();
+	}
+
+	private static class FetchTask implements Callable<Menu> {
+		private final MenuFetcher menuFetcher;
+		private final LocalDate day;
+		private volatile long startTime = 0;
+
+		public FetchTask(MenuFetcher menuFetcher, LocalDate day) {
+			this.menuFetcher = menuFetcher;
+			this.day = day;
+		}
+
+		@Override
+		public Menu call() throws MenuNotAvailableException, MalformedMenuException {
+			startTime = System.nanoTime();
+			return menuFetcher.getMeals(day);
+		}
+	}
+
+	private static class RangeFetchTask implements Callable<SortedMap<LocalDate, Menu>> {
+		private final MenuFetcher menuFetcher;
+		private final LocalDateRange days;
+		private volatile long startTime = 0;
+
+		public RangeFetchTask(MenuFetcher menuFetcher, LocalDateRange days) {
+			this.menuFetcher = menuFetcher;
+			this.days = days;
+		}
+
+		@Override
+		public SortedMap<LocalDate, Menu> call() {
+			startTime = System.nanoTime();
+			return MenuFetcher.fetchMenus(menuFetcher, days);
+		}
+	}
+}
@@ -0,0 +1,105 @@
+package io.yancey.menufetcher.fetchers;
+
+import java.time.*;
+import java.util.*;
+
+import io.yancey.menufetcher.*;
+import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
+
+/**
+ * Records how long each of another fetcher's {@code getMeals} calls takes, and how it turned out,
+ * in {@link Metrics#instance}, and profiles it as a phase of its own.
+ * The downloads it makes meanwhile are labelled with its id too (see {@link HttpClient#setFetcher}).
+ * <p>
+ * The outcome is {@code ok}, {@code closed} (fetched, but no meals), {@code not_available},
+ * {@code malformed}, or {@code error} for anything else that was thrown.
+ */
+public class MeasuredMenuFetcher implements MenuFetcher {
+	private static final Metrics.Histogram getMealsSeconds = Metrics.instance.histogram(
+			"menufetcher_get_meals_seconds",
+			"How long each getMeals call took, for a single day or a range of days",
+			Metrics.SECONDS_BUCKETS, "fetcher", "request", "outcome");
+	private static final Metrics.Counter menus = Metrics.instance.counter(
+			"menufetcher_menus_total",
+			"How many days' menus were fetched successfully, by whether the dining hall was open",
+			"fetcher", "outcome");
+
+	private final MenuFetcher menuFetcher;
+
+	public MeasuredMenuFetcher(MenuFetcher menuFetcher) {
+		this.menuFetcher = menuFetcher;
+	}
+
+	@Override
+	public Menu getMeals(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
+		long start = System.nanoTime();
+		String outcome = "error";
+		String previousFetcher = HttpClient.setFetcher(getId());
+		Profiler.Span span = Profiler.span("fetch " + getId(), day);
+		try {
+			Menu menu = menuFetcher.getMeals(day);
+			outcome = outcome(menu);
+			menus.labels(getId(), outcome).increment();
+			return menu;
+		} catch(MenuNotAvailableException e) {
+			outcome = "not_available";
+			throw e;
+		} catch(MalformedMenuException e) {
+			outcome = "malformed";
+			throw e;
+		} finally {
+			span.end();
+			HttpClient.setFetcher(previousFetcher);
+			getMealsSeconds.labels(getId(), "day", outcome).observeSince(start);
+		}
+	}
+
+	@Override
+	public SortedMap<LocalDate, Menu> getMeals(LocalDateRange days)
+			throws MenuNotAvailableException, MalformedMenuException {
+		long start = System.nanoTime();
+		String outcome = "error";
+		String previousFetcher = HttpClient.setFetcher(getId());
+		Profiler.Span span = Profiler.span("fetch " + getId(), days);
+		try {
+			SortedMap<LocalDate, Menu> fetched = menuFetcher.getMeals(days);
+			outcome = "closed";
+			for(Menu menu: fetched.values()) {
+				String menuOutcome = outcome(menu);
+				menus.labels(getId(), menuOutcome).increment();
+				if(menuOutcome.equals("ok")) outcome = "ok";
+			}
+			return fetched;
+		} catch(MenuNotAvailableException e) {
+			outcome = "not_available";
+			throw e;
+		} catch(MalformedMenuException e) {
+			outcome = "malformed";
+			throw e;
+		} finally {
+			span.end();
+			HttpClient.setFetcher(previousFetcher);
+			getMealsSeconds.labels(getId(), "range", outcome).observeSince(start);
+		}
+	}
+
+	private static String outcome(Menu menu) {
+		return menu.meals.isEmpty()? "closed": "ok";
+	}
+
+	@Override
+	public String getName() {
+		return menuFetcher.getName();
+	}
+
+	@Override
+	public String getId() {
+		return menuFetcher.getId();
+	}
+
+	@Override
+	public void clearCache() {
+		menuFetcher.clearCache();
+	}
+}
@@ -11,18 +11,42 @@ public interface MenuFetcher {
 	public Menu getMeals(LocalDate day)
 			throws MenuNotAvailableException, MalformedMenuException;
 	
+	/**
+	 * Fetch the menus for every day in a range.
+	 * <p>
+	 * Dining halls that publish a week at a time override this to download and parse each week once.
+	 *
+	 * @return the menu for each day in the range
+	 */
+	public default SortedMap<LocalDate, Menu> getMeals(LocalDateRange days)
+			throws MenuNotAvailableException, MalformedMenuException {
+		SortedMap<LocalDate, Menu> menus = new TreeMap<>();
+		for(LocalDate day: days) {
+			menus.put(day, getMeals(day));
+		}
+		return menus;
+	}
+	
 	public String getName();
 	public String getId();
 	
+	/**
+	 * Forget anything downloaded so far, so the next fetch gets the latest menus.
+	 */
+	public default void clearCache() {}
+	
+	/**
+	 * @return every dining hall's fetcher, recording {@link Metrics} for each call
+	 */
 	public static List<MenuFetcher> getAllMenuFetchers() {
 		List<MenuFetcher> menuFetchers = new ArrayList<>(7);
-		menuFetchers.add(new HochMenuFetcher());
-		menuFetchers.add(new PitzerMenuFetcher());
-		menuFetchers.add(new FrankMenuFetcher());
-		menuFetchers.add(new FraryMenuFetcher());
-		menuFetchers.add(new OldenborgMenuFetcher());
-		menuFetchers.add(new ScrippsMenuFetcher());
-		menuFetchers.add(new CollinsMenuFetcher());
+		menuFetchers.add(new MeasuredMenuFetcher(new HochMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new PitzerMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new FrankMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new FraryMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new OldenborgMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new ScrippsMenuFetcher()));
+		menuFetchers.add(new MeasuredMenuFetcher(new CollinsMenuFetcher()));
 		return Collections.unmodifiableList(menuFetchers);
 	}
 	
@@ -30,24 +54,80 @@ public interface MenuFetcher {
 	public static List<Menu> fetchAllMenus(List<MenuFetcher> menuFetchers, LocalDate day) {
 		List<Menu> menus = new ArrayList<>();
 		for(MenuFetcher menuFetcher: menuFetchers) {
-			try {
-				menus.add(menuFetcher.getMeals(day));
+			Menu menu = fetchMenu(menuFetcher, day);
+			if(menu != null) {
+				menus.add(menu);
 				System.out.print(".");
-			} catch(MenuNotAvailableException e) {
-				System.err.println("Error fetching "+menuFetcher.getId()+
-						" for "+day+": menu not found");
-				e.printStackTrace();
-			} catch(MalformedMenuException e) {
-				System.err.println("Error fetching "+menuFetcher.getId()+
-						" for "+day+": invalid data recieved");
-				e.printStackTrace();
-			} catch(Throwable t) {
-				System.err.println("Invalid exception recieved fetching "+
-						menuFetcher.getId()+" for "+day+": "+t);
-				throw t;
 			}
 		}
 		System.out.println();
 		return menus;
 	}
+	
+	/**
+	 * Fetch the menus for every dining hall for a range of days.
+	 *
+	 * @return the menus that were fetched successfully for each day,
+	 *         in the same order as {@code menuFetchers}
+	 */
+	public static SortedMap<LocalDate, List<Menu>> fetchAllMenus(List<MenuFetcher> menuFetchers, LocalDateRange days) {
+		SortedMap<LocalDate, List<Menu>> menus = new TreeMap<>();
+		for(LocalDate day: days) {
+			menus.put(day, new ArrayList<>());
+		}
+		for(MenuFetcher menuFetcher: menuFetchers) {
+			for(Map.Entry<LocalDate, Menu> menu: fetchMenus(menuFetcher, days).entrySet()) {
+				menus.get(menu.getKey()).add(menu.getValue());
+			}
+			System.out.print(".");
+		}
+		System.out.println();
+		return menus;
+	}
+	
+	/**
+	 * Fetch one dining hall's menu, logging any errors.
+	 *
+	 * @return the menu, or null if it couldn't be fetched
+	 */
+	public static Menu fetchMenu(MenuFetcher menuFetcher, LocalDate day) {
+		try {
+			return menuFetcher.getMeals(day);
+		} catch(MenuNotAvailableException e) {
+			System.err.println("Error fetching "+menuFetcher.getId()+
+					" for "+day+": menu not found");
+			e.printStackTrace();
+		} catch(MalformedMenuException e) {
+			System.err.println("Error fetching "+menuFetcher.getId()+
+					" for "+day+": invalid data recieved");
+			e.printStackTrace();
+		} catch(Throwable t) {
+			System.err.println("Invalid exception recieved fetching "+
+					menuFetcher.getId()+" for "+day+": "+t);
+			throw t;
+		}
+		return null;
+	}
+	
+	/**
+	 * Fetch one dining hall's menus for a range of days, logging any errors.
+	 * If the whole range can't be fetched at once, each day is tried by itself,
+	 * so one bad day doesn't lose the rest.
+	 *
+	 * @return the menus that were fetched successfully
+	 */
+	public static SortedMap<LocalDate, Menu> fetchMenus(MenuFetcher menuFetcher, LocalDateRange days) {
+		try {
+			return menuFetcher.getMeals(days);
+		} catch(MenuNotAvailableException | MalformedMenuException e) {
+			System.err.println("Error fetching "+menuFetcher.getId()+
+					" for "+days+"; fetching each day separately: "+e);
+		}
+		SortedMap<LocalDate, Menu> menus = new TreeMap<>();
+		for(LocalDate day: days) {
+			Menu menu = fetchMenu(menuFetcher, day);
+			if(menu != null) menus.put(day, menu);
+		}
+		return menus;
+	}
 }
@@ -0,0 +1,76 @@
+package io.yancey.menufetcher.fetchers;
+
+import java.util.concurrent.*;
+
+import io.yancey.menufetcher.*;
+
+/**
+ * A thread-safe cache of downloads, which only loads each key once even if it's asked for
+ * from several threads at the same time.
+ * <p>
+ * Callers that ask for a key while it's being loaded wait for that load and get its result,
+ * or the exception it threw.  Failures aren't remembered, so the next caller after one tries again.
+ */
+public class SingleFlightCache<K, V> {
+	public interface Loader<V> {
+		public V load() throws MenuNotAvailableException, MalformedMenuException;
+	}
+
+	private final ConcurrentMap<K, CompletableFuture<V>> entries = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the value for a key, loading it if it isn't cached and nobody else is loading it.
+	 */
+	public V get(K key, Loader<? extends V> loader) throws MenuNotAvailableException, MalformedMenuException {
+		CompletableFuture<V> future = entries.get(key);
+		if(future == null) {
+			CompletableFuture<V> loading = new CompletableFuture<>();
+			future = entries.putIfAbsent(key, loading);
+			if(future == null) {
+				load(key, loading, loader);
+				future = loading;
+			}
+		}
+		return await(key, future);
+	}
+
+	private void load(K key, CompletableFuture<V> loading, Loader<? extends V> loader) {
+		try {
+			loading.complete(loader.load());
+		} catch(Throwable t) {
+			// removed before anyone is woken up, so whoever asks next starts a new load
+			entries.remove(key, loading);
+			loading.completeExceptionally(t);
+		}
+	}
+
+	private V await(K key, CompletableFuture<V> future) throws MenuNotAvailableException, MalformedMenuException {
+		try {
+			return future.get();
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MenuNotAvailableException("Interrupted waiting for "+key, e);
+		} catch(ExecutionException e) {
+			Throwable cause = e.getCause();
+			if(cause instanceof MenuNotAvailableException) throw (MenuNotAvailableException)cause;
+			if(cause instanceof MalformedMenuException) throw (MalformedMenuException)cause;
+			if(cause instanceof RuntimeException) throw (RuntimeException)cause;
+			if(cause instanceof Error) throw (Error)cause;
+			throw new AssertionError("Loader threw a checked exception it didn't declare", cause);
+		}
+	}
+
+	/**
+	 * Put a value in the cache, unless the key is already cached or being loaded.
+	 */
+	public void putIfAbsent(K key, V value) {
+		entries.putIfAbsent(key, CompletableFuture.completedFuture(value));
+	}
+
+	/**
+	 * Forget everything that has been loaded.  Loads in progress still finish for whoever is waiting on them.
+	 */
+	public void clear() {
+		entries.clear();
+	}
+}
@@ -0,0 +1,30 @@
+package io.yancey.menufetcher.fetchers;
+
+import javax.script.*;
+
+import com.google.gson.*;
+
+/**
+ * Evaluates a Sodexo SMG script that {@link SmgScriptExtractor} couldn't make sense of.
+ */
+public interface SmgScriptEvaluator {
+	/**
+	 * @return an object of the form {@code {menu: menuData, items: aData}}
+	 */
+	public JsonElement evaluate(String smgContents) throws ScriptException;
+	
+	/**
+	 * Evaluate the script with a {@code javax.script} engine, such as nashorn.
+	 */
+	public static SmgScriptEvaluator scriptEngine(String engineName) {
+		return smgContents -> {
+			ScriptEngine engine = new ScriptEngineManager().getEngineByName(engineName);
+			if(engine == null) {
+				throw new ScriptException("No javascript engine named " + engineName + " is available");
+			}
+			String smgJson = (String) engine.eval(
+					smgContents + "; var retData = {menu: menuData, items: aData}; JSON.stringify(retData)");
+			return new JsonParser().parse(smgJson);
+		};
+	}
+}
@@ -0,0 +1,424 @@
+package io.yancey.menufetcher.fetchers;
+
+import java.util.*;
+
+import com.google.gson.*;
+
+/**
+ * Pulls the data out of a Sodexo SMG script without running it.
+ * <p>
+ * The script is just a few variables assigned javascript literals
+ * (possibly built up with {@code new Array(...)}, {@code new Object()}
+ * and {@code aData['id'] = ...} statements), so rather than evaluating it
+ * we skip over everything else and convert those literals directly to json.
+ * <p>
+ * Anything else done with those variables (reading them, calling methods on them, assigning
+ * anything but a literal) makes the script unrecognized, so it's evaluated instead
+ * rather than extracted wrong.
+ */
+public class SmgScriptExtractor {
+	private final String script;
+	private int pos;
+
+	private SmgScriptExtractor(String script) {
+		this.script = script;
+	}
+
+	/**
+	 * @return an object of the form {@code {menu: menuData, items: aData}},
+	 *         or null if the script isn't in a shape we recognize
+	 */
+	public static JsonObject extract(String script) {
+		JsonElement menuData, aData;
+		try {
+			menuData = new SmgScriptExtractor(script).findValue("menuData");
+			aData = new SmgScriptExtractor(script).findValue("aData");
+		} catch(UnrecognizedScriptException e) {
+			return null;
+		}
+		if(menuData == null || aData == null) return null;
+		JsonObject result = new JsonObject();
+		result.add("menu", menuData);
+		result.add("items", aData);
+		return result;
+	}
+
+	private static class UnrecognizedScriptException extends Exception {
+		public UnrecognizedScriptException(String message) {
+			super(message);
+		}
+	}
+
+	/**
+	 * Find every assignment to the given variable (or its members)
+	 * and work out what its value ends up being.
+	 */
+	private JsonElement findValue(String variable) throws UnrecognizedScriptException {
+		JsonElement value = null;
+		pos = 0;
+		while(pos < script.length()) {
+			char c = script.charAt(pos);
+			if(c == '"' || c == '\'') {
+				parseString();
+			} else if(startsComment()) {
+				skipComment();
+			} else if(Character.isJavaIdentifierStart(c)) {
+				int start = pos;
+				String identifier = parseIdentifier();
+				if(!identifier.equals(variable) || isMemberAccess(start)) continue;
+				skipWhitespace();
+				char next = pos < script.length()? script.charAt(pos): ';';
+				if(next == '=' && !startsWith("==")) {
+					pos++;
+					value = parseValue();
+					expectStatementEnd();
+				} else if(next == '[' || next == '.') {
+					value = parseMemberAssignment(value);
+				} else if(!(isDeclaration(start) && (next == ';' || next == ','))) {
+					throw new UnrecognizedScriptException("Unexpected use of " + variable + " at " + start);
+				}
+			} else {
+				pos++;
+			}
+		}
+		return value;
+	}
+
+	private boolean isMemberAccess(int identifierStart) {
+		for(int i = identifierStart - 1; i >= 0; i--) {
+			char c = script.charAt(i);
+			if(!Character.isWhitespace(c)) return c == '.';
+		}
+		return false;
+	}
+
+	/**
+	 * @return whether the identifier is being declared without a value, like {@code var aData;}
+	 */
+	private boolean isDeclaration(int identifierStart) {
+		int end = identifierStart;
+		while(end > 0 && Character.isWhitespace(script.charAt(end - 1))) end--;
+		int start = end;
+		while(start > 0 && Character.isJavaIdentifierPart(script.charAt(start - 1))) start--;
+		String keyword = script.substring(start, end);
+		return keyword.equals("var") || keyword.equals("let");
+	}
+
+	private JsonElement parseMemberAssignment(JsonElement target) throws UnrecognizedScriptException {
+		String key;
+		if(script.charAt(pos) == '[') {
+			pos++;
+			skipIgnored();
+			JsonElement keyValue = parseValue();
+			skipIgnored();
+			expect(']');
+			if(!keyValue.isJsonPrimitive()) {
+				throw new UnrecognizedScriptException("Unexpected key " + keyValue);
+			}
+			key = keyValue.getAsString();
+		} else {
+			pos++;
+			skipIgnored();
+			key = parseIdentifier();
+		}
+		skipIgnored();
+		// anything but assigning the member a value (like reading it, or a member of it) can't be followed
+		if(pos >= script.length() || script.charAt(pos) != '=' || startsWith("==")) {
+			throw new UnrecognizedScriptException("Unexpected use of " + key + " at " + pos);
+		}
+		pos++;
+		JsonElement value = parseValue();
+		expectStatementEnd();
+		if(target != null && target.isJsonArray() && isIndex(key)) {
+			JsonArray array = target.getAsJsonArray();
+			int index = Integer.parseInt(key);
+			while(array.size() <= index) array.add(JsonNull.INSTANCE);
+			array.set(index, value);
+		} else if(target != null && target.isJsonObject()) {
+			target.getAsJsonObject().add(key, value);
+		} else {
+			throw new UnrecognizedScriptException("Assigning " + key + " of " + target);
+		}
+		return target;
+	}
+
+	/**
+	 * Make sure nothing else (like an operator) comes after a value on the same line,
+	 * only the end of the statement.
+	 */
+	private void expectStatementEnd() throws UnrecognizedScriptException {
+		while(true) {
+			while(pos < script.length() && script.charAt(pos) != '\n' && script.charAt(pos) != '\r' &&
+					Character.isWhitespace(script.charAt(pos))) {
+				pos++;
+			}
+			if(startsWith("//")) return;
+			if(!startsWith("/*")) break;
+			skipComment();
+		}
+		if(pos < script.length() && ";,\n\r}".indexOf(script.charAt(pos)) < 0) {
+			throw new UnrecognizedScriptException("Unexpected '" + script.charAt(pos) + "' at " + pos);
+		}
+	}
+
+	private static boolean isIndex(String key) {
+		if(key.isEmpty() || key.length() > 9) return false;
+		for(int i = 0; i < key.length(); i++) {
+			if(!Character.isDigit(key.charAt(i))) return false;
+		}
+		return true;
+	}
+
+	private JsonElement parseValue() throws UnrecognizedScriptException {
+		skipIgnored();
+		if(pos >= script.length()) {
+			throw new UnrecognizedScriptException("Unexpected end of script");
+		}
+		char c = script.charAt(pos);
+		switch(c) {
+			case '{':
+				return parseObject();
+			case '[':
+				pos++;
+				return parseElements(']');
+			case '"':
+			case '\'':
+				return new JsonPrimitive(parseString());
+		}
+		if(c == '-' || c == '+' || c == '.' || Character.isDigit(c)) {
+			return parseNumber();
+		}
+		if(Character.isJavaIdentifierStart(c)) {
+			String identifier = parseIdentifier();
+			switch(identifier) {
+				case "true":
+					return new JsonPrimitive(true);
+				case "false":
+					return new JsonPrimitive(false);
+				case "null":
+				case "undefined":
+					return JsonNull.INSTANCE;
+				case "new":
+					return parseConstructor();
+			}
+			throw new UnrecognizedScriptException("Unexpected identifier " + identifier);
+		}
+		throw new UnrecognizedScriptException("Unexpected character '" + c + "' at " + pos);
+	}
+
+	private JsonElement parseConstructor() throws UnrecognizedScriptException {
+		skipIgnored();
+		String type = parseIdentifier();
+		skipIgnored();
+		JsonArray args = new JsonArray();
+		if(pos < script.length() && script.charAt(pos) == '(') {
+			pos++;
+			args = parseElements(')');
+		}
+		switch(type) {
+			case "Object":
+				if(args.size() != 0) break;
+				return new JsonObject();
+			case "Array":
+				// new Array(n) makes an empty array of length n
+				if(args.size() == 1 && args.get(0).isJsonPrimitive() &&
+						args.get(0).getAsJsonPrimitive().isNumber()) {
+					JsonArray array = new JsonArray();
+					for(int i = 0; i < args.get(0).getAsInt(); i++) array.add(JsonNull.INSTANCE);
+					return array;
+				}
+				return args;
+		}
+		throw new UnrecognizedScriptException("Unexpected constructor " + type);
+	}
+
+	private JsonObject parseObject() throws UnrecognizedScriptException {
+		expect('{');
+		JsonObject object = new JsonObject();
+		while(true) {
+			skipIgnored();
+			if(consume('}')) return object;
+			String key;
+			char c = peek();
+			if(c == '"' || c == '\'') {
+				key = parseString();
+			} else if(Character.isDigit(c)) {
+				key = parseNumber().getAsString();
+			} else {
+				key = parseIdentifier();
+			}
+			skipIgnored();
+			expect(':');
+			object.add(key, parseValue());
+			skipIgnored();
+			if(!consume(',')) {
+				skipIgnored();
+				expect('}');
+				return object;
+			}
+		}
+	}
+
+	/**
+	 * Parse a comma-separated list of values up to the closing bracket
+	 * (the opening one has already been consumed).
+	 */
+	private JsonArray parseElements(char close) throws UnrecognizedScriptException {
+		JsonArray array = new JsonArray();
+		while(true) {
+			skipIgnored();
+			if(consume(close)) return array;
+			array.add(parseValue());
+			skipIgnored();
+			if(!consume(',')) {
+				skipIgnored();
+				expect(close);
+				return array;
+			}
+		}
+	}
+
+	private JsonPrimitive parseNumber() throws UnrecognizedScriptException {
+		int start = pos;
+		if(peek() == '-' || peek() == '+') pos++;
+		if(startsWith("0x") || startsWith("0X")) {
+			pos += 2;
+			int digitsStart = pos;
+			while(pos < script.length() && Character.digit(script.charAt(pos), 16) >= 0) pos++;
+			long value = Long.parseLong(script.substring(digitsStart, pos), 16);
+			return new JsonPrimitive(script.charAt(start) == '-'? -value: value);
+		}
+		while(pos < script.length() &&
+				(Character.isDigit(script.charAt(pos)) || "+-.eE".indexOf(script.charAt(pos)) >= 0)) {
+			char c = script.charAt(pos);
+			// a sign is only part of the number right after an exponent
+			if((c == '+' || c == '-') && "eE".indexOf(script.charAt(pos - 1)) < 0) break;
+			pos++;
+		}
+		String number = script.substring(start, pos);
+		try {
+			if(number.indexOf('.') < 0 && number.indexOf('e') < 0 && number.indexOf('E') < 0) {
+				return new JsonPrimitive(Long.parseLong(number.startsWith("+")? number.substring(1): number));
+			}
+			return new JsonPrimitive(Double.parseDouble(number));
+		} catch(NumberFormatException e) {
+			throw new UnrecognizedScriptException("Invalid number " + number);
+		}
+	}
+
+	private String parseString() throws UnrecognizedScriptException {
+		char quote = script.charAt(pos++);
+		StringBuilder sb = new StringBuilder();
+		while(true) {
+			if(pos >= script.length()) {
+				throw new UnrecognizedScriptException("Unterminated string");
+			}
+			char c = script.charAt(pos++);
+			if(c == quote) return sb.toString();
+			if(c != '\\') {
+				sb.append(c);
+				continue;
+			}
+			if(pos >= script.length()) {
+				throw new UnrecognizedScriptException("Unterminated string");
+			}
+			char escaped = script.charAt(pos++);
+			switch(escaped) {
+				case 'n': sb.append('\n'); break;
+				case 't': sb.append('\t'); break;
+				case 'r': sb.append('\r'); break;
+				case 'b': sb.append('\b'); break;
+				case 'f': sb.append('\f'); break;
+				case 'v': sb.append('\u000b'); break;
+				case '0': sb.append('\0'); break;
+				case 'x':
+					sb.append((char) parseHex(2));
+					break;
+				case 'u':
+					sb.append((char) parseHex(4));
+					break;
+				case '\r':
+					// line continuation
+					if(pos < script.length() && script.charAt(pos) == '\n') pos++;
+					break;
+				case '\n':
+					break;
+				default:
+					sb.append(escaped);
+			}
+		}
+	}
+
+	private int parseHex(int digits) throws UnrecognizedScriptException {
+		if(pos + digits > script.length()) {
+			throw new UnrecognizedScriptException("Invalid escape");
+		}
+		try {
+			int value = Integer.parseInt(script.substring(pos, pos + digits), 16);
+			pos += digits;
+			return value;
+		} catch(NumberFormatException e) {
+			throw new UnrecognizedScriptException("Invalid escape");
+		}
+	}
+
+	private String parseIdentifier() throws UnrecognizedScriptException {
+		int start = pos;
+		if(pos >= script.length() || !Character.isJavaIdentifierStart(script.charAt(pos))) {
+			throw new UnrecognizedScriptException("Expected an identifier at " + pos);
+		}
+		while(pos < script.length() && Character.isJavaIdentifierPart(script.charAt(pos))) pos++;
+		return script.substring(start, pos);
+	}
+
+	private boolean startsComment() {
+		return startsWith("//") || startsWith("/*");
+	}
+
+	private void skipComment() {
+		if(startsWith("//")) {
+			int end = script.indexOf('\n', pos);
+			pos = end < 0? script.length(): end + 1;
+		} else {
+			int end = script.indexOf("*/", pos + 2);
+			pos = end < 0? script.length(): end + 2;
+		}
+	}
+
+	private void skipWhitespace() {
+		while(pos < script.length() && Character.isWhitespace(script.charAt(pos))) pos++;
+	}
+
+	private void skipIgnored() {
+		while(true) {
+			skipWhitespace();
+			if(!startsComment()) return;
+			skipComment();
+		}
+	}
+
+	private boolean startsWith(String s) {
+		return script.startsWith(s, pos);
+	}
+
+	private char peek() throws UnrecognizedScriptException {
+		if(pos >= script.length()) {
+			throw new UnrecognizedScriptException("Unexpected end of script");
+		}
+		return script.charAt(pos);
+	}
+
+	private boolean consume(char c) {
+		if(pos < script.length() && script.charAt(pos) == c) {
+			pos++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(char c) throws UnrecognizedScriptException {
+		if(!consume(c)) {
+			throw new UnrecognizedScriptException("Expected '" + c + "' at " + pos);
+		}
+	}
+}
@@ -7,7 +7,6 @@ import java.time.format.*;
 import java.util.*;
 import java.util.regex.*;
 
-import org.jsoup.*;
 import org.jsoup.nodes.*;
 import org.jsoup.select.*;
 
@@ -15,6 +14,7 @@ import com.google.gson.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher {
 	private static final List<String> mealNames = Arrays.asList("brk", "lun", "din");
@@ -24,6 +24,12 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 	
 	protected JsonObject smgCache = null;
 	
+	@Override
+	public void clearCache() {
+		super.clearCache();
+		smgCache = null;
+	}
+	
 	public SodexoImagesMenuFetcher(String name, String id, String sitename, int tcmId) {
 		super(name, id, sitename);
 		this.sitename = sitename;
@@ -88,7 +94,7 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 			String urlForId = getMenuUrlFromMenuId(mId);
 			try {
 				if(isCorrectWeek(urlForId, day)) return urlForId;
-			} catch (MenuNotAvailableException e) {
+			} catch (MenuNotAvailableException | MalformedMenuException e) {
 				System.err.println("error fetching "+mId+" for "+id+":");
 				e.printStackTrace();
 			}
@@ -96,7 +102,7 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 		return null;
 	}
 
-	private boolean isCorrectWeek(String menuUrl, LocalDate day) throws MenuNotAvailableException {
+	private boolean isCorrectWeek(String menuUrl, LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
 		if(menuUrl == null) return false;
 		Document menuPage = fetchMenuPage(menuUrl);
 		String thisWeekString = ((LocalDate)DayOfWeek.MONDAY.adjustInto(day)).format(DateTimeFormatter.ofPattern("EEEE MMMM d, yyyy", Locale.ENGLISH));
@@ -118,9 +124,8 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 	private String getMenuUrlFromFrontpage(LocalDate day)
 			throws MalformedMenuException, MenuNotAvailableException {
 		String frontpageString;
-		try(Scanner sc = new Scanner(new URL(getFrontpageUrl()).openStream(), "UTF-8")) {
-			sc.useDelimiter("\\A");
-			frontpageString = sc.hasNext()? sc.next(): "";
+		try {
+			frontpageString = HttpClient.getDefault().getString(getFrontpageUrl());
 		} catch (MalformedURLException e) {
 			throw new MalformedMenuException("Invalid frontpage url", e);
 		} catch (IOException e) {
@@ -151,14 +156,7 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 	
 	public String getMenuUrlFromPortal(LocalDate day)
 			throws MenuNotAvailableException, MalformedMenuException {
-		if(!pageCache.containsKey(getPortalUrl())) {
-			try {
-				pageCache.put(getPortalUrl(), Jsoup.connect(getPortalUrl()).timeout(10*1000).get());
-			} catch (IOException e) {
-				throw new MenuNotAvailableException("Error fetching portal", e);
-			}
-		}
-		Document portal = pageCache.get(getPortalUrl());
+		Document portal = fetchPortalPage();
 		Elements menus;
 		try {
 			menus = portal.getElementById("accordion_3543").getElementsByTag("ul").first().children();
@@ -190,15 +188,14 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 		return menuUrl + "#" + day.getDayOfWeek().toString().toLowerCase();
 	}
 	
-	public Document fetchMenuPage(String menuUrl) throws MenuNotAvailableException {
-		if(!pageCache.containsKey(menuUrl)) {
-			try(InputStream portalStream = new URL(menuUrl).openStream()) {
-				pageCache.put(menuUrl, Jsoup.parse(portalStream, "Windows-1252", menuUrl));
+	public Document fetchMenuPage(String menuUrl) throws MenuNotAvailableException, MalformedMenuException {
+		return pageCache.get(menuUrl, () -> {
+			try {
+				return HttpClient.getDefault().getDocument(menuUrl, "Windows-1252");
 			} catch (IOException e) {
 				throw new MenuNotAvailableException("Error fetching menu",e);
 			}
-		}
-		return pageCache.get(menuUrl);
+		});
 	}
 	
 	@Override
@@ -232,7 +229,8 @@ public abstract class SodexoImagesMenuFetcher extends AbstractSodexoMenuFetcher
 		return new Menu(name, id, getPublicMenuUrl(menuUrl, day), meals);
 	}
 	
-	private Meal createMeal(Elements mealItems, boolean isWeekend, LocalDate day) throws MenuNotAvailableException {
+	private Meal createMeal(Elements mealItems, boolean isWeekend, LocalDate day)
+			throws MenuNotAvailableException, MalformedMenuException {
 		String name = mealItems.remove(0).getElementsByClass("mealname").first().ownText();
 		name = name.substring(0, 1) + name.substring(1).toLowerCase();
 		if(name.equals("Lunch") && isWeekend) {
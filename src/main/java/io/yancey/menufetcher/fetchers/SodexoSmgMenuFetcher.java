@@ -1,7 +1,6 @@
 package io.yancey.menufetcher.fetchers;
 
 import java.io.*;
-import java.net.*;
 import java.time.*;
 import java.util.*;
 
@@ -11,33 +10,42 @@ import com.google.gson.*;
 
 import io.yancey.menufetcher.*;
 import io.yancey.menufetcher.data.*;
+import io.yancey.menufetcher.http.*;
 
 public abstract class SodexoSmgMenuFetcher extends AbstractSodexoMenuFetcher {
 	private final String sitename;
 	private final String smgName;
+	/** for smg scripts {@link SmgScriptExtractor} doesn't recognize */
+	private final SmgScriptEvaluator scriptEvaluator;
 
-	protected JsonObject smgCache = null;
+	protected final SingleFlightCache<String, JsonObject> smgCache = new SingleFlightCache<>();
+	
+	@Override
+	public void clearCache() {
+		super.clearCache();
+		smgCache.clear();
+	}
 
 	public SodexoSmgMenuFetcher(String name, String id, String sitename, String smgName) {
+		this(name, id, sitename, smgName, SmgScriptEvaluator.scriptEngine("nashorn"));
+	}
+
+	public SodexoSmgMenuFetcher(String name, String id, String sitename, String smgName,
+			SmgScriptEvaluator scriptEvaluator) {
 		super(name, id, sitename);
 		this.sitename = sitename;
 		this.smgName = smgName;
+		this.scriptEvaluator = scriptEvaluator;
 	}
 
 	@Override
 	public Menu getMeals(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
-		if(smgCache == null) fetchSmg();
-
-		if(smgCache != null) {
-			return getMenuFromSmg(day);
-		} else {
-			throw new MenuNotAvailableException("no menu returned from smg for "+id);
-		}
+		return getMenuFromSmg(smgCache.get(getSmgUrl(), this::fetchSmg), day);
 	}
 
-	private Menu getMenuFromSmg(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
-		JsonArray menuData = smgCache.getAsJsonArray("menu");
-		JsonObject itemData = smgCache.getAsJsonObject("items");
+	private Menu getMenuFromSmg(JsonObject smg, LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
+		JsonArray menuData = smg.getAsJsonArray("menu");
+		JsonObject itemData = smg.getAsJsonObject("items");
 		
 		for(JsonElement week: menuData) {
 			LocalDate startDate = LocalDate.parse(week.getAsJsonObject().get("startDate").getAsString());
@@ -120,40 +128,26 @@ public abstract class SodexoSmgMenuFetcher extends AbstractSodexoMenuFetcher {
 		stations.add(new Station(stationName, items));
 	}
 
-	private void fetchSmg() {
+	private JsonObject fetchSmg() throws MenuNotAvailableException {
 		String smgUrl = getSmgUrl();
 		String smgContents;
-	    HttpURLConnection connection;
 		try {
-			connection = (HttpURLConnection) new URL(smgUrl).openConnection();
-		} catch (IOException e) {
-			System.err.println("Error fetching smg for "+id+":");
-			e.printStackTrace();
-			return;
-		}
-	    connection.setInstanceFollowRedirects(true);
-		try(Scanner sc = new Scanner(new BufferedInputStream(connection.getInputStream()), "UTF-8")) {
-			smgContents = sc.useDelimiter("\\A").next();
+			smgContents = HttpClient.getDefault().getString(smgUrl);
 		} catch (IOException e) {
-			System.err.println("Error fetching smg for "+id+":");
-			e.printStackTrace();
-			return;
+			throw new MenuNotAvailableException("Error fetching smg for "+id, e);
 		}
 		try {
-			smgCache = parseSmgJavascript(smgContents).getAsJsonObject();
+			return parseSmgJavascript(smgContents).getAsJsonObject();
 		} catch (ScriptException e) {
-			System.err.println("Error evaluating javascript for "+id+"'s smg:");
-			e.printStackTrace();
+			throw new MenuNotAvailableException("Error evaluating javascript for "+id+"'s smg", e);
 		}
 	}
 
-	private static JsonElement parseSmgJavascript(String smgContents) throws ScriptException {
-        ScriptEngineManager factory = new ScriptEngineManager();
-        ScriptEngine nashorn = factory.getEngineByName("nashorn");
-        String smgJson = (String) nashorn.eval(
-        		smgContents + "; var retData = {menu: menuData, items: aData}; JSON.stringify(retData)");
-        
-        return new JsonParser().parse(smgJson);
+	private JsonElement parseSmgJavascript(String smgContents) throws ScriptException {
+		JsonObject smgJson = SmgScriptExtractor.extract(smgContents);
+		if(smgJson != null) return smgJson;
+		System.err.println("Unrecognized smg script for "+id+"; evaluating it instead");
+		return scriptEvaluator.evaluate(smgContents);
 	}
 
 	private String getSmgUrl() {
@@ -0,0 +1,106 @@
+package io.yancey.menufetcher.fetchers;
+
+import java.io.*;
+import java.time.*;
+import java.util.*;
+
+import io.yancey.menufetcher.*;
+import io.yancey.menufetcher.data.*;
+
+/**
+ * Keeps every menu another fetcher fetches in a {@link MenuStore}, and falls back on the stored menu
+ * when a day can't be fetched any more (like once the dining hall stops publishing old weeks).
+ * <p>
+ * If {@code preferStored} is set, days that are already stored are answered from the store
+ * without fetching them at all.
+ */
+public class StoredMenuFetcher implements MenuFetcher {
+	private final MenuFetcher menuFetcher;
+	private final MenuStore store;
+	private final boolean preferStored;
+
+	public StoredMenuFetcher(MenuFetcher menuFetcher, MenuStore store, boolean preferStored) {
+		this.menuFetcher = menuFetcher;
+		this.store = store;
+		this.preferStored = preferStored;
+	}
+
+	public static List<MenuFetcher> wrap(List<MenuFetcher> menuFetchers, MenuStore store, boolean preferStored) {
+		List<MenuFetcher> stored = new ArrayList<>(menuFetchers.size());
+		for(MenuFetcher menuFetcher: menuFetchers) {
+			stored.add(new StoredMenuFetcher(menuFetcher, store, preferStored));
+		}
+		return Collections.unmodifiableList(stored);
+	}
+
+	@Override
+	public Menu getMeals(LocalDate day) throws MenuNotAvailableException, MalformedMenuException {
+		if(preferStored) {
+			Menu menu = getStored(day);
+			if(menu != null) return menu;
+		}
+		Menu menu;
+		try {
+			menu = menuFetcher.getMeals(day);
+		} catch(MenuNotAvailableException | MalformedMenuException e) {
+			Menu stored = getStored(day);
+			if(stored == null) throw e;
+			System.err.println("Error fetching "+getId()+" for "+day+"; using the stored menu: "+e);
+			return stored;
+		}
+		store(day, menu);
+		return menu;
+	}
+
+	@Override
+	public SortedMap<LocalDate, Menu> getMeals(LocalDateRange days)
+			throws MenuNotAvailableException, MalformedMenuException {
+		if(preferStored) {
+			SortedMap<LocalDate, Menu> menus = new TreeMap<>();
+			for(LocalDate day: days) {
+				Menu menu = getStored(day);
+				if(menu == null) break;
+				menus.put(day, menu);
+			}
+			if(menus.size() == days.length()) return menus;
+		}
+		// if the range fails, MenuFetcher.fetchMenus tries each day, which can fall back on the store
+		SortedMap<LocalDate, Menu> menus = menuFetcher.getMeals(days);
+		for(Map.Entry<LocalDate, Menu> menu: menus.entrySet()) {
+			store(menu.getKey(), menu.getValue());
+		}
+		return menus;
+	}
+
+	private Menu getStored(LocalDate day) {
+		try {
+			return store.get(day, getId());
+		} catch(IOException e) {
+			System.err.println("Error reading the stored menu of "+getId()+" for "+day+": "+e);
+			return null;
+		}
+	}
+
+	private void store(LocalDate day, Menu menu) {
+		try {
+			store.put(day, menu);
+		} catch(IOException e) {
+			System.err.println("Error storing the menu of "+getId()+" for "+day+": "+e);
+		}
+	}
+
+	@Override
+	public String getName() {
+		return menuFetcher.getName();
+	}
+
+	@Override
+	public String getId() {
+		return menuFetcher.getId();
+	}
+
+	@Override
+	public void clearCache() {
+		menuFetcher.clearCache();
+	}
+}
@@ -0,0 +1,179 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.nio.file.*;
+import java.nio.file.attribute.*;
+import java.util.*;
+
+import com.google.gson.*;
+
+/**
+ * A persistent cache of HTTP responses, shared by every fetcher.
+ * <p>
+ * Each response is stored under the SHA-256 of its URL, as a {@code .body} file
+ * holding the raw bytes and a {@code .meta} file holding the validators
+ * ({@code ETag}/{@code Last-Modified}) needed for a conditional GET.
+ * Entries are fresh for a per-host TTL, after which they should be revalidated.
+ * Once the cache grows beyond its size limit the least recently used entries are deleted.
+ */
+public class DiskCache {
+	private final ResponseFiles files;
+	private final long maxBytes;
+	private final long defaultTtlMillis;
+	private final Map<String, Long> ttlMillisByHost;
+
+	/** keys in least-recently-used order, mapped to the size of their body */
+	private final LinkedHashMap<String, Long> lru = new LinkedHashMap<>(16, 0.75f, true);
+	private long totalBytes = 0;
+
+	public DiskCache(Path directory, long maxBytes,
+			long defaultTtlMillis, Map<String, Long> ttlMillisByHost) throws IOException {
+		this.files = new ResponseFiles(directory);
+		this.maxBytes = maxBytes;
+		this.defaultTtlMillis = defaultTtlMillis;
+		this.ttlMillisByHost = new HashMap<>(ttlMillisByHost);
+		loadIndex();
+	}
+
+	private void loadIndex() throws IOException {
+		List<Path> bodies = new ArrayList<>();
+		try(DirectoryStream<Path> dir = Files.newDirectoryStream(files.directory, "*.body")) {
+			for(Path body: dir) bodies.add(body);
+		}
+		// the body's modification time doubles as its last access time
+		Map<Path, Long> accessTimes = new HashMap<>();
+		for(Path body: bodies) {
+			accessTimes.put(body, Files.getLastModifiedTime(body).toMillis());
+		}
+		bodies.sort(Comparator.comparing(accessTimes::get));
+		for(Path body: bodies) {
+			String fileName = body.getFileName().toString();
+			String key = fileName.substring(0, fileName.length() - ".body".length());
+			if(!Files.exists(files.metaPath(key))) {
+				Files.deleteIfExists(body);
+				continue;
+			}
+			long size = Files.size(body);
+			lru.put(key, size);
+			totalBytes += size;
+		}
+		evict();
+	}
+
+	public static class Entry {
+		public final String url;
+		public final String contentType;
+		public final String etag;
+		public final String lastModified;
+		public final long fetchedAt;
+		public final byte[] body;
+
+		public Entry(String url, String contentType, String etag, String lastModified,
+				long fetchedAt, byte[] body) {
+			this.url = url;
+			this.contentType = contentType;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.fetchedAt = fetchedAt;
+			this.body = body;
+		}
+	}
+
+	/**
+	 * Look up the cached response for a url.
+	 *
+	 * @return the cached response, or null if there isn't one
+	 */
+	public synchronized Entry get(String url) {
+		String key = ResponseFiles.keyFor(url);
+		if(!lru.containsKey(key)) return null;
+		try {
+			JsonObject meta = files.readMeta(key);
+			if(!meta.get("url").getAsString().equals(url)) return null;
+			byte[] body = Files.readAllBytes(files.bodyPath(key));
+			Files.setLastModifiedTime(files.bodyPath(key), FileTime.fromMillis(System.currentTimeMillis()));
+			return new Entry(url,
+					ResponseFiles.getString(meta, "contentType"),
+					ResponseFiles.getString(meta, "etag"),
+					ResponseFiles.getString(meta, "lastModified"),
+					meta.get("fetchedAt").getAsLong(),
+					body);
+		} catch(IOException | RuntimeException e) {
+			System.err.println("Error reading cached response for "+url+": "+e);
+			remove(key);
+			return null;
+		}
+	}
+
+	public synchronized void put(String url, String contentType, String etag, String lastModified,
+			byte[] body) throws IOException {
+		String key = ResponseFiles.keyFor(url);
+		remove(key);
+		files.writeAtomically(files.bodyPath(key), body);
+		writeMeta(key, url, contentType, etag, lastModified, System.currentTimeMillis());
+		lru.put(key, (long)body.length);
+		totalBytes += body.length;
+		evict();
+	}
+
+	/**
+	 * Mark a cached response as fresh again, after the server said it hasn't changed.
+	 */
+	public synchronized void refresh(Entry entry) throws IOException {
+		String key = ResponseFiles.keyFor(entry.url);
+		if(!lru.containsKey(key)) return;
+		writeMeta(key, entry.url, entry.contentType, entry.etag, entry.lastModified,
+				System.currentTimeMillis());
+	}
+
+	public boolean isFresh(Entry entry) {
+		return System.currentTimeMillis() - entry.fetchedAt < getTtlMillis(entry.url);
+	}
+
+	private long getTtlMillis(String url) {
+		try {
+			Long ttl = ttlMillisByHost.get(new URL(url).getHost());
+			if(ttl != null) return ttl;
+		} catch(MalformedURLException e) {
+			// fall through to the default
+		}
+		return defaultTtlMillis;
+	}
+
+	private void writeMeta(String key, String url, String contentType, String etag, String lastModified,
+			long fetchedAt) throws IOException {
+		JsonObject meta = new JsonObject();
+		meta.addProperty("url", url);
+		meta.addProperty("contentType", contentType);
+		meta.addProperty("etag", etag);
+		meta.addProperty("lastModified", lastModified);
+		meta.addProperty("fetchedAt", fetchedAt);
+		files.writeMeta(key, meta);
+	}
+
+	private void evict() {
+		for(Iterator<Map.Entry<String, Long>> iter = lru.entrySet().iterator();
+				totalBytes > maxBytes && iter.hasNext();) {
+			Map.Entry<String, Long> eldest = iter.next();
+			iter.remove();
+			totalBytes -= eldest.getValue();
+			deleteFiles(eldest.getKey());
+		}
+	}
+
+	private void remove(String key) {
+		Long size = lru.remove(key);
+		if(size != null) totalBytes -= size;
+		deleteFiles(key);
+	}
+
+	private void deleteFiles(String key) {
+		try {
+			Files.deleteIfExists(files.bodyPath(key));
+			Files.deleteIfExists(files.metaPath(key));
+		} catch(IOException e) {
+			System.err.println("Error evicting "+key+" from http cache: "+e);
+		}
+	}
+}
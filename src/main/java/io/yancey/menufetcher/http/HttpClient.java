@@ -0,0 +1,253 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.nio.charset.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.regex.*;
+
+import org.jsoup.*;
+import org.jsoup.nodes.*;
+import org.jsoup.parser.*;
+
+import io.yancey.menufetcher.*;
+
+/**
+ * The single place that fetchers download things from.
+ * <p>
+ * If there is a {@link DiskCache}, fresh cached responses are returned without touching the network,
+ * and stale ones are revalidated with a conditional GET.
+ * <p>
+ * Transient failures are retried with exponential backoff and jitter,
+ * and only a limited number of requests to each host run at once.
+ * The requests themselves are made by a {@link Transport}, which is normally
+ * the network but can be a recording of it.
+ * <p>
+ * Requests are measured in {@link Metrics#instance} by host and by the fetcher that made them
+ * (see {@link #setFetcher}), since several dining halls share a host.
+ */
+public class HttpClient {
+	public static final int DEFAULT_TIMEOUT_MILLIS = 10*1000;
+	public static final int DEFAULT_MAX_RETRIES = 3;
+	public static final long DEFAULT_RETRY_DELAY_MILLIS = 500;
+	public static final int DEFAULT_CONNECTIONS_PER_HOST = 4;
+	
+	private static final Pattern xmlContentTypeRegex = Pattern.compile("(application|text)/\\w*\\+?xml.*");
+
+	private static final Metrics.Histogram requestSeconds = Metrics.instance.histogram(
+			"menufetcher_http_request_seconds",
+			"How long each request took, including waiting for a connection and retries; "+
+			"cache is hit, revalidated, miss or stale (a failed request answered from the cache)",
+			Metrics.SECONDS_BUCKETS, "host", "fetcher", "cache", "outcome");
+	private static final Metrics.Histogram responseBytes = Metrics.instance.histogram(
+			"menufetcher_http_response_bytes",
+			"The size of each successful response's body",
+			Metrics.BYTES_BUCKETS, "host", "fetcher", "cache");
+	private static final Metrics.Counter downloadedBytes = Metrics.instance.counter(
+			"menufetcher_http_downloaded_bytes_total",
+			"How many bytes of response bodies were actually downloaded",
+			"host", "fetcher");
+	private static final Metrics.Counter retries = Metrics.instance.counter(
+			"menufetcher_http_retries_total",
+			"How many times a request was retried after a transient failure",
+			"host", "fetcher");
+	/** what requests are labelled with when no fetcher made them */
+	private static final String NO_FETCHER = "none";
+
+	private static final ThreadLocal<String> currentFetcher = new ThreadLocal<>();
+
+	private static volatile HttpClient defaultClient = new HttpClient(null);
+
+	public static HttpClient getDefault() {
+		return defaultClient;
+	}
+
+	public static void setDefault(HttpClient client) {
+		defaultClient = client;
+	}
+
+	/**
+	 * Label the requests made on this thread, from now on, with the id of the fetcher making them.
+	 *
+	 * @param fetcherId the fetcher's id, or null for none
+	 * @return the fetcher that was set before, to put back afterwards
+	 */
+	public static String setFetcher(String fetcherId) {
+		String previous = currentFetcher.get();
+		if(fetcherId == null) {
+			currentFetcher.remove();
+		} else {
+			currentFetcher.set(fetcherId);
+		}
+		return previous;
+	}
+
+	private static String getFetcher() {
+		String fetcher = currentFetcher.get();
+		return fetcher == null? NO_FETCHER: fetcher;
+	}
+
+	private final DiskCache cache;
+	private final Transport transport;
+	private final int maxRetries;
+	private final long retryDelayMillis;
+	private final int connectionsPerHost;
+	private final ConcurrentMap<String, Semaphore> hostLimits = new ConcurrentHashMap<>();
+
+	public HttpClient(DiskCache cache) {
+		this(cache, DEFAULT_TIMEOUT_MILLIS, DEFAULT_TIMEOUT_MILLIS,
+				DEFAULT_MAX_RETRIES, DEFAULT_RETRY_DELAY_MILLIS, DEFAULT_CONNECTIONS_PER_HOST);
+	}
+
+	public HttpClient(DiskCache cache, int connectTimeoutMillis, int readTimeoutMillis,
+			int maxRetries, long retryDelayMillis, int connectionsPerHost) {
+		this(cache, new UrlConnectionTransport(connectTimeoutMillis, readTimeoutMillis),
+				maxRetries, retryDelayMillis, connectionsPerHost);
+	}
+
+	public HttpClient(DiskCache cache, Transport transport,
+			int maxRetries, long retryDelayMillis, int connectionsPerHost) {
+		this.cache = cache;
+		this.transport = transport;
+		this.maxRetries = maxRetries;
+		this.retryDelayMillis = retryDelayMillis;
+		this.connectionsPerHost = connectionsPerHost;
+		// size HttpURLConnection's keep-alive pool to match, so every permit can reuse a connection
+		if(Integer.getInteger("http.maxConnections", 5) < connectionsPerHost) {
+			System.setProperty("http.maxConnections", Integer.toString(connectionsPerHost));
+		}
+	}
+
+	public HttpResponse get(String url) throws IOException {
+		long start = System.nanoTime();
+		URL parsedUrl = new URL(url);
+		String host = parsedUrl.getHost();
+		String fetcher = getFetcher();
+		DiskCache.Entry cached = cache == null? null: cache.get(url);
+		if(cached != null && cache.isFresh(cached)) {
+			return measured(start, host, fetcher, "hit", new HttpResponse(url, cached.contentType, cached.body, true));
+		}
+
+		Semaphore hostLimit = hostLimits.computeIfAbsent(host,
+				h -> new Semaphore(connectionsPerHost, true));
+		for(int attempt = 0;; attempt++) {
+			try {
+				hostLimit.acquire();
+			} catch(InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted waiting to fetch " + url);
+			}
+			try {
+				HttpResponse response = fetch(parsedUrl, cached);
+				return measured(start, host, fetcher, response.fromCache? "revalidated": "miss", response);
+			} catch(IOException e) {
+				if(!isTransient(e) || attempt >= maxRetries) {
+					if(cached != null) {
+						System.err.println("Error fetching "+url+"; using stale cached copy: "+e);
+						return measured(start, host, fetcher, "stale",
+								new HttpResponse(url, cached.contentType, cached.body, true));
+					}
+					requestSeconds.labels(host, fetcher, "miss", "error").observeSince(start);
+					throw e;
+				}
+			} finally {
+				hostLimit.release();
+			}
+			retries.labels(host, fetcher).increment();
+			backOff(attempt, url);
+		}
+	}
+
+	private static HttpResponse measured(long start, String host, String fetcher, String cacheResult,
+			HttpResponse response) {
+		requestSeconds.labels(host, fetcher, cacheResult, "ok").observeSince(start);
+		responseBytes.labels(host, fetcher, cacheResult).observe(response.body.length);
+		return response;
+	}
+
+	private HttpResponse fetch(URL url, DiskCache.Entry cached) throws IOException {
+		Map<String, String> headers = new HashMap<>();
+		if(cached != null) {
+			if(cached.etag != null) {
+				headers.put("If-None-Match", cached.etag);
+			}
+			if(cached.lastModified != null) {
+				headers.put("If-Modified-Since", cached.lastModified);
+			}
+		}
+		Transport.Response response = transport.get(url, headers);
+		if(response.status == HttpURLConnection.HTTP_NOT_MODIFIED && cached != null) {
+			cache.refresh(cached);
+			return new HttpResponse(cached.url, cached.contentType, cached.body, true);
+		}
+		if(response.status / 100 != 2) {
+			throw new StatusException(response.status, url.toString());
+		}
+		downloadedBytes.labels(url.getHost(), getFetcher()).add(response.body.length);
+		if(cache != null) {
+			cache.put(url.toString(), response.contentType, response.etag, response.lastModified, response.body);
+		}
+		return new HttpResponse(url.toString(), response.contentType, response.body, false);
+	}
+
+	private static boolean isTransient(IOException e) {
+		if(e instanceof StatusException) {
+			int status = ((StatusException)e).status;
+			return status == 429 || status / 100 == 5;
+		}
+		// a FileNotFoundException is a replay that has no recording of the url
+		return !(e instanceof UnknownHostException || e instanceof MalformedURLException ||
+				e instanceof FileNotFoundException);
+	}
+
+	private void backOff(int attempt, String url) throws InterruptedIOException {
+		// "full jitter": sleep a random time up to the exponential backoff
+		long maxDelay = retryDelayMillis << Math.min(attempt, 16);
+		long delay = ThreadLocalRandom.current().nextLong(maxDelay + 1);
+		System.err.println("Retrying "+url+" in "+delay+"ms");
+		try {
+			Thread.sleep(delay);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted retrying " + url);
+		}
+	}
+
+	private static class StatusException extends IOException {
+		public final int status;
+
+		public StatusException(int status, String url) {
+			super("HTTP " + status + " fetching " + url);
+			this.status = status;
+		}
+	}
+
+	public String getString(String url) throws IOException {
+		return get(url).getBodyAsString(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * Fetch and parse a page, the way {@code Jsoup.connect(url).get()} would.
+	 */
+	public Document getDocument(String url) throws IOException {
+		HttpResponse response = get(url);
+		return getDocument(response, response.getCharset());
+	}
+
+	/**
+	 * Fetch and parse a page, ignoring whatever charset the server claims it's in.
+	 */
+	public Document getDocument(String url, String charsetName) throws IOException {
+		return getDocument(get(url), charsetName);
+	}
+
+	private static Document getDocument(HttpResponse response, String charsetName) throws IOException {
+		Parser parser = response.contentType != null &&
+				xmlContentTypeRegex.matcher(response.contentType).matches()?
+				Parser.xmlParser(): Parser.htmlParser();
+		try(InputStream in = response.openStream()) {
+			return Jsoup.parse(in, charsetName, response.url, parser);
+		}
+	}
+}
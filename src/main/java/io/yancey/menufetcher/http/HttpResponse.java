@@ -0,0 +1,40 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.util.regex.*;
+
+public class HttpResponse {
+	private static final Pattern charsetPattern = Pattern.compile("(?i)\\bcharset=\\s*\"?([^\\s;\"]*)");
+	
+	public final String url;
+	public final String contentType;
+	public final byte[] body;
+	public final boolean fromCache;
+	
+	public HttpResponse(String url, String contentType, byte[] body, boolean fromCache) {
+		this.url = url;
+		this.contentType = contentType;
+		this.body = body;
+		this.fromCache = fromCache;
+	}
+	
+	/**
+	 * @return the charset named in the Content-Type header, or null if there isn't one
+	 */
+	public String getCharset() {
+		if(contentType == null) return null;
+		Matcher m = charsetPattern.matcher(contentType);
+		if(!m.find() || !Charset.isSupported(m.group(1))) return null;
+		return m.group(1);
+	}
+	
+	public InputStream openStream() {
+		return new ByteArrayInputStream(body);
+	}
+	
+	public String getBodyAsString(Charset defaultCharset) {
+		String charset = getCharset();
+		return new String(body, charset == null? defaultCharset: Charset.forName(charset));
+	}
+}
@@ -0,0 +1,36 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+/**
+ * Makes requests with another transport, and saves every response into an archive
+ * so the run can be played back later with a {@link ReplayTransport}.
+ * <p>
+ * Requests that fail without a response (like a timeout) aren't recorded.
+ */
+public class RecordingTransport implements Transport {
+	private final Transport transport;
+	private final ResponseArchive archive;
+
+	public RecordingTransport(Transport transport, ResponseArchive archive) {
+		this.transport = transport;
+		this.archive = archive;
+	}
+
+	@Override
+	public Response get(URL url, Map<String, String> headers) throws IOException {
+		Response response = transport.get(url, headers);
+		if(response.status == HttpURLConnection.HTTP_NOT_MODIFIED) {
+			// there's no body to record; whatever was recorded for it before still stands
+			return response;
+		}
+		try {
+			archive.put(url.toString(), response);
+		} catch(IOException e) {
+			System.err.println("Error recording the response from "+url+": "+e);
+		}
+		return response;
+	}
+}
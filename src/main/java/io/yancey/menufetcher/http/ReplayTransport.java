@@ -0,0 +1,55 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Answers requests from an archive made by a {@link RecordingTransport}, without touching the network.
+ * <p>
+ * Each response is held back for a latency plus a random jitter, to stand in for the real servers.
+ * A url that wasn't recorded fails with a {@link FileNotFoundException}.
+ */
+public class ReplayTransport implements Transport {
+	private final ResponseArchive archive;
+	private final long latencyMillis;
+	private final long jitterMillis;
+	/** the responses read so far, so the archive is only read once */
+	private final ConcurrentMap<String, Response> responses = new ConcurrentHashMap<>();
+
+	/**
+	 * @param jitterMillis the most that's added on top of the latency (uniformly at random)
+	 */
+	public ReplayTransport(ResponseArchive archive, long latencyMillis, long jitterMillis) {
+		this.archive = archive;
+		this.latencyMillis = latencyMillis;
+		this.jitterMillis = jitterMillis;
+	}
+
+	@Override
+	public Response get(URL url, Map<String, String> headers) throws IOException {
+		String urlString = url.toString();
+		Response response = responses.get(urlString);
+		if(response == null) {
+			response = archive.get(urlString);
+			if(response == null) {
+				throw new FileNotFoundException("No recording of " + urlString);
+			}
+			responses.putIfAbsent(urlString, response);
+		}
+		delay(urlString);
+		return response;
+	}
+
+	private void delay(String url) throws InterruptedIOException {
+		long delay = latencyMillis + (jitterMillis > 0? ThreadLocalRandom.current().nextLong(jitterMillis + 1): 0);
+		if(delay <= 0) return;
+		try {
+			Thread.sleep(delay);
+		} catch(InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted replaying " + url);
+		}
+	}
+}
@@ -0,0 +1,54 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.nio.file.*;
+
+import com.google.gson.*;
+
+/**
+ * A folder of recorded responses, for {@link RecordingTransport} and {@link ReplayTransport}.
+ * <p>
+ * It's laid out like a {@link DiskCache}: each response is stored under the SHA-256 of its URL,
+ * as a {@code .body} file holding the body and a {@code .meta} file holding the url, status and headers.
+ * A url that's fetched more than once keeps the last response.
+ */
+public class ResponseArchive {
+	private final ResponseFiles files;
+
+	public ResponseArchive(Path directory) throws IOException {
+		this.files = new ResponseFiles(directory);
+	}
+
+	/**
+	 * @return the recorded response, or null if there isn't one
+	 */
+	public Transport.Response get(String url) throws IOException {
+		String key = ResponseFiles.keyFor(url);
+		if(!Files.exists(files.metaPath(key))) return null;
+		JsonObject meta;
+		try {
+			meta = files.readMeta(key);
+		} catch(JsonParseException | IllegalStateException e) {
+			throw new IOException("Invalid recording of " + url, e);
+		}
+		if(!meta.get("url").getAsString().equals(url)) return null;
+		return new Transport.Response(
+				meta.get("status").getAsInt(),
+				ResponseFiles.getString(meta, "contentType"),
+				ResponseFiles.getString(meta, "etag"),
+				ResponseFiles.getString(meta, "lastModified"),
+				Files.readAllBytes(files.bodyPath(key)));
+	}
+
+	public synchronized void put(String url, Transport.Response response) throws IOException {
+		String key = ResponseFiles.keyFor(url);
+		JsonObject meta = new JsonObject();
+		meta.addProperty("url", url);
+		meta.addProperty("status", response.status);
+		meta.addProperty("contentType", response.contentType);
+		meta.addProperty("etag", response.etag);
+		meta.addProperty("lastModified", response.lastModified);
+		files.writeAtomically(files.bodyPath(key), response.body);
+		files.writeMeta(key, meta);
+	}
+}
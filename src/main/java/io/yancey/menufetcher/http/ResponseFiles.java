@@ -0,0 +1,57 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+
+import com.google.common.hash.*;
+import com.google.gson.*;
+
+/**
+ * The on-disk layout shared by {@link DiskCache} and {@link ResponseArchive}: each response is stored
+ * under the SHA-256 of its URL, as a {@code .body} file and a JSON {@code .meta} file.
+ */
+class ResponseFiles {
+	public final Path directory;
+
+	public ResponseFiles(Path directory) throws IOException {
+		this.directory = directory;
+		Files.createDirectories(directory);
+	}
+
+	public static String keyFor(String url) {
+		return Hashing.sha256().hashString(url, StandardCharsets.UTF_8).toString();
+	}
+
+	public Path bodyPath(String key) {
+		return directory.resolve(key + ".body");
+	}
+
+	public Path metaPath(String key) {
+		return directory.resolve(key + ".meta");
+	}
+
+	public JsonObject readMeta(String key) throws IOException {
+		return new JsonParser().parse(new String(
+				Files.readAllBytes(metaPath(key)), StandardCharsets.UTF_8)).getAsJsonObject();
+	}
+
+	public void writeMeta(String key, JsonObject meta) throws IOException {
+		writeAtomically(metaPath(key), meta.toString().getBytes(StandardCharsets.UTF_8));
+	}
+
+	public void writeAtomically(Path path, byte[] contents) throws IOException {
+		Path temp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+		try {
+			Files.write(temp, contents);
+			Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	public static String getString(JsonObject json, String name) {
+		JsonElement value = json.get(name);
+		return value == null || value.isJsonNull()? null: value.getAsString();
+	}
+}
@@ -0,0 +1,36 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+
+/**
+ * How {@link HttpClient} actually makes a request.
+ * <p>
+ * Caching, retries and limiting connections are all done by the client,
+ * so a transport only has to make one GET and hand back what came back,
+ * whatever its status.
+ */
+public interface Transport {
+	/**
+	 * @param headers extra request headers, like the validators for a conditional GET
+	 */
+	public Response get(URL url, Map<String, String> headers) throws IOException;
+
+	public static class Response {
+		public final int status;
+		public final String contentType;
+		public final String etag;
+		public final String lastModified;
+		/** the decoded body, which is empty unless the status is 2xx */
+		public final byte[] body;
+
+		public Response(int status, String contentType, String etag, String lastModified, byte[] body) {
+			this.status = status;
+			this.contentType = contentType;
+			this.etag = etag;
+			this.lastModified = lastModified;
+			this.body = body;
+		}
+	}
+}
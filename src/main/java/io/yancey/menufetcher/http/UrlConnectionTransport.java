@@ -0,0 +1,93 @@
+package io.yancey.menufetcher.http;
+
+import java.io.*;
+import java.net.*;
+import java.util.*;
+import java.util.zip.*;
+
+import com.google.common.io.*;
+
+/**
+ * Makes requests over the network, with {@link HttpURLConnection}.
+ * <p>
+ * Connections are kept alive and reused (by {@link HttpURLConnection}'s own per-host pool),
+ * and responses are requested gzipped.
+ * Redirects are followed here, since {@link HttpURLConnection} won't follow one
+ * to a different protocol (like http to https).
+ */
+public class UrlConnectionTransport implements Transport {
+	private static final byte[] NO_BODY = new byte[0];
+	/** as many as Jsoup follows */
+	private static final int MAX_REDIRECTS = 20;
+
+	private final int connectTimeoutMillis;
+	private final int readTimeoutMillis;
+
+	public UrlConnectionTransport(int connectTimeoutMillis, int readTimeoutMillis) {
+		this.connectTimeoutMillis = connectTimeoutMillis;
+		this.readTimeoutMillis = readTimeoutMillis;
+	}
+
+	@Override
+	public Response get(URL url, Map<String, String> headers) throws IOException {
+		for(int redirects = 0;; redirects++) {
+			HttpURLConnection connection = open(url, headers);
+			int status = connection.getResponseCode();
+			String location = connection.getHeaderField("Location");
+			if(!isRedirect(status) || location == null) {
+				return read(connection, status);
+			}
+			drain(connection.getInputStream());
+			if(redirects >= MAX_REDIRECTS) {
+				throw new IOException("Too many redirects fetching " + url);
+			}
+			url = new URL(url, location);
+		}
+	}
+
+	private static boolean isRedirect(int status) {
+		return status == 301 || status == 302 || status == 303 || status == 307 || status == 308;
+	}
+
+	private HttpURLConnection open(URL url, Map<String, String> headers) throws IOException {
+		HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+		connection.setInstanceFollowRedirects(false);
+		connection.setConnectTimeout(connectTimeoutMillis);
+		connection.setReadTimeout(readTimeoutMillis);
+		connection.setRequestProperty("Accept-Encoding", "gzip");
+		for(Map.Entry<String, String> header: headers.entrySet()) {
+			connection.setRequestProperty(header.getKey(), header.getValue());
+		}
+		return connection;
+	}
+
+	private static Response read(HttpURLConnection connection, int status) throws IOException {
+		byte[] body;
+		if(status / 100 == 2) {
+			try(InputStream in = decode(connection)) {
+				body = ByteStreams.toByteArray(in);
+			}
+		} else {
+			// the body has to be read for the connection to go back into the pool
+			drain(status < 400? connection.getInputStream(): connection.getErrorStream());
+			body = NO_BODY;
+		}
+		return new Response(status, connection.getContentType(),
+				connection.getHeaderField("ETag"), connection.getHeaderField("Last-Modified"), body);
+	}
+
+	private static InputStream decode(HttpURLConnection connection) throws IOException {
+		InputStream in = new BufferedInputStream(connection.getInputStream());
+		if("gzip".equalsIgnoreCase(connection.getContentEncoding())) {
+			return new GZIPInputStream(in);
+		}
+		return in;
+	}
+
+	private static void drain(InputStream in) throws IOException {
+		if(in == null) return;
+		try(InputStream toClose = in) {
+			ByteStreams.copy(toClose, ByteStreams.nullOutputStream());
+		}
+	}
+}